@@ -1,11 +1,25 @@
 package edu.ntnu.iir.bidata.controller;
 
-import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileReaderGson;
+import edu.ntnu.iir.bidata.filehandling.boardgame.AutosaveService;
+import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileReader;
+import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileReaderAutoDetect;
+import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileWriter;
 import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileWriterGson;
+import edu.ntnu.iir.bidata.filehandling.boardgame.GameJournal;
+import edu.ntnu.iir.bidata.filehandling.boardgame.SaveBackend;
+import edu.ntnu.iir.bidata.filehandling.storage.SaveStore;
+import edu.ntnu.iir.bidata.filehandling.storage.SaveStoreType;
 import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.events.LoadEvent;
+import edu.ntnu.iir.bidata.model.metrics.GameMetrics;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 import lombok.Getter;
 import lombok.Setter;
@@ -15,13 +29,37 @@ import lombok.Setter;
  * for specific game controllers.
  */
 public abstract class BaseGameController {
+  /**
+   * The system property that turns on journaled saves. A journaled game is saved as a snapshot and
+   * a journal of the turns played since, and is recovered from them when it is loaded again.
+   */
+  public static final String JOURNALED_SAVES_PROPERTY = "boardgame.journaledSaves";
+
+  /** The name a new game is saved under until it is saved under a name of its own. */
+  public static final String AUTOSAVE_NAME = "autosave";
+
   protected static final Logger LOGGER = Logger.getLogger(BaseGameController.class.getName());
-  private static final String GAME_PATH = "src/main/resources/saved_games/";
   protected BoardGame boardGame;
   @Getter @Setter protected int currentPlayerIndex = 0;
   protected List<String> playerNames;
   @Getter @Setter protected boolean diceRolled = false;
 
+  /**
+   * Whether turns are being played in a batch. Turns that end during a batch do not notify the
+   * observers of the game; the batch notifies them once when it is done.
+   */
+  protected boolean batching = false;
+
+  private GameJournal journal;
+  private String journalName;
+  private String autosaveName;
+  private boolean autosaveMonopoly;
+  private final AutosaveService autosave = AutosaveService.shared();
+  private final BoardGameFileWriter writer;
+  private final String saveExtension;
+  private final BoardGameFileReader reader;
+  private final SaveStore store;
+
   /**
    * Constructs a BaseGameController with the specified BoardGame instance.
    * Initializes the controller with the provided board game and logs the initialization.
@@ -29,7 +67,43 @@ public abstract class BaseGameController {
    * @param boardGame the BoardGame instance that this controller will manage
    */
   protected BaseGameController(BoardGame boardGame) {
+    this(boardGame, new BoardGameFileWriterGson(), new BoardGameFileReaderAutoDetect());
+  }
+
+  /**
+   * Constructs a BaseGameController that saves and loads games with the given writer and reader.
+   * Saves are written with the writer on a background thread by the shared {@link
+   * AutosaveService}.
+   *
+   * @param boardGame the BoardGame instance that this controller will manage
+   * @param writer the writer used to save the game
+   * @param reader the reader used to load saved games
+   */
+  protected BaseGameController(
+      BoardGame boardGame, BoardGameFileWriter writer, BoardGameFileReader reader) {
+    this(boardGame, writer, reader, SaveStoreType.shared());
+  }
+
+  /**
+   * Constructs a BaseGameController that saves and loads games with the given writer and reader,
+   * in the given store. Saves are encoded with the writer on a background thread by the shared
+   * {@link AutosaveService} and handed to the store, so saving never waits for the storage.
+   *
+   * @param boardGame the BoardGame instance that this controller will manage
+   * @param writer the writer used to save the game
+   * @param reader the reader used to load saved games
+   * @param store the store the games are saved in
+   */
+  protected BaseGameController(
+      BoardGame boardGame,
+      BoardGameFileWriter writer,
+      BoardGameFileReader reader,
+      SaveStore store) {
     this.boardGame = boardGame;
+    this.writer = writer;
+    this.saveExtension = writer.getFileExtension();
+    this.reader = reader;
+    this.store = store;
     LOGGER.info("BaseGameController initialized");
   }
 
@@ -39,10 +113,25 @@ public abstract class BaseGameController {
     LOGGER.info("Setting player names: " + playerNames);
   }
 
-  /** Starts the game. */
+  /** Starts the game, and counts it in the {@link GameMetrics} as being played. */
   public void startGame() {
     LOGGER.info("Starting new game");
     boardGame.startGame();
+    GameMetrics.shared().sessionStarted(boardGame);
+  }
+
+  /** Stops counting the game in the {@link GameMetrics} as being played, once it has been won. */
+  protected void gameOver() {
+    GameMetrics.shared().sessionEnded(boardGame);
+  }
+
+  /**
+   * Leaves the game: it is no longer counted as being played, and its journal is forced to disk
+   * and closed. Call it when the player goes back to the main menu.
+   */
+  public void leaveGame() {
+    gameOver();
+    closeJournal();
   }
 
   /** Gets the current player's name. */
@@ -52,41 +141,236 @@ public abstract class BaseGameController {
 
   /** Moves to the next player. */
   protected void nextPlayer() {
-    currentPlayerIndex = (currentPlayerIndex + 1) % playerNames.size();
-    boardGame.setCurrentPlayerIndex(currentPlayerIndex);
+    int playerCount = playerNames != null ? playerNames.size() : boardGame.getPlayers().size();
+    if (playerCount > 0) {
+      currentPlayerIndex = (currentPlayerIndex + 1) % playerCount;
+      boardGame.setCurrentPlayerIndex(currentPlayerIndex);
+    }
     diceRolled = false;
-    boardGame.notifyObservers();
+    if (!batching) {
+      boardGame.notifyObservers();
+    }
+    turnEnded();
+  }
+
+  /**
+   * Saves the turn that just ended, by appending its changes to the journal if journaled saves are
+   * on, and by saving the whole game if autosave is on.
+   */
+  protected void turnEnded() {
+    if (journal != null) {
+      try {
+        journal.recordTurn();
+      } catch (IOException e) {
+        LOGGER.severe("Failed to journal turn: " + e.getMessage());
+      }
+    }
+    if (autosaveName != null) {
+      saveGame(autosaveName, autosaveMonopoly);
+    }
   }
 
   /** Abstract method to handle player movement Must be implemented by specific game controllers. */
   public abstract void handlePlayerMove();
 
-  /** Saves a board game to be opened later. */
-  public void saveGame(String gameName, boolean isMonopoly) {
-    BoardGameFileWriterGson writer = new BoardGameFileWriterGson();
-    String newPath =
-        GAME_PATH + (isMonopoly ? "monopoly/" : "snakesandladder/") + gameName + ".json";
-    Path savePath = Path.of(newPath);
-    try {
-      writer.writeBoardGame(boardGame, savePath, isMonopoly);
-    } catch (IOException e) {
-      LOGGER.severe("Failed to save game: " + e.getMessage());
+  /**
+   * Saves a board game to be opened later. The state of the game is copied right away, and it is
+   * encoded on a background thread and handed to the save store, so the call returns without
+   * waiting for the storage. Saves that are requested faster than they can be written are merged
+   * into one.
+   *
+   * @param gameName the name of the saved game
+   * @param isMonopoly whether the game is a Monopoly game
+   * <p>If the game is saved under a new name while it is being saved as it is played, the
+   * autosave and the journal follow it to that name.
+   *
+   * @return a future that completes when the save has been written, or completes exceptionally if
+   *     it fails; the failure is logged either way
+   */
+  public CompletableFuture<Void> saveGame(String gameName, boolean isMonopoly) {
+    if (journal != null && !gameName.equals(journalName)) {
+      enableJournaledSaves(gameName, isMonopoly);
+    }
+    if (autosaveName != null) {
+      enableAutosave(gameName, isMonopoly);
     }
+    return autosave.save(boardGame, store, saveKey(gameName, isMonopoly), writer, isMonopoly);
   }
 
-  /** Loads a board game from a file. */
+  /**
+   * Saves the game automatically at the end of every turn from now on.
+   *
+   * @param gameName the name of the saved game
+   * @param isMonopoly whether the game is a Monopoly game
+   */
+  public void enableAutosave(String gameName, boolean isMonopoly) {
+    this.autosaveName = gameName;
+    this.autosaveMonopoly = isMonopoly;
+  }
+
+  /** Stops saving the game automatically at the end of every turn. */
+  public void disableAutosave() {
+    this.autosaveName = null;
+  }
+
+  /** Loads a board game from the store with the reader of this controller. */
   public BoardGame loadGame(String gameName, boolean isMonopoly) {
-    BoardGameFileReaderGson reader = new BoardGameFileReaderGson();
-    String newPath =
-        GAME_PATH + (isMonopoly ? "monopoly/" : "snakesandladder/") + gameName + ".json";
-    Path savePath = Path.of(newPath);
     try {
-      boardGame = reader.readBoardGame(savePath);
+      boardGame = loadGameAsync(gameName, isMonopoly).join();
       LOGGER.info("Game loaded successfully");
       return boardGame;
+    } catch (CompletionException e) {
+      LOGGER.severe("Failed to load game: " + e.getCause().getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Loads a board game from the store without waiting for it. The loaded game does not replace
+   * the game of this controller. The save is looked for in the format of the writer of this
+   * controller first, and then in the other format. The load is recorded as a {@link LoadEvent}
+   * and timed in the {@link GameMetrics}.
+   *
+   * @param gameName the name of the saved game
+   * @param isMonopoly whether the game is a Monopoly game
+   * @return a future of the loaded game, which completes exceptionally if the game is not in the
+   *     store or cannot be read
+   */
+  public CompletableFuture<BoardGame> loadGameAsync(String gameName, boolean isMonopoly) {
+    List<String> keys = SaveBackend.saveKeys(saveName(gameName, isMonopoly), saveExtension);
+    String key = keys.get(0);
+    LoadEvent event = new LoadEvent();
+    event.begin();
+    long start = System.nanoTime();
+    return store
+        .read(key)
+        .thenCompose(
+            content ->
+                content.isPresent()
+                    ? CompletableFuture.completedFuture(content)
+                    : store.read(keys.get(1)))
+        .thenApply(
+            content -> {
+              boolean succeeded = false;
+              try {
+                ByteBuffer save =
+                    content.orElseThrow(() -> new NoSuchFileException(key, null, "No such save"));
+                BoardGame loaded = reader.readBoardGame(SaveStore.stream(save));
+                succeeded = true;
+                return loaded;
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              } finally {
+                GameMetrics.shared().recordLoad(System.nanoTime() - start, succeeded);
+                event.end();
+                if (event.shouldCommit()) {
+                  event.setKey(key);
+                  event.setMonopoly(isMonopoly);
+                  event.setSize(content.map(ByteBuffer::remaining).orElse(0));
+                  event.setSucceeded(succeeded);
+                  event.commit();
+                }
+              }
+            });
+  }
+
+  /**
+   * Starts saving the game as it is played, under the given name. If journaled saves are on, the
+   * game is saved once now so that it can be picked from the saved games, and a journal of its
+   * turns is kept from then on. Otherwise the whole game is saved at the end of every turn. Call
+   * it when a game is started or loaded.
+   *
+   * @param gameName the name of the saved game
+   * @param isMonopoly whether the game is a Monopoly game
+   */
+  public void startSaving(String gameName, boolean isMonopoly) {
+    if (journaledSavesEnabled()) {
+      enableJournaledSaves(gameName, isMonopoly);
+      saveGame(gameName, isMonopoly);
+    } else {
+      enableAutosave(gameName, isMonopoly);
+    }
+  }
+
+  /**
+   * Turns on journaled saves for the current game. A snapshot of the game is written now, and from
+   * then on only the changes of each turn are appended to its journal.
+   *
+   * @param gameName the name of the saved game
+   * @param isMonopoly whether the game is a Monopoly game
+   */
+  public void enableJournaledSaves(String gameName, boolean isMonopoly) {
+    closeJournal();
+    GameJournal newJournal = new GameJournal(journalSnapshotPath(gameName, isMonopoly), isMonopoly);
+    try {
+      newJournal.start(boardGame);
+      journal = newJournal;
+      journalName = gameName;
     } catch (IOException e) {
-      LOGGER.severe("Failed to load game: " + e.getMessage());
+      LOGGER.severe("Failed to start journaled saves: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Gets whether journaled saves are turned on with the {@value #JOURNALED_SAVES_PROPERTY} system
+   * property.
+   */
+  public static boolean journaledSavesEnabled() {
+    return Boolean.getBoolean(JOURNALED_SAVES_PROPERTY);
+  }
+
+  /**
+   * Recovers a journaled game from its last snapshot and the turns journaled since, so that a game
+   * that was not closed properly is loaded as it was at the end of its last turn.
+   *
+   * @param gameName the name of the saved game
+   * @param isMonopoly whether the game is a Monopoly game
+   * @return the recovered game, or null if journaled saves are off or the game has no journal
+   * @throws IOException if the snapshot or the journal cannot be read
+   */
+  public static BoardGame recoverJournaledGame(String gameName, boolean isMonopoly)
+      throws IOException {
+    Path snapshotPath = journalSnapshotPath(gameName, isMonopoly);
+    if (!journaledSavesEnabled() || !GameJournal.exists(snapshotPath)) {
       return null;
     }
+    try (GameJournal recovered = new GameJournal(snapshotPath, isMonopoly)) {
+      BoardGame boardGame = recovered.recover();
+      LOGGER.info("Game recovered from its journal");
+      return boardGame;
+    }
+  }
+
+  /** Forces the journal to disk and turns journaled saves off. */
+  public void closeJournal() {
+    if (journal == null) {
+      return;
+    }
+    try {
+      journal.close();
+    } catch (IOException e) {
+      LOGGER.severe("Failed to close journal: " + e.getMessage());
+    }
+    journal = null;
+    journalName = null;
+  }
+
+  private String saveKey(String gameName, boolean isMonopoly) {
+    return saveName(gameName, isMonopoly) + saveExtension;
+  }
+
+  private static String saveName(String gameName, boolean isMonopoly) {
+    return (isMonopoly ? "monopoly/" : "snakesandladder/") + gameName;
+  }
+
+  /**
+   * Gets the path of the snapshot of a journaled game. Snapshots are kept in a folder of their own,
+   * so they never share a file with a binary save of the same name.
+   */
+  private static Path journalSnapshotPath(String gameName, boolean isMonopoly) {
+    return SaveStoreType.directory()
+        .resolve(isMonopoly ? "monopoly" : "snakesandladder")
+        .resolve("journals")
+        .resolve(gameName + ".bin");
   }
 }
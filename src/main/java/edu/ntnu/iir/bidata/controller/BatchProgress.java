@@ -0,0 +1,23 @@
+package edu.ntnu.iir.bidata.controller;
+
+import edu.ntnu.iir.bidata.model.BoardGame;
+
+/**
+ * Receives the progress of a batch of turns played by a {@link GameController}. It is called every
+ * {@link GameController#PROGRESS_INTERVAL} turns and once when the batch ends, so even a cheap
+ * callback does not slow the batch down.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface BatchProgress {
+
+  /**
+   * Called while a batch of turns is played.
+   *
+   * @param turnsPlayed the number of turns played so far in the batch
+   * @param boardGame the game, which must not be changed by the callback
+   */
+  void onProgress(int turnsPlayed, BoardGame boardGame);
+}
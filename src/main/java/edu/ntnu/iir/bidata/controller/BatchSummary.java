@@ -0,0 +1,76 @@
+package edu.ntnu.iir.bidata.controller;
+
+import lombok.Getter;
+
+/**
+ * What happened in a batch of turns played by a {@link GameController}, in place of a result and a
+ * log line for every turn.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+@Getter
+public class BatchSummary {
+  private final int turnsPlayed;
+
+  /** The number of rounds completed, which is how often the turn came back to the first player. */
+  private final int roundsPlayed;
+
+  /** The number of turns that were skipped because the player had lost them. */
+  private final int skippedTurns;
+
+  private final boolean gameOver;
+
+  /** The name of the player who ended the game, or null if the game is not over. */
+  private final String winnerName;
+
+  /** The time the batch took, in nanoseconds. */
+  private final long elapsedNanos;
+
+  /**
+   * Creates the summary of a batch of turns.
+   *
+   * @param turnsPlayed the number of turns played
+   * @param roundsPlayed the number of rounds completed
+   * @param skippedTurns the number of turns that were skipped
+   * @param gameOver whether the game is over
+   * @param winnerName the name of the player who ended the game, or null
+   * @param elapsedNanos the time the batch took, in nanoseconds
+   */
+  public BatchSummary(
+      int turnsPlayed,
+      int roundsPlayed,
+      int skippedTurns,
+      boolean gameOver,
+      String winnerName,
+      long elapsedNanos) {
+    this.turnsPlayed = turnsPlayed;
+    this.roundsPlayed = roundsPlayed;
+    this.skippedTurns = skippedTurns;
+    this.gameOver = gameOver;
+    this.winnerName = winnerName;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Gets the number of turns played per second of the batch.
+   *
+   * @return the turns per second, or 0 if the batch took no measurable time
+   */
+  public double getTurnsPerSecond() {
+    return elapsedNanos == 0 ? 0 : turnsPlayed * 1e9 / elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+    return turnsPlayed
+        + " turns, "
+        + roundsPlayed
+        + " rounds, "
+        + skippedTurns
+        + " skipped in "
+        + elapsedNanos / 1_000_000.0
+        + " ms"
+        + (gameOver ? ", won by " + winnerName : "");
+  }
+}
@@ -1,11 +1,11 @@
 package edu.ntnu.iir.bidata.controller;
 
 import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.exception.GameException;
 import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.PlayerRegistry;
 import edu.ntnu.iir.bidata.model.tile.core.TileAction;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.logging.Logger;
 import lombok.Getter;
 import lombok.Setter;
@@ -14,6 +14,10 @@ import lombok.Setter;
 public class GameController {
 
   private static final Logger LOGGER = Logger.getLogger(GameController.class.getName());
+
+  /** The number of turns between two calls to the progress callback of a batch. */
+  public static final int PROGRESS_INTERVAL = 1000;
+
   private final BoardGame boardGame;
   // Snakes and Ladders specific data
   private final int[][] snakes = {{99, 41}, {95, 75}, {89, 86}, {78, 15}, {38, 2}, {29, 11}};
@@ -21,7 +25,8 @@ public class GameController {
     {3, 36}, {8, 12}, {14, 26}, {31, 73}, {59, 80}, {83, 97}, {90, 92}
   };
   // For Snakes and Ladders specific logic
-  private final Map<String, Integer> playerPositions = new HashMap<>();
+  private final PlayerRegistry playerRegistry = new PlayerRegistry();
+  private int[] playerPositions = new int[0];
   // For Ludo specific logic
   private final int diceValue = 1;
   private boolean gameStarted = false;
@@ -44,8 +49,10 @@ public class GameController {
   /** Sets the player names for games that manage their own player list. */
   public void setPlayerNames(List<String> playerNames) {
     this.playerNames = playerNames;
-    // Initialize positions for all players
-    playerNames.forEach(playerName -> playerPositions.put(playerName, 0));
+    // Initialize positions for all players, indexed by player id
+    playerRegistry.clear();
+    playerNames.forEach(playerRegistry::register);
+    playerPositions = new int[playerRegistry.size()];
     LOGGER.info("Setting player names: " + playerNames);
   }
 
@@ -92,7 +99,8 @@ public class GameController {
    */
   public boolean updateSnakesAndLaddersPosition(String playerName, int diceRoll) {
     // Get current position
-    int currentPosition = playerPositions.get(playerName);
+    int playerId = playerRegistry.idOf(playerName);
+    int currentPosition = playerPositions[playerId];
     int newPosition = currentPosition + diceRoll;
 
     // Ensure we don't go past 100
@@ -102,16 +110,16 @@ public class GameController {
     }
 
     // Update position
-    playerPositions.put(playerName, newPosition);
+    playerPositions[playerId] = newPosition;
 
     // Check for snakes and ladders
     int finalPosition = checkSnakesAndLadders(playerName, newPosition);
     if (finalPosition != newPosition) {
-      playerPositions.put(playerName, finalPosition);
+      playerPositions[playerId] = finalPosition;
     }
 
     // Check for win condition
-    return playerPositions.get(playerName) == 100;
+    return playerPositions[playerId] == 100;
   }
 
   /**
@@ -166,7 +174,7 @@ public class GameController {
    * @return the player's position
    */
   public int getPlayerPosition(String playerName) {
-    return playerPositions.get(playerName);
+    return playerPositions[playerRegistry.idOf(playerName)];
   }
 
   /* Ludo Game Specific Methods */
@@ -227,27 +235,127 @@ public class GameController {
    * move may involve updating player positions, performing actions, or interacting with game
    * elements such as snakes, ladders, or tiles.
    *
-   * <p>This method logs the details of the move, including the player's name, previous position,
-   * new position after the move, any position changes due to subsequent actions, and a description
-   * of the action performed.
+   * <p>The move is not logged. The details of the move, including the player's name, previous
+   * position, position after any actions and how the move ended, are recorded by the board game as
+   * a {@link edu.ntnu.iir.bidata.model.events.TurnEvent}.
    *
    * @return the result of the move as a {@code BoardGame.MoveResult} object containing details
    *     about the player's move, or {@code null} if the move could not be completed.
    */
   public BoardGame.MoveResult makeMove() {
-    LOGGER.info("Making move for current player");
-    BoardGame.MoveResult result = boardGame.makeMoveWithResult();
-    if (result != null) {
-      LOGGER.info(
-          String.format(
-              "Player %s moved from %d to %d (after action: %d). Action: %s",
-              result.playerName,
-              result.prevPos,
-              result.posAfterMove,
-              result.posAfterAction,
-              result.actionDesc));
+    return boardGame.makeMoveWithResult();
+  }
+
+  /**
+   * Plays a number of turns back to back, or fewer if the game ends first.
+   *
+   * @param turns the number of turns to play
+   * @return the summary of the turns played
+   * @see #playTurns(int, BatchProgress)
+   */
+  public BatchSummary playTurns(int turns) {
+    return playTurns(turns, null);
+  }
+
+  /**
+   * Plays a number of turns back to back, or fewer if the game ends first. Unlike {@link
+   * #makeMove()}, the turns are neither logged nor shown to the observers of the game one by one:
+   * the observers are notified once when the batch ends, and one line is logged for the batch.
+   *
+   * @param turns the number of turns to play
+   * @param progress the callback that follows the batch, or null
+   * @return the summary of the turns played
+   * @throws GameException if the game has not been started
+   */
+  public BatchSummary playTurns(int turns, BatchProgress progress) {
+    return playBatch(turns, Integer.MAX_VALUE, progress);
+  }
+
+  /**
+   * Plays whole rounds back to back, or fewer if the game ends first.
+   *
+   * @param rounds the number of rounds to play
+   * @return the summary of the turns played
+   * @see #playRounds(int, BatchProgress)
+   */
+  public BatchSummary playRounds(int rounds) {
+    return playRounds(rounds, null);
+  }
+
+  /**
+   * Plays turns back to back until the turn has come back to the first player a number of times,
+   * or until the game ends. See {@link #playTurns(int, BatchProgress)} for how the batch is played.
+   *
+   * @param rounds the number of rounds to play
+   * @param progress the callback that follows the batch, or null
+   * @return the summary of the turns played
+   * @throws GameException if the game has not been started
+   */
+  public BatchSummary playRounds(int rounds, BatchProgress progress) {
+    return playBatch(Integer.MAX_VALUE, rounds, progress);
+  }
+
+  /**
+   * Plays turns back to back until the game is over.
+   *
+   * @param maxTurns the most turns to play, in case the game never ends
+   * @return the summary of the turns played
+   * @see #playUntilGameOver(int, BatchProgress)
+   */
+  public BatchSummary playUntilGameOver(int maxTurns) {
+    return playUntilGameOver(maxTurns, null);
+  }
+
+  /**
+   * Plays turns back to back until the game is over. See {@link #playTurns(int, BatchProgress)}
+   * for how the batch is played.
+   *
+   * @param maxTurns the most turns to play, in case the game never ends
+   * @param progress the callback that follows the batch, or null
+   * @return the summary of the turns played; {@link BatchSummary#isGameOver()} tells whether the
+   *     game ended within the limit
+   * @throws GameException if the game has not been started
+   */
+  public BatchSummary playUntilGameOver(int maxTurns, BatchProgress progress) {
+    return playBatch(maxTurns, Integer.MAX_VALUE, progress);
+  }
+
+  private BatchSummary playBatch(int maxTurns, int maxRounds, BatchProgress progress) {
+    long start = System.nanoTime();
+    int turns = 0;
+    int rounds = 0;
+    int skipped = 0;
+    String winnerName = null;
+    try {
+      while (turns < maxTurns && rounds < maxRounds && !boardGame.isGameOver()) {
+        BoardGame.MoveResult result = boardGame.makeMoveWithoutNotifying();
+        if (result == null) {
+          break;
+        }
+        turns++;
+        if (result.diceValues.length == 0) {
+          skipped++;
+        }
+        if (boardGame.isGameOver()) {
+          winnerName = result.playerName;
+        } else if (boardGame.getCurrentPlayerIndex() == 0) {
+          rounds++;
+        }
+        if (progress != null && turns % PROGRESS_INTERVAL == 0) {
+          progress.onProgress(turns, boardGame);
+        }
+      }
+    } finally {
+      boardGame.notifyObservers();
+    }
+    if (progress != null && turns % PROGRESS_INTERVAL != 0) {
+      progress.onProgress(turns, boardGame);
     }
-    return result;
+    BatchSummary summary =
+        new BatchSummary(
+            turns, rounds, skipped, boardGame.isGameOver(), winnerName, System.nanoTime() - start);
+    LOGGER.info("Played batch: " + summary);
+    return summary;
   }
 
   /**
@@ -4,12 +4,21 @@ import edu.ntnu.iir.bidata.Inject;
 import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileReader;
 import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileWriter;
 import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.events.PropertyPurchaseEvent;
+import edu.ntnu.iir.bidata.model.events.RentPaymentEvent;
+import edu.ntnu.iir.bidata.model.events.TurnEvent;
 import edu.ntnu.iir.bidata.model.exception.LowMoneyException;
+import edu.ntnu.iir.bidata.model.metrics.GameMetrics;
+import edu.ntnu.iir.bidata.model.player.Player;
 import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionDispatcher;
 import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
 import edu.ntnu.iir.bidata.model.utils.GameMediator;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Logger;
 
 /**
@@ -17,20 +26,39 @@ import java.util.logging.Logger;
  * the BaseGameController and handles player actions, dice rolls, property management, and other
  * events during the gameplay. It interacts with the game mediator, file readers/writers, and
  * oversees player states such as being in jail or awaiting specific actions.
+ *
+ * <p>The turn is an explicit state machine: the controller is always in one {@link TurnPhase}, and
+ * every action is a {@link TurnCommand} that is checked against the phase and carried out under the
+ * same lock, so two commands can never act on the same turn. Every turn ends in one place, which
+ * moves to the next player once and tells the mediator once.
+ *
+ * <p>Commands can also be queued, for example by bots, and carried out back to back with {@link
+ * #processQueuedCommands()}. The observers and the mediator are then told about the new state once
+ * at the end of the batch rather than after every turn, so tables of bots run at the speed of the
+ * game rules instead of the speed of the view.
+ *
+ * <p>Moves are not logged one by one. Each turn, from its first command to its end, is recorded as
+ * a {@link TurnEvent}, and purchases and rent payments as {@link PropertyPurchaseEvent} and {@link
+ * RentPaymentEvent}, which cost next to nothing unless a flight recording is running.
  */
 public class MonopolyController extends BaseGameController {
   private static final Logger LOGGER = Logger.getLogger(MonopolyController.class.getName());
-  private final BoardGameFileWriter boardGameWriter;
-  private final BoardGameFileReader boardGameReader;
   private final GameMediator mediator;
-  private final boolean jailRolledSix = false;
+  private final Queue<TurnCommand> queuedCommands = new ConcurrentLinkedQueue<>();
   private boolean gameStarted = false;
-  private boolean awaitingPlayerAction = false;
+  private TurnPhase phase = TurnPhase.AWAITING_ROLL;
+
+  /** The property the current player landed on and must decide about, or null. */
   private PropertyTile pendingPropertyTile = null;
-  private boolean awaitingRentAction = false;
-  private PropertyTile pendingRentPropertyTile = null;
-  private boolean awaitingJailAction = false;
-  private boolean diceRolled = false;
+
+  /** The event of the turn in progress, or null between turns. */
+  private TurnEvent turnEvent = null;
+
+  /** The command being carried out, which is how the turn ends if it ends now. */
+  private TurnCommand currentCommand = null;
+
+  /** Whether a turn ended while the queued commands were carried out. */
+  private boolean turnEndedInBatch = false;
 
   /**
    * Constructs a MonopolyController which manages the game logic and interactions for the Monopoly
@@ -47,9 +75,7 @@ public class MonopolyController extends BaseGameController {
       BoardGameFileWriter boardGameWriter,
       BoardGameFileReader boardGameReader,
       GameMediator mediator) {
-    super(boardGame);
-    this.boardGameWriter = boardGameWriter;
-    this.boardGameReader = boardGameReader;
+    super(boardGame, boardGameWriter, boardGameReader);
     this.mediator = mediator;
     LOGGER.info("MonopolyController initialized");
   }
@@ -68,86 +94,242 @@ public class MonopolyController extends BaseGameController {
   }
 
   /**
-   * Handles the logic for a player's turn in the Monopoly game. This method takes into
-   * consideration the player's current state (such as being in jail) and progresses the turn
-   * accordingly. It rolls the dice, moves the player, and resolves the player's landing actions
-   * based on the tile type and game rules.
+   * Gets the phase the current turn is in.
    *
-   * <p>The following key scenarios are handled:
+   * @return the phase of the turn
+   */
+  public synchronized TurnPhase getPhase() {
+    return phase;
+  }
+
+  /**
+   * Carries out a command if the phase of the turn accepts it. The check and the command happen
+   * under one lock, so a command that is accepted always acts on the phase it was checked against.
    *
-   * <ul>
-   *   <li>If the player is in jail, it prompts for a jail-related action and ends the turn.
-   *   <li>If the game has not started yet, this method initiates the first turn.
-   *   <li>Ensures that the player's turn cannot proceed if awaiting prior pending actions (such as
-   *       property purchase, rent payment, or jail actions).
-   *   <li>Rolls the dice to determine the player's movement on the board and logs the move.
-   *   <li>Handles landing on different tile types including unowned properties, properties owned by
-   *       others (rent payments), or tiles with specific actions.
-   *   <li>Prompts the player for additional actions if needed (e.g., deciding to purchase a
-   *       property or paying rent).
-   *   <li>Notifies game observers and communicates with the game mediator when required, such as
-   *       when proceeding to the next player or awaiting player inputs.
-   * </ul>
+   * @param command the command
+   * @return true if the command was carried out, false if it was rejected
+   */
+  public synchronized boolean submit(TurnCommand command) {
+    if (!phase.accepts(command)
+        || command.needsPendingProperty() && pendingPropertyTile == null
+        || command.needsJailedPlayer() && !isCurrentPlayerInJail()) {
+      LOGGER.warning("Rejected " + command + " while " + phase);
+      return false;
+    }
+    if (turnEvent == null) {
+      beginTurnEvent();
+    }
+    currentCommand = command;
+    switch (command) {
+      case ROLL -> {
+        if (phase == TurnPhase.IN_JAIL) {
+          rollToLeaveJail();
+        } else {
+          roll();
+        }
+      }
+      case MOVE -> move();
+      case LAND -> resolveLanding((SimpleMonopolyPlayer) boardGame.getCurrentPlayer());
+      case BUY -> buyPendingProperty();
+      case SKIP -> endTurn();
+      case PAY_RENT -> payPendingRent();
+      case JAIL_ROLL -> rollToLeaveJail();
+      case JAIL_PAY -> payToLeaveJail();
+    }
+    return true;
+  }
+
+  /**
+   * Queues a command to be carried out by the next call to {@link #processQueuedCommands()}. Any
+   * thread may queue commands.
+   *
+   * @param command the command
+   */
+  public void enqueue(TurnCommand command) {
+    queuedCommands.add(command);
+  }
+
+  /**
+   * Carries out the queued commands back to back, in the order they were queued. Commands that the
+   * phase of the turn does not accept when their turn comes are rejected and dropped. The
+   * observers are told about the new state once, after the last command, and the mediator is told
+   * about the next player once if any of the commands ended a turn.
+   *
+   * @return the number of commands that were carried out
+   */
+  public synchronized int processQueuedCommands() {
+    int processed = 0;
+    batching = true;
+    turnEndedInBatch = false;
+    try {
+      TurnCommand command;
+      while ((command = queuedCommands.poll()) != null) {
+        if (submit(command)) {
+          processed++;
+        }
+      }
+    } finally {
+      batching = false;
+    }
+    if (processed > 0) {
+      boardGame.notifyObservers();
+    }
+    if (turnEndedInBatch) {
+      mediator.notify(this, "nextPlayer");
+    }
+    return processed;
+  }
+
+  /**
+   * Plays the turn of the current player by submitting a {@link TurnCommand#ROLL}. A player in jail
+   * is asked how to get out instead. Landing on a property that nobody owns or that another player
+   * owns waits for the player to decide; any other landing ends the turn.
    */
   @Override
   public void handlePlayerMove() {
+    submit(TurnCommand.ROLL);
+  }
+
+  /**
+   * Resolves the tile the current player has been moved to by {@link #rollDice()}, once the view
+   * has animated the move.
+   */
+  public void handleLanding() {
+    submit(TurnCommand.LAND);
+  }
+
+  private void roll() {
     SimpleMonopolyPlayer currentPlayer = (SimpleMonopolyPlayer) boardGame.getCurrentPlayer();
+    if (rollAndMove(currentPlayer)) {
+      resolveLanding(currentPlayer);
+    }
+  }
+
+  private void move() {
+    if (rollAndMove((SimpleMonopolyPlayer) boardGame.getCurrentPlayer())) {
+      // The view animates the move and redraws the board when it lands
+      phase = TurnPhase.AWAITING_LANDING;
+    }
+  }
+
+  /**
+   * Rolls the dice and moves the current player, or asks a player in jail how to get out. A player
+   * that cannot be moved the rolled number of steps stays where they are, and the turn ends.
+   *
+   * @return true if the player was moved, false if the player is in jail or could not be moved
+   */
+  private boolean rollAndMove(SimpleMonopolyPlayer currentPlayer) {
     if (currentPlayer.isInJail()) {
-      awaitingJailAction = true;
-      boardGame.notifyObservers();
-      return;
+      phase = TurnPhase.IN_JAIL;
+      notifyObservers();
+      return false;
     }
     if (!gameStarted) {
       gameStarted = true;
       LOGGER.info("First turn started");
     }
-    if (awaitingPlayerAction || awaitingRentAction || awaitingJailAction) {
-      LOGGER.warning("Still awaiting player action. Turn cannot proceed.");
-      return;
-    }
     // Roll the dice before moving
     boardGame.getDice().rollAllDice();
-    int[] diceValues = boardGame.getCurrentDiceValues();
-    // Ensure we have exactly 2 dice values
-    if (diceValues == null || diceValues.length != 2) {
-      LOGGER.warning("Invalid dice values, defaulting to [1,1]");
-      diceValues = new int[]{1, 1};
-    }
+    int[] diceValues = currentDiceValues();
     int steps = diceValues[0] + diceValues[1];
-    // Move the player
-    currentPlayer.move(steps);
-    LOGGER.info(currentPlayer.getName() + " rolled " + diceValues[0] + " and " + diceValues[1] + " (Total: " + steps + ")");
-    // Handle the tile the player landed on
+    MoveOutcome outcome = currentPlayer.move(steps);
+    if (outcome == MoveOutcome.OVERSHOOT || outcome == MoveOutcome.UNREACHABLE) {
+      LOGGER.warning(currentPlayer.getName() + " could not move " + steps + " steps: " + outcome);
+      endTurn();
+      return false;
+    }
+    return true;
+  }
+
+  /** Acts on the tile a player landed on, and ends the turn unless the player must decide. */
+  private void resolveLanding(SimpleMonopolyPlayer currentPlayer) {
     Tile currentTile = currentPlayer.getCurrentTile();
     if (currentTile instanceof PropertyTile propertyTile) {
       if (propertyTile.getOwner() == null) {
-        // Property is available for purchase
-        LOGGER.info("Property at position " + propertyTile.getId() + " is available for purchase");
-        awaitingPlayerAction = true;
-        pendingPropertyTile = propertyTile;
-        boardGame.notifyObservers();
+        awaitDecision(TurnPhase.AWAITING_PURCHASE, propertyTile);
         return;
       } else if (propertyTile.getOwner() != currentPlayer) {
-        // Player needs to pay rent
-        LOGGER.info(
-            currentPlayer.getName()
-                + " must pay rent for property at position "
-                + propertyTile.getId());
-        awaitingRentAction = true;
-        pendingRentPropertyTile = propertyTile;
-        boardGame.notifyObservers();
-        return;
-      }
-    } else if (currentTile.getAction() != null) {
-      currentTile.getAction().executeAction(currentPlayer, currentTile);
-      // If the player is now in jail, end their turn immediately
-      if (currentPlayer.isInJail()) {
-        mediator.notify(this, "nextPlayer");
+        awaitDecision(TurnPhase.AWAITING_RENT, propertyTile);
         return;
       }
+    } else if (currentTile != null && currentTile.getAction() != null) {
+      // An action that sends the player to jail ends the turn like any other
+      TileActionDispatcher.execute(currentTile.getAction(), currentPlayer, currentTile);
+    }
+    endTurn();
+  }
+
+  private void awaitDecision(TurnPhase decision, PropertyTile propertyTile) {
+    phase = decision;
+    pendingPropertyTile = propertyTile;
+    notifyObservers();
+  }
+
+  /**
+   * Ends the turn of the current player. This is the only place a turn ends, so the game moves to
+   * the next player exactly once per turn.
+   */
+  private void endTurn() {
+    phase = TurnPhase.AWAITING_ROLL;
+    pendingPropertyTile = null;
+    commitTurnEvent();
+    nextPlayer();
+    if (batching) {
+      turnEndedInBatch = true;
+    } else {
+      mediator.notify(this, "nextPlayer");
+    }
+  }
+
+  private void notifyObservers() {
+    if (!batching) {
+      boardGame.notifyObservers();
+    }
+  }
+
+  private void beginTurnEvent() {
+    turnEvent = new TurnEvent();
+    if (turnEvent.isEnabled()) {
+      turnEvent.setFromTile(tileIdOf(boardGame.getCurrentPlayer()));
+    }
+    turnEvent.begin();
+  }
+
+  /**
+   * Records the turn that is ending, with the command that ended it as its outcome, and counts it
+   * in the {@link GameMetrics}. The turn waits for the player, so its length is not a move latency.
+   */
+  private void commitTurnEvent() {
+    GameMetrics.shared().recordTurn();
+    TurnEvent event = turnEvent;
+    turnEvent = null;
+    if (event == null) {
+      return;
+    }
+    event.end();
+    if (event.shouldCommit()) {
+      Player player = boardGame.getCurrentPlayer();
+      event.setPlayer(player.getName());
+      event.setRound(boardGame.getRoundNumber());
+      event.setToTile(tileIdOf(player));
+      event.setOutcome(String.valueOf(currentCommand));
+      event.commit();
+    }
+  }
+
+  private static int tileIdOf(Player player) {
+    return player.getCurrentTile() == null ? -1 : player.getCurrentTile().getId();
+  }
+
+  /** Gets the values of the last roll, or two ones if the dice did not give two values. */
+  private int[] currentDiceValues() {
+    int[] diceValues = boardGame.getCurrentDiceValues();
+    // Ensure we have exactly 2 dice values
+    if (diceValues == null || diceValues.length != 2) {
+      LOGGER.warning("Invalid dice values, defaulting to [1,1]");
+      diceValues = new int[]{1, 1};
     }
-    // No action needed, move to next player
-    mediator.notify(this, "nextPlayer");
+    return diceValues;
   }
 
   /**
@@ -173,33 +355,25 @@ public class MonopolyController extends BaseGameController {
    *   <li>Rolls all dice associated with the game.
    *   <li>Checks if the dice roll includes a six. If a six is rolled, the player is released from
    *       jail.
-   *   <li>Updates the `awaitingJailAction` field to indicate the jail-related action has concluded.
-   *   <li>Notifies the game mediator to proceed to the next player's turn after completing the
-   *       current player's jail dice roll action.
+   *   <li>Ends the turn, which moves to the next player and notifies the game mediator.
    * </ul>
    *
    * <p>This method facilitates the rules of the game where a player has a chance to roll their way
    * out of jail, ensuring game progress and maintaining proper player state transitions.
    */
   public void handleJailRollDice() {
+    submit(TurnCommand.JAIL_ROLL);
+  }
+
+  private void rollToLeaveJail() {
     SimpleMonopolyPlayer currentPlayer = (SimpleMonopolyPlayer) boardGame.getCurrentPlayer();
     boardGame.getDice().rollAllDice();
-    int[] diceValues = boardGame.getCurrentDiceValues();
-    // Ensure we have exactly 2 dice values
-    if (diceValues == null || diceValues.length != 2) {
-      LOGGER.warning("Invalid dice values, defaulting to [1,1]");
-      diceValues = new int[]{1, 1};
-    }
+    int[] diceValues = currentDiceValues();
     // Player gets out of jail if either die shows a 6
-    boolean rolledSix = diceValues[0] == 6 || diceValues[1] == 6;
-    if (rolledSix) {
+    if (diceValues[0] == 6 || diceValues[1] == 6) {
       currentPlayer.setInJail(false);
-      LOGGER.info(currentPlayer.getName() + " rolled " + diceValues[0] + " and " + diceValues[1] + " - Released from jail!");
-    } else {
-      LOGGER.info(currentPlayer.getName() + " rolled " + diceValues[0] + " and " + diceValues[1] + " - Must stay in jail");
     }
-    awaitingJailAction = false;
-    mediator.notify(this, "nextPlayer");
+    endTurn();
   }
 
   /**
@@ -210,16 +384,19 @@ public class MonopolyController extends BaseGameController {
    * player's "inJail" status is updated to false, allowing them to continue playing. If the player
    * does not have enough money, the operation is skipped without any changes to their state.
    *
-   * <p>Additionally, this method updates the game state to indicate that no jail action is awaiting
-   * for the current player and signals the game mediator to proceed to the next player's turn.
+   * <p>Either way, the turn ends, which moves to the next player and notifies the game mediator.
    *
    * <p>Key operations:
    * <li>Deducts money from the current player's balance for jail payment.
    * <li>Updates the player's "inJail" status upon successful payment.
    * <li>Handles insufficient funds scenario gracefully without stopping game flow.
-   * <li>Notifies the game mediator to continue with the next player turn.
+   * <li>Ends the turn of the current player.
    */
   public void handleJailPay() {
+    submit(TurnCommand.JAIL_PAY);
+  }
+
+  private void payToLeaveJail() {
     SimpleMonopolyPlayer currentPlayer = (SimpleMonopolyPlayer) boardGame.getCurrentPlayer();
     try {
       currentPlayer.payRent(50);
@@ -227,8 +404,7 @@ public class MonopolyController extends BaseGameController {
     } catch (Exception e) {
       // Not enough money, do nothing
     }
-    awaitingJailAction = false;
-    mediator.notify(this, "nextPlayer");
+    endTurn();
   }
 
   /**
@@ -236,8 +412,8 @@ public class MonopolyController extends BaseGameController {
    *
    * @return true if the game is awaiting an action from the player, false otherwise.
    */
-  public boolean isAwaitingPlayerAction() {
-    return awaitingPlayerAction;
+  public synchronized boolean isAwaitingPlayerAction() {
+    return phase == TurnPhase.AWAITING_PURCHASE;
   }
 
   /**
@@ -250,40 +426,48 @@ public class MonopolyController extends BaseGameController {
    * <p>Main operations performed by this method include:
    * <li>Retrieving the current player from the game controller.
    * <li>Initiating the purchase of the pending property by the current player.
-   * <li>Updating the game state to reflect that no further player action is awaited.
-   * <li>Progressing the game to the next player's turn.
-   * <li>Notifying the game mediator that the game has transitioned to the next player.
+   * <li>Ending the turn, which moves to the next player and notifies the game mediator.
    *
    *     <p>This method is called when a player chooses to purchase a property during their turn.
    */
   public void buyPropertyForCurrentPlayer() {
-    if (!awaitingPlayerAction || pendingPropertyTile == null) {
-      return;
-    }
+    submit(TurnCommand.BUY);
+  }
+
+  private void buyPendingProperty() {
     SimpleMonopolyPlayer currentPlayer = (SimpleMonopolyPlayer) boardGame.getCurrentPlayer();
     buyProperty(currentPlayer, pendingPropertyTile);
-    awaitingPlayerAction = false;
-    pendingPropertyTile = null;
-    nextPlayer();
-    mediator.notify(this, "nextPlayer");
+    endTurn();
   }
 
   /**
    * Handles the process of purchasing a property for a specified player in the game. This method
-   * attempts to complete the property purchase and logs relevant events including successful
-   * purchases or situations where the player cannot afford the property.
+   * attempts to complete the property purchase and records it as a {@link PropertyPurchaseEvent},
+   * whether it succeeds or the player cannot afford the property.
    *
    * @param player the player attempting to purchase the property
    * @param property the property tile the player is attempting to buy
    */
   public void buyProperty(SimpleMonopolyPlayer player, PropertyTile property) {
+    PropertyPurchaseEvent event = new PropertyPurchaseEvent();
+    event.begin();
+    boolean bought = false;
     try {
       player.buyProperty(property);
-      LOGGER.info(player.getName() + " bought property at position " + property.getId());
+      bought = true;
     } catch (LowMoneyException e) {
       LOGGER.warning(player.getName() + " cannot afford property at position " + property.getId());
       // Handle insufficient funds
     }
+    event.end();
+    if (event.shouldCommit()) {
+      event.setPlayer(player.getName());
+      event.setTileId(property.getId());
+      event.setPrice(property.getPrice());
+      event.setBought(bought);
+      event.setMoneyAfter(player.getMoney());
+      event.commit();
+    }
   }
 
   /**
@@ -292,29 +476,24 @@ public class MonopolyController extends BaseGameController {
    * <p>This method is triggered when the current player opts to forgo their action or is not
    * allowed to take action due to game conditions. It ensures smooth transition to the next
    * player's turn by performing the following steps:
-   * <li>Verifies if the game is currently awaiting the current player's action.
-   * <li>Clears the game's record of pending actions and resets any associated state variables, such
-   *     as `pendingPropertyTile`.
-   * <li>Signals the game logic to move forward to the next player by invoking the `nextPlayer`
-   *     method.
-   * <li>Notifies the `mediator` with a "nextPlayer" event to propagate state changes to other
-   *     components or observers.
+   * <li>Verifies if the game is currently awaiting the current player's decision on a property.
+   * <li>Ends the turn, which clears the pending property, moves to the next player and notifies the
+   *     `mediator` with a "nextPlayer" event.
    *
    *     <p>If the game is not awaiting the current player's action, this method performs no
    *     operations.
    */
   public void skipActionForCurrentPlayer() {
-    if (!awaitingPlayerAction) {
-      return;
-    }
-    awaitingPlayerAction = false;
-    pendingPropertyTile = null;
-    nextPlayer();
-    mediator.notify(this, "nextPlayer");
+    submit(TurnCommand.SKIP);
   }
 
-  public boolean isAwaitingRentAction() {
-    return awaitingRentAction;
+  /**
+   * Determines whether the game is currently awaiting the current player to pay rent.
+   *
+   * @return true if the game is awaiting a rent payment, false otherwise.
+   */
+  public synchronized boolean isAwaitingRentAction() {
+    return phase == TurnPhase.AWAITING_RENT;
   }
 
   /**
@@ -328,8 +507,8 @@ public class MonopolyController extends BaseGameController {
    * <li>Retrieves the current player from the game board.
    * <li>Executes the rent payment logic by calling the `payRent` method, which adjusts the player's
    *     balance and credits the property owner appropriately.
-   * <li>Updates the game state by clearing the pending rent action and associated property tile.
-   * <li>Determines the next player and signals the game to proceed by notifying the mediator.
+   * <li>Ends the turn, which clears the pending property tile, moves to the next player and
+   *     notifies the mediator.
    *
    *     <p>This method ensures that the game's state and flow are maintained properly during the
    *     rent payment process and transitions seamlessly to the next player's turn.
@@ -341,35 +520,46 @@ public class MonopolyController extends BaseGameController {
    *     observers.
    */
   public void payRentForCurrentPlayer() {
-    if (!awaitingRentAction || pendingRentPropertyTile == null) {
-      return;
-    }
+    submit(TurnCommand.PAY_RENT);
+  }
+
+  private void payPendingRent() {
     SimpleMonopolyPlayer currentPlayer = (SimpleMonopolyPlayer) boardGame.getCurrentPlayer();
-    payRent(currentPlayer, pendingRentPropertyTile);
-    awaitingRentAction = false;
-    pendingRentPropertyTile = null;
-    nextPlayer();
-    mediator.notify(this, "nextPlayer");
+    payRent(currentPlayer, pendingPropertyTile);
+    endTurn();
   }
 
   /**
    * Handles the payment of rent from a player to the owner of a property in the context of a
    * Monopoly game. This method adjusts the player's balance based on the rent value of the property
-   * and logs the transaction. If the player does not have sufficient funds to pay the rent, a
-   * warning is logged.
+   * and records the transaction as a {@link RentPaymentEvent}. If the player does not have
+   * sufficient funds to pay the rent, a warning is logged.
    *
    * @param player the player who needs to pay the rent
    * @param property the property tile for which rent needs to be paid
    */
   public void payRent(SimpleMonopolyPlayer player, PropertyTile property) {
+    RentPaymentEvent event = new RentPaymentEvent();
+    event.begin();
+    boolean paid = false;
     try {
       player.payRent(property.getRent());
-      LOGGER.info(player.getName() + " paid rent for property at position " + property.getId());
+      paid = true;
     } catch (LowMoneyException e) {
       LOGGER.warning(
           player.getName() + " cannot afford rent for property at position " + property.getId());
       // Handle insufficient funds
     }
+    event.end();
+    if (event.shouldCommit()) {
+      event.setPayer(player.getName());
+      event.setOwner(property.getOwner() == null ? null : property.getOwner().getName());
+      event.setTileId(property.getId());
+      event.setRent(property.getRent());
+      event.setPaid(paid);
+      event.setMoneyAfter(player.getMoney());
+      event.commit();
+    }
   }
 
   /**
@@ -382,13 +572,18 @@ public class MonopolyController extends BaseGameController {
   }
 
   /**
-   * Rolls the dice without processing any game logic.
-   * This method is used by the UI to get dice values for display before animation.
+   * Rolls the dice and moves the current player by submitting a {@link TurnCommand#MOVE}, without
+   * resolving the tile they land on. This method is used by the UI, which shows the dice values and
+   * animates the move before it calls {@link #handleLanding()}.
+   *
+   * @return true if the player was moved, false if the roll was rejected or the player is in jail
    */
-  public void rollDice() {
-    boardGame.getDice().rollAllDice();
-    diceRolled = true;
-    LOGGER.info("Dice rolled: " + java.util.Arrays.toString(boardGame.getCurrentDiceValues()));
+  public synchronized boolean rollDice() {
+    if (!submit(TurnCommand.MOVE) || phase != TurnPhase.AWAITING_LANDING) {
+      return false;
+    }
+    setDiceRolled(true);
+    return true;
   }
 
   /**
@@ -402,32 +597,48 @@ public class MonopolyController extends BaseGameController {
   }
 
   /**
-   * Sets the awaiting player action state
+   * Sets whether the current player is deciding whether to buy a property. Turning it off while
+   * the player is deciding goes back to awaiting the roll.
+   *
+   * @param awaiting true to await the decision
    */
-  public void setAwaitingPlayerAction(boolean awaiting) {
-    this.awaitingPlayerAction = awaiting;
+  public synchronized void setAwaitingPlayerAction(boolean awaiting) {
+    setDecision(TurnPhase.AWAITING_PURCHASE, awaiting);
   }
 
   /**
-   * Sets the pending property tile
+   * Sets the property the current player is deciding about.
+   *
+   * @param tile the property tile, or null
    */
-  public void setPendingPropertyTile(PropertyTile tile) {
+  public synchronized void setPendingPropertyTile(PropertyTile tile) {
     this.pendingPropertyTile = tile;
   }
 
   /**
-   * Sets the awaiting rent action state
+   * Sets whether the current player must pay rent. Turning it off while the player must pay goes
+   * back to awaiting the roll.
+   *
+   * @param awaiting true to await the payment
    */
-  public void setAwaitingRentAction(boolean awaiting) {
-    this.awaitingRentAction = awaiting;
+  public synchronized void setAwaitingRentAction(boolean awaiting) {
+    setDecision(TurnPhase.AWAITING_RENT, awaiting);
   }
 
   /**
-   * Sets the pending rent property tile
+   * Sets the property the current player must pay rent for.
+   *
+   * @param tile the property tile, or null
    */
-  public void setPendingRentPropertyTile(PropertyTile tile) {
-    this.pendingRentPropertyTile = tile;
+  public synchronized void setPendingRentPropertyTile(PropertyTile tile) {
+    this.pendingPropertyTile = tile;
   }
-}
-
 
+  private void setDecision(TurnPhase decision, boolean awaiting) {
+    if (awaiting) {
+      phase = decision;
+    } else if (phase == decision) {
+      phase = TurnPhase.AWAITING_ROLL;
+    }
+  }
+}
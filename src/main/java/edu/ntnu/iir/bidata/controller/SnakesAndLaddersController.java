@@ -6,6 +6,8 @@ import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileWriter;
 import edu.ntnu.iir.bidata.model.BoardGame;
 import edu.ntnu.iir.bidata.model.player.Player;
 import edu.ntnu.iir.bidata.model.tile.config.TileConfiguration;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
+import edu.ntnu.iir.bidata.model.tile.core.Tile;
 import edu.ntnu.iir.bidata.model.utils.GameMediator;
 import java.util.List;
 import java.util.logging.Logger;
@@ -14,8 +16,6 @@ import java.util.logging.Logger;
 public class SnakesAndLaddersController extends BaseGameController {
   private static final Logger LOGGER = Logger.getLogger(SnakesAndLaddersController.class.getName());
 
-  private final BoardGameFileWriter boardGameWriter;
-  private final BoardGameFileReader boardGameReader;
   private final GameMediator mediator;
   private final TileConfiguration tileConfig;
   private boolean gameStarted = false;
@@ -39,10 +39,8 @@ public class SnakesAndLaddersController extends BaseGameController {
       BoardGameFileReader boardGameReader,
       GameMediator mediator,
       TileConfiguration tileConfig) {
-    super(boardGame);
+    super(boardGame, boardGameWriter, boardGameReader);
     this.boardGame = boardGame;
-    this.boardGameWriter = boardGameWriter;
-    this.boardGameReader = boardGameReader;
     this.mediator = mediator;
     this.tileConfig = tileConfig;
     LOGGER.info("SnakesAndLaddersController initialized");
@@ -58,12 +56,14 @@ public class SnakesAndLaddersController extends BaseGameController {
   public void setPlayerNames(List<String> playerNames) {
     super.setPlayerNames(playerNames);
     // Initialize positions for all players
+    Tile startTile = boardGame.getBoard().getTile(0);
     playerNames.forEach(
-        playerName ->
-            boardGame.getPlayers().stream()
-                .filter(player -> player.getName().equals(playerName))
-                .findFirst()
-                .ifPresent(player -> player.setCurrentTile(boardGame.getBoard().getTile(0))));
+        playerName -> {
+          Player player = boardGame.getPlayerByName(playerName);
+          if (player != null) {
+            player.setCurrentTile(startTile);
+          }
+        });
     LOGGER.info("Setting player names: " + playerNames);
   }
 
@@ -117,7 +117,7 @@ public class SnakesAndLaddersController extends BaseGameController {
     int roll = getLastDiceRoll();
     MoveResult result = movePlayer(currentPlayer, roll);
 
-    if (result.end == 100) {
+    if (result.outcome == MoveOutcome.REACHED_END) {
       LOGGER.info(currentPlayer + " has won the game!");
       return;
     }
@@ -163,45 +163,45 @@ public class SnakesAndLaddersController extends BaseGameController {
    *     move (e.g., "normal", "snake", "ladder")
    */
   public MoveResult movePlayer(String playerName, int roll) {
-    for (Player player : boardGame.getPlayers()) {
-      if (player.getName().equals(playerName)) {
-        int start = player.getCurrentPosition();
-        int end = start + roll;
-        String type = "normal";
-
-        // Ensure we don't go past the board size
-        int lastTile = boardGame.getBoard().getSizeOfBoard();
-        if (end == lastTile) {
-          return new MoveResult(start, end - 1, "win");
-        }
-        if (end > lastTile) {
-          int overshoot = end - lastTile;
-          end = lastTile - overshoot;
-        }
+    Player player = boardGame.getPlayerByName(playerName);
+    if (player == null) {
+      return new MoveResult(0, 0, "normal");
+    }
+    int start = player.getCurrentPosition();
+    int end = start + roll;
+    String type = "normal";
 
-        if (end != start) {
-          player.setCurrentTile(boardGame.getBoard().getTile(end));
-        }
+    // Ensure we don't go past the board size
+    int lastTile = boardGame.getBoard().getSizeOfBoard();
+    if (end == lastTile) {
+      gameOver();
+      return new MoveResult(start, end - 1, "win", MoveOutcome.REACHED_END);
+    }
+    if (end > lastTile) {
+      int overshoot = end - lastTile;
+      end = lastTile - overshoot;
+    }
 
-        // Check for snakes
-        if (tileConfig.isSnakeHead(end)) {
-          int tail = tileConfig.getSnakeTail(end);
-          player.setCurrentTile(boardGame.getBoard().getTile(tail));
-          end = tail;
-          type = "snake";
-        }
-        // Check for ladders only if it's a normal move
-        else if (tileConfig.isLadderStart(end)) {
-          int top = tileConfig.getLadderEnd(end);
-          player.setCurrentTile(boardGame.getBoard().getTile(top));
-          end = top;
-          type = "ladder";
-        }
+    if (end != start) {
+      player.setCurrentTile(boardGame.getBoard().getTile(end));
+    }
 
-        return new MoveResult(start, end, type);
-      }
+    // Check for snakes
+    if (tileConfig.isSnakeHead(end)) {
+      int tail = tileConfig.getSnakeTail(end);
+      player.setCurrentTile(boardGame.getBoard().getTile(tail));
+      end = tail;
+      type = "snake";
     }
-    return new MoveResult(0, 0, "normal");
+    // Check for ladders only if it's a normal move
+    else if (tileConfig.isLadderStart(end)) {
+      int top = tileConfig.getLadderEnd(end);
+      player.setCurrentTile(boardGame.getBoard().getTile(top));
+      end = top;
+      type = "ladder";
+    }
+
+    return new MoveResult(start, end, type);
   }
 
   /**
@@ -253,12 +253,14 @@ public class SnakesAndLaddersController extends BaseGameController {
    * <p>The current player index is set using the {@code setCurrentPlayerIndex} method, which
    * calculates the next player's index by incrementing the current index, and ensures the value
    * wraps around using the modulo operator with the player list size. The name of the next player
-   * is logged using the {@code getCurrentSnakesAndLaddersPlayerName} method.
+   * is logged using the {@code getCurrentSnakesAndLaddersPlayerName} method. The turn that ended
+   * is then saved, if the game is being saved as it is played.
    */
   public void nextSnakesAndLaddersPlayer() {
     boardGame.setCurrentPlayerIndex(
         (boardGame.getCurrentPlayerIndex() + 1) % boardGame.getPlayers().size());
     LOGGER.info("Next player: " + getCurrentSnakesAndLaddersPlayerName());
+    turnEnded();
   }
 
   /**
@@ -269,11 +271,8 @@ public class SnakesAndLaddersController extends BaseGameController {
    * @return the current position of the specified player, or 0 if the player is not found
    */
   public int getPlayerPosition(String playerName) {
-    return boardGame.getPlayers().stream()
-        .filter(player -> player.getName().equals(playerName))
-        .map(Player::getCurrentPosition)
-        .findFirst()
-        .orElse(0);
+    Player player = boardGame.getPlayerByName(playerName);
+    return player != null ? player.getCurrentPosition() : 0;
   }
 
   /**
@@ -290,21 +289,29 @@ public class SnakesAndLaddersController extends BaseGameController {
   /**
    * Updates the position of a player in the Snakes and Ladders game. This method finds the
    * specified player by name and adjusts their position on the board. If the player is found, they
-   * are moved to the specified position, and a log entry is created to indicate the movement.
+   * are moved to the specified position, and a log entry is created to indicate the movement. A
+   * player that cannot be moved there, because the position is past the end of the board or cannot
+   * be reached, stays where they are.
    *
    * @param playerName the name of the player whose position will be updated
    * @param position the new position to which the player will be moved
+   * @return the outcome of the move, or null if the player is not found
    */
-  public void updateSnakesAndLaddersPosition(String playerName, int position) {
-    boardGame.getPlayers().stream()
-        .filter(player -> player.getName().equals(playerName))
-        .findFirst()
-        .ifPresent(
-            player -> {
-              int steps = position - player.getCurrentPosition();
-              player.move(steps);
-              LOGGER.info(playerName + " moved to position " + position);
-            });
+  public MoveOutcome updateSnakesAndLaddersPosition(String playerName, int position) {
+    Player player = boardGame.getPlayerByName(playerName);
+    if (player == null) {
+      return null;
+    }
+    int steps = position - player.getCurrentPosition();
+    MoveOutcome outcome = player.move(steps);
+    if (outcome == MoveOutcome.OVERSHOOT || outcome == MoveOutcome.UNREACHABLE) {
+      LOGGER.warning(playerName + " could not be moved to position " + position + ": " + outcome);
+    } else if (outcome == MoveOutcome.REACHED_END) {
+      LOGGER.info(playerName + " moved to position " + position + " and reached the end");
+    } else {
+      LOGGER.info(playerName + " moved to position " + position);
+    }
+    return outcome;
   }
 
   /**
@@ -312,7 +319,8 @@ public class SnakesAndLaddersController extends BaseGameController {
    *
    * <p>Instances of this class provide details about a move, including the starting and ending
    * positions of the player and the type of move that occurred. The type of move indicates whether
-   * it was a normal move, involved a snake, or involved a ladder.
+   * it was a normal move, involved a snake, or involved a ladder. The outcome tells whether the
+   * player reached the end of the board and won.
    *
    * <p>This class is immutable and designed to encapsulate the details of a single move within the
    * game.
@@ -320,19 +328,34 @@ public class SnakesAndLaddersController extends BaseGameController {
   public static class MoveResult {
     public final int start;
     public final int end;
-    public final String type; // "normal", "snake", "ladder"
+    public final String type; // "normal", "snake", "ladder", "win"
+    public final MoveOutcome outcome;
 
     /**
-     * Constructs a new MoveResult object representing the result of a move.
+     * Constructs a new MoveResult object representing the result of a move that did not reach the
+     * end of the board.
      *
      * @param start the starting position of the move
      * @param end the ending position of the move
      * @param type the type of the move (e.g., "normal", "snake", "ladder")
      */
     public MoveResult(int start, int end, String type) {
+      this(start, end, type, MoveOutcome.MOVED);
+    }
+
+    /**
+     * Constructs a new MoveResult object representing the result of a move.
+     *
+     * @param start the starting position of the move
+     * @param end the ending position of the move
+     * @param type the type of the move (e.g., "normal", "snake", "ladder", "win")
+     * @param outcome how the move ended
+     */
+    public MoveResult(int start, int end, String type, MoveOutcome outcome) {
       this.start = start;
       this.end = end;
       this.type = type;
+      this.outcome = outcome;
     }
   }
 }
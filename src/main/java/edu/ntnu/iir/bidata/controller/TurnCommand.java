@@ -0,0 +1,65 @@
+package edu.ntnu.iir.bidata.controller;
+
+/**
+ * The commands a player, the view or a bot can give a {@link MonopolyController} during a turn.
+ * A command is only carried out if the current {@link TurnPhase} accepts it.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public enum TurnCommand {
+
+  /**
+   * Roll the dice, move the current player and resolve the tile they land on. For a player in jail,
+   * the first roll asks how to get out, and a roll after that is a {@link #JAIL_ROLL}.
+   */
+  ROLL,
+
+  /**
+   * Roll the dice and move the current player without resolving the tile they land on, for a view
+   * that animates the move first. The tile is resolved by a {@link #LAND} after it. A player in
+   * jail is asked how to get out instead.
+   */
+  MOVE,
+
+  /**
+   * Resolve the tile the current player has been moved to by a {@link #MOVE}. The view sends this
+   * after it has animated the move.
+   */
+  LAND,
+
+  /** Buy the property the current player landed on. */
+  BUY,
+
+  /** Leave the property the current player landed on unbought. */
+  SKIP,
+
+  /** Pay the rent of the property the current player landed on. */
+  PAY_RENT,
+
+  /** Roll the dice to get out of jail. */
+  JAIL_ROLL,
+
+  /** Pay to get out of jail. */
+  JAIL_PAY;
+
+  /**
+   * Checks whether this command acts on the property the current player landed on, so it can only
+   * be carried out while there is one.
+   *
+   * @return true for {@link #BUY} and {@link #PAY_RENT}, false otherwise
+   */
+  public boolean needsPendingProperty() {
+    return this == BUY || this == PAY_RENT;
+  }
+
+  /**
+   * Checks whether this command gets the current player out of jail, so it can only be carried out
+   * for a player who is in jail.
+   *
+   * @return true for {@link #JAIL_ROLL} and {@link #JAIL_PAY}, false otherwise
+   */
+  public boolean needsJailedPlayer() {
+    return this == JAIL_ROLL || this == JAIL_PAY;
+  }
+}
@@ -0,0 +1,53 @@
+package edu.ntnu.iir.bidata.controller;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The phases of a turn in a Monopoly game, and the commands each phase accepts. A {@link
+ * MonopolyController} is always in exactly one phase, and every turn goes back to {@link
+ * #AWAITING_ROLL} for the next player through a single end of turn.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public enum TurnPhase {
+
+  /**
+   * The current player is about to roll. A player in jail may also roll or pay to get out, since
+   * the view offers those choices without rolling first; the jail commands are only carried out
+   * for a player who is in jail.
+   */
+  AWAITING_ROLL(TurnCommand.ROLL, TurnCommand.MOVE, TurnCommand.JAIL_ROLL, TurnCommand.JAIL_PAY),
+
+  /** The current player has been moved for the view, which animates the move and then lands. */
+  AWAITING_LANDING(TurnCommand.LAND),
+
+  /** The current player landed on a property nobody owns and decides whether to buy it. */
+  AWAITING_PURCHASE(TurnCommand.BUY, TurnCommand.SKIP),
+
+  /** The current player landed on a property another player owns and must pay the rent. */
+  AWAITING_RENT(TurnCommand.PAY_RENT),
+
+  /**
+   * The current player is in jail and decides how to try to get out. Rolling in jail is a roll to
+   * get out.
+   */
+  IN_JAIL(TurnCommand.ROLL, TurnCommand.JAIL_ROLL, TurnCommand.JAIL_PAY);
+
+  private final Set<TurnCommand> accepted;
+
+  TurnPhase(TurnCommand first, TurnCommand... rest) {
+    this.accepted = EnumSet.of(first, rest);
+  }
+
+  /**
+   * Checks whether a command may be carried out in this phase.
+   *
+   * @param command the command
+   * @return true if the command is accepted in this phase
+   */
+  public boolean accepts(TurnCommand command) {
+    return accepted.contains(command);
+  }
+}
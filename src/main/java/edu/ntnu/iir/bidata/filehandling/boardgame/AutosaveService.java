@@ -0,0 +1,315 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.AtomicFileWriter;
+import edu.ntnu.iir.bidata.filehandling.storage.SaveStore;
+import edu.ntnu.iir.bidata.filehandling.storage.SaveStoreType;
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.events.SaveEvent;
+import edu.ntnu.iir.bidata.model.metrics.GameMetrics;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+/**
+ * Saves games on a background thread, so that saving never blocks the thread that plays the game.
+ *
+ * <p>When a save is requested, the game is encoded in the binary save format on the calling thread.
+ * This is a cheap, consistent copy of the state at that moment, and the game can keep changing
+ * right after the call. The background thread decodes the copy into a detached game and writes it
+ * with the configured writer, either to a file through {@link AtomicFileWriter} or to a key of a
+ * {@link SaveStore}, so a save is never left half-written. Every save that ends up in a file is
+ * recorded in the {@link SavedGameCatalog} of its directory.
+ *
+ * <p>Requests for the same file or key are coalesced: if a save of it is still waiting to run, a
+ * new request only replaces the copy it will write, and both requests complete when that single
+ * write is done.
+ *
+ * <p>The controllers of a game share one service, {@link #shared()}, which is closed when the game
+ * exits before the shared {@link SaveStoreType#shared() store}, so the saves still waiting to be
+ * written reach the store.
+ *
+ * <p>Every write is recorded as a {@link SaveEvent} that lasts until the game has been stored, and
+ * is timed in the {@link GameMetrics}.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class AutosaveService implements AutoCloseable {
+  private static final Logger LOGGER = Logger.getLogger(AutosaveService.class.getName());
+
+  private static AutosaveService shared;
+
+  private final BoardGameFileWriter writer;
+  private final BoardGameFileWriterBinary encoder = new BoardGameFileWriterBinary();
+  private final BoardGameFileReaderBinary decoder = new BoardGameFileReaderBinary();
+  private final Map<SaveTarget, PendingSave> pending = new ConcurrentHashMap<>();
+  private final ExecutorService executor =
+      Executors.newSingleThreadExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "autosave");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  /** Creates an autosave service that writes JSON saves. */
+  public AutosaveService() {
+    this(new BoardGameFileWriterGson());
+  }
+
+  /**
+   * Creates an autosave service that writes saves with the given writer.
+   *
+   * @param writer the writer used on the background thread
+   */
+  public AutosaveService(BoardGameFileWriter writer) {
+    this.writer = writer;
+  }
+
+  /**
+   * Gets the service that the controllers of this game share. It is created the first time it is
+   * requested, and is closed when the game exits, before the shared save store is closed.
+   *
+   * @return the shared service
+   */
+  public static synchronized AutosaveService shared() {
+    if (shared == null) {
+      shared = new AutosaveService();
+      SaveStoreType.closeBeforeStore(shared);
+    }
+    return shared;
+  }
+
+  /**
+   * Requests a save of a game. Must be called from the thread that plays the game, at a point where
+   * the game is in a consistent state, such as the end of a turn.
+   *
+   * @param boardGame the game to save
+   * @param path the file to save the game to
+   * @param isMonopoly whether the game is a Monopoly game
+   * @return a future that completes when a save at least as recent as this one has been written
+   */
+  public CompletableFuture<Void> save(BoardGame boardGame, Path path, boolean isMonopoly) {
+    return save(boardGame, new FileTarget(path), writer, isMonopoly);
+  }
+
+  /**
+   * Requests a save of a game to a key of a {@link SaveStore}. The game is encoded by the writer on
+   * the background thread and handed to the store, which writes it without blocking that thread.
+   * If the store keeps the key in a file, the save is also recorded in the catalog of its
+   * directory.
+   *
+   * @param boardGame the game to save
+   * @param store the store to save the game in
+   * @param key the key to save the game under
+   * @param isMonopoly whether the game is a Monopoly game
+   * @return a future that completes when a save at least as recent as this one has been stored
+   */
+  public CompletableFuture<Void> save(
+      BoardGame boardGame, SaveStore store, String key, boolean isMonopoly) {
+    return save(boardGame, store, key, writer, isMonopoly);
+  }
+
+  /**
+   * Requests a save of a game to a key of a {@link SaveStore}, encoded with the given writer
+   * instead of the writer of this service.
+   *
+   * @param boardGame the game to save
+   * @param store the store to save the game in
+   * @param key the key to save the game under
+   * @param writer the writer used on the background thread
+   * @param isMonopoly whether the game is a Monopoly game
+   * @return a future that completes when a save at least as recent as this one has been stored
+   */
+  public CompletableFuture<Void> save(
+      BoardGame boardGame,
+      SaveStore store,
+      String key,
+      BoardGameFileWriter writer,
+      boolean isMonopoly) {
+    return save(boardGame, new StoreTarget(store, SaveStore.checkKey(key)), writer, isMonopoly);
+  }
+
+  /** Waits until every requested save has been written, then stops the background thread. */
+  @Override
+  public void close() {
+    executor.close();
+  }
+
+  private CompletableFuture<Void> save(
+      BoardGame boardGame, SaveTarget target, BoardGameFileWriter writer, boolean isMonopoly) {
+    ByteBuffer snapshot = encoder.encode(boardGame, isMonopoly).contents();
+    PendingSave[] scheduled = new PendingSave[1];
+    PendingSave save =
+        pending.compute(
+            target,
+            (key, waiting) -> {
+              if (waiting != null) {
+                waiting.snapshot = snapshot;
+                waiting.writer = writer;
+                waiting.isMonopoly = isMonopoly;
+                return waiting;
+              }
+              scheduled[0] = new PendingSave(snapshot, writer, isMonopoly);
+              return scheduled[0];
+            });
+    if (scheduled[0] != null) {
+      executor.execute(() -> write(target));
+    }
+    return save.done;
+  }
+
+  private void write(SaveTarget target) {
+    PendingSave save = pending.remove(target);
+    SaveEvent event = new SaveEvent();
+    event.begin();
+    long start = System.nanoTime();
+    long snapshotSize = save.snapshot.remaining();
+    CompletableFuture<Void> written;
+    try {
+      BoardGame detached = decoder.readBoardGame(save.snapshot);
+      written = target.write(detached, save.writer, save.isMonopoly);
+    } catch (IOException | RuntimeException e) {
+      written = CompletableFuture.failedFuture(e);
+    }
+    written.whenComplete(
+        (ignored, failure) -> {
+          GameMetrics.shared().recordSave(System.nanoTime() - start, failure == null);
+          event.end();
+          if (event.shouldCommit()) {
+            event.setTarget(target.toString());
+            event.setMonopoly(save.isMonopoly);
+            event.setSnapshotSize(snapshotSize);
+            event.setSucceeded(failure == null);
+            event.commit();
+          }
+          if (failure == null) {
+            save.done.complete(null);
+            return;
+          }
+          Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+          LOGGER.severe("Failed to save game to " + target + ": " + cause.getMessage());
+          save.done.completeExceptionally(cause);
+        });
+  }
+
+  /** Records the save in the catalog of its directory. A failure here does not fail the save. */
+  private static void updateCatalog(Path path, BoardGame savedGame, boolean isMonopoly) {
+    if (!SavedGameCatalog.isSaveFile(path)) {
+      return;
+    }
+    try {
+      SavedGameCatalog.forDirectory(path.toAbsolutePath().getParent())
+          .recordSave(path, savedGame, isMonopoly);
+    } catch (IOException e) {
+      LOGGER.warning("Failed to update the saved game catalog for " + path + ": " + e.getMessage());
+    }
+  }
+
+  /** Where a save is written to. Targets are equal when they refer to the same save. */
+  private interface SaveTarget {
+
+    /**
+     * Writes a detached game. Runs on the background thread.
+     *
+     * @param detached the game to write
+     * @param writer the writer that encodes the game
+     * @param isMonopoly whether the game is a Monopoly game
+     * @return a future that completes when the game has been written
+     * @throws IOException if the game cannot be written
+     */
+    CompletableFuture<Void> write(
+        BoardGame detached, BoardGameFileWriter writer, boolean isMonopoly) throws IOException;
+  }
+
+  /** A save file, replaced atomically on the background thread. */
+  private static final class FileTarget implements SaveTarget {
+    private final Path path;
+
+    private FileTarget(Path path) {
+      this.path = path;
+    }
+
+    @Override
+    public CompletableFuture<Void> write(
+        BoardGame detached, BoardGameFileWriter writer, boolean isMonopoly) throws IOException {
+      AtomicFileWriter.replace(
+          path, temporary -> writer.writeBoardGame(detached, temporary, isMonopoly));
+      updateCatalog(path, detached, isMonopoly);
+      return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof FileTarget target && path.equals(target.path);
+    }
+
+    @Override
+    public int hashCode() {
+      return path.hashCode();
+    }
+
+    @Override
+    public String toString() {
+      return path.toString();
+    }
+  }
+
+  /** A key of a save store, which writes the encoded game on its own. */
+  private static final class StoreTarget implements SaveTarget {
+    private final SaveStore store;
+    private final String key;
+
+    private StoreTarget(SaveStore store, String key) {
+      this.store = store;
+      this.key = key;
+    }
+
+    @Override
+    public CompletableFuture<Void> write(
+        BoardGame detached, BoardGameFileWriter writer, boolean isMonopoly) throws IOException {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      writer.writeBoardGame(detached, out, isMonopoly);
+      return store
+          .write(key, ByteBuffer.wrap(out.toByteArray()))
+          .thenRun(
+              () -> store.pathOf(key).ifPresent(path -> updateCatalog(path, detached, isMonopoly)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof StoreTarget target && store == target.store && key.equals(target.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(store) * 31 + key.hashCode();
+    }
+
+    @Override
+    public String toString() {
+      return key;
+    }
+  }
+
+  /** The latest copy of a game that is waiting to be written. */
+  private static final class PendingSave {
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+    private ByteBuffer snapshot;
+    private BoardGameFileWriter writer;
+    private boolean isMonopoly;
+
+    private PendingSave(ByteBuffer snapshot, BoardGameFileWriter writer, boolean isMonopoly) {
+      this.snapshot = snapshot;
+      this.writer = writer;
+      this.isMonopoly = isMonopoly;
+    }
+  }
+}
@@ -1,12 +1,19 @@
 package edu.ntnu.iir.bidata.filehandling.boardgame;
 
 import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
 /**
  * Defines the contract for reading a BoardGame object from a file. Implementations of this
  * interface are responsible for handling specific file formats and parsing logic.
+ *
+ * <p>The implementations in this package keep no state between calls, so one instance can be
+ * shared by several threads, as the {@link BulkSavedGameReader} does.
  */
 public interface BoardGameFileReader {
 
@@ -20,4 +27,45 @@ public interface BoardGameFileReader {
    * @throws IOException if an I/O error occurs while reading the file
    */
   BoardGame readBoardGame(Path path) throws IOException;
+
+  /**
+   * Reads and parses a BoardGame object from a stream, such as the content of a save held by a
+   * {@code SaveStore}. A compressed save is decompressed while it is read, and the stream is closed
+   * when the game has been read.
+   *
+   * <p>The default implementation copies the stream to a temporary file and reads that file. The
+   * readers of this package override it to read from the stream directly.
+   *
+   * @param in the stream of the board game data
+   * @return a BoardGame object parsed from the stream
+   * @throws IOException if an I/O error occurs while reading the stream
+   */
+  default BoardGame readBoardGame(InputStream in) throws IOException {
+    Path temporary = Files.createTempFile("boardgame", ".save");
+    try (in) {
+      Files.copy(in, temporary, StandardCopyOption.REPLACE_EXISTING);
+      return readBoardGame(temporary);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  /**
+   * Opens a saved game for a preview. The header and the players are read right away, while the
+   * board and the tile actions are read the first time the whole game is requested from the
+   * returned {@link SavedGame}.
+   *
+   * <p>The default implementation reads the whole game at once. The JSON and binary readers of
+   * this package override it to stop reading before the board.
+   *
+   * @param path the path to the file containing the board game data
+   * @return the opened saved game
+   * @throws IOException if an I/O error occurs while reading the file
+   */
+  default SavedGame openSavedGame(Path path) throws IOException {
+    BoardGame boardGame = readBoardGame(path);
+    return SavedGame.of(
+        boardGame,
+        boardGame.getPlayers().stream().anyMatch(SimpleMonopolyPlayer.class::isInstance));
+  }
 }
@@ -0,0 +1,84 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.Inject;
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.BinarySaveFormat;
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.SaveCompression;
+import edu.ntnu.iir.bidata.model.BoardGame;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Implementation of the BoardGameFileReader interface that reads both JSON and binary saves. The
+ * format is detected from the first bytes of the file, after decompressing them if the file is
+ * compressed, so callers do not need to know which writer produced a save.
+ */
+public class BoardGameFileReaderAutoDetect implements BoardGameFileReader {
+  private final BoardGameFileReader jsonReader;
+  private final BoardGameFileReader binaryReader;
+
+  /** Creates a reader that uses the Gson reader for JSON saves and the binary reader otherwise. */
+  @Inject
+  public BoardGameFileReaderAutoDetect() {
+    this(new BoardGameFileReaderGson(), new BoardGameFileReaderBinary());
+  }
+
+  /**
+   * Creates a reader that delegates to the given readers.
+   *
+   * @param jsonReader the reader used for JSON saves
+   * @param binaryReader the reader used for binary saves
+   */
+  public BoardGameFileReaderAutoDetect(
+      BoardGameFileReader jsonReader, BoardGameFileReader binaryReader) {
+    this.jsonReader = jsonReader;
+    this.binaryReader = binaryReader;
+  }
+
+  /**
+   * Reads a board game from a JSON or binary save.
+   *
+   * @param path the path to the save
+   * @return the BoardGame object
+   * @throws IOException if an I/O error occurs while reading the file
+   */
+  @Override
+  public BoardGame readBoardGame(Path path) throws IOException {
+    if (BinarySaveFormat.isBinarySave(path)) {
+      return binaryReader.readBoardGame(path);
+    }
+    return jsonReader.readBoardGame(path);
+  }
+
+  /**
+   * Reads a board game from a stream of a JSON or binary save. The stream is decompressed here, so
+   * that the format can be detected from its first uncompressed bytes.
+   *
+   * @param stream the stream of the save, which is closed when the game has been read
+   * @return the BoardGame object
+   * @throws IOException if an I/O error occurs while reading the stream
+   */
+  @Override
+  public BoardGame readBoardGame(InputStream stream) throws IOException {
+    InputStream in = SaveCompression.decompress(stream);
+    if (BinarySaveFormat.isBinarySave(in)) {
+      return binaryReader.readBoardGame(in);
+    }
+    return jsonReader.readBoardGame(in);
+  }
+
+  /**
+   * Opens a JSON or binary save for a preview, without reading its board.
+   *
+   * @param path the path to the save
+   * @return the opened saved game
+   * @throws IOException if an I/O error occurs while reading the file
+   */
+  @Override
+  public SavedGame openSavedGame(Path path) throws IOException {
+    if (BinarySaveFormat.isBinarySave(path)) {
+      return binaryReader.openSavedGame(path);
+    }
+    return jsonReader.openSavedGame(path);
+  }
+}
@@ -0,0 +1,364 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import com.google.gson.Gson;
+import edu.ntnu.iir.bidata.Inject;
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.BinarySaveFormat;
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.SaveCompression;
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.TileSerializer;
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.board.Board;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.exception.GameException;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.actions.base.GoToTileAction;
+import edu.ntnu.iir.bidata.model.tile.actions.base.SafeSpotAction;
+import edu.ntnu.iir.bidata.model.tile.actions.game.LoseTurnAction;
+import edu.ntnu.iir.bidata.model.tile.actions.game.SwitchPositionAction;
+import edu.ntnu.iir.bidata.model.tile.actions.monopoly.BuyPropertyAction;
+import edu.ntnu.iir.bidata.model.tile.actions.monopoly.CollectMoneyAction;
+import edu.ntnu.iir.bidata.model.tile.actions.monopoly.GoToJailAction;
+import edu.ntnu.iir.bidata.model.tile.actions.monopoly.PayRentAction;
+import edu.ntnu.iir.bidata.model.tile.actions.movement.EntryPointAction;
+import edu.ntnu.iir.bidata.model.tile.actions.movement.HopFiveStepsAction;
+import edu.ntnu.iir.bidata.model.tile.actions.snakeandladder.LadderAction;
+import edu.ntnu.iir.bidata.model.tile.actions.snakeandladder.SnakeAction;
+import edu.ntnu.iir.bidata.model.tile.core.Tile;
+import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of the BoardGameFileReader interface that reads board games saved in the binary
+ * save format described in {@link BinarySaveFormat}. The file is read into memory in one read and
+ * decoded straight from the buffer, without building any intermediate tree. Saves are small, and a
+ * file that is not mapped can be replaced or deleted while the saved game is still open.
+ */
+public class BoardGameFileReaderBinary implements BoardGameFileReader {
+  private static final String MALFORMED = "The binary save is truncated or malformed";
+  private final Gson gson;
+
+  /** Creates a binary reader. */
+  @Inject
+  public BoardGameFileReaderBinary() {
+    this.gson = SaveCodecs.gson();
+  }
+
+  /**
+   * Reads a board game from a binary save. A compressed save is decompressed into memory first.
+   *
+   * @param path the path to the binary save
+   * @return the BoardGame object
+   * @throws IOException if an I/O error occurs, the file is not a binary save, its version is not
+   *     supported or its content is truncated or malformed
+   */
+  @Override
+  public BoardGame readBoardGame(Path path) throws IOException {
+    return readBoardGame(load(path));
+  }
+
+  /**
+   * Opens a binary save for a preview. The header, the player table and the dice come before the
+   * tile table in the format, so only they are decoded. The tile table and the ownership table are
+   * decoded the first time the whole game is requested, from the copy of the file read when it was
+   * opened, so later changes to the file do not affect the game.
+   *
+   * @param path the path to the binary save
+   * @return the opened saved game
+   * @throws IOException if an I/O error occurs, the file is not a binary save, its version is not
+   *     supported or its header is truncated or malformed
+   */
+  @Override
+  public SavedGame openSavedGame(Path path) throws IOException {
+    return open(load(path));
+  }
+
+  /**
+   * Reads a board game from a buffer holding a binary save, such as one encoded by {@link
+   * BoardGameFileWriterBinary#encode}. The buffer is read from its position to its limit.
+   *
+   * @param in the buffer holding the binary save
+   * @return the BoardGame object
+   * @throws IOException if the buffer does not hold a binary save, its version is not supported or
+   *     its content is truncated or malformed
+   */
+  public BoardGame readBoardGame(ByteBuffer in) throws IOException {
+    return open(in).getBoardGame();
+  }
+
+  /**
+   * Reads a board game from a stream of a binary save. The save is read into memory, and
+   * decompressed first if it is compressed.
+   *
+   * @param stream the stream of the binary save, which is closed when the game has been read
+   * @return the BoardGame object
+   * @throws IOException if an I/O error occurs, the stream does not hold a binary save, its version
+   *     is not supported or its content is truncated or malformed
+   */
+  @Override
+  public BoardGame readBoardGame(InputStream stream) throws IOException {
+    try (InputStream in = SaveCompression.decompress(stream)) {
+      return readBoardGame(ByteBuffer.wrap(in.readAllBytes()));
+    }
+  }
+
+  private static ByteBuffer load(Path path) throws IOException {
+    if (SaveCompression.detect(path) != SaveCompression.NONE) {
+      try (InputStream in = SaveCompression.open(path)) {
+        return ByteBuffer.wrap(in.readAllBytes());
+      }
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException("The binary save is too large: " + path);
+      }
+      ByteBuffer content = ByteBuffer.allocate((int) size);
+      // The file may be truncated by another writer while it is read; the decoder then rejects it
+      while (content.hasRemaining() && channel.read(content) >= 0) {
+        // Read until the buffer is full or the file ends
+      }
+      return content.flip();
+    }
+  }
+
+  private SavedGame open(ByteBuffer in) throws IOException {
+    try {
+      return decodeHeader(in);
+    } catch (BufferUnderflowException
+        | IndexOutOfBoundsException
+        | IllegalArgumentException
+        | GameException e) {
+      throw new IOException(MALFORMED, e);
+    }
+  }
+
+  /**
+   * Decodes the header, the player table and the dice, and leaves the rest of the buffer to be
+   * decoded when the board is first needed.
+   */
+  private SavedGame decodeHeader(ByteBuffer in) throws IOException {
+    if (in.remaining() < Integer.BYTES + 2 || in.getInt() != BinarySaveFormat.MAGIC) {
+      throw new IOException("The file is not a binary save");
+    }
+    int version = in.get();
+    if (version < 1 || version > BinarySaveFormat.VERSION) {
+      throw new IOException("Unsupported binary save version: " + version);
+    }
+    int flags = in.get();
+    String level = BinarySaveFormat.getString(in);
+    int currentPlayerIndex = BinarySaveFormat.getVarInt(in);
+    int roundNumber = BinarySaveFormat.getVarInt(in);
+
+    List<Player> players = new ArrayList<>();
+    int[] playerTileIds = readPlayers(in, players);
+    Dice dice = readDice(in);
+    for (int i = 0; i < players.size(); i++) {
+      if (playerTileIds[i] >= 0) {
+        players.get(i).setCurrentTile(new Tile(playerTileIds[i]));
+      }
+    }
+
+    ByteBuffer boardSection = in.slice();
+    return new SavedGame(
+        (flags & BinarySaveFormat.FLAG_MONOPOLY) != 0,
+        level,
+        currentPlayerIndex,
+        roundNumber,
+        (flags & BinarySaveFormat.FLAG_GAME_OVER) != 0,
+        (flags & BinarySaveFormat.FLAG_GAME_INITIALIZED) != 0,
+        players,
+        dice,
+        () -> {
+          try {
+            ByteBuffer section = boardSection.duplicate();
+            Board board = readBoard(section, players);
+            BoardGame boardGame = new BoardGame(board, dice);
+            // Add the players directly, since setPlayers would move them back to the starting tile
+            boardGame.getPlayers().addAll(players);
+            for (int i = 0; i < players.size(); i++) {
+              players.get(i).setCurrentTile(board.getTile(playerTileIds[i]));
+            }
+            readOwners(section, board, players);
+
+            boardGame.setCurrentPlayerIndex(currentPlayerIndex);
+            boardGame.setGameOver((flags & BinarySaveFormat.FLAG_GAME_OVER) != 0);
+            boardGame.setGameInitialized((flags & BinarySaveFormat.FLAG_GAME_INITIALIZED) != 0);
+            boardGame.setRoundNumber(roundNumber);
+            boardGame.setLevel(level);
+            return boardGame;
+          } catch (BufferUnderflowException
+              | IndexOutOfBoundsException
+              | IllegalArgumentException
+              | GameException e) {
+            throw new IOException(MALFORMED, e);
+          }
+        });
+  }
+
+  /**
+   * Reads the player table.
+   *
+   * @param in the buffer positioned at the player table
+   * @param players the list that receives the players, in the order of the table
+   * @return the id of the current tile of each player, or -1 if the player is not on a tile
+   * @throws IOException if the table is malformed
+   */
+  private static int[] readPlayers(ByteBuffer in, List<Player> players) throws IOException {
+    int count = BinarySaveFormat.getCount(in);
+    int[] tileIds = new int[count];
+    for (int i = 0; i < count; i++) {
+      int kind = in.get();
+      String name = BinarySaveFormat.getString(in);
+      String tokenImage = BinarySaveFormat.getString(in);
+      tileIds[i] = BinarySaveFormat.getVarInt(in) - 1;
+      int flags = in.get();
+      Player player;
+      if (kind == BinarySaveFormat.MONOPOLY_PLAYER) {
+        SimpleMonopolyPlayer monopolyPlayer = new SimpleMonopolyPlayer(name, tokenImage);
+        monopolyPlayer.setMoney(BinarySaveFormat.getSignedVarInt(in));
+        player = monopolyPlayer;
+      } else {
+        player = new Player(name, tokenImage);
+      }
+      BinarySaveFormat.applyPlayerFlags(player, flags);
+      players.add(player);
+    }
+    return tileIds;
+  }
+
+  private static Dice readDice(ByteBuffer in) throws IOException {
+    int count = BinarySaveFormat.getCount(in);
+    if (count == 0) {
+      return null;
+    }
+    int[] values = new int[count];
+    for (int i = 0; i < count; i++) {
+      values[i] = BinarySaveFormat.getVarInt(in);
+    }
+    Dice dice = new Dice(count);
+    dice.setLastRolledValues(values);
+    return dice;
+  }
+
+  /**
+   * Reads the tile table, creates the board and connects its tiles.
+   *
+   * @param in the buffer positioned at the tile table
+   * @param players the players of the game, which player references in actions point to
+   * @return the board
+   * @throws IOException if the table is malformed
+   */
+  private Board readBoard(ByteBuffer in, List<Player> players) throws IOException {
+    Board board = new Board(BinarySaveFormat.getVarInt(in));
+    int count = BinarySaveFormat.getCount(in);
+    int[] tileIds = new int[count];
+    int[] nextTileIds = new int[count];
+    for (int i = 0; i < count; i++) {
+      tileIds[i] = BinarySaveFormat.getVarInt(in);
+      nextTileIds[i] = BinarySaveFormat.getVarInt(in) - 1;
+      int type = in.get();
+      int price = 0;
+      int rent = 0;
+      int group = 0;
+      if (type == BinarySaveFormat.PROPERTY_TILE) {
+        price = BinarySaveFormat.getVarInt(in);
+        rent = BinarySaveFormat.getVarInt(in);
+        group = BinarySaveFormat.getVarInt(in);
+      }
+      TileAction action = readAction(in, players);
+      board.addTile(
+          TileSerializer.createTile(tileIds[i], tileTypeName(type), price, rent, group, action));
+    }
+    for (int i = 0; i < count; i++) {
+      Tile nextTile = nextTileIds[i] >= 0 ? board.getTile(nextTileIds[i]) : null;
+      if (nextTile != null) {
+        board.getTile(tileIds[i]).setNextTile(nextTile);
+      }
+    }
+    return board;
+  }
+
+  private TileAction readAction(ByteBuffer in, List<Player> players) throws IOException {
+    int code = in.get();
+    if (code == BinarySaveFormat.NO_ACTION) {
+      return null;
+    }
+    TileActionType actionType = BinarySaveFormat.actionType(code);
+    if (actionType == null) {
+      throw new IOException("Unknown action code in binary save: " + code);
+    }
+    return switch (actionType) {
+      case GO_TO_TILE -> new GoToTileAction(BinarySaveFormat.getVarInt(in));
+      case SAFE_SPOT -> new SafeSpotAction();
+      case LOSE_TURN -> new LoseTurnAction();
+      case SWITCH_POSITION -> {
+        int count = BinarySaveFormat.getCount(in);
+        List<Player> allPlayers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+          Player player = playerByReference(BinarySaveFormat.getVarInt(in), players);
+          if (player != null) {
+            allPlayers.add(player);
+          }
+        }
+        yield new SwitchPositionAction(allPlayers);
+      }
+      case HOP_FIVE_STEPS -> new HopFiveStepsAction();
+      case ENTRY_POINT ->
+          new EntryPointAction(playerByReference(BinarySaveFormat.getVarInt(in), players));
+      case LADDER -> new LadderAction(BinarySaveFormat.getVarInt(in));
+      case SNAKE -> new SnakeAction(BinarySaveFormat.getVarInt(in));
+      case GO_TO_JAIL -> new GoToJailAction(BinarySaveFormat.getVarInt(in));
+      case COLLECT_MONEY -> new CollectMoneyAction();
+      case BUY_PROPERTY -> new BuyPropertyAction();
+      case PAY_RENT -> new PayRentAction();
+      case CUSTOM -> gson.fromJson(BinarySaveFormat.getString(in), TileAction.class);
+    };
+  }
+
+  /**
+   * Reads the ownership table and gives each owned property back to its owner.
+   *
+   * @param in the buffer positioned at the ownership table
+   * @param board the board of the game
+   * @param players the players of the game
+   * @throws IOException if the table is malformed
+   */
+  private static void readOwners(ByteBuffer in, Board board, List<Player> players)
+      throws IOException {
+    int count = BinarySaveFormat.getCount(in);
+    for (int i = 0; i < count; i++) {
+      Tile tile = board.getTile(BinarySaveFormat.getVarInt(in));
+      Player owner = playerByReference(BinarySaveFormat.getVarInt(in), players);
+      if (tile instanceof PropertyTile propertyTile
+          && owner instanceof SimpleMonopolyPlayer monopolyOwner) {
+        propertyTile.setOwner(monopolyOwner);
+        monopolyOwner.getOwnedProperties().add(propertyTile);
+      }
+    }
+  }
+
+  private static Player playerByReference(int reference, List<Player> players) {
+    return reference > 0 && reference <= players.size() ? players.get(reference - 1) : null;
+  }
+
+  private static String tileTypeName(int type) throws IOException {
+    return switch (type) {
+      case BinarySaveFormat.TILE -> "Tile";
+      case BinarySaveFormat.PROPERTY_TILE -> "PropertyTile";
+      case BinarySaveFormat.GO_TILE -> "GoTile";
+      case BinarySaveFormat.JAIL_TILE -> "JailTile";
+      case BinarySaveFormat.FREE_PARKING_TILE -> "FreeParkingTile";
+      default -> throw new IOException("Unknown tile type in binary save: " + type);
+    };
+  }
+}
@@ -1,184 +1,132 @@
 package edu.ntnu.iir.bidata.filehandling.boardgame;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
 import edu.ntnu.iir.bidata.Inject;
-import edu.ntnu.iir.bidata.filehandling.boardgame.utils.BoardDeserializer;
-import edu.ntnu.iir.bidata.filehandling.boardgame.utils.TileSerializer;
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.SaveCompression;
 import edu.ntnu.iir.bidata.model.BoardGame;
-import edu.ntnu.iir.bidata.model.board.Board;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.logging.Logger;
+import java.nio.file.attribute.BasicFileAttributes;
 
 /**
  * Class to read a board game from a JSON file using Gson. This class implements the
- * BoardGameFileReader interface. It uses Gson to parse the JSON file and create a BoardGame object.
- * It also handles the deserialization of tile connections.
+ * BoardGameFileReader interface. It streams the JSON file with a Gson {@link JsonReader} and
+ * creates a BoardGame object. It also handles the deserialization of tile connections.
  */
 public class BoardGameFileReaderGson implements BoardGameFileReader {
-  private static final Logger LOGGER = Logger.getLogger(BoardGameFileReaderGson.class.getName());
-  private final Gson gson;
+  private final BoardGameTypeAdapter boardGameAdapter;
 
   /**
-   * Constructs a new instance of BoardGameFileReaderGson with custom serialization and
-   * deserialization configurations using the Gson library.
+   * Constructs a new instance of BoardGameFileReaderGson. The board game is read with the
+   * hand-written codecs of the shared {@link SaveCodecs} registry, which are built once and shared
+   * by all readers and writers.
    *
-   * <p>This constructor initializes a Gson instance with the following features:
-   * <li>Pretty printing for readable JSON output.
-   * <li>A custom serializer for the Tile class.
-   * <li>A custom deserializer for the Board class.
-   * <li>Type adapter factories for Player and TileAction objects to extend handling for these
-   *     types.
-   *
-   *     <p>The constructor is annotated with {@code @Inject}, indicating it supports dependency
-   *     injection, allowing the class to be managed and instantiated by a dependency injection
-   *     framework.
+   * <p>The constructor is annotated with {@code @Inject}, indicating it supports dependency
+   * injection, allowing the class to be managed and instantiated by a dependency injection
+   * framework.
    */
   @Inject
   public BoardGameFileReaderGson() {
-    this.gson =
-        new GsonBuilder()
-            .setPrettyPrinting()
-            .registerTypeAdapter(Tile.class, new TileSerializer())
-            .registerTypeAdapter(
-                Board.class, new BoardDeserializer()) // Register custom deserializer
-            .registerTypeAdapterFactory(
-                new PlayerTypeAdapterFactory()) // Register custom player deserializer
-            .registerTypeAdapterFactory(
-                new TileActionTypeAdapterFactory()) // Register TileAction type adapter
-            .create();
+    this.boardGameAdapter = (BoardGameTypeAdapter) SaveCodecs.adapter(BoardGame.class);
   }
 
   /**
    * Reads a board game from a JSON file.
    *
+   * <p>The file is read in a single pass with a {@link JsonReader} by the {@link
+   * BoardGameTypeAdapter} of the shared {@link SaveCodecs}, without building a JSON tree. A
+   * compressed file is decompressed while it is read.
+   *
    * @param path the path to the JSON file
    * @return the BoardGame object
-   * @throws IOException if an I/O error occurs
+   * @throws IOException if an I/O error occurs or the file has no board
    */
   @Override
   public BoardGame readBoardGame(Path path) throws IOException {
-    String json = Files.readString(path);
-    JsonObject jsonObject = JsonParser.parseString(json).getAsJsonObject();
-
-    // First, deserialize the board game without tile connections
-    BoardGame boardGame = gson.fromJson(jsonObject, BoardGame.class);
-    LOGGER.info("Board size after deserialization: " + boardGame.getBoard().getSizeOfBoard());
-
-    // Set the level if present
-    if (jsonObject.has("level")) {
-      boardGame.setLevel(jsonObject.get("level").getAsString());
-    } else {
-      boardGame.setLevel("medium");
-    }
-
-    String memberNameBoard = "board";
-    // Then, reconstruct the tile connections
-    if (jsonObject.has(memberNameBoard)
-        && jsonObject.getAsJsonObject(memberNameBoard).has("tiles")) {
-      JsonObject tilesObject = jsonObject.getAsJsonObject(memberNameBoard).getAsJsonObject("tiles");
-      Map<Integer, Tile> tileMap = new HashMap<>();
-
-      // First pass: collect all tiles
-      collectTilesFromBoardGameJsonFile(tilesObject, boardGame, tileMap);
-
-      // Second pass: establish connections
-      connectTilesFromBoardGameJsonFile(tilesObject, tileMap);
-
-      // Third pass: set each player's currentTile to the correct Tile instance from the board
-      setPlayerCurrentTileToCorrectTileInstance(jsonObject, boardGame);
+    try (JsonReader in = open(path)) {
+      return boardGameAdapter.read(in);
     }
-
-    return boardGame;
   }
 
   /**
-   * Collects tiles from the JSON file and adds them to the board game.
+   * Reads a board game from a stream of JSON, in a single pass like {@link #readBoardGame(Path)}.
+   * A compressed stream is decompressed while it is read.
    *
-   * @param tilesObject the JSON object containing tile information
-   * @param boardGame the BoardGame object
-   * @param tileMap a map of tile IDs to Tile objects
+   * @param stream the stream of the JSON save, which is closed when the game has been read
+   * @return the BoardGame object
+   * @throws IOException if an I/O error occurs or the save has no board
    */
-  private static void collectTilesFromBoardGameJsonFile(
-      JsonObject tilesObject, BoardGame boardGame, Map<Integer, Tile> tileMap) {
-    tilesObject
-        .keySet()
-        .forEach(
-            key -> {
-              JsonObject tileJson = tilesObject.getAsJsonObject(key);
-              int id = tileJson.get("id").getAsInt();
-              Tile tile = boardGame.getBoard().getTile(id);
-              if (tile != null) {
-                tileMap.put(id, tile);
-              }
-            });
+  @Override
+  public BoardGame readBoardGame(InputStream stream) throws IOException {
+    try (JsonReader in = open(SaveCompression.decompress(stream))) {
+      return boardGameAdapter.read(in);
+    }
   }
 
   /**
-   * Connects tiles based on the nextTileId field in the JSON file.
+   * Opens a JSON save for a preview. Saves written by this version of the game end with the board,
+   * so the file is only read up to the board. The board is read from the file the first time the
+   * whole game is requested, and is built around the players that were read here.
+   *
+   * <p>The file, its size and its modification time are noted when the save is opened. If the file
+   * has been replaced or changed by the time the board is read, the board is not read, because it
+   * would not belong to the players and the header that were read here.
    *
-   * @param tilesObject the JSON object containing tile information
-   * @param tileMap a map of tile IDs to Tile objects
+   * @param path the path to the JSON file
+   * @return the opened saved game
+   * @throws IOException if an I/O error occurs while reading the file
    */
-  private static void connectTilesFromBoardGameJsonFile(
-      JsonObject tilesObject, Map<Integer, Tile> tileMap) {
-    tilesObject
-        .keySet()
-        .forEach(
-            key -> {
-              JsonObject tileJson = tilesObject.getAsJsonObject(key);
-              int id = tileJson.get("id").getAsInt();
-              if (tileJson.has("nextTileId")) {
-                int nextTileId = tileJson.get("nextTileId").getAsInt();
-                Tile tile = tileMap.get(id);
-                Tile nextTile = tileMap.get(nextTileId);
-                if (tile != null && nextTile != null) {
-                  tile.setNextTile(nextTile);
-                }
-              }
-            });
+  @Override
+  public SavedGame openSavedGame(Path path) throws IOException {
+    String openedStamp = stampOf(path);
+    LoadState state;
+    try (JsonReader in = open(path)) {
+      state = boardGameAdapter.readHeader(in);
+    }
+    for (int i = 0; i < state.players.size(); i++) {
+      if (state.playerTileIds[i] >= 0) {
+        state.players.get(i).setCurrentTile(new Tile(state.playerTileIds[i]));
+      }
+    }
+    return new SavedGame(
+        false,
+        state.level,
+        state.currentPlayerIndex,
+        state.roundNumber,
+        state.gameOver,
+        state.gameInitialized,
+        state.players,
+        state.dice,
+        () -> {
+          try (JsonReader in = open(path)) {
+            if (!openedStamp.equals(stampOf(path))) {
+              throw new IOException("The save " + path + " has changed since it was opened");
+            }
+            boardGameAdapter.readBoardOnly(in, state);
+          }
+          return BoardGameTypeAdapter.build(state);
+        });
   }
 
   /**
-   * Updates the current tile of each player in the board game to the correct tile instance based on
-   * the JSON object provided. Additionally, sets the player's token image if present in the JSON
-   * object.
-   *
-   * @param jsonObject the JSON object containing player and tile information
-   * @param boardGame the BoardGame instance to be updated with the correct tile instances
+   * Gets a stamp of the file at a path, made of its file key, its size and its modification time,
+   * that changes when the file is written to or replaced.
    */
-  private static void setPlayerCurrentTileToCorrectTileInstance(
-      JsonObject jsonObject, BoardGame boardGame) {
-    if (jsonObject.has("players")) {
-      jsonObject
-          .getAsJsonArray("players")
-          .forEach(
-              playerElement -> {
-                JsonObject playerObj = playerElement.getAsJsonObject();
-                if (playerObj.has("currentTile")) {
-                  JsonObject currentTileObj = playerObj.getAsJsonObject("currentTile");
-                  int tileId = currentTileObj.get("id").getAsInt();
-                  // Find the player in the boardGame's player list by name
-                  String playerName = playerObj.get("name").getAsString();
-                  boardGame.getPlayers().stream()
-                      .filter(p -> p.getName().equals(playerName))
-                      .findFirst()
-                      .ifPresent(
-                          p -> {
-                            p.setCurrentTile(boardGame.getBoard().getTile(tileId));
-                            if (playerObj.has("tokenImage")) {
-                              p.setTokenImage(playerObj.get("tokenImage").getAsString());
-                            }
-                          });
-                }
-              });
-    }
+  private static String stampOf(Path path) throws IOException {
+    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+    return attributes.fileKey() + ":" + attributes.size() + ":" + attributes.lastModifiedTime();
+  }
+
+  private static JsonReader open(Path path) throws IOException {
+    return open(SaveCompression.open(path));
+  }
+
+  private static JsonReader open(InputStream stream) {
+    return new JsonReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
   }
 }
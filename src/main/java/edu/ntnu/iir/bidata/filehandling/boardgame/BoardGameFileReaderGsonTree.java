@@ -0,0 +1,68 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.SaveCompression;
+import edu.ntnu.iir.bidata.model.BoardGame;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Reads JSON saves through the Gson tree model. The whole file is parsed into a tree of {@link
+ * JsonElement JsonElements} first, and the game is then built from the tree by the codecs of the
+ * shared {@link SaveCodecs} registry.
+ *
+ * <p>This is the {@link SaveBackend#GSON_TREE} backend. It reads the same files as {@link
+ * BoardGameFileReaderGson}, but holds the whole tree in memory while the game is built.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class BoardGameFileReaderGsonTree implements BoardGameFileReader {
+  private final TypeAdapter<BoardGame> boardGameAdapter = SaveCodecs.adapter(BoardGame.class);
+
+  /**
+   * Reads a board game from a JSON file by parsing it into a tree first. A compressed file is
+   * decompressed while it is read.
+   *
+   * @param path the path to the JSON file
+   * @return the BoardGame object
+   * @throws IOException if an I/O error occurs, the file is not valid JSON or it has no board
+   */
+  @Override
+  public BoardGame readBoardGame(Path path) throws IOException {
+    return read(SaveCompression.open(path), path.toString());
+  }
+
+  /**
+   * Reads a board game from a stream of JSON by parsing it into a tree first. A compressed stream
+   * is decompressed while it is read.
+   *
+   * @param stream the stream of the JSON save, which is closed when the game has been read
+   * @return the BoardGame object
+   * @throws IOException if an I/O error occurs, the save is not valid JSON or it has no board
+   */
+  @Override
+  public BoardGame readBoardGame(InputStream stream) throws IOException {
+    return read(SaveCompression.decompress(stream), "stream");
+  }
+
+  private BoardGame read(InputStream stream, String source) throws IOException {
+    try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+      JsonElement tree = JsonParser.parseReader(reader);
+      return boardGameAdapter.fromJsonTree(tree);
+    } catch (JsonParseException e) {
+      // The tree model wraps the errors of the stream, which the other readers throw as they are
+      if (e.getCause() instanceof IOException cause) {
+        throw cause;
+      }
+      throw new IOException("Failed to read " + source + ": " + e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,334 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.stream.JsonReader;
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.SaveCompression;
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.TileSerializer;
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.core.Tile;
+import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads JSON saves with the Jackson streaming parser. Every file written by the JSON writers of
+ * this package can be read, in both the standard and the Monopoly layout, whatever the order of
+ * their sections.
+ *
+ * <p>This is the {@link SaveBackend#JACKSON_STREAMING} backend. The game is read in a single pass
+ * into the same {@link LoadState} as the Gson codecs use, and built the same way by {@link
+ * BoardGameTypeAdapter#build(LoadState)}. Tile actions whose type does not come first, or that are
+ * not built into the game, are collected into a tree and handed to the Gson codec of the shared
+ * {@link SaveCodecs} registry.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class BoardGameFileReaderJackson implements BoardGameFileReader {
+  private static final String MONOPOLY = "MONOPOLY";
+
+  private final TileActionTypeAdapter actionAdapter =
+      (TileActionTypeAdapter) SaveCodecs.adapter(TileAction.class);
+
+  /**
+   * Reads a board game from a JSON file with the Jackson streaming parser. A compressed file is
+   * decompressed while it is read.
+   *
+   * @param path the path to the JSON file
+   * @return the BoardGame object
+   * @throws IOException if an I/O error occurs, the file is not valid JSON or it has no board
+   */
+  @Override
+  public BoardGame readBoardGame(Path path) throws IOException {
+    return read(SaveCompression.open(path));
+  }
+
+  /**
+   * Reads a board game from a stream of JSON with the Jackson streaming parser. A compressed
+   * stream is decompressed while it is read.
+   *
+   * @param stream the stream of the JSON save, which is closed when the game has been read
+   * @return the BoardGame object
+   * @throws IOException if an I/O error occurs, the save is not valid JSON or it has no board
+   */
+  @Override
+  public BoardGame readBoardGame(InputStream stream) throws IOException {
+    return read(SaveCompression.decompress(stream));
+  }
+
+  private BoardGame read(InputStream stream) throws IOException {
+    LoadState state = new LoadState();
+    try (JsonParser in = SaveCodecs.jackson().getFactory().createParser(stream)) {
+      expect(in.nextToken(), JsonToken.START_OBJECT, in);
+      while (in.nextToken() == JsonToken.FIELD_NAME) {
+        String name = in.currentName();
+        in.nextToken();
+        switch (name) {
+          case "board" -> readBoard(in, state);
+          case "players" -> {
+            expect(in.currentToken(), JsonToken.START_ARRAY, in);
+            while (in.nextToken() != JsonToken.END_ARRAY) {
+              readPlayer(in, state);
+            }
+          }
+          case "dice" -> state.dice = readDice(in);
+          case "currentPlayerIndex" -> state.currentPlayerIndex = in.getIntValue();
+          case "gameOver" -> state.gameOver = in.getBooleanValue();
+          case "gameInitialized" -> state.gameInitialized = in.getBooleanValue();
+          case "roundNumber" -> state.roundNumber = in.getIntValue();
+          case "level" -> state.level = in.getValueAsString();
+          default -> in.skipChildren();
+        }
+      }
+    }
+    return BoardGameTypeAdapter.build(state);
+  }
+
+  private void readBoard(JsonParser in, LoadState state) throws IOException {
+    int boardSize = 0;
+    List<Tile> tiles = new ArrayList<>();
+    expect(in.currentToken(), JsonToken.START_OBJECT, in);
+    while (in.nextToken() == JsonToken.FIELD_NAME) {
+      String name = in.currentName();
+      in.nextToken();
+      switch (name) {
+        case "tiles" -> {
+          expect(in.currentToken(), JsonToken.START_OBJECT, in);
+          while (in.nextToken() == JsonToken.FIELD_NAME) {
+            in.nextToken();
+            tiles.add(readTile(in, state));
+          }
+        }
+        case "boardSize" -> boardSize = in.getIntValue();
+        default -> in.skipChildren();
+      }
+    }
+    state.buildBoard(boardSize, tiles);
+  }
+
+  private Tile readTile(JsonParser in, LoadState state) throws IOException {
+    int id = 0;
+    String type = "Tile";
+    int nextTileId = -1;
+    int price = 0;
+    int rent = 0;
+    int group = 0;
+    String owner = null;
+    TileAction action = null;
+    expect(in.currentToken(), JsonToken.START_OBJECT, in);
+    while (in.nextToken() == JsonToken.FIELD_NAME) {
+      String name = in.currentName();
+      in.nextToken();
+      switch (name) {
+        case "id" -> id = in.getIntValue();
+        case "type" -> type = in.getText();
+        case "nextTileId" -> nextTileId = in.getIntValue();
+        case "price" -> price = in.getIntValue();
+        case "rent" -> rent = in.getIntValue();
+        case "group" -> group = in.getIntValue();
+        case "owner" -> owner = in.getValueAsString();
+        case "action" -> action = readAction(in, state);
+        default -> in.skipChildren();
+      }
+    }
+
+    Tile tile = TileSerializer.createTile(id, type, price, rent, group, action);
+    state.addTile(tile, nextTileId, owner);
+    return tile;
+  }
+
+  /**
+   * Reads a tile action. A built-in action whose type comes first is streamed. Any other action is
+   * collected into a tree and read by the Gson codec, which handles every action it writes.
+   */
+  private TileAction readAction(JsonParser in, LoadState state) throws IOException {
+    if (in.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    expect(in.currentToken(), JsonToken.START_OBJECT, in);
+    ObjectNode tree = SaveCodecs.jackson().createObjectNode();
+    if (in.nextToken() == JsonToken.FIELD_NAME) {
+      String name = in.currentName();
+      JsonToken token = in.nextToken();
+      if ("type".equals(name) && token == JsonToken.VALUE_STRING) {
+        TileActionType actionType = TileActionType.fromTypeName(in.getText());
+        if (actionType != TileActionType.CUSTOM) {
+          return readBuiltInAction(actionType, in, state);
+        }
+      }
+      tree.set(name, SaveCodecs.jackson().readTree(in));
+      while (in.nextToken() == JsonToken.FIELD_NAME) {
+        name = in.currentName();
+        in.nextToken();
+        tree.set(name, SaveCodecs.jackson().readTree(in));
+      }
+    }
+    return actionAdapter.read(new JsonReader(new StringReader(tree.toString())), state);
+  }
+
+  private TileAction readBuiltInAction(TileActionType actionType, JsonParser in, LoadState state)
+      throws IOException {
+    int tileId = -1;
+    List<Integer> playerIds = null;
+    List<Player> inlinePlayers = new ArrayList<>();
+    while (in.nextToken() == JsonToken.FIELD_NAME) {
+      String name = in.currentName();
+      in.nextToken();
+      switch (name) {
+        case "targetTileId", "jailTileId", "topTileId", "tailTileId" -> tileId = in.getIntValue();
+        case "ownerId" -> {
+          playerIds = new ArrayList<>();
+          playerIds.add(nextPlayerId(in));
+        }
+        case "playerIds" -> {
+          playerIds = new ArrayList<>();
+          while (in.nextToken() != JsonToken.END_ARRAY) {
+            playerIds.add(nextPlayerId(in));
+          }
+        }
+        case "owner" -> inlinePlayers.add(readInlinePlayer(in));
+        case "allPlayers" -> {
+          while (in.nextToken() != JsonToken.END_ARRAY) {
+            inlinePlayers.add(readInlinePlayer(in));
+          }
+        }
+        default -> in.skipChildren();
+      }
+    }
+
+    TileAction action =
+        TileActionTypeAdapter.createBuiltInAction(actionType, tileId, inlinePlayers);
+    TileActionTypeAdapter.recordPlayers(action, actionType, playerIds, inlinePlayers, state);
+    return action;
+  }
+
+  private static Integer nextPlayerId(JsonParser in) throws IOException {
+    return in.currentToken() == JsonToken.VALUE_NULL ? null : in.getIntValue();
+  }
+
+  /** Reads a player that an older save stored inline with a tile action. */
+  private static Player readInlinePlayer(JsonParser in) throws IOException {
+    return in.currentToken() == JsonToken.VALUE_NULL ? null : readPlayer(in, null);
+  }
+
+  /**
+   * Reads a player object. When the player is part of the game, the id of its current tile is
+   * recorded in the load state; otherwise the player is only needed for its name.
+   */
+  private static Player readPlayer(JsonParser in, LoadState state) throws IOException {
+    String name = null;
+    String tokenImage = null;
+    String playerType = "";
+    int tileId = -1;
+    int money = -1;
+    boolean skipNextTurn = false;
+    boolean inJail = false;
+    boolean paidToLeaveJail = false;
+    boolean canLeaveJailNextTurn = false;
+    expect(in.currentToken(), JsonToken.START_OBJECT, in);
+    while (in.nextToken() == JsonToken.FIELD_NAME) {
+      String field = in.currentName();
+      in.nextToken();
+      switch (field) {
+        case "name" -> name = in.getValueAsString();
+        case "tokenImage" -> tokenImage = in.getValueAsString();
+        case "playerType" -> playerType = in.getText();
+        case "currentTile" -> tileId = readTileReference(in);
+        case "money" -> money = in.getIntValue();
+        case "skipNextTurn" -> skipNextTurn = in.getBooleanValue();
+        case "inJail" -> inJail = in.getBooleanValue();
+        case "paidToLeaveJail" -> paidToLeaveJail = in.getBooleanValue();
+        case "canLeaveJailNextTurn" -> canLeaveJailNextTurn = in.getBooleanValue();
+        default -> in.skipChildren();
+      }
+    }
+
+    Player player;
+    if (MONOPOLY.equalsIgnoreCase(playerType)) {
+      SimpleMonopolyPlayer monopolyPlayer = new SimpleMonopolyPlayer(name, tokenImage);
+      if (money >= 0) {
+        monopolyPlayer.setMoney(money);
+      }
+      monopolyPlayer.setInJail(inJail);
+      monopolyPlayer.setPaidToLeaveJail(paidToLeaveJail);
+      monopolyPlayer.setCanLeaveJailNextTurn(canLeaveJailNextTurn);
+      player = monopolyPlayer;
+    } else {
+      player = new Player(name, tokenImage);
+    }
+    player.setSkipNextTurn(skipNextTurn);
+    if (state != null) {
+      state.addPlayer(player, tileId);
+    }
+    return player;
+  }
+
+  private static int readTileReference(JsonParser in) throws IOException {
+    if (in.currentToken() == JsonToken.VALUE_NULL) {
+      return -1;
+    }
+    int id = -1;
+    expect(in.currentToken(), JsonToken.START_OBJECT, in);
+    while (in.nextToken() == JsonToken.FIELD_NAME) {
+      String field = in.currentName();
+      in.nextToken();
+      if ("id".equals(field)) {
+        id = in.getIntValue();
+      } else {
+        in.skipChildren();
+      }
+    }
+    return id;
+  }
+
+  /** Reads the dice from the layout of their Gson codec, with the last rolled value of each die. */
+  private static Dice readDice(JsonParser in) throws IOException {
+    if (in.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    List<Integer> values = new ArrayList<>();
+    expect(in.currentToken(), JsonToken.START_OBJECT, in);
+    while (in.nextToken() == JsonToken.FIELD_NAME) {
+      String field = in.currentName();
+      in.nextToken();
+      if (!"dice".equals(field) || in.currentToken() != JsonToken.START_ARRAY) {
+        in.skipChildren();
+        continue;
+      }
+      while (in.nextToken() == JsonToken.START_OBJECT) {
+        int value = 0;
+        while (in.nextToken() == JsonToken.FIELD_NAME) {
+          String dieField = in.currentName();
+          in.nextToken();
+          if ("lastRolledValue".equals(dieField)) {
+            value = in.getIntValue();
+          } else {
+            in.skipChildren();
+          }
+        }
+        values.add(value);
+      }
+    }
+    Dice dice = new Dice(Math.max(values.size(), 1));
+    dice.setLastRolledValues(values.stream().mapToInt(Integer::intValue).toArray());
+    return dice;
+  }
+
+  private static void expect(JsonToken actual, JsonToken expected, JsonParser in)
+      throws IOException {
+    if (actual != expected) {
+      throw new IOException(
+          "Expected " + expected + " but found " + actual + " at " + in.currentLocation());
+    }
+  }
+}
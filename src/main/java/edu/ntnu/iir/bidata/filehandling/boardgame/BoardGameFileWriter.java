@@ -2,6 +2,8 @@ package edu.ntnu.iir.bidata.filehandling.boardgame;
 
 import edu.ntnu.iir.bidata.model.BoardGame;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 /**
@@ -19,4 +21,36 @@ public interface BoardGameFileWriter {
    * @throws IOException if an I/O error occurs while writing to the file
    */
   void writeBoardGame(BoardGame boardGame, Path path, boolean isMonopoly) throws IOException;
+
+  /**
+   * Gets the file extension of the saves this writer writes, such as {@code .json}.
+   *
+   * @return the file extension, including the dot
+   */
+  default String getFileExtension() {
+    return SaveBackend.JSON_FILE_EXTENSION;
+  }
+
+  /**
+   * Writes the given board game data to a stream, such as the buffer of a {@code SaveStore} that
+   * does not keep its saves in files. The stream is closed when the game has been written.
+   *
+   * <p>The default implementation writes the game to a temporary file and copies it to the stream.
+   * The writers of this package override it to write to the stream directly.
+   *
+   * @param boardGame the instance of the board game to be written
+   * @param out the stream the board game data is written to
+   * @param isMonopoly a flag indicating if the board game is Monopoly
+   * @throws IOException if an I/O error occurs while writing to the stream
+   */
+  default void writeBoardGame(BoardGame boardGame, OutputStream out, boolean isMonopoly)
+      throws IOException {
+    Path temporary = Files.createTempFile("boardgame", ".save");
+    try (out) {
+      writeBoardGame(boardGame, temporary, isMonopoly);
+      Files.copy(temporary, out);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
 }
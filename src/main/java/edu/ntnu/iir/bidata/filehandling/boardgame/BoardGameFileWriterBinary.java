@@ -0,0 +1,255 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import com.google.gson.Gson;
+import edu.ntnu.iir.bidata.Inject;
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.BinarySaveFormat;
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.SaveCompression;
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.actions.base.GoToTileAction;
+import edu.ntnu.iir.bidata.model.tile.actions.game.SwitchPositionAction;
+import edu.ntnu.iir.bidata.model.tile.actions.monopoly.GoToJailAction;
+import edu.ntnu.iir.bidata.model.tile.actions.movement.EntryPointAction;
+import edu.ntnu.iir.bidata.model.tile.actions.snakeandladder.LadderAction;
+import edu.ntnu.iir.bidata.model.tile.actions.snakeandladder.SnakeAction;
+import edu.ntnu.iir.bidata.model.tile.core.Tile;
+import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionDispatcher;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.FreeParkingTile;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.GoTile;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.JailTile;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of the BoardGameFileWriter interface that writes board games in the compact
+ * binary save format described in {@link BinarySaveFormat}. The game is encoded into a direct
+ * buffer, which is then written to the file channel in one go.
+ *
+ * <p>Actions that are not built into the game are stored as JSON, using the same type adapter as
+ * the JSON save format.
+ */
+public class BoardGameFileWriterBinary implements BoardGameFileWriter {
+  private final Gson gson;
+  private final SaveCompression compression;
+
+  /** Creates a binary writer. */
+  @Inject
+  public BoardGameFileWriterBinary() {
+    this(SaveCompression.NONE);
+  }
+
+  /**
+   * Creates a binary writer that compresses the saves it writes.
+   *
+   * @param compression the compression of the written saves
+   */
+  public BoardGameFileWriterBinary(SaveCompression compression) {
+    this.compression = compression;
+    this.gson = SaveCodecs.gson();
+  }
+
+  /**
+   * Gets the file extension of binary saves.
+   *
+   * @return {@value BinarySaveFormat#FILE_EXTENSION}
+   */
+  @Override
+  public String getFileExtension() {
+    return BinarySaveFormat.FILE_EXTENSION;
+  }
+
+  /**
+   * Writes a board game to a file in the binary save format.
+   *
+   * @param boardGame the board game instance to write
+   * @param path the path to the file where the game will be saved
+   * @param isMonopoly a flag indicating whether the board game is a Monopoly game
+   * @throws IOException if writing to the file fails
+   */
+  @Override
+  public void writeBoardGame(BoardGame boardGame, Path path, boolean isMonopoly)
+      throws IOException {
+    BinarySaveFormat.Output out = encode(boardGame, isMonopoly);
+    try (FileChannel channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      if (compression == SaveCompression.NONE) {
+        out.writeTo(channel);
+        return;
+      }
+      try (WritableByteChannel compressed =
+          Channels.newChannel(compression.compress(Channels.newOutputStream(channel)))) {
+        out.writeTo(compressed);
+      }
+    }
+  }
+
+  /**
+   * Writes a board game to a stream in the binary save format. The stream is closed when the game
+   * has been written.
+   *
+   * @param boardGame the board game instance to write
+   * @param stream the stream the game is written to
+   * @param isMonopoly a flag indicating whether the board game is a Monopoly game
+   * @throws IOException if writing to the stream fails
+   */
+  @Override
+  public void writeBoardGame(BoardGame boardGame, OutputStream stream, boolean isMonopoly)
+      throws IOException {
+    BinarySaveFormat.Output out = encode(boardGame, isMonopoly);
+    try (WritableByteChannel channel = Channels.newChannel(compression.compress(stream))) {
+      out.writeTo(channel);
+    }
+  }
+
+  /**
+   * Encodes a board game in the binary save format without writing it anywhere. The result is a
+   * complete, self-contained copy of the state of the game at the time of the call.
+   *
+   * @param boardGame the board game instance to encode
+   * @param isMonopoly a flag indicating whether the board game is a Monopoly game
+   * @return the encoded game
+   */
+  public BinarySaveFormat.Output encode(BoardGame boardGame, boolean isMonopoly) {
+    BinarySaveFormat.Output out = new BinarySaveFormat.Output();
+    writeHeader(boardGame, isMonopoly, out);
+    List<Player> players = boardGame.getPlayers();
+    writePlayers(players, out);
+    writeDice(boardGame, out);
+    writeTiles(boardGame, players, out);
+    writeOwners(boardGame, players, out);
+    return out;
+  }
+
+  private static void writeHeader(
+      BoardGame boardGame, boolean isMonopoly, BinarySaveFormat.Output out) {
+    int flags = 0;
+    if (isMonopoly) {
+      flags |= BinarySaveFormat.FLAG_MONOPOLY;
+    }
+    if (boardGame.isGameOver()) {
+      flags |= BinarySaveFormat.FLAG_GAME_OVER;
+    }
+    if (boardGame.isGameInitialized()) {
+      flags |= BinarySaveFormat.FLAG_GAME_INITIALIZED;
+    }
+    out.putInt(BinarySaveFormat.MAGIC).putByte(BinarySaveFormat.VERSION).putByte(flags);
+    out.putString(boardGame.getLevel());
+    out.putVarInt(boardGame.getCurrentPlayerIndex());
+    out.putVarInt(boardGame.getRoundNumber());
+  }
+
+  private static void writePlayers(List<Player> players, BinarySaveFormat.Output out) {
+    out.putVarInt(players.size());
+    for (Player player : players) {
+      out.putByte(
+          player instanceof SimpleMonopolyPlayer
+              ? BinarySaveFormat.MONOPOLY_PLAYER
+              : BinarySaveFormat.PLAYER);
+      out.putString(player.getName());
+      out.putString(player.getTokenImage());
+      out.putVarInt(player.getCurrentTile() != null ? player.getCurrentTile().getId() + 1 : 0);
+      out.putByte(BinarySaveFormat.playerFlags(player));
+      if (player instanceof SimpleMonopolyPlayer monopolyPlayer) {
+        out.putSignedVarInt(monopolyPlayer.getMoney());
+      }
+    }
+  }
+
+  private static void writeDice(BoardGame boardGame, BinarySaveFormat.Output out) {
+    int[] values =
+        boardGame.getDice() != null ? boardGame.getDice().getLastRolledValues() : new int[0];
+    out.putVarInt(values.length);
+    for (int value : values) {
+      out.putVarInt(value);
+    }
+  }
+
+  private void writeTiles(BoardGame boardGame, List<Player> players, BinarySaveFormat.Output out) {
+    out.putVarInt(boardGame.getBoard().getSizeOfBoard());
+    out.putVarInt(boardGame.getBoard().getTiles().size());
+    for (Tile tile : boardGame.getBoard().getTiles().values()) {
+      out.putVarInt(tile.getId());
+      out.putVarInt(tile.getNextTile() != null ? tile.getNextTile().getId() + 1 : 0);
+      if (tile instanceof PropertyTile propertyTile) {
+        out.putByte(BinarySaveFormat.PROPERTY_TILE);
+        out.putVarInt(propertyTile.getPrice());
+        out.putVarInt(propertyTile.getRent());
+        out.putVarInt(propertyTile.getGroup());
+      } else if (tile instanceof GoTile) {
+        out.putByte(BinarySaveFormat.GO_TILE);
+      } else if (tile instanceof JailTile) {
+        out.putByte(BinarySaveFormat.JAIL_TILE);
+      } else if (tile instanceof FreeParkingTile) {
+        out.putByte(BinarySaveFormat.FREE_PARKING_TILE);
+      } else {
+        out.putByte(BinarySaveFormat.TILE);
+      }
+      writeAction(tile.getAction(), players, out);
+    }
+  }
+
+  private void writeAction(TileAction action, List<Player> players, BinarySaveFormat.Output out) {
+    if (action == null) {
+      out.putByte(BinarySaveFormat.NO_ACTION);
+      return;
+    }
+    TileActionType actionType = TileActionDispatcher.typeOf(action);
+    out.putByte(BinarySaveFormat.actionCode(actionType));
+    switch (actionType) {
+      case GO_TO_TILE -> out.putVarInt(((GoToTileAction) action).getTargetTileId());
+      case GO_TO_JAIL -> out.putVarInt(((GoToJailAction) action).getJailTileId());
+      case LADDER -> out.putVarInt(((LadderAction) action).getTopTileId());
+      case SNAKE -> out.putVarInt(((SnakeAction) action).getTailTileId());
+      case ENTRY_POINT ->
+          out.putVarInt(playerReference(((EntryPointAction) action).getOwner(), players));
+      case SWITCH_POSITION -> {
+        List<Player> allPlayers = ((SwitchPositionAction) action).getAllPlayers();
+        List<Integer> references = new ArrayList<>();
+        if (allPlayers != null) {
+          allPlayers.forEach(player -> references.add(playerReference(player, players)));
+        }
+        out.putVarInt(references.size());
+        references.forEach(out::putVarInt);
+      }
+      case CUSTOM -> out.putString(gson.toJson(action, TileAction.class));
+      default -> {
+        // The remaining built-in actions have no fields
+      }
+    }
+  }
+
+  private static void writeOwners(
+      BoardGame boardGame, List<Player> players, BinarySaveFormat.Output out) {
+    List<PropertyTile> ownedTiles = new ArrayList<>();
+    for (Tile tile : boardGame.getBoard().getTiles().values()) {
+      if (tile instanceof PropertyTile propertyTile && propertyTile.getOwner() != null) {
+        ownedTiles.add(propertyTile);
+      }
+    }
+    out.putVarInt(ownedTiles.size());
+    for (PropertyTile propertyTile : ownedTiles) {
+      out.putVarInt(propertyTile.getId());
+      out.putVarInt(playerReference(propertyTile.getOwner(), players));
+    }
+  }
+
+  /** Gets the reference to a player in the player table: its index plus one, or 0 if not found. */
+  private static int playerReference(Player player, List<Player> players) {
+    return player != null ? players.indexOf(player) + 1 : 0;
+  }
+}
@@ -1,52 +1,56 @@
 package edu.ntnu.iir.bidata.filehandling.boardgame;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
 import edu.ntnu.iir.bidata.Inject;
-import edu.ntnu.iir.bidata.filehandling.boardgame.utils.TileSerializer;
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.SaveCompression;
 import edu.ntnu.iir.bidata.model.BoardGame;
-import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
-import edu.ntnu.iir.bidata.model.tile.core.Tile;
-import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Implementation of the BoardGameFileWriter interface using Gson for JSON serialization. This class
  * provides the functionality to write board game data to a JSON file.
  */
 public class BoardGameFileWriterGson implements BoardGameFileWriter {
+  private static final String INDENT = "  ";
   private final Gson gson;
+  private final TypeAdapter<BoardGame> boardGameAdapter;
+  private final TypeAdapter<BoardGame> monopolyAdapter;
+  private final SaveCompression compression;
 
   /**
-   * A constructor for the {@code BoardGameFileWriterGson} class, responsible for initializing a
-   * Gson instance with custom configurations for serializing and deserializing board game
-   * components.
+   * A constructor for the {@code BoardGameFileWriterGson} class. The games are written with the
+   * hand-written codecs of the shared {@link SaveCodecs} registry, and the JSON is pretty-printed.
    *
-   * <p>The Gson instance is configured with:
-   * <li>Pretty-printing for readable JSON output.
-   * <li>A custom serializer for the {@code Tile} class using {@code TileSerializer}.
-   * <li>A custom type adapter factory for supporting extended behavior in handling different types
-   *     of tiles through {@code TileActionTypeAdapterFactory}.
-   *
-   *     <p>This constructor is annotated with {@code @Inject}, allowing it to be used in dependency
+   * <p>This constructor is annotated with {@code @Inject}, allowing it to be used in dependency
    *     injection frameworks.
    */
   @Inject
   public BoardGameFileWriterGson() {
-    this.gson =
-        new GsonBuilder()
-            .setPrettyPrinting()
-            .registerTypeAdapter(Tile.class, new TileSerializer())
-            .registerTypeAdapterFactory(new TileActionTypeAdapterFactory())
-            .create();
+    this(SaveCompression.NONE);
+  }
+
+  /**
+   * Creates a JSON writer that compresses the saves it writes. The readers detect the compression
+   * on their own, so compressed saves are loaded like any other save.
+   *
+   * @param compression the compression of the written saves
+   */
+  public BoardGameFileWriterGson(SaveCompression compression) {
+    this.compression = compression;
+    this.gson = SaveCodecs.gson();
+    BoardGameTypeAdapter adapter = (BoardGameTypeAdapter) SaveCodecs.adapter(BoardGame.class);
+    this.boardGameAdapter = adapter;
+    this.monopolyAdapter = adapter.monopolyLayout();
   }
 
   /**
@@ -54,6 +58,10 @@ public class BoardGameFileWriterGson implements BoardGameFileWriter {
    * either serializes the board game with custom logic for Monopoly or writes a standard JSON
    * representation of the board game.
    *
+   * <p>The JSON is streamed through a {@link JsonWriter} over a buffered file channel, one tile and
+   * one player at a time, so no tree or string of the whole game is built in memory. If the writer
+   * compresses its saves, the JSON is compressed on the way to the file.
+   *
    * @param boardGame the board game instance to write to a JSON file
    * @param path the path to the file where the JSON output will be saved
    * @param isMonopoly a flag indicating whether the board game is a Monopoly game, requiring custom
@@ -63,92 +71,34 @@ public class BoardGameFileWriterGson implements BoardGameFileWriter {
   @Override
   public void writeBoardGame(BoardGame boardGame, Path path, boolean isMonopoly)
       throws IOException {
-    if (isMonopoly) {
-      writeMonopolyGameToJson(boardGame, path);
-    } else {
-      // Parse to JSON tree, add 'level', then write
-      com.google.gson.JsonObject jsonObject = gson.toJsonTree(boardGame).getAsJsonObject();
-      jsonObject.addProperty("level", boardGame.getLevel());
-      String json = gson.toJson(jsonObject);
-      try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-        writer.write(json);
-      }
+    try (FileChannel channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      writeBoardGame(boardGame, Channels.newOutputStream(channel), isMonopoly);
     }
   }
 
   /**
-   * Serializes a Monopoly board game to JSON format and writes it to the specified file path. The
-   * method simplifies the board game structure for serialization, including details about tiles,
-   * players, and the current game state.
+   * Streams a board game as JSON to an output stream, compressing it if the writer compresses its
+   * saves. The stream is closed when the game has been written.
    *
-   * @param boardGame the Monopoly board game instance to be serialized
-   * @param path the file path where the JSON representation of the game will be saved
-   * @throws IOException if an I/O error occurs while writing to the file
+   * @param boardGame the board game instance to write
+   * @param out the stream the JSON output is written to
+   * @param isMonopoly a flag indicating whether the board game is a Monopoly game
+   * @throws IOException if writing to the stream fails
    */
-  private void writeMonopolyGameToJson(BoardGame boardGame, Path path) throws IOException {
-    // Create a simplified version of the board game for serialization
-    Map<String, Object> simplifiedGame = new HashMap<>();
-    simplifiedGame.put("dice", boardGame.getDice());
-
-    // Serialize essential tile data
-    Map<String, Map<String, Object>> tilesData = new HashMap<>();
-    boardGame
-        .getBoard()
-        .getTiles()
-        .forEach(
-            (id, tile) -> {
-              Map<String, Object> tileData = new HashMap<>();
-              tileData.put("id", tile.getId());
-              tileData.put("type", tile.getClass().getSimpleName());
-              if (tile.getNextTile() != null) {
-                tileData.put("nextTileId", tile.getNextTile().getId());
-              }
-              if (tile instanceof PropertyTile propertyTile) {
-                tileData.put("price", propertyTile.getPrice());
-                tileData.put("rent", propertyTile.getRent());
-                tileData.put("group", propertyTile.getGroup());
-                tileData.put(
-                    "owner",
-                    propertyTile.getOwner() != null ? propertyTile.getOwner().getName() : null);
-              }
-              if (tile.getAction() != null) {
-                tileData.put("action", gson.toJsonTree(tile.getAction()));
-              }
-              tilesData.put(String.valueOf(tile.getId()), tileData);
-            });
-    Map<String, Object> boardData = new HashMap<>();
-    boardData.put("tiles", tilesData);
-    boardData.put("boardSize", boardGame.getBoard().getSizeOfBoard());
-
-    simplifiedGame.put("board", boardData);
-
-    // Serialize player data
-    List<Map<String, Object>> playersData = new ArrayList<>();
-    boardGame
-        .getPlayers()
-        .forEach(
-            player -> {
-              Map<String, Object> playerData = new HashMap<>();
-              playerData.put("name", player.getName());
-              playerData.put("money", ((SimpleMonopolyPlayer) player).getMoney());
-              playerData.put("position", player.getCurrentTile().getId());
-              // Write currentTile as an object for compatibility with the reader
-              Map<String, Object> currentTileObj = new HashMap<>();
-              currentTileObj.put("id", player.getCurrentTile().getId());
-              playerData.put("currentTile", currentTileObj);
-              playerData.put("playerType", "MONOPOLY");
-              playerData.put("tokenImage", player.getTokenImage());
-              playersData.add(playerData);
-            });
-    simplifiedGame.put("players", playersData);
-
-    // Serialize current player index
-    simplifiedGame.put("currentPlayerIndex", boardGame.getCurrentPlayerIndex());
-
-    // Convert to JSON and write to file
-    String json = gson.toJson(simplifiedGame);
-    try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-      writer.write(json);
+  @Override
+  public void writeBoardGame(BoardGame boardGame, OutputStream out, boolean isMonopoly)
+      throws IOException {
+    try (JsonWriter json =
+        gson.newJsonWriter(
+            new BufferedWriter(
+                new OutputStreamWriter(compression.compress(out), StandardCharsets.UTF_8)))) {
+      json.setIndent(INDENT);
+      (isMonopoly ? monopolyAdapter : boardGameAdapter).write(json, boardGame);
     }
   }
 }
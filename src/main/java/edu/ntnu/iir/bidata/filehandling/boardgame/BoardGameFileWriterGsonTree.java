@@ -0,0 +1,89 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.SaveCompression;
+import edu.ntnu.iir.bidata.model.BoardGame;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes JSON saves through the Gson tree model. The whole game is first converted into a tree of
+ * {@link JsonElement JsonElements} by the codecs of the shared {@link SaveCodecs} registry, and the
+ * tree is then written to the file.
+ *
+ * <p>This is the {@link SaveBackend#GSON_TREE} backend. It writes the same files as {@link
+ * BoardGameFileWriterGson}, in both the standard and the Monopoly layout.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class BoardGameFileWriterGsonTree implements BoardGameFileWriter {
+  private static final String INDENT = "  ";
+  private final Gson gson = SaveCodecs.gson();
+  private final TypeAdapter<JsonElement> treeAdapter = gson.getAdapter(JsonElement.class);
+  private final TypeAdapter<BoardGame> boardGameAdapter;
+  private final TypeAdapter<BoardGame> monopolyAdapter;
+  private final SaveCompression compression;
+
+  /** Creates a writer that writes uncompressed saves. */
+  public BoardGameFileWriterGsonTree() {
+    this(SaveCompression.NONE);
+  }
+
+  /**
+   * Creates a writer that compresses the saves it writes.
+   *
+   * @param compression the compression of the written saves
+   */
+  public BoardGameFileWriterGsonTree(SaveCompression compression) {
+    this.compression = compression;
+    BoardGameTypeAdapter adapter = (BoardGameTypeAdapter) SaveCodecs.adapter(BoardGame.class);
+    this.boardGameAdapter = adapter;
+    this.monopolyAdapter = adapter.monopolyLayout();
+  }
+
+  /**
+   * Writes a board game to a JSON file by building its tree first.
+   *
+   * @param boardGame the board game instance to write to a JSON file
+   * @param path the path to the file where the JSON output will be saved
+   * @param isMonopoly whether the game is written in the Monopoly layout
+   * @throws IOException if writing to the file fails
+   */
+  @Override
+  public void writeBoardGame(BoardGame boardGame, Path path, boolean isMonopoly)
+      throws IOException {
+    writeBoardGame(boardGame, Files.newOutputStream(path), isMonopoly);
+  }
+
+  /**
+   * Writes a board game as JSON to an output stream by building its tree first. The stream is
+   * closed when the game has been written.
+   *
+   * @param boardGame the board game instance to write
+   * @param out the stream the JSON output is written to
+   * @param isMonopoly whether the game is written in the Monopoly layout
+   * @throws IOException if writing to the stream fails
+   */
+  @Override
+  public void writeBoardGame(BoardGame boardGame, OutputStream out, boolean isMonopoly)
+      throws IOException {
+    JsonElement tree = (isMonopoly ? monopolyAdapter : boardGameAdapter).toJsonTree(boardGame);
+    try (JsonWriter json =
+        gson.newJsonWriter(
+            new BufferedWriter(
+                new OutputStreamWriter(compression.compress(out), StandardCharsets.UTF_8)))) {
+      json.setIndent(INDENT);
+      // Written through the adapter rather than Gson.toJson, which would escape HTML characters
+      treeAdapter.write(json, tree);
+    }
+  }
+}
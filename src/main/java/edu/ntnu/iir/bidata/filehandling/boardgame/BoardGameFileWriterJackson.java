@@ -0,0 +1,322 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.google.gson.Gson;
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.SaveCompression;
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.actions.base.GoToTileAction;
+import edu.ntnu.iir.bidata.model.tile.actions.game.SwitchPositionAction;
+import edu.ntnu.iir.bidata.model.tile.actions.monopoly.GoToJailAction;
+import edu.ntnu.iir.bidata.model.tile.actions.movement.EntryPointAction;
+import edu.ntnu.iir.bidata.model.tile.actions.snakeandladder.LadderAction;
+import edu.ntnu.iir.bidata.model.tile.actions.snakeandladder.SnakeAction;
+import edu.ntnu.iir.bidata.model.tile.core.Tile;
+import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionDispatcher;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Writes JSON saves with the Jackson streaming generator. The files are the same as the files
+ * written by {@link BoardGameFileWriterGson}, in both the standard and the Monopoly layout, and can
+ * be read by every JSON reader of this package.
+ *
+ * <p>This is the {@link SaveBackend#JACKSON_STREAMING} backend. Games, players, tiles, the dice and
+ * the built-in tile actions are streamed field by field. Actions that are not built into the game
+ * are written by the Gson codec of the shared {@link SaveCodecs} registry, so that they keep the
+ * class name and the fields that the other readers expect.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class BoardGameFileWriterJackson implements BoardGameFileWriter {
+  private final Gson gson = SaveCodecs.gson();
+  private final SaveCompression compression;
+
+  /** Creates a writer that writes uncompressed saves. */
+  public BoardGameFileWriterJackson() {
+    this(SaveCompression.NONE);
+  }
+
+  /**
+   * Creates a writer that compresses the saves it writes.
+   *
+   * @param compression the compression of the written saves
+   */
+  public BoardGameFileWriterJackson(SaveCompression compression) {
+    this.compression = compression;
+  }
+
+  /**
+   * Writes a board game to a JSON file with the Jackson streaming generator.
+   *
+   * @param boardGame the board game instance to write to a JSON file
+   * @param path the path to the file where the JSON output will be saved
+   * @param isMonopoly whether the game is written in the Monopoly layout
+   * @throws IOException if writing to the file fails
+   */
+  @Override
+  public void writeBoardGame(BoardGame boardGame, Path path, boolean isMonopoly)
+      throws IOException {
+    writeBoardGame(boardGame, Files.newOutputStream(path), isMonopoly);
+  }
+
+  /**
+   * Writes a board game as JSON to an output stream with the Jackson streaming generator. The
+   * stream is closed when the game has been written.
+   *
+   * @param boardGame the board game instance to write
+   * @param stream the stream the JSON output is written to
+   * @param isMonopoly whether the game is written in the Monopoly layout
+   * @throws IOException if writing to the stream fails
+   */
+  @Override
+  public void writeBoardGame(BoardGame boardGame, OutputStream stream, boolean isMonopoly)
+      throws IOException {
+    try (JsonGenerator out =
+        SaveCodecs.jackson()
+            .getFactory()
+            .createGenerator(compression.compress(stream), JsonEncoding.UTF8)) {
+      out.setPrettyPrinter(new SavePrettyPrinter());
+      if (isMonopoly) {
+        writeMonopolyGame(boardGame, out);
+      } else {
+        writeStandardGame(boardGame, out);
+      }
+    }
+  }
+
+  private void writeStandardGame(BoardGame boardGame, JsonGenerator out) throws IOException {
+    out.writeStartObject();
+    if (boardGame.getLevel() != null) {
+      out.writeStringField("level", boardGame.getLevel());
+    }
+    out.writeNumberField("roundNumber", boardGame.getRoundNumber());
+    out.writeNumberField("currentPlayerIndex", boardGame.getCurrentPlayerIndex());
+    out.writeBooleanField("gameOver", boardGame.isGameOver());
+    out.writeBooleanField("gameInitialized", boardGame.isGameInitialized());
+
+    out.writeArrayFieldStart("players");
+    for (Player player : boardGame.getPlayers()) {
+      writePlayer(player, out);
+    }
+    out.writeEndArray();
+
+    writeDice(boardGame.getDice(), out);
+    writeBoard(boardGame, boardGame.getBoard().getBoardSize(), out);
+    out.writeEndObject();
+  }
+
+  private void writeMonopolyGame(BoardGame boardGame, JsonGenerator out) throws IOException {
+    out.writeStartObject();
+    out.writeNumberField("currentPlayerIndex", boardGame.getCurrentPlayerIndex());
+
+    out.writeArrayFieldStart("players");
+    for (Player player : boardGame.getPlayers()) {
+      SimpleMonopolyPlayer monopolyPlayer = (SimpleMonopolyPlayer) player;
+      out.writeStartObject();
+      out.writeStringField("name", player.getName());
+      out.writeNumberField("money", monopolyPlayer.getMoney());
+      out.writeBooleanField("inJail", monopolyPlayer.isInJail());
+      out.writeBooleanField("paidToLeaveJail", monopolyPlayer.isPaidToLeaveJail());
+      out.writeBooleanField("canLeaveJailNextTurn", monopolyPlayer.isCanLeaveJailNextTurn());
+      out.writeNumberField("position", player.getCurrentTile().getId());
+      out.writeObjectFieldStart("currentTile");
+      out.writeNumberField("id", player.getCurrentTile().getId());
+      out.writeEndObject();
+      out.writeStringField("playerType", "MONOPOLY");
+      if (player.getTokenImage() != null) {
+        out.writeStringField("tokenImage", player.getTokenImage());
+      }
+      out.writeEndObject();
+    }
+    out.writeEndArray();
+
+    writeDice(boardGame.getDice(), out);
+    writeBoard(boardGame, boardGame.getBoard().getSizeOfBoard(), out);
+    out.writeEndObject();
+  }
+
+  private static void writePlayer(Player player, JsonGenerator out) throws IOException {
+    out.writeStartObject();
+    out.writeStringField("name", player.getName());
+    if (player.getCurrentTile() != null) {
+      out.writeObjectFieldStart("currentTile");
+      out.writeNumberField("id", player.getCurrentTile().getId());
+      out.writeEndObject();
+    }
+    out.writeBooleanField("skipNextTurn", player.isSkipNextTurn());
+    if (player.getTokenImage() != null) {
+      out.writeStringField("tokenImage", player.getTokenImage());
+    }
+    if (player instanceof SimpleMonopolyPlayer monopolyPlayer) {
+      out.writeNumberField("money", monopolyPlayer.getMoney());
+      out.writeBooleanField("inJail", monopolyPlayer.isInJail());
+      out.writeBooleanField("paidToLeaveJail", monopolyPlayer.isPaidToLeaveJail());
+      out.writeBooleanField("canLeaveJailNextTurn", monopolyPlayer.isCanLeaveJailNextTurn());
+      out.writeStringField("playerType", "MONOPOLY");
+    }
+    out.writeEndObject();
+  }
+
+  /** Writes the dice in the layout of their Gson codec, with the last rolled value of each die. */
+  private static void writeDice(Dice dice, JsonGenerator out) throws IOException {
+    if (dice == null) {
+      return;
+    }
+    out.writeObjectFieldStart("dice");
+    out.writeArrayFieldStart("dice");
+    for (int value : dice.getLastRolledValues()) {
+      out.writeStartObject();
+      out.writeNumberField("lastRolledValue", value);
+      out.writeEndObject();
+    }
+    out.writeEndArray();
+    out.writeEndObject();
+  }
+
+  private void writeBoard(BoardGame boardGame, int boardSize, JsonGenerator out)
+      throws IOException {
+    out.writeObjectFieldStart("board");
+    out.writeObjectFieldStart("tiles");
+    for (Tile tile : boardGame.getBoard().getTiles().values()) {
+      out.writeFieldName(String.valueOf(tile.getId()));
+      writeTile(tile, boardGame.getPlayers(), out);
+    }
+    out.writeEndObject();
+    out.writeNumberField("boardSize", boardSize);
+    out.writeEndObject();
+  }
+
+  private void writeTile(Tile tile, List<Player> players, JsonGenerator out) throws IOException {
+    if (tile == null) {
+      out.writeNull();
+      return;
+    }
+    out.writeStartObject();
+    out.writeNumberField("id", tile.getId());
+    out.writeStringField("type", tile.getClass().getSimpleName());
+    if (tile.getNextTile() != null) {
+      out.writeNumberField("nextTileId", tile.getNextTile().getId());
+    }
+    if (tile instanceof PropertyTile propertyTile) {
+      out.writeNumberField("price", propertyTile.getPrice());
+      out.writeNumberField("rent", propertyTile.getRent());
+      out.writeNumberField("group", propertyTile.getGroup());
+      if (propertyTile.getOwner() != null) {
+        out.writeStringField("owner", propertyTile.getOwner().getName());
+      }
+    }
+    if (tile.getAction() != null) {
+      out.writeFieldName("action");
+      writeAction(tile.getAction(), players, out);
+    }
+    out.writeEndObject();
+  }
+
+  /**
+   * Writes a tile action. The players an action refers to are written as their index in the
+   * players array of the save.
+   */
+  private void writeAction(TileAction action, List<Player> players, JsonGenerator out)
+      throws IOException {
+    TileActionType actionType = TileActionDispatcher.typeOf(action);
+    if (actionType == TileActionType.CUSTOM) {
+      // Converted to a Jackson tree, so that it is laid out like the rest of the file
+      out.writeTree(SaveCodecs.jackson().readTree(gson.toJson(action, TileAction.class)));
+      return;
+    }
+
+    out.writeStartObject();
+    out.writeStringField("type", action.getClass().getSimpleName());
+    switch (actionType) {
+      case GO_TO_TILE ->
+          out.writeNumberField("targetTileId", ((GoToTileAction) action).getTargetTileId());
+      case GO_TO_JAIL ->
+          out.writeNumberField("jailTileId", ((GoToJailAction) action).getJailTileId());
+      case LADDER -> out.writeNumberField("topTileId", ((LadderAction) action).getTopTileId());
+      case SNAKE -> out.writeNumberField("tailTileId", ((SnakeAction) action).getTailTileId());
+      case ENTRY_POINT -> {
+        out.writeFieldName("ownerId");
+        writePlayerId(((EntryPointAction) action).getOwner(), players, out);
+      }
+      case SWITCH_POSITION -> {
+        List<Player> allPlayers = ((SwitchPositionAction) action).getAllPlayers();
+        out.writeArrayFieldStart("playerIds");
+        if (allPlayers != null) {
+          for (Player player : allPlayers) {
+            writePlayerId(player, players, out);
+          }
+        }
+        out.writeEndArray();
+      }
+      default -> {
+        // The remaining built-in actions don't need extra fields
+      }
+    }
+    out.writeEndObject();
+  }
+
+  private static void writePlayerId(Player player, List<Player> players, JsonGenerator out)
+      throws IOException {
+    int index = player != null ? players.indexOf(player) : -1;
+    if (index >= 0) {
+      out.writeNumber(index);
+    } else {
+      out.writeNull();
+    }
+  }
+
+  /**
+   * Lays out the JSON like the Gson writers do: two spaces of indentation, every object field and
+   * array element on its own line, and no space before the colon of a field.
+   */
+  private static final class SavePrettyPrinter extends DefaultPrettyPrinter {
+    private static final long serialVersionUID = 1L;
+    private static final DefaultIndenter INDENTER = new DefaultIndenter("  ", "\n");
+
+    SavePrettyPrinter() {
+      indentObjectsWith(INDENTER);
+      indentArraysWith(INDENTER);
+    }
+
+    @Override
+    public DefaultPrettyPrinter createInstance() {
+      return new SavePrettyPrinter();
+    }
+
+    @Override
+    public void writeObjectFieldValueSeparator(JsonGenerator g) throws IOException {
+      g.writeRaw(": ");
+    }
+
+    @Override
+    public void writeEndObject(JsonGenerator g, int nrOfEntries) throws IOException {
+      --_nesting;
+      if (nrOfEntries > 0) {
+        _objectIndenter.writeIndentation(g, _nesting);
+      }
+      g.writeRaw('}');
+    }
+
+    @Override
+    public void writeEndArray(JsonGenerator g, int nrOfValues) throws IOException {
+      --_nesting;
+      if (nrOfValues > 0) {
+        _arrayIndenter.writeIndentation(g, _nesting);
+      }
+      g.writeRaw(']');
+    }
+  }
+}
@@ -0,0 +1,360 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.core.Tile;
+import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * A hand-written Gson adapter for a whole {@link BoardGame}. Games are written in the standard
+ * save layout: the state of the game, the players, the dice and, last, the board with its tiles.
+ * Both the standard layout and the Monopoly layout written by {@link BoardGameFileWriterGson} can
+ * be read, whatever the order of their sections, and {@link #monopolyLayout()} writes the Monopoly
+ * layout.
+ *
+ * <p>The game is read in a single pass, without building a JSON tree. Tile connections, player
+ * tiles, property owners and the players of tile actions refer to other objects by id or name, so
+ * they are collected while reading and resolved at the end through an array of tiles indexed by id,
+ * the players array and the player registry of the game.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class BoardGameTypeAdapter extends TypeAdapter<BoardGame> {
+  private static final Logger LOGGER = Logger.getLogger(BoardGameTypeAdapter.class.getName());
+
+  private final TileTypeAdapter tileAdapter;
+  private final PlayerTypeAdapter playerAdapter;
+  private final TypeAdapter<Dice> diceAdapter;
+  private final TypeAdapter<BoardGame> monopolyLayout = new MonopolyLayout();
+
+  /**
+   * Creates a board game adapter.
+   *
+   * @param tileAdapter the adapter used for the tiles
+   * @param playerAdapter the adapter used for the players
+   * @param diceAdapter the adapter used for the dice
+   */
+  public BoardGameTypeAdapter(
+      TileTypeAdapter tileAdapter, PlayerTypeAdapter playerAdapter, TypeAdapter<Dice> diceAdapter) {
+    this.tileAdapter = tileAdapter;
+    this.playerAdapter = playerAdapter;
+    this.diceAdapter = diceAdapter;
+  }
+
+  /**
+   * Writes a game in the standard layout. The header and the players are written before the board,
+   * so that a save can be opened for a preview without reading past them.
+   */
+  @Override
+  public void write(JsonWriter out, BoardGame boardGame) throws IOException {
+    out.beginObject();
+    out.name("level").value(boardGame.getLevel());
+    out.name("roundNumber").value(boardGame.getRoundNumber());
+    out.name("currentPlayerIndex").value(boardGame.getCurrentPlayerIndex());
+    out.name("gameOver").value(boardGame.isGameOver());
+    out.name("gameInitialized").value(boardGame.isGameInitialized());
+
+    out.name("players").beginArray();
+    for (Player player : boardGame.getPlayers()) {
+      playerAdapter.write(out, player);
+    }
+    out.endArray();
+
+    out.name("dice");
+    diceAdapter.write(out, boardGame.getDice());
+
+    out.name("board").beginObject();
+    out.name("tiles").beginObject();
+    for (Map.Entry<Integer, Tile> entry : boardGame.getBoard().getTiles().entrySet()) {
+      out.name(String.valueOf(entry.getKey()));
+      tileAdapter.write(out, entry.getValue(), boardGame.getPlayers());
+    }
+    out.endObject();
+    out.name("boardSize").value(boardGame.getBoard().getBoardSize());
+    out.endObject();
+    out.endObject();
+  }
+
+  /**
+   * Gets an adapter that writes games in the Monopoly layout and reads them like this adapter. The
+   * Monopoly layout stores the players with their money and jail state, but not the level, round or
+   * flags of the game.
+   *
+   * @return the adapter for the Monopoly layout
+   */
+  public TypeAdapter<BoardGame> monopolyLayout() {
+    return monopolyLayout;
+  }
+
+  /**
+   * Streams a Monopoly board game as JSON. The method simplifies the board game structure for
+   * serialization, including details about tiles, players, and the current game state.
+   *
+   * @param out the writer to stream the JSON to
+   * @param boardGame the Monopoly board game instance to be serialized
+   * @throws IOException if an I/O error occurs while writing
+   */
+  private void writeMonopolyGame(JsonWriter out, BoardGame boardGame) throws IOException {
+    out.beginObject();
+    // Serialize current player index
+    out.name("currentPlayerIndex").value(boardGame.getCurrentPlayerIndex());
+
+    // Serialize player data
+    out.name("players").beginArray();
+    for (Player player : boardGame.getPlayers()) {
+      out.beginObject();
+      SimpleMonopolyPlayer monopolyPlayer = (SimpleMonopolyPlayer) player;
+      out.name("name").value(player.getName());
+      out.name("money").value(monopolyPlayer.getMoney());
+      out.name("inJail").value(monopolyPlayer.isInJail());
+      out.name("paidToLeaveJail").value(monopolyPlayer.isPaidToLeaveJail());
+      out.name("canLeaveJailNextTurn").value(monopolyPlayer.isCanLeaveJailNextTurn());
+      out.name("position").value(player.getCurrentTile().getId());
+      // Write currentTile as an object for compatibility with the reader
+      out.name("currentTile").beginObject();
+      out.name("id").value(player.getCurrentTile().getId());
+      out.endObject();
+      out.name("playerType").value("MONOPOLY");
+      if (player.getTokenImage() != null) {
+        out.name("tokenImage").value(player.getTokenImage());
+      }
+      out.endObject();
+    }
+    out.endArray();
+
+    out.name("dice");
+    diceAdapter.write(out, boardGame.getDice());
+
+    // Serialize essential tile data last, so that previews can stop reading before it
+    out.name("board").beginObject();
+    out.name("tiles").beginObject();
+    for (Tile tile : boardGame.getBoard().getTiles().values()) {
+      out.name(String.valueOf(tile.getId()));
+      tileAdapter.write(out, tile, boardGame.getPlayers());
+    }
+    out.endObject();
+    out.name("boardSize").value(boardGame.getBoard().getSizeOfBoard());
+    out.endObject();
+    out.endObject();
+  }
+
+  /**
+   * Reads the top level object of a saved game and builds the board game from it.
+   *
+   * @param in the reader positioned at the start of the saved game
+   * @return the BoardGame object
+   * @throws IOException if an I/O error occurs or the saved game has no board
+   */
+  @Override
+  public BoardGame read(JsonReader in) throws IOException {
+    LoadState state = new LoadState();
+    in.beginObject();
+    while (in.hasNext()) {
+      String name = in.nextName();
+      if ("board".equals(name)) {
+        readBoard(in, state);
+      } else {
+        readHeaderField(name, in, state);
+      }
+    }
+    in.endObject();
+    return build(state);
+  }
+
+  /**
+   * Reads everything of a saved game except the board. Saves written by this adapter end with the
+   * board, so reading stops as soon as the board is reached after the players. In older saves the
+   * board comes first and is skipped without creating its tiles.
+   *
+   * @param in the reader positioned at the start of the saved game
+   * @return the state of the load, with the header, the players and the dice
+   * @throws IOException if an I/O error occurs
+   */
+  LoadState readHeader(JsonReader in) throws IOException {
+    LoadState state = new LoadState();
+    boolean playersRead = false;
+    in.beginObject();
+    while (in.hasNext()) {
+      String name = in.nextName();
+      if ("board".equals(name)) {
+        if (playersRead) {
+          break;
+        }
+        in.skipValue();
+      } else {
+        playersRead |= "players".equals(name);
+        readHeaderField(name, in, state);
+      }
+    }
+    return state;
+  }
+
+  /**
+   * Reads only the board of a saved game, skipping everything else.
+   *
+   * @param in the reader positioned at the start of the saved game
+   * @param state the state of the load, which receives the board
+   * @throws IOException if an I/O error occurs
+   */
+  void readBoardOnly(JsonReader in, LoadState state) throws IOException {
+    in.beginObject();
+    while (in.hasNext()) {
+      if ("board".equals(in.nextName())) {
+        readBoard(in, state);
+        return;
+      }
+      in.skipValue();
+    }
+  }
+
+  /**
+   * Builds the board game once everything in the load state has been read, and resolves the
+   * references between its tiles and players.
+   *
+   * @param state the state of the load
+   * @return the BoardGame object
+   * @throws IOException if the saved game has no board
+   */
+  static BoardGame build(LoadState state) throws IOException {
+    if (state.board == null) {
+      throw new IOException("The saved game does not contain a board");
+    }
+    LOGGER.info("Board size after deserialization: " + state.board.getSizeOfBoard());
+
+    BoardGame boardGame = new BoardGame(state.board, state.dice);
+    // Add the players directly, since setPlayers would move them back to the starting tile
+    boardGame.getPlayers().addAll(state.players);
+    for (int i = 0; i < state.players.size(); i++) {
+      state.players.get(i).setCurrentTile(state.tileById(state.playerTileIds[i]));
+    }
+    for (int i = 0; i < state.ownedTiles.size(); i++) {
+      Player owner = boardGame.getPlayerByName(state.ownerNames.get(i));
+      if (owner instanceof SimpleMonopolyPlayer monopolyOwner) {
+        PropertyTile propertyTile = state.ownedTiles.get(i);
+        propertyTile.setOwner(monopolyOwner);
+        monopolyOwner.getOwnedProperties().add(propertyTile);
+      }
+    }
+    resolveActionPlayers(boardGame, state);
+    boardGame.setCurrentPlayerIndex(state.currentPlayerIndex);
+    boardGame.setGameOver(state.gameOver);
+    boardGame.setGameInitialized(state.gameInitialized);
+    boardGame.setRoundNumber(state.roundNumber);
+    boardGame.setLevel(state.level);
+    return boardGame;
+  }
+
+  private void readHeaderField(String name, JsonReader in, LoadState state) throws IOException {
+    switch (name) {
+      case "players" -> {
+        in.beginArray();
+        while (in.hasNext()) {
+          playerAdapter.readPlayer(in, state);
+        }
+        in.endArray();
+      }
+      case "dice" -> state.dice = diceAdapter.read(in);
+      case "currentPlayerIndex" -> state.currentPlayerIndex = in.nextInt();
+      case "gameOver" -> state.gameOver = in.nextBoolean();
+      case "gameInitialized" -> state.gameInitialized = in.nextBoolean();
+      case "roundNumber" -> state.roundNumber = in.nextInt();
+      case "level" -> state.level = TileTypeAdapter.nextStringOrNull(in);
+      default -> in.skipValue();
+    }
+  }
+
+  /**
+   * Gives the tile actions that refer to players the players of the loaded game. Each such action
+   * is replaced by one holding the live players, so that it does not act on copies of them. An
+   * action that refers to every player in order shares the player list of the game.
+   *
+   * @param boardGame the loaded game
+   * @param state the state of the load, with the players each action refers to
+   */
+  private static void resolveActionPlayers(BoardGame boardGame, LoadState state) {
+    if (state.actionPlayerIds.isEmpty() && state.actionPlayerNames.isEmpty()) {
+      return;
+    }
+    List<Player> gamePlayers = boardGame.getPlayers();
+    for (Tile tile : state.tilesById) {
+      TileAction action = tile != null ? tile.getAction() : null;
+      List<Integer> playerIds = state.actionPlayerIds.get(action);
+      List<String> playerNames = state.actionPlayerNames.get(action);
+      if (action == null || (playerIds == null && playerNames == null)) {
+        continue;
+      }
+      List<Player> players = new ArrayList<>();
+      if (playerIds != null) {
+        for (Integer playerId : playerIds) {
+          if (playerId != null && playerId >= 0 && playerId < gamePlayers.size()) {
+            players.add(gamePlayers.get(playerId));
+          }
+        }
+      } else {
+        for (String playerName : playerNames) {
+          Player player = boardGame.getPlayerByName(playerName);
+          if (player != null) {
+            players.add(player);
+          }
+        }
+      }
+      tile.setAction(
+          TileActionTypeAdapter.withPlayers(
+              action, players.equals(gamePlayers) ? gamePlayers : players));
+    }
+  }
+
+  /**
+   * Reads the board object, creates the board and connects its tiles.
+   *
+   * @param in the reader positioned at the start of the board object
+   * @param state the state of the load, which receives the board and the tiles indexed by id
+   * @throws IOException if an I/O error occurs
+   */
+  private void readBoard(JsonReader in, LoadState state) throws IOException {
+    int boardSize = 0;
+    List<Tile> tiles = new ArrayList<>();
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "tiles" -> {
+          in.beginObject();
+          while (in.hasNext()) {
+            in.nextName();
+            tiles.add(tileAdapter.readTile(in, state));
+          }
+          in.endObject();
+        }
+        case "boardSize" -> boardSize = in.nextInt();
+        default -> in.skipValue();
+      }
+    }
+    in.endObject();
+    state.buildBoard(boardSize, tiles);
+  }
+
+  /** Writes games in the Monopoly layout, and reads both layouts like the enclosing adapter. */
+  private final class MonopolyLayout extends TypeAdapter<BoardGame> {
+    @Override
+    public void write(JsonWriter out, BoardGame boardGame) throws IOException {
+      writeMonopolyGame(out, boardGame);
+    }
+
+    @Override
+    public BoardGame read(JsonReader in) throws IOException {
+      return BoardGameTypeAdapter.this.read(in);
+    }
+  }
+}
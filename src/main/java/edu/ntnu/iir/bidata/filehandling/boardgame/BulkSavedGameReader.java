@@ -0,0 +1,199 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.model.BoardGame;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads every saved game in a directory tree, such as an archive of finished games, on a fixed
+ * number of background threads.
+ *
+ * <p>All files go through one shared {@link BoardGameFileReader}, so the reader must be safe to use
+ * from several threads at once. The readers of this package keep no state between calls and are
+ * safe to share.
+ *
+ * <p>The games are returned as a lazy stream in the order the files are found. At most two files
+ * per thread are read ahead of the consumer of the stream, so the memory use does not depend on the
+ * size of the archive. Files that cannot be read are logged and left out of the stream.
+ *
+ * <p>For reports over large archives, {@link #readSummaries(Path)} turns each game into a small
+ * {@link SavedGameSummary} on the background thread, which can then be collected into a {@link
+ * SavedGameReport}.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class BulkSavedGameReader implements AutoCloseable {
+  private static final Logger LOGGER = Logger.getLogger(BulkSavedGameReader.class.getName());
+  private static final int READ_AHEAD_PER_THREAD = 2;
+
+  private final BoardGameFileReader reader;
+  private final int readAhead;
+  private final ExecutorService executor;
+
+  /** Creates a bulk reader for JSON and binary saves with one thread per processor. */
+  public BulkSavedGameReader() {
+    this(new BoardGameFileReaderAutoDetect(), Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a bulk reader.
+   *
+   * @param reader the reader shared by all threads
+   * @param threads the number of files read at the same time
+   * @throws IllegalArgumentException if the number of threads is not positive
+   */
+  public BulkSavedGameReader(BoardGameFileReader reader, int threads) {
+    if (threads <= 0) {
+      throw new IllegalArgumentException("The number of threads must be positive");
+    }
+    this.reader = reader;
+    this.readAhead = threads * READ_AHEAD_PER_THREAD;
+    this.executor =
+        Executors.newFixedThreadPool(
+            threads,
+            runnable -> {
+              Thread thread = new Thread(runnable, "bulk-save-reader");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Checks whether a file in an archive is a save. Saves end with .json or .bin; journals, indexes
+   * and temporary files are skipped.
+   *
+   * @param path the file
+   * @return true if the file is a save
+   */
+  public static boolean isSaveFile(Path path) {
+    String fileName = path.getFileName().toString();
+    return fileName.endsWith(".json") || fileName.endsWith(".bin");
+  }
+
+  /**
+   * Reads every saved game in a directory tree. The stream should be closed when it is no longer
+   * used, which stops the directory walk and cancels the files that are being read ahead.
+   *
+   * @param root the directory to read
+   * @return the saved games
+   * @throws IOException if the directory cannot be opened
+   */
+  public Stream<BoardGame> readGames(Path root) throws IOException {
+    return read(root, (path, boardGame) -> boardGame);
+  }
+
+  /**
+   * Reads a summary of every saved game in a directory tree. The stream should be closed when it is
+   * no longer used.
+   *
+   * @param root the directory to read
+   * @return the summaries of the saved games
+   * @throws IOException if the directory cannot be opened
+   */
+  public Stream<SavedGameSummary> readSummaries(Path root) throws IOException {
+    return read(root, SavedGameSummary::of);
+  }
+
+  /**
+   * Reads every saved game in a directory tree and builds a report over them.
+   *
+   * @param root the directory to read
+   * @param moneyBucketSize the width of the money ranges of the report
+   * @return the report
+   * @throws IOException if the directory cannot be opened
+   */
+  public SavedGameReport report(Path root, int moneyBucketSize) throws IOException {
+    try (Stream<SavedGameSummary> summaries = readSummaries(root)) {
+      return summaries.collect(SavedGameReport.collector(moneyBucketSize));
+    }
+  }
+
+  /** Stops the background threads once the files that are being read are done. */
+  @Override
+  public void close() {
+    executor.close();
+  }
+
+  private <T> Stream<T> read(Path root, BiFunction<Path, BoardGame, T> mapper)
+      throws IOException {
+    Stream<Path> files =
+        Files.walk(root).filter(Files::isRegularFile).filter(BulkSavedGameReader::isSaveFile);
+    ReadAheadIterator<T> results = new ReadAheadIterator<>(files.iterator(), mapper);
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                results, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(
+            () -> {
+              results.cancel();
+              files.close();
+            });
+  }
+
+  private <T> T load(Path path, BiFunction<Path, BoardGame, T> mapper) {
+    try {
+      return mapper.apply(path, reader.readBoardGame(path));
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warning("Skipping unreadable save " + path + ": " + e.getMessage());
+      return null;
+    }
+  }
+
+  /** Keeps a bounded number of files being read ahead of the consumer, in the order found. */
+  private final class ReadAheadIterator<T> implements Iterator<T> {
+    private final Iterator<Path> paths;
+    private final BiFunction<Path, BoardGame, T> mapper;
+    private final Deque<CompletableFuture<T>> inFlight = new ArrayDeque<>();
+    private T next;
+
+    private ReadAheadIterator(Iterator<Path> paths, BiFunction<Path, BoardGame, T> mapper) {
+      this.paths = paths;
+      this.mapper = mapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (next == null) {
+        while (inFlight.size() < readAhead && paths.hasNext()) {
+          Path path = paths.next();
+          inFlight.add(CompletableFuture.supplyAsync(() -> load(path, mapper), executor));
+        }
+        if (inFlight.isEmpty()) {
+          return false;
+        }
+        next = inFlight.poll().join();
+      }
+      return true;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T result = next;
+      next = null;
+      return result;
+    }
+
+    private void cancel() {
+      inFlight.forEach(future -> future.cancel(false));
+      inFlight.clear();
+    }
+  }
+}
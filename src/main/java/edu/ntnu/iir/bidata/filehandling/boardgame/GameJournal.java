@@ -0,0 +1,541 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.AtomicFileWriter;
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.BinarySaveFormat;
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.core.Tile;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Saves a game incrementally. A full snapshot of the game is written in the binary save format, and
+ * after every turn only the parts of the state that changed during the turn are appended to a
+ * journal next to it. The cost of saving a turn therefore depends on the number of changes, not on
+ * the size of the board.
+ *
+ * <p>Every journal record holds the changes of one turn, framed by its length and a CRC32 checksum.
+ * Records are handed to the operating system as soon as they are written, so they survive a crash
+ * of the game. The journal is only forced to disk every {@code syncInterval} turns and when it is
+ * closed, which keeps the force off the game thread on most turns; a crash of the whole machine can
+ * lose the turns since the last force. A record that was only partly written fails its checksum and
+ * is ignored when the game is recovered.
+ *
+ * <p>Once {@code snapshotInterval} turns have been journaled, the journal is compacted: it is
+ * renamed to a {@code .compacting} file, a new journal is started, and a background thread applies
+ * the renamed journal to the snapshot, replaces the snapshot atomically and deletes the renamed
+ * journal. Records hold absolute values rather than differences, so replaying a record that is
+ * already part of the snapshot does no harm. Recovery can therefore always replay the snapshot,
+ * then the {@code .compacting} file if it still exists, then the journal. If a compaction failed
+ * and left its {@code .compacting} file behind, the next compaction merges that file into the
+ * snapshot before it rotates the journal, and refuses to rotate if the merge fails.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class GameJournal implements Closeable {
+  private static final Logger LOGGER = Logger.getLogger(GameJournal.class.getName());
+
+  /** The default number of turns between two forces of the journal to disk. */
+  public static final int DEFAULT_SYNC_INTERVAL = 10;
+
+  /** The default number of journaled turns that triggers a compaction. */
+  public static final int DEFAULT_SNAPSHOT_INTERVAL = 50;
+
+  // Operation codes of the changes in a journal record
+  private static final int OP_POSITION = 1;
+  private static final int OP_MONEY = 2;
+  private static final int OP_PLAYER_FLAGS = 3;
+  private static final int OP_OWNER = 4;
+  private static final int OP_CURRENT_PLAYER = 5;
+  private static final int OP_ROUND = 6;
+  private static final int OP_GAME_FLAGS = 7;
+  private static final int OP_DICE = 8;
+
+  private static final int RECORD_HEADER_BYTES = 2 * Integer.BYTES;
+
+  private final Path snapshotPath;
+  private final Path journalPath;
+  private final Path compactingPath;
+  private final boolean isMonopoly;
+  private final int syncInterval;
+  private final int snapshotInterval;
+  private final BinarySaveFormat.Output record = new BinarySaveFormat.Output();
+  private final ExecutorService compactor =
+      Executors.newSingleThreadExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "game-journal-compactor");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private BoardGame boardGame;
+  private FileChannel journal;
+  private JournaledState journaled;
+  private int unsyncedTurns;
+  private int journaledTurns;
+  private CompletableFuture<Void> compaction = CompletableFuture.completedFuture(null);
+
+  /**
+   * Creates a journal for the game saved at the given snapshot path, with the default intervals.
+   *
+   * @param snapshotPath the path of the snapshot; the journal is stored next to it
+   * @param isMonopoly whether the game is a Monopoly game
+   */
+  public GameJournal(Path snapshotPath, boolean isMonopoly) {
+    this(snapshotPath, isMonopoly, DEFAULT_SYNC_INTERVAL, DEFAULT_SNAPSHOT_INTERVAL);
+  }
+
+  /**
+   * Creates a journal for the game saved at the given snapshot path.
+   *
+   * @param snapshotPath the path of the snapshot; the journal is stored next to it
+   * @param isMonopoly whether the game is a Monopoly game
+   * @param syncInterval the number of turns between two forces of the journal to disk
+   * @param snapshotInterval the number of journaled turns that triggers a compaction
+   */
+  public GameJournal(
+      Path snapshotPath, boolean isMonopoly, int syncInterval, int snapshotInterval) {
+    if (syncInterval < 1 || snapshotInterval < 1) {
+      throw new IllegalArgumentException("The sync and snapshot intervals must be positive");
+    }
+    this.snapshotPath = snapshotPath;
+    this.journalPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".journal");
+    this.compactingPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".compacting");
+    this.isMonopoly = isMonopoly;
+    this.syncInterval = syncInterval;
+    this.snapshotInterval = snapshotInterval;
+  }
+
+  /**
+   * Checks whether a journaled game has been saved at the given snapshot path.
+   *
+   * @param snapshotPath the path of the snapshot
+   * @return true if the snapshot exists, false otherwise
+   */
+  public static boolean exists(Path snapshotPath) {
+    return Files.exists(snapshotPath);
+  }
+
+  /**
+   * Starts journaling a game. A full snapshot of the game is written and any old journal is
+   * removed.
+   *
+   * @param boardGame the game to journal
+   * @throws IOException if the snapshot or the journal cannot be written
+   */
+  public synchronized void start(BoardGame boardGame) throws IOException {
+    awaitCompaction();
+    closeJournal();
+    Files.createDirectories(snapshotPath.toAbsolutePath().getParent());
+    writeSnapshot(boardGame, snapshotPath);
+    Files.deleteIfExists(compactingPath);
+    openJournal();
+    attach(boardGame);
+  }
+
+  /**
+   * Recovers a game from the snapshot and the journal, and continues journaling it. A partly
+   * written record at the end of the journal is ignored. The recovered game is written as the new
+   * snapshot before journaling continues.
+   *
+   * @return the recovered game
+   * @throws IOException if the snapshot cannot be read or the journal cannot be opened
+   */
+  public synchronized BoardGame recover() throws IOException {
+    awaitCompaction();
+    closeJournal();
+    BoardGame recovered = new BoardGameFileReaderBinary().readBoardGame(snapshotPath);
+    int replayed = 0;
+    if (Files.exists(compactingPath)) {
+      replayed += replay(compactingPath, recovered);
+    }
+    if (Files.exists(journalPath)) {
+      replayed += replay(journalPath, recovered);
+    }
+    // Fold the replayed turns into a new snapshot, so that the next compaction starts clean
+    writeSnapshot(recovered, snapshotPath);
+    Files.deleteIfExists(compactingPath);
+    openJournal();
+    attach(recovered);
+    LOGGER.info("Recovered game from " + snapshotPath + " and " + replayed + " journaled turns");
+    return recovered;
+  }
+
+  /**
+   * Appends the changes made to the game since the last journaled turn. Nothing is written when the
+   * state did not change.
+   *
+   * @throws IOException if the journal cannot be written
+   * @throws IllegalStateException if no game is being journaled
+   */
+  public synchronized void recordTurn() throws IOException {
+    if (boardGame == null) {
+      throw new IllegalStateException("No game is being journaled");
+    }
+    record.clear();
+    journaled.writeChanges(boardGame, record);
+    if (record.size() == 0) {
+      return;
+    }
+    appendRecord();
+    journaledTurns++;
+    if (++unsyncedTurns >= syncInterval) {
+      sync();
+    }
+    if (journaledTurns >= snapshotInterval && compaction.isDone()) {
+      compact();
+    }
+  }
+
+  /**
+   * Forces all journaled turns to disk.
+   *
+   * @throws IOException if the journal cannot be forced
+   */
+  public synchronized void sync() throws IOException {
+    if (journal != null && unsyncedTurns > 0) {
+      journal.force(false);
+      unsyncedTurns = 0;
+    }
+  }
+
+  /**
+   * Starts merging the journal into the snapshot on a background thread. Turns recorded while the
+   * compaction runs go to a new journal. A {@code .compacting} file left behind by a failed
+   * compaction is merged into the snapshot first, so that rotating the journal cannot overwrite it.
+   *
+   * @return a future that completes when the snapshot has been replaced
+   * @throws IOException if a leftover compaction cannot be merged or the journal cannot be rotated
+   */
+  public synchronized CompletableFuture<Void> compact() throws IOException {
+    if (!compaction.isDone()) {
+      return compaction;
+    }
+    sync();
+    if (Files.exists(compactingPath)) {
+      LOGGER.warning("Merging journal " + compactingPath + " left by a failed compaction");
+      mergeIntoSnapshot();
+    }
+    closeJournal();
+    Files.move(journalPath, compactingPath, StandardCopyOption.ATOMIC_MOVE);
+    openJournal();
+    journaledTurns = 0;
+    compaction =
+        CompletableFuture.runAsync(
+            () -> {
+              try {
+                mergeIntoSnapshot();
+              } catch (IOException e) {
+                LOGGER.severe(
+                    "Failed to compact journal " + compactingPath + ": " + e.getMessage());
+                throw new IllegalStateException(e);
+              }
+            },
+            compactor);
+    return compaction;
+  }
+
+  /**
+   * Forces the journal to disk, waits for a running compaction and stops the compaction thread.
+   *
+   * @throws IOException if the journal cannot be forced or closed
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    sync();
+    awaitCompaction();
+    closeJournal();
+    compactor.shutdown();
+    boardGame = null;
+  }
+
+  private void attach(BoardGame boardGame) {
+    this.boardGame = boardGame;
+    this.journaled = new JournaledState(boardGame);
+    this.unsyncedTurns = 0;
+    this.journaledTurns = 0;
+  }
+
+  private void openJournal() throws IOException {
+    journal =
+        FileChannel.open(
+            journalPath,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE);
+  }
+
+  private void closeJournal() throws IOException {
+    if (journal != null) {
+      journal.close();
+      journal = null;
+    }
+  }
+
+  private void appendRecord() throws IOException {
+    ByteBuffer payload = record.contents();
+    CRC32 crc = new CRC32();
+    crc.update(payload.duplicate());
+    ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+    header.putInt(payload.remaining()).putInt((int) crc.getValue()).flip();
+    ByteBuffer[] buffers = {header, payload};
+    while (payload.hasRemaining()) {
+      journal.write(buffers);
+    }
+  }
+
+  private void awaitCompaction() {
+    try {
+      compaction.join();
+    } catch (RuntimeException e) {
+      // The failure has been logged, and the .compacting file is replayed on recovery
+    }
+  }
+
+  /** Applies the {@code .compacting} journal to the snapshot and deletes it. */
+  private void mergeIntoSnapshot() throws IOException {
+    BoardGame merged = new BoardGameFileReaderBinary().readBoardGame(snapshotPath);
+    replay(compactingPath, merged);
+    writeSnapshot(merged, snapshotPath);
+    Files.delete(compactingPath);
+  }
+
+  private void writeSnapshot(BoardGame game, Path path) throws IOException {
+    BoardGameFileWriterBinary writer = new BoardGameFileWriterBinary();
+    AtomicFileWriter.replace(path, temporary -> writer.writeBoardGame(game, temporary, isMonopoly));
+  }
+
+  /**
+   * Applies the records of a journal file to a game. Replaying stops at the first record that is
+   * incomplete or fails its checksum. The file is read into memory rather than mapped, so that it
+   * can be deleted, and the snapshot replaced, right after it has been replayed.
+   *
+   * @return the number of records applied
+   */
+  private static int replay(Path path, BoardGame game) throws IOException {
+    int applied = 0;
+    try {
+      ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(path));
+      long validLength = 0;
+      while (in.remaining() >= RECORD_HEADER_BYTES) {
+        int length = in.getInt();
+        int checksum = in.getInt();
+        if (length < 0 || length > in.remaining()) {
+          break;
+        }
+        ByteBuffer payload = in.slice(in.position(), length);
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != checksum) {
+          break;
+        }
+        applyRecord(payload, game);
+        in.position(in.position() + length);
+        validLength = in.position();
+        applied++;
+      }
+      if (validLength < in.limit()) {
+        LOGGER.warning("Ignoring incomplete journal record at the end of " + path);
+      }
+    } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+      throw new IOException("The journal " + path + " is malformed", e);
+    }
+    return applied;
+  }
+
+  private static void applyRecord(ByteBuffer in, BoardGame game) throws IOException {
+    List<Player> players = game.getPlayers();
+    while (in.hasRemaining()) {
+      int op = in.get();
+      switch (op) {
+        case OP_POSITION -> {
+          Player player = players.get(BinarySaveFormat.getVarInt(in));
+          int tileId = BinarySaveFormat.getVarInt(in) - 1;
+          player.setCurrentTile(tileId >= 0 ? game.getBoard().getTile(tileId) : null);
+        }
+        case OP_MONEY -> {
+          Player player = players.get(BinarySaveFormat.getVarInt(in));
+          int money = BinarySaveFormat.getSignedVarInt(in);
+          if (player instanceof SimpleMonopolyPlayer monopolyPlayer) {
+            monopolyPlayer.setMoney(money);
+          }
+        }
+        case OP_PLAYER_FLAGS -> {
+          Player player = players.get(BinarySaveFormat.getVarInt(in));
+          BinarySaveFormat.applyPlayerFlags(player, in.get());
+        }
+        case OP_OWNER -> {
+          Tile tile = game.getBoard().getTile(BinarySaveFormat.getVarInt(in));
+          int ownerIndex = BinarySaveFormat.getVarInt(in) - 1;
+          if (tile instanceof PropertyTile propertyTile) {
+            changeOwner(propertyTile, ownerIndex >= 0 ? players.get(ownerIndex) : null);
+          }
+        }
+        case OP_CURRENT_PLAYER -> game.setCurrentPlayerIndex(BinarySaveFormat.getVarInt(in));
+        case OP_ROUND -> game.setRoundNumber(BinarySaveFormat.getVarInt(in));
+        case OP_GAME_FLAGS -> {
+          int flags = in.get();
+          game.setGameOver((flags & BinarySaveFormat.FLAG_GAME_OVER) != 0);
+          game.setGameInitialized((flags & BinarySaveFormat.FLAG_GAME_INITIALIZED) != 0);
+        }
+        case OP_DICE -> {
+          int[] values = new int[BinarySaveFormat.getCount(in)];
+          for (int i = 0; i < values.length; i++) {
+            values[i] = BinarySaveFormat.getVarInt(in);
+          }
+          if (game.getDice() != null) {
+            game.getDice().setLastRolledValues(values);
+          }
+        }
+        default -> throw new IOException("Unknown journal operation: " + op);
+      }
+    }
+  }
+
+  private static void changeOwner(PropertyTile propertyTile, Player owner) {
+    SimpleMonopolyPlayer previous = propertyTile.getOwner();
+    if (previous == owner) {
+      return;
+    }
+    if (previous != null) {
+      previous.getOwnedProperties().remove(propertyTile);
+    }
+    if (owner instanceof SimpleMonopolyPlayer monopolyOwner) {
+      propertyTile.setOwner(monopolyOwner);
+      monopolyOwner.getOwnedProperties().add(propertyTile);
+    } else {
+      propertyTile.setOwner(null);
+    }
+  }
+
+  private static int gameFlags(BoardGame game) {
+    int flags = game.isGameOver() ? BinarySaveFormat.FLAG_GAME_OVER : 0;
+    return game.isGameInitialized() ? flags | BinarySaveFormat.FLAG_GAME_INITIALIZED : flags;
+  }
+
+  /**
+   * The state of the game as of the last journaled turn, which the current state is compared with
+   * to find the changes of a turn. Property owners are indexed by tile id.
+   */
+  private static final class JournaledState {
+    private final int[] tileIds;
+    private final int[] money;
+    private final int[] playerFlags;
+    private final PropertyTile[] properties;
+    private final int[] ownerIndices;
+    private int currentPlayerIndex;
+    private int roundNumber;
+    private int gameFlags;
+    private int[] diceValues;
+
+    private JournaledState(BoardGame game) {
+      int playerCount = game.getPlayers().size();
+      tileIds = new int[playerCount];
+      money = new int[playerCount];
+      playerFlags = new int[playerCount];
+      properties =
+          game.getBoard().getTiles().values().stream()
+              .filter(PropertyTile.class::isInstance)
+              .map(PropertyTile.class::cast)
+              .toArray(PropertyTile[]::new);
+      ownerIndices = new int[properties.length];
+      for (int i = 0; i < playerCount; i++) {
+        Player player = game.getPlayers().get(i);
+        tileIds[i] = tileId(player);
+        money[i] = money(player);
+        playerFlags[i] = BinarySaveFormat.playerFlags(player);
+      }
+      for (int i = 0; i < properties.length; i++) {
+        ownerIndices[i] = ownerIndex(properties[i], game.getPlayers());
+      }
+      currentPlayerIndex = game.getCurrentPlayerIndex();
+      roundNumber = game.getRoundNumber();
+      gameFlags = gameFlags(game);
+      diceValues = diceValues(game);
+    }
+
+    /** Encodes every value that differs from the journaled state and remembers the new value. */
+    private void writeChanges(BoardGame game, BinarySaveFormat.Output out) {
+      List<Player> players = game.getPlayers();
+      for (int i = 0; i < tileIds.length; i++) {
+        Player player = players.get(i);
+        int tileId = tileId(player);
+        if (tileId != tileIds[i]) {
+          out.putByte(OP_POSITION).putVarInt(i).putVarInt(tileId + 1);
+          tileIds[i] = tileId;
+        }
+        int playerMoney = money(player);
+        if (playerMoney != money[i]) {
+          out.putByte(OP_MONEY).putVarInt(i).putSignedVarInt(playerMoney);
+          money[i] = playerMoney;
+        }
+        int flags = BinarySaveFormat.playerFlags(player);
+        if (flags != playerFlags[i]) {
+          out.putByte(OP_PLAYER_FLAGS).putVarInt(i).putByte(flags);
+          playerFlags[i] = flags;
+        }
+      }
+      for (int i = 0; i < properties.length; i++) {
+        int ownerIndex = ownerIndex(properties[i], players);
+        if (ownerIndex != ownerIndices[i]) {
+          out.putByte(OP_OWNER).putVarInt(properties[i].getId()).putVarInt(ownerIndex + 1);
+          ownerIndices[i] = ownerIndex;
+        }
+      }
+      if (game.getCurrentPlayerIndex() != currentPlayerIndex) {
+        currentPlayerIndex = game.getCurrentPlayerIndex();
+        out.putByte(OP_CURRENT_PLAYER).putVarInt(currentPlayerIndex);
+      }
+      if (game.getRoundNumber() != roundNumber) {
+        roundNumber = game.getRoundNumber();
+        out.putByte(OP_ROUND).putVarInt(roundNumber);
+      }
+      int flags = gameFlags(game);
+      if (flags != gameFlags) {
+        gameFlags = flags;
+        out.putByte(OP_GAME_FLAGS).putByte(flags);
+      }
+      int[] dice = diceValues(game);
+      if (!Arrays.equals(dice, diceValues)) {
+        diceValues = dice;
+        out.putByte(OP_DICE).putVarInt(dice.length);
+        for (int value : dice) {
+          out.putVarInt(value);
+        }
+      }
+    }
+
+    private static int tileId(Player player) {
+      return player.getCurrentTile() != null ? player.getCurrentTile().getId() : -1;
+    }
+
+    private static int money(Player player) {
+      return player instanceof SimpleMonopolyPlayer monopolyPlayer ? monopolyPlayer.getMoney() : 0;
+    }
+
+    private static int ownerIndex(PropertyTile propertyTile, List<Player> players) {
+      return propertyTile.getOwner() != null ? players.indexOf(propertyTile.getOwner()) : -1;
+    }
+
+    private static int[] diceValues(BoardGame game) {
+      return game.getDice() != null ? game.getDice().getLastRolledValues() : new int[0];
+    }
+  }
+}
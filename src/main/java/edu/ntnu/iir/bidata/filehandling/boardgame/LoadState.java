@@ -0,0 +1,124 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.model.board.Board;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.tile.core.Tile;
+import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The objects read so far while loading a saved game, and the references between them that are
+ * still to be resolved. Tile connections, player tiles, property owners and the players of tile
+ * actions refer to other objects by id or name, so they are collected here and resolved once the
+ * whole game has been read.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+final class LoadState {
+  Dice dice;
+  int currentPlayerIndex;
+  boolean gameOver;
+  boolean gameInitialized;
+  int roundNumber = 1;
+  String level;
+  Board board;
+  Tile[] tilesById = new Tile[0];
+  int tileCount;
+  int[] nextTileIds = new int[16];
+  final List<Player> players = new ArrayList<>();
+  int[] playerTileIds = new int[4];
+  final List<PropertyTile> ownedTiles = new ArrayList<>();
+  final List<String> ownerNames = new ArrayList<>();
+  final Map<TileAction, List<Integer>> actionPlayerIds = new IdentityHashMap<>();
+  final Map<TileAction, List<String>> actionPlayerNames = new IdentityHashMap<>();
+
+  /**
+   * Records a tile that has been read.
+   *
+   * @param tile the tile
+   * @param nextTileId the id of the next tile, or -1 if it has none
+   * @param ownerName the name of the owner of a property tile, or null
+   */
+  void addTile(Tile tile, int nextTileId, String ownerName) {
+    nextTileIds = append(nextTileIds, tileCount++, nextTileId);
+    if (ownerName != null && tile instanceof PropertyTile propertyTile) {
+      ownedTiles.add(propertyTile);
+      ownerNames.add(ownerName);
+    }
+  }
+
+  /**
+   * Records a player that has been read.
+   *
+   * @param player the player
+   * @param tileId the id of the tile the player stands on, or -1 if it has none
+   */
+  void addPlayer(Player player, int tileId) {
+    playerTileIds = append(playerTileIds, players.size(), tileId);
+    players.add(player);
+  }
+
+  /**
+   * Records the players a tile action refers to by their index in the players array.
+   *
+   * @param action the action that was read
+   * @param playerIds the indices of the players, with null for a player that was not found
+   */
+  void addPlayerIds(TileAction action, List<Integer> playerIds) {
+    actionPlayerIds.put(action, playerIds);
+  }
+
+  /**
+   * Records the players a tile action refers to by their name, as stored by older saves.
+   *
+   * @param action the action that was read
+   * @param playerNames the names of the players
+   */
+  void addPlayerNames(TileAction action, List<String> playerNames) {
+    actionPlayerNames.put(action, playerNames);
+  }
+
+  /**
+   * Creates the board from the tiles that have been read, indexes the tiles by id and connects
+   * each tile to its next tile.
+   *
+   * @param boardSize the size of the board
+   * @param tiles the tiles in the order they were read, matching the order of {@link #addTile}
+   */
+  void buildBoard(int boardSize, List<Tile> tiles) {
+    board = new Board(boardSize);
+    int maxTileId = -1;
+    for (Tile tile : tiles) {
+      board.addTile(tile);
+      maxTileId = Math.max(maxTileId, tile.getId());
+    }
+    tilesById = new Tile[maxTileId + 1];
+    for (Tile tile : tiles) {
+      tilesById[tile.getId()] = board.getTile(tile.getId());
+    }
+    for (int i = 0; i < tiles.size(); i++) {
+      Tile tile = tilesById[tiles.get(i).getId()];
+      Tile nextTile = tileById(nextTileIds[i]);
+      if (tile != null && nextTile != null) {
+        tile.setNextTile(nextTile);
+      }
+    }
+  }
+
+  Tile tileById(int id) {
+    return id >= 0 && id < tilesById.length ? tilesById[id] : null;
+  }
+
+  private static int[] append(int[] values, int index, int value) {
+    int[] result = index < values.length ? values : Arrays.copyOf(values, values.length * 2);
+    result[index] = value;
+    return result;
+  }
+}
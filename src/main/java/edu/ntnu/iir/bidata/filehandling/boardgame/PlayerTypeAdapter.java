@@ -0,0 +1,153 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.core.Tile;
+import java.io.IOException;
+
+/**
+ * A hand-written Gson adapter for {@link Player} and {@link SimpleMonopolyPlayer}. Players are
+ * written and read field by field, without reflection and without building a JSON tree.
+ *
+ * <p>A Monopoly player is marked with the player type {@code MONOPOLY} and is read back as a {@link
+ * SimpleMonopolyPlayer}. The current tile is stored as an object holding only the id of the tile.
+ * Owned properties are not stored with the player, since they are restored from the owners of the
+ * property tiles.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class PlayerTypeAdapter extends TypeAdapter<Player> {
+  private static final String MONOPOLY = "MONOPOLY";
+
+  @Override
+  public void write(JsonWriter out, Player player) throws IOException {
+    if (player == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("name").value(player.getName());
+    if (player.getCurrentTile() != null) {
+      out.name("currentTile").beginObject();
+      out.name("id").value(player.getCurrentTile().getId());
+      out.endObject();
+    }
+    out.name("skipNextTurn").value(player.isSkipNextTurn());
+    if (player.getTokenImage() != null) {
+      out.name("tokenImage").value(player.getTokenImage());
+    }
+    if (player instanceof SimpleMonopolyPlayer monopolyPlayer) {
+      out.name("money").value(monopolyPlayer.getMoney());
+      out.name("inJail").value(monopolyPlayer.isInJail());
+      out.name("paidToLeaveJail").value(monopolyPlayer.isPaidToLeaveJail());
+      out.name("canLeaveJailNextTurn").value(monopolyPlayer.isCanLeaveJailNextTurn());
+      out.name("playerType").value(MONOPOLY);
+    }
+    out.endObject();
+  }
+
+  /**
+   * Reads a player on its own. The current tile of the player is a tile that only has the stored
+   * id, since the player is not part of a board.
+   *
+   * @param in the reader positioned at the player object
+   * @return the player, or null
+   * @throws IOException if an I/O error occurs
+   */
+  @Override
+  public Player read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    return readPlayer(in, null);
+  }
+
+  /**
+   * Reads a single player object. When a whole game is read, the id of the current tile is recorded
+   * in the load state, to be resolved once the board has been read.
+   *
+   * @param in the reader positioned at the start of the player object
+   * @param state the state of the load, or null if the player is read on its own
+   * @return the player that was read
+   * @throws IOException if an I/O error occurs
+   */
+  Player readPlayer(JsonReader in, LoadState state) throws IOException {
+    String name = null;
+    String tokenImage = null;
+    String playerType = "";
+    int tileId = -1;
+    int money = -1;
+    boolean skipNextTurn = false;
+    boolean inJail = false;
+    boolean paidToLeaveJail = false;
+    boolean canLeaveJailNextTurn = false;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "name" -> name = TileTypeAdapter.nextStringOrNull(in);
+        case "tokenImage" -> tokenImage = TileTypeAdapter.nextStringOrNull(in);
+        case "playerType" -> playerType = in.nextString();
+        case "currentTile" -> tileId = readTileReference(in);
+        case "money" -> money = in.nextInt();
+        case "skipNextTurn" -> skipNextTurn = in.nextBoolean();
+        case "inJail" -> inJail = in.nextBoolean();
+        case "paidToLeaveJail" -> paidToLeaveJail = in.nextBoolean();
+        case "canLeaveJailNextTurn" -> canLeaveJailNextTurn = in.nextBoolean();
+        default -> in.skipValue();
+      }
+    }
+    in.endObject();
+
+    Player player;
+    if (MONOPOLY.equalsIgnoreCase(playerType)) {
+      SimpleMonopolyPlayer monopolyPlayer = new SimpleMonopolyPlayer(name, tokenImage);
+      if (money >= 0) {
+        monopolyPlayer.setMoney(money);
+      }
+      monopolyPlayer.setInJail(inJail);
+      monopolyPlayer.setPaidToLeaveJail(paidToLeaveJail);
+      monopolyPlayer.setCanLeaveJailNextTurn(canLeaveJailNextTurn);
+      player = monopolyPlayer;
+    } else {
+      player = new Player(name, tokenImage);
+    }
+    player.setSkipNextTurn(skipNextTurn);
+    if (state != null) {
+      state.addPlayer(player, tileId);
+    } else if (tileId >= 0) {
+      player.setCurrentTile(new Tile(tileId));
+    }
+    return player;
+  }
+
+  /**
+   * Reads a tile that is stored inside another object and returns only its id.
+   *
+   * @param in the reader positioned at the tile object
+   * @return the id of the tile, or -1 if the tile is null or has no id
+   * @throws IOException if an I/O error occurs or the id is negative
+   */
+  private static int readTileReference(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return -1;
+    }
+    int id = -1;
+    in.beginObject();
+    while (in.hasNext()) {
+      if ("id".equals(in.nextName())) {
+        id = TileTypeAdapter.nextTileId(in);
+      } else {
+        in.skipValue();
+      }
+    }
+    in.endObject();
+    return id;
+  }
+}
@@ -1,15 +1,10 @@
 package edu.ntnu.iir.bidata.filehandling.boardgame;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.google.gson.TypeAdapter;
 import com.google.gson.TypeAdapterFactory;
 import com.google.gson.reflect.TypeToken;
-import com.google.gson.stream.JsonReader;
-import com.google.gson.stream.JsonWriter;
 import edu.ntnu.iir.bidata.model.player.Player;
-import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
 
 /**
  * A custom implementation of the TypeAdapterFactory designed to handle serialization and
@@ -20,6 +15,9 @@ import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
  * SimpleMonopolyPlayer, based on the "playerType" field in the JSON data. If "playerType" is set to
  * "MONOPOLY", the deserialization process uses the SimpleMonopolyPlayer type; otherwise, it
  * defaults to the general Player type.
+ *
+ * <p>The adapter is the hand-written {@link PlayerTypeAdapter}, so players are read and written
+ * without reflection.
  */
 public class PlayerTypeAdapterFactory implements TypeAdapterFactory {
 
@@ -35,38 +33,11 @@ public class PlayerTypeAdapterFactory implements TypeAdapterFactory {
    *     Player}, otherwise returns null
    */
   @Override
+  @SuppressWarnings("unchecked")
   public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
     if (!Player.class.isAssignableFrom(type.getRawType())) {
       return null;
     }
-    return (TypeAdapter<T>)
-        new TypeAdapter<Player>() {
-          @Override
-          @SuppressWarnings("unchecked")
-          public void write(JsonWriter out, Player value) throws java.io.IOException {
-            TypeAdapter<Player> delegate =
-                (TypeAdapter<Player>)
-                    gson.getDelegateAdapter(
-                        PlayerTypeAdapterFactory.this, TypeToken.get(value.getClass()));
-            delegate.write(out, value);
-          }
-
-          @Override
-          public Player read(JsonReader in) throws java.io.IOException {
-            JsonObject obj = JsonParser.parseReader(in).getAsJsonObject();
-            String playerType = obj.has("playerType") ? obj.get("playerType").getAsString() : "";
-            TypeAdapter<? extends Player> delegate;
-            if ("MONOPOLY".equalsIgnoreCase(playerType)) {
-              delegate =
-                  gson.getDelegateAdapter(
-                      PlayerTypeAdapterFactory.this, TypeToken.get(SimpleMonopolyPlayer.class));
-            } else {
-              delegate =
-                  gson.getDelegateAdapter(
-                      PlayerTypeAdapterFactory.this, TypeToken.get(Player.class));
-            }
-            return delegate.fromJsonTree(obj);
-          }
-        };
+    return (TypeAdapter<T>) new PlayerTypeAdapter();
   }
 }
@@ -0,0 +1,174 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.BinarySaveFormat;
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.SaveCompression;
+import edu.ntnu.iir.bidata.filehandling.storage.SaveStore;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The backends that saves can be written and read with. Each backend is a pair of a {@link
+ * BoardGameFileWriter} and a {@link BoardGameFileReader} that round-trip the same files.
+ *
+ * <ul>
+ *   <li>{@link #GSON_TREE} builds a Gson tree of the whole game before writing it, and parses the
+ *       whole file into a tree before reading it.
+ *   <li>{@link #GSON_STREAMING} streams the JSON with the hand-written Gson codecs.
+ *   <li>{@link #JACKSON_STREAMING} streams the JSON with the Jackson parser and generator.
+ *   <li>{@link #BINARY} writes the compact binary save format.
+ * </ul>
+ *
+ * <p>The three JSON backends write the same JSON, so a save written by one of them is read by the
+ * others. The backend the game uses is chosen with the {@code boardgame.saveBackend} system
+ * property, and {@link SaveBackendBenchmark} measures which backend is fastest for a save.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public enum SaveBackend {
+  GSON_TREE,
+  GSON_STREAMING,
+  JACKSON_STREAMING,
+  BINARY;
+
+  /** The system property that selects the backend the game saves with. */
+  public static final String PROPERTY = "boardgame.saveBackend";
+
+  /** The file extension of JSON saves. */
+  public static final String JSON_FILE_EXTENSION = ".json";
+
+  /**
+   * Gets the backend selected by the {@value #PROPERTY} system property, or {@link
+   * #GSON_STREAMING} if the property is not set.
+   *
+   * @return the configured backend
+   * @throws IllegalArgumentException if the property names no backend
+   */
+  public static SaveBackend configured() {
+    String name = System.getProperty(PROPERTY);
+    return name == null || name.isBlank() ? GSON_STREAMING : fromName(name);
+  }
+
+  /**
+   * Finds a backend by its name. The name is matched ignoring case, and dashes may be used instead
+   * of underscores, so {@code jackson-streaming} selects {@link #JACKSON_STREAMING}.
+   *
+   * @param name the name of the backend
+   * @return the backend
+   * @throws IllegalArgumentException if no backend has the name
+   */
+  public static SaveBackend fromName(String name) {
+    try {
+      return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unknown save backend: " + name, e);
+    }
+  }
+
+  /**
+   * Checks whether the backend writes JSON saves.
+   *
+   * @return true for the JSON backends, false for the binary backend
+   */
+  public boolean isJson() {
+    return this != BINARY;
+  }
+
+  /**
+   * Gets the file extension of the saves this backend writes.
+   *
+   * @return {@value #JSON_FILE_EXTENSION} for the JSON backends, or {@value
+   *     BinarySaveFormat#FILE_EXTENSION} for the binary backend
+   */
+  public String getFileExtension() {
+    return isJson() ? JSON_FILE_EXTENSION : BinarySaveFormat.FILE_EXTENSION;
+  }
+
+  /**
+   * Gets the keys a saved game may have in a store, one for each save format, with the key of the
+   * preferred format first.
+   *
+   * @param name the key of the save without the file extension, such as {@code monopoly/game}
+   * @param preferredExtension the file extension of the format to look for first
+   * @return the keys to look for the save under, in order
+   */
+  public static List<String> saveKeys(String name, String preferredExtension) {
+    String otherExtension =
+        preferredExtension.equals(JSON_FILE_EXTENSION)
+            ? BinarySaveFormat.FILE_EXTENSION
+            : JSON_FILE_EXTENSION;
+    return List.of(name + preferredExtension, name + otherExtension);
+  }
+
+  /**
+   * Opens a saved game in a store. The save is looked for in the format of the configured backend
+   * first, so games saved before the backend was changed can still be opened.
+   *
+   * @param store the store the save is kept in
+   * @param name the key of the save without the file extension, such as {@code monopoly/game}
+   * @return a stream of the save
+   * @throws NoSuchFileException if the save is not in the store in any format
+   * @throws IOException if the save cannot be read
+   */
+  public static InputStream openSave(SaveStore store, String name) throws IOException {
+    List<String> keys = saveKeys(name, configured().getFileExtension());
+    try {
+      return store.open(keys.get(0));
+    } catch (NoSuchFileException e) {
+      return store.open(keys.get(1));
+    }
+  }
+
+  /**
+   * Creates a reader for the saves of this backend.
+   *
+   * @return the reader
+   */
+  public BoardGameFileReader newReader() {
+    return switch (this) {
+      case GSON_TREE -> new BoardGameFileReaderGsonTree();
+      case GSON_STREAMING -> new BoardGameFileReaderGson();
+      case JACKSON_STREAMING -> new BoardGameFileReaderJackson();
+      case BINARY -> new BoardGameFileReaderBinary();
+    };
+  }
+
+  /**
+   * Creates a reader that reads JSON saves with this backend, or with the Gson streaming backend if
+   * this is the binary backend, and binary saves with the binary backend. Use it to load saves
+   * that may have been written by another backend.
+   *
+   * @return the reader
+   */
+  public BoardGameFileReader newAutoDetectReader() {
+    return new BoardGameFileReaderAutoDetect(
+        isJson() ? newReader() : GSON_STREAMING.newReader(), BINARY.newReader());
+  }
+
+  /**
+   * Creates a writer that writes uncompressed saves with this backend.
+   *
+   * @return the writer
+   */
+  public BoardGameFileWriter newWriter() {
+    return newWriter(SaveCompression.NONE);
+  }
+
+  /**
+   * Creates a writer that writes saves with this backend.
+   *
+   * @param compression the compression of the written saves
+   * @return the writer
+   */
+  public BoardGameFileWriter newWriter(SaveCompression compression) {
+    return switch (this) {
+      case GSON_TREE -> new BoardGameFileWriterGsonTree(compression);
+      case GSON_STREAMING -> new BoardGameFileWriterGson(compression);
+      case JACKSON_STREAMING -> new BoardGameFileWriterJackson(compression);
+      case BINARY -> new BoardGameFileWriterBinary(compression);
+    };
+  }
+}
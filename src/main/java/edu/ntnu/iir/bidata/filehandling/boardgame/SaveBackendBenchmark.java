@@ -0,0 +1,214 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.board.BoardFactory;
+import edu.ntnu.iir.bidata.model.board.MonopolyBoardFactory;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.utils.GameStateComparator;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import lombok.Getter;
+
+/**
+ * Measures how fast each {@link SaveBackend} writes and reads a game, to choose the backend that
+ * suits a workload best. Every backend writes the game to a temporary file and reads it back a
+ * number of times after a warm-up, and the average time of a write and a read is reported together
+ * with the size of the file.
+ *
+ * <p>Run it with the path of a saved game to measure that game, or without arguments to measure a
+ * new Monopoly game and a new snakes and ladders game:
+ *
+ * <pre>
+ *   java edu.ntnu.iir.bidata.filehandling.boardgame.SaveBackendBenchmark [save] [iterations]
+ * </pre>
+ *
+ * <p>This is a simple timing loop, not a full benchmark harness, so run it a few times and on a
+ * quiet machine before relying on small differences.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public final class SaveBackendBenchmark {
+  private static final int DEFAULT_ITERATIONS = 200;
+
+  private SaveBackendBenchmark() {}
+
+  /** The average cost of saving and loading a game with one backend. */
+  public static final class Result {
+    @Getter private final SaveBackend backend;
+
+    /** The average time of a write, in nanoseconds. */
+    @Getter private final long writeNanos;
+
+    /** The average time of a read, in nanoseconds. */
+    @Getter private final long readNanos;
+
+    /** The size of the written save, in bytes. */
+    @Getter private final long fileSize;
+
+    Result(SaveBackend backend, long writeNanos, long readNanos, long fileSize) {
+      this.backend = backend;
+      this.writeNanos = writeNanos;
+      this.readNanos = readNanos;
+      this.fileSize = fileSize;
+    }
+
+    /**
+     * Gets the average time of a write and a read together.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getTotalNanos() {
+      return writeNanos + readNanos;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "%-18s write %8.1f us  read %8.1f us  size %8d bytes",
+          backend, writeNanos / 1000.0, readNanos / 1000.0, fileSize);
+    }
+  }
+
+  /**
+   * Measures every backend on a game. Each backend first writes and reads the game once and checks
+   * that the game it read back has the same state.
+   *
+   * @param boardGame the game to save and load
+   * @param isMonopoly whether the game is saved in the Monopoly layout
+   * @param iterations the number of measured writes and reads of each backend, after as many
+   *     warm-up rounds
+   * @return the results, in the order of the backends
+   * @throws IOException if a backend fails to write or read the game
+   * @throws IllegalArgumentException if the number of iterations is not positive
+   * @throws IllegalStateException if a backend does not read back the game it wrote
+   */
+  public static List<Result> run(BoardGame boardGame, boolean isMonopoly, int iterations)
+      throws IOException {
+    if (iterations <= 0) {
+      throw new IllegalArgumentException("Iterations must be positive");
+    }
+    List<Result> results = new ArrayList<>();
+    Path directory = Files.createTempDirectory("save-benchmark");
+    try {
+      for (SaveBackend backend : SaveBackend.values()) {
+        results.add(measure(backend, boardGame, isMonopoly, iterations, directory));
+      }
+    } finally {
+      try (Stream<Path> files = Files.list(directory)) {
+        for (Path file : files.toList()) {
+          Files.deleteIfExists(file);
+        }
+      }
+      Files.deleteIfExists(directory);
+    }
+    return results;
+  }
+
+  /**
+   * Finds the backend that writes and reads fastest.
+   *
+   * @param results the results of a run
+   * @return the result with the lowest total time
+   */
+  public static Result fastest(List<Result> results) {
+    return results.stream().min(Comparator.comparingLong(Result::getTotalNanos)).orElseThrow();
+  }
+
+  private static Result measure(
+      SaveBackend backend, BoardGame boardGame, boolean isMonopoly, int iterations, Path directory)
+      throws IOException {
+    BoardGameFileWriter writer = backend.newWriter();
+    BoardGameFileReader reader = backend.newReader();
+    Path path =
+        directory.resolve(
+            backend.name().toLowerCase(Locale.ROOT) + (backend.isJson() ? ".json" : ".bin"));
+
+    writer.writeBoardGame(boardGame, path, isMonopoly);
+    BoardGame loaded = reader.readBoardGame(path);
+    boolean same =
+        isMonopoly
+            ? GameStateComparator.samePlayersState(boardGame.getPlayers(), loaded.getPlayers())
+            : GameStateComparator.sameGameState(boardGame, loaded);
+    if (!same) {
+      throw new IllegalStateException(backend + " did not read back the game it wrote");
+    }
+
+    for (int i = 0; i < iterations; i++) {
+      writer.writeBoardGame(boardGame, path, isMonopoly);
+      reader.readBoardGame(path);
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      writer.writeBoardGame(boardGame, path, isMonopoly);
+    }
+    long writeNanos = (System.nanoTime() - start) / iterations;
+    int players = 0;
+    start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      players += reader.readBoardGame(path).getPlayers().size();
+    }
+    long readNanos = (System.nanoTime() - start) / iterations;
+    if (players != iterations * boardGame.getPlayers().size()) {
+      throw new IllegalStateException(backend + " lost players while reading");
+    }
+    return new Result(backend, writeNanos, readNanos, Files.size(path));
+  }
+
+  /**
+   * Runs the benchmark and prints the results.
+   *
+   * @param args the path of a saved game to measure, and the number of iterations
+   * @throws IOException if a backend fails to write or read a game
+   */
+  public static void main(String[] args) throws IOException {
+    // The readers log every load, which would drown the results
+    Logger.getLogger("edu.ntnu.iir.bidata").setLevel(Level.WARNING);
+    int iterations = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ITERATIONS;
+    if (args.length > 0) {
+      BoardGame boardGame = new BoardGameFileReaderAutoDetect().readBoardGame(Path.of(args[0]));
+      boolean isMonopoly =
+          boardGame.getPlayers().stream().anyMatch(SimpleMonopolyPlayer.class::isInstance);
+      report(args[0], run(boardGame, isMonopoly, iterations));
+    } else {
+      report("Monopoly", run(createMonopolyGame(), true, iterations));
+      report("Snakes and ladders", run(createSnakesAndLaddersGame(), false, iterations));
+    }
+  }
+
+  private static void report(String workload, List<Result> results) {
+    System.out.println(workload + ":");
+    results.forEach(result -> System.out.println("  " + result));
+    System.out.println("  Fastest: " + fastest(results).getBackend());
+  }
+
+  private static BoardGame createMonopolyGame() {
+    BoardGame boardGame = new BoardGame(MonopolyBoardFactory.createBoard(), new Dice(2));
+    boardGame.setPlayers(
+        List.of(
+            new SimpleMonopolyPlayer("Alice"),
+            new SimpleMonopolyPlayer("Bob"),
+            new SimpleMonopolyPlayer("Carol"),
+            new SimpleMonopolyPlayer("Dave")));
+    return boardGame;
+  }
+
+  private static BoardGame createSnakesAndLaddersGame() {
+    List<Player> players =
+        new ArrayList<>(List.of(new Player("Alice"), new Player("Bob"), new Player("Carol")));
+    BoardGame boardGame =
+        new BoardGame(BoardFactory.createSnakesAndLaddersBoard(100, players), new Dice(2));
+    boardGame.setPlayers(players);
+    return boardGame;
+  }
+}
@@ -0,0 +1,94 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.tile.core.Tile;
+import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+
+/**
+ * The shared registry of the codecs used by the save formats. The Gson instance and its adapters
+ * are built once and reused by every reader and writer, instead of being configured again for
+ * each of them.
+ *
+ * <p>Games, tiles, players and built-in tile actions are handled by hand-written adapters that
+ * work directly on the JSON stream. Only the dice and actions that are not built into the game are
+ * handled through reflection. The registry holds no mutable state, so it is safe to use from any
+ * thread.
+ *
+ * <p>The registry also holds the Jackson object mapper of the {@link SaveBackend#JACKSON_STREAMING}
+ * backend. Its factory creates the streaming parsers and generators of that backend.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public final class SaveCodecs {
+  private static final Gson GSON =
+      new GsonBuilder()
+          .registerTypeAdapterFactory(new CodecFactory())
+          .registerTypeAdapterFactory(new PlayerTypeAdapterFactory())
+          .registerTypeAdapterFactory(new TileActionTypeAdapterFactory())
+          .create();
+  private static final ObjectMapper JACKSON = new ObjectMapper();
+
+  private SaveCodecs() {}
+
+  /**
+   * Gets the shared Gson instance with all save codecs registered.
+   *
+   * @return the shared Gson instance
+   */
+  public static Gson gson() {
+    return GSON;
+  }
+
+  /**
+   * Gets the codec of a type from the shared registry.
+   *
+   * @param type the type
+   * @param <T> the type
+   * @return the codec of the type
+   */
+  public static <T> TypeAdapter<T> adapter(Class<T> type) {
+    return GSON.getAdapter(type);
+  }
+
+  /**
+   * Gets the shared Jackson object mapper. It is only used for its streaming factory and to read
+   * the few values that the Jackson backend does not stream itself.
+   *
+   * @return the shared object mapper
+   */
+  public static ObjectMapper jackson() {
+    return JACKSON;
+  }
+
+  /** Creates the hand-written adapters for tiles and whole games. */
+  private static final class CodecFactory implements TypeAdapterFactory {
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+      Class<? super T> rawType = type.getRawType();
+      if (Tile.class.isAssignableFrom(rawType)) {
+        return (TypeAdapter<T>) new TileTypeAdapter(actionAdapter(gson));
+      }
+      if (rawType == BoardGame.class) {
+        return (TypeAdapter<T>)
+            new BoardGameTypeAdapter(
+                new TileTypeAdapter(actionAdapter(gson)),
+                new PlayerTypeAdapter(),
+                gson.getAdapter(Dice.class));
+      }
+      return null;
+    }
+
+    private static TileActionTypeAdapter actionAdapter(Gson gson) {
+      return (TileActionTypeAdapter) gson.getAdapter(TileAction.class);
+    }
+  }
+}
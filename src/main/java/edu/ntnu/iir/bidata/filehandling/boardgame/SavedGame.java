@@ -0,0 +1,144 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import java.io.IOException;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * A saved game that has been opened for a preview, without loading its board. The header, the
+ * players and the dice of the save are read when it is opened. The board, with its tiles and their
+ * actions, is only read the first time {@link #getBoardGame()} is called.
+ *
+ * <p>Until the board has been read, the current tile of each player is a tile that only holds the
+ * id of the tile the player stands on, and Monopoly players own no properties. Once the board has
+ * been read, the same player objects are part of the loaded game and stand on its tiles.
+ *
+ * <p>A saved game is opened with {@link BoardGameFileReader#openSavedGame}.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class SavedGame {
+  @Getter private final boolean monopoly;
+  @Getter private final String level;
+  @Getter private final int currentPlayerIndex;
+  @Getter private final int roundNumber;
+  @Getter private final boolean gameOver;
+  @Getter private final boolean gameInitialized;
+
+  /** The players of the saved game, in turn order. */
+  @Getter private final List<Player> players;
+
+  @Getter private final Dice dice;
+  private final BoardLoader boardLoader;
+  private BoardGame boardGame;
+
+  /** Reads the rest of a saved game once its header and players have been read. */
+  @FunctionalInterface
+  interface BoardLoader {
+    /**
+     * Reads the board of the saved game and builds the whole game around the players that have
+     * already been read.
+     *
+     * @return the loaded game
+     * @throws IOException if the board cannot be read
+     */
+    BoardGame load() throws IOException;
+  }
+
+  /**
+   * Creates a saved game whose board is read on first access.
+   *
+   * @param monopoly whether the saved game is a Monopoly game
+   * @param level the level of the saved game, or null
+   * @param currentPlayerIndex the index of the player whose turn it is
+   * @param roundNumber the round the saved game is in
+   * @param gameOver whether the saved game is over
+   * @param gameInitialized whether the saved game has been started
+   * @param players the players of the saved game
+   * @param dice the dice of the saved game
+   * @param boardLoader reads the board and builds the whole game
+   */
+  SavedGame(
+      boolean monopoly,
+      String level,
+      int currentPlayerIndex,
+      int roundNumber,
+      boolean gameOver,
+      boolean gameInitialized,
+      List<Player> players,
+      Dice dice,
+      BoardLoader boardLoader) {
+    this.monopoly = monopoly || players.stream().anyMatch(SimpleMonopolyPlayer.class::isInstance);
+    this.level = level;
+    this.currentPlayerIndex = currentPlayerIndex;
+    this.roundNumber = roundNumber;
+    this.gameOver = gameOver;
+    this.gameInitialized = gameInitialized;
+    this.players = List.copyOf(players);
+    this.dice = dice;
+    this.boardLoader = boardLoader;
+  }
+
+  /**
+   * Wraps a game that has already been loaded in full.
+   *
+   * @param boardGame the loaded game
+   * @param monopoly whether the game is a Monopoly game
+   * @return the saved game
+   */
+  public static SavedGame of(BoardGame boardGame, boolean monopoly) {
+    SavedGame savedGame =
+        new SavedGame(
+            monopoly,
+            boardGame.getLevel(),
+            boardGame.getCurrentPlayerIndex(),
+            boardGame.getRoundNumber(),
+            boardGame.isGameOver(),
+            boardGame.isGameInitialized(),
+            boardGame.getPlayers(),
+            boardGame.getDice(),
+            () -> boardGame);
+    savedGame.boardGame = boardGame;
+    return savedGame;
+  }
+
+  /**
+   * Gets the player whose turn it is in the saved game.
+   *
+   * @return the current player, or null if the save has no players
+   */
+  public Player getCurrentPlayer() {
+    if (players.isEmpty()) {
+      return null;
+    }
+    return players.get(Math.floorMod(currentPlayerIndex, players.size()));
+  }
+
+  /**
+   * Checks whether the board of the saved game has been read.
+   *
+   * @return true if the board has been read
+   */
+  public synchronized boolean isBoardLoaded() {
+    return boardGame != null;
+  }
+
+  /**
+   * Gets the whole saved game. The board and the tile actions are read on the first call, and the
+   * same game is returned by every later call.
+   *
+   * @return the loaded game
+   * @throws IOException if the board cannot be read
+   */
+  public synchronized BoardGame getBoardGame() throws IOException {
+    if (boardGame == null) {
+      boardGame = boardLoader.load();
+    }
+    return boardGame;
+  }
+}
@@ -0,0 +1,558 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.AtomicFileWriter;
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.BinarySaveFormat;
+import edu.ntnu.iir.bidata.model.BoardGame;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * An index of the saved games in a directory, stored in a {@value #INDEX_FILE_NAME} file next to
+ * the saves. Listing the saves only reads the index, so the saves themselves are never opened.
+ *
+ * <p>The index is a log: every save appends an entry and every deletion appends a tombstone, and a
+ * later record for a name replaces the earlier ones. This keeps each update small. When more than
+ * half of the records are outdated, the index is rewritten with only the current entries. If the
+ * index is missing or unreadable, it is rebuilt by opening every save in the directory in parallel,
+ * reading only the header and the players of snakes and ladders saves and the whole of Monopoly
+ * saves, whose boards hold the properties the players own.
+ *
+ * <p>Saves can also be copied into the directory, replaced or deleted without going through the
+ * catalog. When the index is first read, the catalog therefore compares the modification times and
+ * sizes of the saves in the directory with its entries. Entries of deleted saves are dropped, and
+ * only the saves that are new or have changed are read again, so a stale index is patched rather
+ * than rebuilt. From then on the entries are kept up to date by {@link #recordSave} and {@link
+ * #delete}, and lookups never touch the directory. Changes made outside the catalog while it is
+ * open are picked up by {@link #refresh()} or {@link #rebuild()}.
+ *
+ * <p>A game can be saved both as {@code name.json} and as {@code name.bin}. The catalog then holds
+ * the most recently modified of the two, and the JSON save if they were modified at the same
+ * time.
+ *
+ * <p>Besides the header, every entry holds the money, the position and the owned property groups of
+ * each player. Searches such as {@link #findByCompleteGroup(String, int)} use secondary indexes of
+ * these entries that are kept in memory and updated with every save, so they never open a save.
+ *
+ * <p>There is one catalog per directory, shared through {@link #forDirectory(Path)}.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class SavedGameCatalog {
+  private static final Logger LOGGER = Logger.getLogger(SavedGameCatalog.class.getName());
+  private static final Map<Path, SavedGameCatalog> CATALOGS = new ConcurrentHashMap<>();
+
+  /** The name of the index file in a saved games directory. */
+  public static final String INDEX_FILE_NAME = "catalog.idx";
+
+  private static final List<String> SAVE_EXTENSIONS =
+      List.of(SaveBackend.JSON_FILE_EXTENSION, BinarySaveFormat.FILE_EXTENSION);
+  private static final int MAGIC = 0x42475343; // "BGSC"
+  private static final byte VERSION = 2;
+  private static final int ENTRY = 1;
+  private static final int TOMBSTONE = 2;
+
+  private final Path directory;
+  private final Path indexPath;
+  private Map<String, SavedGameInfo> entries;
+  private SavedGameIndex index;
+  private int recordCount;
+
+  /** The modification times of saves that could not be read, so they are not read again. */
+  private final Map<String, Long> unreadable = new HashMap<>();
+
+  /**
+   * Creates a catalog of the saved games in a directory.
+   *
+   * @param directory the saved games directory
+   */
+  public SavedGameCatalog(Path directory) {
+    this.directory = directory;
+    this.indexPath = directory.resolve(INDEX_FILE_NAME);
+  }
+
+  /**
+   * Gets the shared catalog of a saved games directory.
+   *
+   * @param directory the saved games directory
+   * @return the catalog of the directory
+   */
+  public static SavedGameCatalog forDirectory(Path directory) {
+    Path key = directory.toAbsolutePath().normalize();
+    return CATALOGS.computeIfAbsent(key, SavedGameCatalog::new);
+  }
+
+  /**
+   * Checks whether a file in a saved games directory is a save that the load menus can open, in
+   * the JSON or the binary format.
+   *
+   * @param path the file
+   * @return true if the file is a save
+   */
+  public static boolean isSaveFile(Path path) {
+    return extensionOf(path.getFileName().toString()) != null;
+  }
+
+  /**
+   * Gets the name of a save, which is its file name without the extension.
+   *
+   * @param path the save file
+   * @return the name of the save
+   */
+  public static String nameOf(Path path) {
+    String fileName = path.getFileName().toString();
+    String extension = extensionOf(fileName);
+    return extension != null
+        ? fileName.substring(0, fileName.length() - extension.length())
+        : fileName;
+  }
+
+  private static String extensionOf(String fileName) {
+    return SAVE_EXTENSIONS.stream().filter(fileName::endsWith).findFirst().orElse(null);
+  }
+
+  /**
+   * Lists the saved games in the directory, with the most recently saved last. The index is read
+   * the first time, or rebuilt if it is missing or unreadable, and is brought up to date with the
+   * saves in the directory once.
+   *
+   * @return the saved games
+   * @throws IOException if the index cannot be read or rebuilt
+   */
+  public synchronized List<SavedGameInfo> list() throws IOException {
+    return new ArrayList<>(entries().values());
+  }
+
+  /**
+   * Gets the catalog entry of a saved game.
+   *
+   * @param name the name of the save
+   * @return the entry, or null if there is no save with that name
+   * @throws IOException if the index cannot be read or rebuilt
+   */
+  public synchronized SavedGameInfo get(String name) throws IOException {
+    return entries().get(name);
+  }
+
+  /**
+   * Finds the saves where a player owns every property of a group.
+   *
+   * @param playerName the name of the player
+   * @param group the property group
+   * @return the saves, with the most recently saved last
+   * @throws IOException if the index cannot be read or rebuilt
+   */
+  public synchronized List<SavedGameInfo> findByCompleteGroup(String playerName, int group)
+      throws IOException {
+    entries();
+    return lookUp(index.withCompleteGroup(playerName, group));
+  }
+
+  /**
+   * Finds the saves of a kind of game on a level that are past a round.
+   *
+   * @param monopoly whether to find Monopoly saves rather than snakes and ladders saves
+   * @param level the level, or null for saves without a level
+   * @param round the round the saves must be past
+   * @return the saves, with the most recently saved last
+   * @throws IOException if the index cannot be read or rebuilt
+   */
+  public synchronized List<SavedGameInfo> findByLevelPastRound(
+      boolean monopoly, String level, int round) throws IOException {
+    entries();
+    Set<String> names = new HashSet<>(index.withLevel(level));
+    names.retainAll(index.pastRound(round));
+    return lookUp(names).stream().filter(info -> info.isMonopoly() == monopoly).toList();
+  }
+
+  /**
+   * Finds the players that have less money than an amount, in every save.
+   *
+   * @param money the amount
+   * @return the players, by the name of their save, with the most recently saved last
+   * @throws IOException if the index cannot be read or rebuilt
+   */
+  public synchronized Map<String, List<SavedPlayerInfo>> findPlayersWithMoneyBelow(int money)
+      throws IOException {
+    entries();
+    Map<String, List<SavedPlayerInfo>> players = new LinkedHashMap<>();
+    for (SavedGameInfo info : lookUp(index.withPlayerMoneyBelow(money))) {
+      players.put(
+          info.getName(),
+          info.getPlayers().stream()
+              .filter(player -> player.getMoney() != null && player.getMoney() < money)
+              .toList());
+    }
+    return players;
+  }
+
+  /**
+   * Finds the saves that match a condition that the indexes do not cover, by looking at every
+   * entry of the catalog. The saves themselves are still never opened.
+   *
+   * @param condition the condition
+   * @return the saves that match, with the most recently saved last
+   * @throws IOException if the index cannot be read or rebuilt
+   */
+  public synchronized List<SavedGameInfo> find(Predicate<SavedGameInfo> condition)
+      throws IOException {
+    return entries().values().stream().filter(condition).toList();
+  }
+
+  /**
+   * Records that a game has been saved to a file in the directory.
+   *
+   * @param saveFile the file the game was saved to
+   * @param boardGame the saved game
+   * @param isMonopoly whether the game is a Monopoly game
+   * @throws IOException if the save file or the index cannot be accessed
+   */
+  public synchronized void recordSave(Path saveFile, BoardGame boardGame, boolean isMonopoly)
+      throws IOException {
+    SavedGameInfo info =
+        SavedGameInfo.of(
+            nameOf(saveFile),
+            boardGame,
+            isMonopoly,
+            Files.getLastModifiedTime(saveFile).toMillis(),
+            Files.size(saveFile));
+    Map<String, SavedGameInfo> current = loadedEntries();
+    SavedGameInfo previous = current.remove(info.getName());
+    if (previous != null) {
+      index.remove(previous);
+    }
+    current.put(info.getName(), info);
+    index.add(info);
+    unreadable.remove(info.getName());
+    BinarySaveFormat.Output out = new BinarySaveFormat.Output();
+    writeEntry(info, out);
+    append(out);
+  }
+
+  /**
+   * Deletes a saved game and records the deletion.
+   *
+   * @param name the name of the save
+   * @return true if the save existed
+   * @throws IOException if the save or the index cannot be accessed
+   */
+  public synchronized boolean delete(String name) throws IOException {
+    boolean deleted = false;
+    for (String extension : SAVE_EXTENSIONS) {
+      deleted |= Files.deleteIfExists(directory.resolve(name + extension));
+    }
+    SavedGameInfo removed = loadedEntries().remove(name);
+    if (removed != null) {
+      index.remove(removed);
+      BinarySaveFormat.Output out = new BinarySaveFormat.Output();
+      out.putByte(TOMBSTONE).putString(name);
+      append(out);
+    }
+    return deleted;
+  }
+
+  /**
+   * Brings the catalog up to date with saves that were copied into the directory, replaced or
+   * deleted without going through it since it was opened. Only the saves that are new or have
+   * changed are read.
+   *
+   * @throws IOException if the directory cannot be listed or the index cannot be read or written
+   */
+  public synchronized void refresh() throws IOException {
+    if (loadedEntries() != null) {
+      reconcile();
+    }
+  }
+
+  /**
+   * Rebuilds the index by reading every save in the directory. The saves are read in parallel.
+   * Saves that cannot be read are left out of the index.
+   *
+   * @throws IOException if the directory cannot be listed or the index cannot be written
+   */
+  public synchronized void rebuild() throws IOException {
+    Collection<Path> saves = listSaves().values();
+    BoardGameFileReader reader = new BoardGameFileReaderAutoDetect();
+    Map<String, SavedGameInfo> rebuilt = new LinkedHashMap<>();
+    saves.parallelStream()
+        .map(save -> readInfo(reader, save))
+        .filter(Objects::nonNull)
+        .toList()
+        .forEach(info -> rebuilt.put(info.getName(), info));
+    entries = rebuilt;
+    index = new SavedGameIndex(rebuilt.values());
+    unreadable.clear();
+    for (Path save : saves) {
+      if (!rebuilt.containsKey(nameOf(save))) {
+        unreadable.put(nameOf(save), Files.getLastModifiedTime(save).toMillis());
+      }
+    }
+    rewrite();
+    LOGGER.info("Rebuilt saved game catalog of " + directory + ": " + rebuilt.size() + " saves");
+  }
+
+  /** Gets the entries of a set of saves, in the order of the catalog. */
+  private List<SavedGameInfo> lookUp(Set<String> names) {
+    return names.stream()
+        .map(entries::get)
+        .sorted(Comparator.comparingLong(SavedGameInfo::getLastModified))
+        .toList();
+  }
+
+  /**
+   * Gets the entries. The first time, the index is read and brought up to date with the saves in
+   * the directory, or rebuilt if it is missing or unreadable.
+   */
+  private Map<String, SavedGameInfo> entries() throws IOException {
+    if (entries == null) {
+      if (Files.exists(indexPath) && load()) {
+        reconcile();
+      } else {
+        rebuild();
+      }
+    }
+    return entries;
+  }
+
+  /** Gets the entries as they are in the index, for updates that are about to change them. */
+  private Map<String, SavedGameInfo> loadedEntries() throws IOException {
+    if (entries == null && (!Files.exists(indexPath) || !load())) {
+      rebuild();
+    }
+    return entries;
+  }
+
+  /**
+   * Brings the entries up to date with the saves in the directory. Entries of saves that no longer
+   * exist are removed, and saves that are new or whose modification time or size differs from
+   * their entry are read again.
+   */
+  private void reconcile() throws IOException {
+    Map<String, Path> saves = listSaves();
+    boolean changed = false;
+    for (SavedGameInfo info : List.copyOf(entries.values())) {
+      if (!saves.containsKey(info.getName())) {
+        entries.remove(info.getName());
+        index.remove(info);
+        changed = true;
+      }
+    }
+    unreadable.keySet().retainAll(saves.keySet());
+    BoardGameFileReader reader = null;
+    for (Map.Entry<String, Path> save : saves.entrySet()) {
+      SavedGameInfo info = entries.get(save.getKey());
+      long lastModified = Files.getLastModifiedTime(save.getValue()).toMillis();
+      boolean upToDate =
+          info != null
+              ? info.getLastModified() == lastModified
+                  && info.getSize() == Files.size(save.getValue())
+              : Objects.equals(unreadable.get(save.getKey()), lastModified);
+      if (upToDate) {
+        continue;
+      }
+      reader = reader != null ? reader : new BoardGameFileReaderAutoDetect();
+      SavedGameInfo updated = readInfo(reader, save.getValue());
+      if (info != null) {
+        entries.remove(info.getName());
+        index.remove(info);
+        changed = true;
+      }
+      if (updated == null) {
+        unreadable.put(save.getKey(), lastModified);
+      } else {
+        entries.put(updated.getName(), updated);
+        index.add(updated);
+        changed = true;
+      }
+    }
+    if (changed) {
+      LOGGER.info("Updated saved game catalog of " + directory + " with changes made outside it");
+      rewrite();
+    }
+  }
+
+  /**
+   * Lists the saves in the directory by their name. Of two saves with the same name in different
+   * formats, the most recently modified one is listed, and the JSON save on a tie.
+   */
+  private Map<String, Path> listSaves() throws IOException {
+    List<Path> files;
+    try (Stream<Path> listed = Files.list(directory)) {
+      files = listed.filter(Files::isRegularFile).filter(SavedGameCatalog::isSaveFile).toList();
+    }
+    Map<String, Path> saves = new HashMap<>();
+    for (Path save : files) {
+      Path other = saves.putIfAbsent(nameOf(save), save);
+      if (other != null && isPreferred(save, other)) {
+        saves.put(nameOf(save), save);
+      }
+    }
+    return saves;
+  }
+
+  private static boolean isPreferred(Path save, Path other) throws IOException {
+    int newer = Files.getLastModifiedTime(save).compareTo(Files.getLastModifiedTime(other));
+    if (newer != 0) {
+      return newer > 0;
+    }
+    return SAVE_EXTENSIONS.indexOf(extensionOf(save.getFileName().toString()))
+        < SAVE_EXTENSIONS.indexOf(extensionOf(other.getFileName().toString()));
+  }
+
+  /**
+   * Reads the index. A record that was only partly written at the end of the index is ignored.
+   *
+   * @return false if the index is not a catalog index of a supported version
+   */
+  private boolean load() throws IOException {
+    Map<String, SavedGameInfo> loaded = new LinkedHashMap<>();
+    int records = 0;
+    boolean torn = false;
+    // The index is read into memory rather than mapped, so it can be replaced right after
+    ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(indexPath));
+    if (in.remaining() < Integer.BYTES + 1 || in.getInt() != MAGIC || in.get() != VERSION) {
+      return false;
+    }
+    while (in.hasRemaining()) {
+      try {
+        int kind = in.get();
+        String name = BinarySaveFormat.getString(in);
+        if (kind == ENTRY) {
+          SavedGameInfo info = readEntry(name, in);
+          loaded.remove(name);
+          loaded.put(name, info);
+        } else if (kind == TOMBSTONE) {
+          loaded.remove(name);
+        } else {
+          return false;
+        }
+        records++;
+      } catch (BufferUnderflowException | IOException e) {
+        torn = true;
+        break;
+      }
+    }
+    entries = loaded;
+    index = new SavedGameIndex(loaded.values());
+    recordCount = records;
+    if (torn) {
+      LOGGER.warning("Ignoring incomplete record at the end of " + indexPath);
+      rewrite();
+    }
+    return true;
+  }
+
+  private void append(BinarySaveFormat.Output out) throws IOException {
+    if (++recordCount > 2 * entries.size() + 16) {
+      rewrite();
+      return;
+    }
+    try (FileChannel channel =
+        FileChannel.open(indexPath, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+      out.writeTo(channel);
+    }
+  }
+
+  /** Writes a new index with only the current entries and replaces the old one atomically. */
+  private void rewrite() throws IOException {
+    BinarySaveFormat.Output out = new BinarySaveFormat.Output();
+    out.putInt(MAGIC).putByte(VERSION);
+    for (SavedGameInfo info : entries.values()) {
+      writeEntry(info, out);
+    }
+    AtomicFileWriter.replace(
+        indexPath,
+        temporary -> {
+          try (FileChannel channel =
+              FileChannel.open(
+                  temporary,
+                  StandardOpenOption.CREATE,
+                  StandardOpenOption.TRUNCATE_EXISTING,
+                  StandardOpenOption.WRITE)) {
+            out.writeTo(channel);
+          }
+        });
+    recordCount = entries.size();
+  }
+
+  private static void writeEntry(SavedGameInfo info, BinarySaveFormat.Output out) {
+    out.putByte(ENTRY).putString(info.getName());
+    out.putByte(info.isMonopoly() ? BinarySaveFormat.FLAG_MONOPOLY : 0);
+    out.putString(info.getLevel());
+    out.putVarInt(info.getRoundNumber());
+    out.putVarInt(info.getPlayers().size());
+    for (SavedPlayerInfo player : info.getPlayers()) {
+      out.putString(player.getName());
+      out.putByte(player.getMoney() == null ? 0 : 1);
+      out.putSignedVarInt(player.getMoney() == null ? 0 : player.getMoney());
+      out.putSignedVarInt(player.getTileId());
+      out.putVarInt(player.getPropertyCount());
+      out.putVarInt(player.getCompleteGroups().size());
+      player.getCompleteGroups().forEach(out::putVarInt);
+    }
+    out.putLong(info.getLastModified());
+    out.putLong(info.getSize());
+  }
+
+  private static SavedGameInfo readEntry(String name, ByteBuffer in) throws IOException {
+    boolean monopoly = (in.get() & BinarySaveFormat.FLAG_MONOPOLY) != 0;
+    String level = BinarySaveFormat.getString(in);
+    int roundNumber = BinarySaveFormat.getVarInt(in);
+    int playerCount = BinarySaveFormat.getCount(in);
+    List<SavedPlayerInfo> players = new ArrayList<>(playerCount);
+    for (int i = 0; i < playerCount; i++) {
+      String playerName = BinarySaveFormat.getString(in);
+      boolean hasMoney = in.get() != 0;
+      int money = BinarySaveFormat.getSignedVarInt(in);
+      int tileId = BinarySaveFormat.getSignedVarInt(in);
+      int propertyCount = BinarySaveFormat.getVarInt(in);
+      int groupCount = BinarySaveFormat.getCount(in);
+      List<Integer> completeGroups = new ArrayList<>(groupCount);
+      for (int j = 0; j < groupCount; j++) {
+        completeGroups.add(BinarySaveFormat.getVarInt(in));
+      }
+      players.add(
+          new SavedPlayerInfo(
+              playerName, hasMoney ? money : null, tileId, propertyCount, completeGroups));
+    }
+    long lastModified = in.getLong();
+    long size = in.getLong();
+    return new SavedGameInfo(name, monopoly, level, roundNumber, players, lastModified, size);
+  }
+
+  private static SavedGameInfo readInfo(BoardGameFileReader reader, Path save) {
+    try {
+      // Snakes and ladders saves only need the header and the players, so their board is never
+      // read. The properties the Monopoly players own are only known from the board.
+      SavedGame savedGame = reader.openSavedGame(save);
+      long lastModified = Files.getLastModifiedTime(save).toMillis();
+      if (savedGame.isMonopoly()) {
+        return SavedGameInfo.of(
+            nameOf(save), savedGame.getBoardGame(), true, lastModified, Files.size(save));
+      }
+      return SavedGameInfo.of(nameOf(save), savedGame, lastModified, Files.size(save));
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warning("Leaving unreadable save " + save + " out of the catalog: " + e.getMessage());
+      return null;
+    }
+  }
+}
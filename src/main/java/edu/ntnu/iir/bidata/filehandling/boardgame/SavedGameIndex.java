@@ -0,0 +1,143 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Secondary indexes over the entries of a saved game catalog, so that saves can be searched by
+ * their content without opening them. The indexes are kept in memory and updated with every save
+ * and deletion the catalog records, so a search only looks at the saves it finds.
+ *
+ * <p>Every index maps a value to the names of the saves that have it. The index is not thread safe
+ * on its own; the catalog that owns it synchronizes every call.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+final class SavedGameIndex {
+  /** The saves of each level, with a null level for saves without one. */
+  private final Map<String, Set<String>> byLevel = new HashMap<>();
+
+  /** The saves in each round. */
+  private final NavigableMap<Integer, Set<String>> byRound = new TreeMap<>();
+
+  /** The saves where a player owns every property of a group, by player name and group. */
+  private final Map<String, Map<Integer, Set<String>>> byCompleteGroup = new HashMap<>();
+
+  /** The saves that have a player with a given amount of money. */
+  private final NavigableMap<Integer, Set<String>> byPlayerMoney = new TreeMap<>();
+
+  /**
+   * Creates the indexes of a set of catalog entries.
+   *
+   * @param entries the entries
+   */
+  SavedGameIndex(Collection<SavedGameInfo> entries) {
+    entries.forEach(this::add);
+  }
+
+  /**
+   * Adds a catalog entry to the indexes.
+   *
+   * @param info the entry
+   */
+  void add(SavedGameInfo info) {
+    String name = info.getName();
+    insert(byLevel, info.getLevel(), name);
+    insert(byRound, info.getRoundNumber(), name);
+    for (SavedPlayerInfo player : info.getPlayers()) {
+      Map<Integer, Set<String>> groups =
+          byCompleteGroup.computeIfAbsent(player.getName(), key -> new HashMap<>());
+      player.getCompleteGroups().forEach(group -> insert(groups, group, name));
+      if (player.getMoney() != null) {
+        insert(byPlayerMoney, player.getMoney(), name);
+      }
+    }
+  }
+
+  /**
+   * Removes a catalog entry from the indexes.
+   *
+   * @param info the entry, as it was added
+   */
+  void remove(SavedGameInfo info) {
+    String name = info.getName();
+    delete(byLevel, info.getLevel(), name);
+    delete(byRound, info.getRoundNumber(), name);
+    for (SavedPlayerInfo player : info.getPlayers()) {
+      Map<Integer, Set<String>> groups = byCompleteGroup.get(player.getName());
+      if (groups != null) {
+        player.getCompleteGroups().forEach(group -> delete(groups, group, name));
+        if (groups.isEmpty()) {
+          byCompleteGroup.remove(player.getName());
+        }
+      }
+      if (player.getMoney() != null) {
+        delete(byPlayerMoney, player.getMoney(), name);
+      }
+    }
+  }
+
+  /**
+   * Finds the saves of a level.
+   *
+   * @param level the level, or null for saves without a level
+   * @return the names of the saves
+   */
+  Set<String> withLevel(String level) {
+    return byLevel.getOrDefault(level, Set.of());
+  }
+
+  /**
+   * Finds the saves that are past a round.
+   *
+   * @param round the round
+   * @return the names of the saves in a later round
+   */
+  Set<String> pastRound(int round) {
+    return union(byRound.tailMap(round, false).values());
+  }
+
+  /**
+   * Finds the saves where a player owns every property of a group.
+   *
+   * @param playerName the name of the player
+   * @param group the property group
+   * @return the names of the saves
+   */
+  Set<String> withCompleteGroup(String playerName, int group) {
+    return byCompleteGroup.getOrDefault(playerName, Map.of()).getOrDefault(group, Set.of());
+  }
+
+  /**
+   * Finds the saves that have a player with less money than an amount.
+   *
+   * @param money the amount
+   * @return the names of the saves
+   */
+  Set<String> withPlayerMoneyBelow(int money) {
+    return union(byPlayerMoney.headMap(money, false).values());
+  }
+
+  private static <K> void insert(Map<K, Set<String>> index, K key, String name) {
+    index.computeIfAbsent(key, value -> new LinkedHashSet<>()).add(name);
+  }
+
+  private static <K> void delete(Map<K, Set<String>> index, K key, String name) {
+    Set<String> names = index.get(key);
+    if (names != null && names.remove(name) && names.isEmpty()) {
+      index.remove(key);
+    }
+  }
+
+  private static Set<String> union(Collection<Set<String>> sets) {
+    Set<String> names = new LinkedHashSet<>();
+    sets.forEach(names::addAll);
+    return names;
+  }
+}
@@ -0,0 +1,125 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * What the saved game catalog knows about a saved game, so that menus can show a save and searches
+ * can find it without opening and parsing it.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+@Getter
+public class SavedGameInfo {
+  /** The name of the save, which is its file name without the extension. */
+  private final String name;
+
+  private final boolean monopoly;
+  private final String level;
+  private final int roundNumber;
+
+  /** The players of the saved game, in turn order. */
+  private final List<SavedPlayerInfo> players;
+
+  /** The time the save was written, in milliseconds since the epoch. */
+  private final long lastModified;
+
+  /** The size of the save file in bytes. */
+  private final long size;
+
+  /**
+   * Creates the catalog entry of a saved game.
+   *
+   * @param name the name of the save
+   * @param monopoly whether the saved game is a Monopoly game
+   * @param level the level of the saved game, or null
+   * @param roundNumber the round the saved game is in
+   * @param players the players of the saved game
+   * @param lastModified the time the save was written, in milliseconds since the epoch
+   * @param size the size of the save file in bytes
+   */
+  public SavedGameInfo(
+      String name,
+      boolean monopoly,
+      String level,
+      int roundNumber,
+      List<SavedPlayerInfo> players,
+      long lastModified,
+      long size) {
+    this.name = name;
+    this.monopoly = monopoly;
+    this.level = level;
+    this.roundNumber = roundNumber;
+    this.players = List.copyOf(players);
+    this.lastModified = lastModified;
+    this.size = size;
+  }
+
+  /**
+   * Creates the catalog entry of a game that has just been saved.
+   *
+   * @param name the name of the save
+   * @param boardGame the saved game
+   * @param monopoly whether the saved game is a Monopoly game
+   * @param lastModified the time the save was written, in milliseconds since the epoch
+   * @param size the size of the save file in bytes
+   * @return the catalog entry
+   */
+  public static SavedGameInfo of(
+      String name, BoardGame boardGame, boolean monopoly, long lastModified, long size) {
+    List<PropertyTile> properties =
+        boardGame.getBoard().getTiles().values().stream()
+            .filter(PropertyTile.class::isInstance)
+            .map(PropertyTile.class::cast)
+            .toList();
+    List<SavedPlayerInfo> players =
+        boardGame.getPlayers().stream()
+            .map(player -> SavedPlayerInfo.of(player, properties))
+            .toList();
+    return new SavedGameInfo(
+        name,
+        monopoly,
+        boardGame.getLevel(),
+        boardGame.getRoundNumber(),
+        players,
+        lastModified,
+        size);
+  }
+
+  /**
+   * Creates the catalog entry of a saved game that has been opened for a preview, without reading
+   * its board. Its players are entered without the properties they own.
+   *
+   * @param name the name of the save
+   * @param savedGame the opened saved game
+   * @param lastModified the time the save was written, in milliseconds since the epoch
+   * @param size the size of the save file in bytes
+   * @return the catalog entry
+   */
+  public static SavedGameInfo of(String name, SavedGame savedGame, long lastModified, long size) {
+    List<SavedPlayerInfo> players =
+        savedGame.getPlayers().stream()
+            .map(player -> SavedPlayerInfo.of(player, List.of()))
+            .toList();
+    return new SavedGameInfo(
+        name,
+        savedGame.isMonopoly(),
+        savedGame.getLevel(),
+        savedGame.getRoundNumber(),
+        players,
+        lastModified,
+        size);
+  }
+
+  /**
+   * Gets the names of the players in the saved game.
+   *
+   * @return the names of the players, in turn order
+   */
+  public List<String> getPlayerNames() {
+    return players.stream().map(SavedPlayerInfo::getName).toList();
+  }
+}
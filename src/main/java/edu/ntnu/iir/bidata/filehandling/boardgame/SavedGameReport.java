@@ -0,0 +1,127 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collector;
+import lombok.Getter;
+
+/**
+ * Statistics over many saved games, built from their {@link SavedGameSummary summaries}. A report
+ * counts how the money of the Monopoly players is distributed, how many properties of each group
+ * are owned and how many players stand on each tile.
+ *
+ * <p>Reports are collected with {@link #collector(int)}, which also works on parallel streams.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class SavedGameReport {
+  /** The width of the money ranges that the money distribution counts players in. */
+  @Getter private final int moneyBucketSize;
+
+  /** The number of games in the report. */
+  @Getter private long gameCount;
+
+  private final TreeMap<Integer, Long> moneyDistribution = new TreeMap<>();
+  private final TreeMap<Integer, Long> ownedPropertiesByGroup = new TreeMap<>();
+  private final TreeMap<Integer, Long> playersByPosition = new TreeMap<>();
+
+  /**
+   * Creates an empty report.
+   *
+   * @param moneyBucketSize the width of the money ranges of the money distribution
+   * @throws IllegalArgumentException if the width is not positive
+   */
+  public SavedGameReport(int moneyBucketSize) {
+    if (moneyBucketSize <= 0) {
+      throw new IllegalArgumentException("Money bucket size must be positive");
+    }
+    this.moneyBucketSize = moneyBucketSize;
+  }
+
+  /**
+   * Creates a collector that builds a report from summaries.
+   *
+   * @param moneyBucketSize the width of the money ranges of the money distribution
+   * @return the collector
+   */
+  public static Collector<SavedGameSummary, ?, SavedGameReport> collector(int moneyBucketSize) {
+    return Collector.of(
+        () -> new SavedGameReport(moneyBucketSize),
+        SavedGameReport::add,
+        SavedGameReport::combine,
+        Collector.Characteristics.UNORDERED);
+  }
+
+  /**
+   * Adds a saved game to the report.
+   *
+   * @param summary the summary of the saved game
+   */
+  public void add(SavedGameSummary summary) {
+    gameCount++;
+    for (int money : summary.getPlayerMoney()) {
+      increment(moneyDistribution, Math.floorDiv(money, moneyBucketSize) * moneyBucketSize, 1);
+    }
+    for (int group : summary.getOwnedPropertyGroups()) {
+      increment(ownedPropertiesByGroup, group, 1);
+    }
+    for (int position : summary.getPlayerPositions()) {
+      increment(playersByPosition, position, 1);
+    }
+  }
+
+  /**
+   * Adds the games of another report with the same money bucket size to this report.
+   *
+   * @param other the other report
+   * @return this report
+   * @throws IllegalArgumentException if the reports have different money bucket sizes
+   */
+  public SavedGameReport combine(SavedGameReport other) {
+    if (other.moneyBucketSize != moneyBucketSize) {
+      throw new IllegalArgumentException("Cannot combine reports with different money buckets");
+    }
+    gameCount += other.gameCount;
+    other.moneyDistribution.forEach((bucket, count) -> increment(moneyDistribution, bucket, count));
+    other.ownedPropertiesByGroup.forEach(
+        (group, count) -> increment(ownedPropertiesByGroup, group, count));
+    other.playersByPosition.forEach(
+        (position, count) -> increment(playersByPosition, position, count));
+    return this;
+  }
+
+  /**
+   * Gets the number of Monopoly players in each money range. A range is keyed by its lowest amount,
+   * so with a bucket size of 100 the key 200 counts the players with 200 to 299.
+   *
+   * @return the number of players by the lowest amount of their money range
+   */
+  public SortedMap<Integer, Long> getMoneyDistribution() {
+    return Collections.unmodifiableSortedMap(moneyDistribution);
+  }
+
+  /**
+   * Gets the number of owned properties in each property group, over all games.
+   *
+   * @return the number of owned properties by group
+   */
+  public SortedMap<Integer, Long> getOwnedPropertiesByGroup() {
+    return Collections.unmodifiableSortedMap(ownedPropertiesByGroup);
+  }
+
+  /**
+   * Gets the number of players standing on each tile, over all games. Players that are not on the
+   * board are counted under -1.
+   *
+   * @return the number of players by tile id
+   */
+  public SortedMap<Integer, Long> getPlayersByPosition() {
+    return Collections.unmodifiableSortedMap(playersByPosition);
+  }
+
+  private static void increment(TreeMap<Integer, Long> counts, int key, long amount) {
+    counts.merge(key, amount, Long::sum);
+  }
+}
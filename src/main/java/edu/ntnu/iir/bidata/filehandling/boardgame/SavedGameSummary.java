@@ -0,0 +1,74 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.core.Tile;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import java.nio.file.Path;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * The numbers of a saved game that the archive reports are built from. A summary only holds a few
+ * small arrays, so thousands of them can be collected while the games they were taken from are
+ * thrown away as soon as they have been read.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+@Getter
+public class SavedGameSummary {
+  /** The file the game was read from. */
+  private final Path path;
+
+  /** The money of every Monopoly player in the game. Players without money are left out. */
+  private final int[] playerMoney;
+
+  /** The id of the tile every player stands on, or -1 for a player that is not on the board. */
+  private final int[] playerPositions;
+
+  /** The group of every owned property in the game. */
+  private final int[] ownedPropertyGroups;
+
+  private SavedGameSummary(
+      Path path, int[] playerMoney, int[] playerPositions, int[] ownedPropertyGroups) {
+    this.path = path;
+    this.playerMoney = playerMoney;
+    this.playerPositions = playerPositions;
+    this.ownedPropertyGroups = ownedPropertyGroups;
+  }
+
+  /**
+   * Takes the summary of a saved game.
+   *
+   * @param path the file the game was read from
+   * @param boardGame the game
+   * @return the summary of the game
+   */
+  public static SavedGameSummary of(Path path, BoardGame boardGame) {
+    List<Player> players = boardGame.getPlayers();
+    int[] playerMoney =
+        players.stream()
+            .filter(SimpleMonopolyPlayer.class::isInstance)
+            .mapToInt(player -> ((SimpleMonopolyPlayer) player).getMoney())
+            .toArray();
+    int[] playerPositions =
+        players.stream()
+            .map(Player::getCurrentTile)
+            .mapToInt(SavedGameSummary::idOf)
+            .toArray();
+    int[] ownedPropertyGroups =
+        boardGame.getBoard().getTiles().values().stream()
+            .filter(PropertyTile.class::isInstance)
+            .map(PropertyTile.class::cast)
+            .filter(PropertyTile::isOwned)
+            .mapToInt(PropertyTile::getGroup)
+            .toArray();
+    return new SavedGameSummary(path, playerMoney, playerPositions, ownedPropertyGroups);
+  }
+
+  private static int idOf(Tile tile) {
+    return tile == null ? -1 : tile.getId();
+  }
+}
@@ -0,0 +1,86 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+/**
+ * What the saved game catalog knows about a player of a saved game, so that saves can be searched
+ * by the state of their players without opening them.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+@Getter
+public class SavedPlayerInfo {
+  private final String name;
+
+  /** The money of the player, or null for a player of a game without money. */
+  private final Integer money;
+
+  /** The id of the tile the player stands on, or -1 for a player that is not on the board. */
+  private final int tileId;
+
+  /** The number of properties the player owns. */
+  private final int propertyCount;
+
+  /** The property groups that the player owns every property of, in ascending order. */
+  private final List<Integer> completeGroups;
+
+  /**
+   * Creates the catalog entry of a player.
+   *
+   * @param name the name of the player
+   * @param money the money of the player, or null for a player of a game without money
+   * @param tileId the id of the tile the player stands on, or -1
+   * @param propertyCount the number of properties the player owns
+   * @param completeGroups the property groups that the player owns every property of
+   */
+  public SavedPlayerInfo(
+      String name, Integer money, int tileId, int propertyCount, List<Integer> completeGroups) {
+    this.name = name;
+    this.money = money;
+    this.tileId = tileId;
+    this.propertyCount = propertyCount;
+    this.completeGroups = completeGroups.stream().sorted().toList();
+  }
+
+  /**
+   * Creates the catalog entry of a player of a saved game. The properties are taken from the
+   * board, whose tiles know their owners whichever reader loaded the game.
+   *
+   * @param player the player
+   * @param properties the property tiles of the board, or an empty list if the board has not been
+   *     read
+   * @return the catalog entry
+   */
+  static SavedPlayerInfo of(Player player, List<PropertyTile> properties) {
+    int tileId = player.getCurrentTile() == null ? -1 : player.getCurrentTile().getId();
+    if (!(player instanceof SimpleMonopolyPlayer monopolyPlayer)) {
+      return new SavedPlayerInfo(String.valueOf(player.getName()), null, tileId, 0, List.of());
+    }
+    Map<Integer, Long> groupSizes =
+        properties.stream()
+            .collect(Collectors.groupingBy(PropertyTile::getGroup, Collectors.counting()));
+    Map<Integer, Long> ownedByGroup =
+        properties.stream()
+            .filter(tile -> tile.getOwner() == player)
+            .collect(Collectors.groupingBy(PropertyTile::getGroup, Collectors.counting()));
+    List<Integer> completeGroups =
+        ownedByGroup.entrySet().stream()
+            .filter(group -> group.getValue().equals(groupSizes.get(group.getKey())))
+            .map(Map.Entry::getKey)
+            .toList();
+    int propertyCount = ownedByGroup.values().stream().mapToInt(Long::intValue).sum();
+    return new SavedPlayerInfo(
+        String.valueOf(player.getName()),
+        monopolyPlayer.getMoney(),
+        tileId,
+        propertyCount,
+        completeGroups);
+  }
+}
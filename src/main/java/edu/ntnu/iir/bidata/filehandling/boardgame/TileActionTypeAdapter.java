@@ -0,0 +1,418 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.tile.actions.base.GoToTileAction;
+import edu.ntnu.iir.bidata.model.tile.actions.base.SafeSpotAction;
+import edu.ntnu.iir.bidata.model.tile.actions.game.LoseTurnAction;
+import edu.ntnu.iir.bidata.model.tile.actions.game.SwitchPositionAction;
+import edu.ntnu.iir.bidata.model.tile.actions.monopoly.BuyPropertyAction;
+import edu.ntnu.iir.bidata.model.tile.actions.monopoly.CollectMoneyAction;
+import edu.ntnu.iir.bidata.model.tile.actions.monopoly.GoToJailAction;
+import edu.ntnu.iir.bidata.model.tile.actions.monopoly.PayRentAction;
+import edu.ntnu.iir.bidata.model.tile.actions.movement.EntryPointAction;
+import edu.ntnu.iir.bidata.model.tile.actions.movement.HopFiveStepsAction;
+import edu.ntnu.iir.bidata.model.tile.actions.snakeandladder.LadderAction;
+import edu.ntnu.iir.bidata.model.tile.actions.snakeandladder.SnakeAction;
+import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionDispatcher;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A hand-written Gson adapter for {@link TileAction} and all of its implementations. Built-in
+ * actions are streamed field by field, starting with their type. Actions that are not built into
+ * the game are written with their fields and full class name. They are only read back if their
+ * class has been registered with {@link #registerCustomAction(Class)}; a save never decides on its
+ * own which class is loaded.
+ *
+ * <p>Actions that refer to players, the {@link EntryPointAction} and the {@link
+ * SwitchPositionAction}, do not store copies of those players when they are written as part of a
+ * game. They store the index of each player in the players array of the save instead, in the
+ * fields {@code ownerId} and {@code playerIds}. When the game is read, the indices are resolved to
+ * the players of the loaded game. Older saves that store the players inline are still read, and
+ * their players are matched to the players of the game by name.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class TileActionTypeAdapter extends TypeAdapter<TileAction> {
+  private static final String CLASS_NAME = "className";
+
+  /** The actions that are not built into the game and may be read back, by class name. */
+  private static final Map<String, Class<? extends TileAction>> CUSTOM_ACTIONS =
+      new ConcurrentHashMap<>();
+
+  private final Gson gson;
+  private final TypeAdapterFactory skipPast;
+  private final TypeAdapter<Player> playerAdapter;
+
+  /**
+   * Creates a tile action adapter.
+   *
+   * @param gson the Gson instance used for the actions that are not built into the game
+   * @param skipPast the factory that created this adapter, which is skipped when looking up the
+   *     reflective adapter of an action that is not built into the game
+   */
+  public TileActionTypeAdapter(Gson gson, TypeAdapterFactory skipPast) {
+    this.gson = gson;
+    this.skipPast = skipPast;
+    this.playerAdapter = gson.getAdapter(Player.class);
+  }
+
+  /**
+   * Allows an action that is not built into the game to be read back from saves. Its fields are
+   * read with the reflective Gson adapter of its class.
+   *
+   * @param actionClass the class of the action
+   */
+  public static void registerCustomAction(Class<? extends TileAction> actionClass) {
+    CUSTOM_ACTIONS.put(actionClass.getName(), actionClass);
+  }
+
+  /**
+   * Stops reading an action that is not built into the game back from saves.
+   *
+   * @param actionClass the class of the action
+   */
+  public static void unregisterCustomAction(Class<? extends TileAction> actionClass) {
+    CUSTOM_ACTIONS.remove(actionClass.getName(), actionClass);
+  }
+
+  /**
+   * Writes an action on its own. Players referred to by the action are written inline, since there
+   * is no players array to refer to.
+   */
+  @Override
+  public void write(JsonWriter out, TileAction action) throws IOException {
+    write(out, action, null);
+  }
+
+  /**
+   * Writes an action. Players referred to by the action are written as their index in the given
+   * list of players, or inline if no list is given.
+   *
+   * @param out the writer
+   * @param action the action, or null
+   * @param players the players of the game being written, or null to write the players inline
+   * @throws IOException if an I/O error occurs
+   */
+  void write(JsonWriter out, TileAction action, List<Player> players) throws IOException {
+    if (action == null) {
+      out.nullValue();
+      return;
+    }
+
+    TileActionType actionType = TileActionDispatcher.typeOf(action);
+    if (actionType == TileActionType.CUSTOM) {
+      JsonObject jsonObject = writeCustomAction(action);
+      jsonObject.addProperty("type", action.getClass().getSimpleName());
+      gson.toJson(jsonObject, out);
+      return;
+    }
+
+    out.beginObject();
+    out.name("type").value(action.getClass().getSimpleName());
+    switch (actionType) {
+      case GO_TO_TILE:
+        out.name("targetTileId").value(((GoToTileAction) action).getTargetTileId());
+        break;
+      case GO_TO_JAIL:
+        out.name("jailTileId").value(((GoToJailAction) action).getJailTileId());
+        break;
+      case LADDER:
+        out.name("topTileId").value(((LadderAction) action).getTopTileId());
+        break;
+      case SNAKE:
+        out.name("tailTileId").value(((SnakeAction) action).getTailTileId());
+        break;
+      case ENTRY_POINT:
+        Player owner = ((EntryPointAction) action).getOwner();
+        if (players != null) {
+          writePlayerId(out.name("ownerId"), owner, players);
+        } else {
+          playerAdapter.write(out.name("owner"), owner);
+        }
+        break;
+      case SWITCH_POSITION:
+        List<Player> allPlayers = ((SwitchPositionAction) action).getAllPlayers();
+        out.name(players != null ? "playerIds" : "allPlayers").beginArray();
+        if (allPlayers != null) {
+          for (Player player : allPlayers) {
+            if (players != null) {
+              writePlayerId(out, player, players);
+            } else {
+              playerAdapter.write(out, player);
+            }
+          }
+        }
+        out.endArray();
+        break;
+      default:
+        // The remaining built-in actions don't need extra fields
+        break;
+    }
+    out.endObject();
+  }
+
+  /**
+   * Reads an action on its own. Players stored by index cannot be resolved, so such an action is
+   * read without its players.
+   */
+  @Override
+  public TileAction read(JsonReader in) throws IOException {
+    return read(in, null);
+  }
+
+  /**
+   * Reads an action. When the type comes first, as it does for every built-in action this adapter
+   * writes, the action is read straight from the stream. Otherwise the action is read into a {@link
+   * JsonObject} first, so that its type can be looked up.
+   *
+   * <p>When the action is part of a game, the players it refers to are recorded in the load state
+   * and the action is replaced by one holding the players of the game once they have been read.
+   *
+   * @param in the reader positioned at the action
+   * @param state the state of the load, or null if the action is read on its own
+   * @return the action, or null
+   * @throws IOException if an I/O error occurs
+   */
+  TileAction read(JsonReader in, LoadState state) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+
+    in.beginObject();
+    JsonObject jsonObject = new JsonObject();
+    if (in.hasNext()) {
+      String name = in.nextName();
+      if ("type".equals(name) && in.peek() == JsonToken.STRING) {
+        String type = in.nextString();
+        TileActionType actionType = TileActionType.fromTypeName(type);
+        if (actionType != TileActionType.CUSTOM) {
+          return readBuiltInAction(actionType, in, state);
+        }
+        jsonObject.addProperty("type", type);
+      } else {
+        jsonObject.add(name, JsonParser.parseReader(in));
+      }
+    }
+    while (in.hasNext()) {
+      String name = in.nextName();
+      jsonObject.add(name, JsonParser.parseReader(in));
+    }
+    in.endObject();
+    return readFromTree(jsonObject, state);
+  }
+
+  /**
+   * Creates a copy of an action that refers to players, holding the given players instead.
+   *
+   * @param action the action that was read
+   * @param players the players of the loaded game that the action refers to
+   * @return the action holding the given players
+   */
+  static TileAction withPlayers(TileAction action, List<Player> players) {
+    if (action instanceof EntryPointAction) {
+      return new EntryPointAction(players.isEmpty() ? null : players.get(0));
+    }
+    return new SwitchPositionAction(players);
+  }
+
+  /** Reads the remaining fields of a built-in action and the end of its object. */
+  private TileAction readBuiltInAction(TileActionType actionType, JsonReader in, LoadState state)
+      throws IOException {
+    int tileId = -1;
+    List<Integer> playerIds = null;
+    List<Player> inlinePlayers = new ArrayList<>();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "targetTileId", "jailTileId", "topTileId", "tailTileId" ->
+            tileId = TileTypeAdapter.nextTileId(in);
+        case "ownerId" -> playerIds = readPlayerIds(in, false);
+        case "playerIds" -> playerIds = readPlayerIds(in, true);
+        case "owner" -> inlinePlayers.add(playerAdapter.read(in));
+        case "allPlayers" -> {
+          in.beginArray();
+          while (in.hasNext()) {
+            inlinePlayers.add(playerAdapter.read(in));
+          }
+          in.endArray();
+        }
+        default -> in.skipValue();
+      }
+    }
+    in.endObject();
+
+    TileAction action = createBuiltInAction(actionType, tileId, inlinePlayers);
+    recordPlayers(action, actionType, playerIds, inlinePlayers, state);
+    return action;
+  }
+
+  /**
+   * Creates a built-in action from the fields that were read for it.
+   *
+   * @param actionType the type of the action, which must not be {@link TileActionType#CUSTOM}
+   * @param tileId the tile the action refers to, or -1 if it has none
+   * @param inlinePlayers the players stored inline with the action
+   * @return the action
+   * @throws JsonParseException if the action is missing a tile it needs
+   */
+  static TileAction createBuiltInAction(
+      TileActionType actionType, int tileId, List<Player> inlinePlayers) {
+    return switch (actionType) {
+      case GO_TO_TILE -> new GoToTileAction(requireTileId(tileId, "targetTileId"));
+      case GO_TO_JAIL -> new GoToJailAction(tileId >= 0 ? tileId : 10);
+      case LADDER -> new LadderAction(requireTileId(tileId, "topTileId"));
+      case SNAKE -> new SnakeAction(requireTileId(tileId, "tailTileId"));
+      case ENTRY_POINT ->
+          new EntryPointAction(inlinePlayers.isEmpty() ? null : inlinePlayers.get(0));
+      case SWITCH_POSITION -> new SwitchPositionAction(inlinePlayers);
+      case SAFE_SPOT -> new SafeSpotAction();
+      case LOSE_TURN -> new LoseTurnAction();
+      case HOP_FIVE_STEPS -> new HopFiveStepsAction();
+      case COLLECT_MONEY -> new CollectMoneyAction();
+      case BUY_PROPERTY -> new BuyPropertyAction();
+      case PAY_RENT -> new PayRentAction();
+      default -> throw new JsonParseException("Unknown TileAction type: " + actionType);
+    };
+  }
+
+  /**
+   * Records the players an action that was read as part of a game refers to, so that they can be
+   * resolved to the players of the game once all of them have been read.
+   *
+   * @param action the action that was read
+   * @param actionType the type of the action
+   * @param playerIds the indices of the players, or null if the players were stored inline
+   * @param inlinePlayers the players stored inline with the action
+   * @param state the state of the load, or null if the action is read on its own
+   */
+  static void recordPlayers(
+      TileAction action,
+      TileActionType actionType,
+      List<Integer> playerIds,
+      List<Player> inlinePlayers,
+      LoadState state) {
+    if (state == null
+        || (actionType != TileActionType.ENTRY_POINT
+            && actionType != TileActionType.SWITCH_POSITION)) {
+      return;
+    }
+    if (playerIds != null) {
+      state.addPlayerIds(action, playerIds);
+    } else {
+      // Players stored inline by older saves are matched to the players of the game by name
+      List<String> playerNames = new ArrayList<>();
+      for (Player player : inlinePlayers) {
+        playerNames.add(player != null ? player.getName() : null);
+      }
+      state.addPlayerNames(action, playerNames);
+    }
+  }
+
+  /** Reads an action whose fields have already been collected into a JSON object. */
+  private TileAction readFromTree(JsonObject jsonObject, LoadState state) throws IOException {
+    if (!jsonObject.has("type")) {
+      throw new JsonParseException("TileAction without a type");
+    }
+    String type = jsonObject.get("type").getAsString();
+    TileActionType actionType = TileActionType.fromTypeName(type);
+    if (actionType == TileActionType.CUSTOM) {
+      return readCustomAction(type, jsonObject);
+    }
+    // Move the type to the front, so that the action can be read like a streamed one
+    JsonObject typeFirst = new JsonObject();
+    typeFirst.addProperty("type", type);
+    jsonObject.entrySet().stream()
+        .filter(entry -> !"type".equals(entry.getKey()))
+        .forEach(entry -> typeFirst.add(entry.getKey(), entry.getValue()));
+    return read(new JsonReader(new StringReader(typeFirst.toString())), state);
+  }
+
+  /**
+   * Writes the fields of an action that is not built into the game, together with its full class
+   * name so that it can be read back.
+   */
+  private JsonObject writeCustomAction(TileAction action) {
+    JsonElement tree = delegateFor(action.getClass()).toJsonTree(action);
+    JsonObject jsonObject = tree.isJsonObject() ? tree.getAsJsonObject() : new JsonObject();
+    jsonObject.addProperty(CLASS_NAME, action.getClass().getName());
+    return jsonObject;
+  }
+
+  /** Reads an action that is not built into the game, if its class has been registered. */
+  private TileAction readCustomAction(String type, JsonObject jsonObject) {
+    if (!jsonObject.has(CLASS_NAME)) {
+      throw new JsonParseException("Unknown TileAction type: " + type);
+    }
+    String className = jsonObject.get(CLASS_NAME).getAsString();
+    Class<? extends TileAction> actionClass = CUSTOM_ACTIONS.get(className);
+    if (actionClass == null) {
+      throw new JsonParseException("Unregistered TileAction class: " + className);
+    }
+    return delegateFor(actionClass).fromJsonTree(jsonObject);
+  }
+
+  @SuppressWarnings("unchecked")
+  private TypeAdapter<TileAction> delegateFor(Class<? extends TileAction> actionClass) {
+    return (TypeAdapter<TileAction>)
+        gson.getDelegateAdapter(skipPast, TypeToken.get(actionClass));
+  }
+
+  private static void writePlayerId(JsonWriter out, Player player, List<Player> players)
+      throws IOException {
+    int index = player != null ? players.indexOf(player) : -1;
+    if (index >= 0) {
+      out.value(index);
+    } else {
+      out.nullValue();
+    }
+  }
+
+  /** Reads a single player index, or an array of them, as a list of indices. */
+  private static List<Integer> readPlayerIds(JsonReader in, boolean isArray) throws IOException {
+    List<Integer> playerIds = new ArrayList<>();
+    if (isArray) {
+      in.beginArray();
+      while (in.hasNext()) {
+        playerIds.add(nextPlayerId(in));
+      }
+      in.endArray();
+    } else {
+      playerIds.add(nextPlayerId(in));
+    }
+    return playerIds;
+  }
+
+  private static Integer nextPlayerId(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    return in.nextInt();
+  }
+
+  private static int requireTileId(int tileId, String field) {
+    if (tileId < 0) {
+      throw new JsonParseException("TileAction is missing " + field);
+    }
+    return tileId;
+  }
+}
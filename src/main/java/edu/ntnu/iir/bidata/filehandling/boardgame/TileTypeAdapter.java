@@ -0,0 +1,152 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.TileSerializer;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.tile.core.Tile;
+import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A hand-written Gson adapter for {@link Tile} and its subclasses, such as {@link PropertyTile}.
+ * Tiles are written and read field by field, without reflection and without building a JSON tree.
+ *
+ * <p>The next tile and the owner of a property refer to other objects, so only the id of the next
+ * tile and the name of the owner are stored. A tile read on its own is not connected to any other
+ * tile; when a whole game is read, the references are resolved through the {@link LoadState}.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class TileTypeAdapter extends TypeAdapter<Tile> {
+  private final TileActionTypeAdapter actionAdapter;
+
+  /**
+   * Creates a tile adapter.
+   *
+   * @param actionAdapter the adapter used for the actions of the tiles
+   */
+  public TileTypeAdapter(TileActionTypeAdapter actionAdapter) {
+    this.actionAdapter = actionAdapter;
+  }
+
+  @Override
+  public void write(JsonWriter out, Tile tile) throws IOException {
+    write(out, tile, null);
+  }
+
+  /**
+   * Writes a single tile. The players referred to by the action of the tile are written as their
+   * index in the given list of players, or inline if no list is given.
+   *
+   * @param out the writer
+   * @param tile the tile, or null
+   * @param players the players of the game being written, or null to write the players inline
+   * @throws IOException if an I/O error occurs
+   */
+  void write(JsonWriter out, Tile tile, List<Player> players) throws IOException {
+    if (tile == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginObject();
+    out.name("id").value(tile.getId());
+    out.name("type").value(tile.getClass().getSimpleName());
+    if (tile.getNextTile() != null) {
+      out.name("nextTileId").value(tile.getNextTile().getId());
+    }
+    if (tile instanceof PropertyTile propertyTile) {
+      out.name("price").value(propertyTile.getPrice());
+      out.name("rent").value(propertyTile.getRent());
+      out.name("group").value(propertyTile.getGroup());
+      if (propertyTile.getOwner() != null) {
+        out.name("owner").value(propertyTile.getOwner().getName());
+      }
+    }
+    if (tile.getAction() != null) {
+      out.name("action");
+      actionAdapter.write(out, tile.getAction(), players);
+    }
+    out.endObject();
+  }
+
+  @Override
+  public Tile read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    return readTile(in, null);
+  }
+
+  /**
+   * Reads a single tile object. The id of the next tile and the name of the owner are recorded in
+   * the load state, to be resolved once the whole board has been read.
+   *
+   * @param in the reader positioned at the start of the tile object
+   * @param state the state of the load, or null if the references are not needed
+   * @return the tile that was read
+   * @throws IOException if an I/O error occurs or a tile id is negative
+   */
+  Tile readTile(JsonReader in, LoadState state) throws IOException {
+    int id = 0;
+    String type = "Tile";
+    int nextTileId = -1;
+    int price = 0;
+    int rent = 0;
+    int group = 0;
+    String owner = null;
+    TileAction action = null;
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case "id" -> id = nextTileId(in);
+        case "type" -> type = in.nextString();
+        case "nextTileId" -> nextTileId = nextTileId(in);
+        case "price" -> price = in.nextInt();
+        case "rent" -> rent = in.nextInt();
+        case "group" -> group = in.nextInt();
+        case "owner" -> owner = nextStringOrNull(in);
+        case "action" -> action = actionAdapter.read(in, state);
+        default -> in.skipValue();
+      }
+    }
+    in.endObject();
+
+    Tile tile = TileSerializer.createTile(id, type, price, rent, group, action);
+    if (state != null) {
+      state.addTile(tile, nextTileId, owner);
+    }
+    return tile;
+  }
+
+  /**
+   * Reads the id of a tile. No tile of a board has a negative id, so a negative id means that the
+   * save is damaged.
+   *
+   * @param in the reader positioned at the id
+   * @return the id of the tile
+   * @throws IOException if an I/O error occurs or the id is negative
+   */
+  static int nextTileId(JsonReader in) throws IOException {
+    String path = in.getPath();
+    int id = in.nextInt();
+    if (id < 0) {
+      throw new IOException("Invalid tile id " + id + " at " + path);
+    }
+    return id;
+  }
+
+  static String nextStringOrNull(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    return in.nextString();
+  }
+}
@@ -0,0 +1,60 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame.utils;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Replaces files so that readers only ever see the old or the new content, never a half-written
+ * file. The new content is written to a temporary file of its own in the same directory, forced
+ * to disk and then renamed over the target in one atomic step. Every replacement gets a fresh
+ * temporary file, so replacements of the same file never write to each other's temporary file.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public final class AtomicFileWriter {
+  private static final String TEMPORARY_SUFFIX = ".tmp";
+
+  /** Writes the content of a file to the given path. */
+  @FunctionalInterface
+  public interface ContentWriter {
+
+    /**
+     * Writes the content.
+     *
+     * @param path the path to write to
+     * @throws IOException if writing fails
+     */
+    void write(Path path) throws IOException;
+  }
+
+  private AtomicFileWriter() {}
+
+  /**
+   * Replaces a file with new content. If writing fails, the target is left untouched and the
+   * temporary file is removed.
+   *
+   * @param target the file to replace
+   * @param writer writes the new content to the temporary file it is given
+   * @throws IOException if the content cannot be written or the file cannot be replaced
+   */
+  public static void replace(Path target, ContentWriter writer) throws IOException {
+    Path directory = target.toAbsolutePath().getParent();
+    Path temporary =
+        Files.createTempFile(directory, target.getFileName().toString(), TEMPORARY_SUFFIX);
+    try {
+      writer.write(temporary);
+      try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+        channel.force(true);
+      }
+      Files.move(
+          temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+}
@@ -0,0 +1,393 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame.utils;
+
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Constants and encoding helpers for the binary save format.
+ *
+ * <p>A binary save starts with a fixed header: the four magic bytes {@code BGSB}, a version byte
+ * and a flags byte. It is followed by the level, the turn counters, the player table, the dice, the
+ * tile table and the property ownership table. Numbers are written as unsigned LEB128 varints, so
+ * small ids and positions take a single byte. Signed values are zigzag encoded first. References to
+ * tiles and players are written as {@code id + 1}, so that 0 means "none".
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public final class BinarySaveFormat {
+
+  /** The magic number at the start of every binary save, "BGSB" in ASCII. */
+  public static final int MAGIC = 0x42475342;
+
+  /** The file extension of binary saves. */
+  public static final String FILE_EXTENSION = ".bin";
+
+  /** The current version of the format. Readers reject saves with a newer version. */
+  public static final byte VERSION = 1;
+
+  /** Flag set when the saved game is a Monopoly game. */
+  public static final int FLAG_MONOPOLY = 1;
+
+  /** Flag set when the saved game is over. */
+  public static final int FLAG_GAME_OVER = 1 << 1;
+
+  /** Flag set when the saved game has been started. */
+  public static final int FLAG_GAME_INITIALIZED = 1 << 2;
+
+  // Tile type codes in the tile table
+  public static final int TILE = 0;
+  public static final int PROPERTY_TILE = 1;
+  public static final int GO_TILE = 2;
+  public static final int JAIL_TILE = 3;
+  public static final int FREE_PARKING_TILE = 4;
+
+  // Player type codes in the player table
+  public static final int PLAYER = 0;
+  public static final int MONOPOLY_PLAYER = 1;
+
+  // Player flag bits in the player table
+  public static final int PLAYER_SKIP_NEXT_TURN = 1;
+  public static final int PLAYER_IN_JAIL = 1 << 1;
+  public static final int PLAYER_PAID_TO_LEAVE_JAIL = 1 << 2;
+  public static final int PLAYER_CAN_LEAVE_JAIL_NEXT_TURN = 1 << 3;
+
+  /** Action code for a tile without an action. The action types have the codes of actionCode. */
+  public static final int NO_ACTION = 0;
+
+  private static final TileActionType[] ACTION_TYPES_BY_CODE = actionTypesByCode();
+
+  private BinarySaveFormat() {}
+
+  /**
+   * Checks whether a file starts with the magic number of the binary save format. A compressed file
+   * is checked after decompressing its first bytes.
+   *
+   * @param path the file to check
+   * @return true if the file is a binary save, false otherwise
+   * @throws IOException if the file cannot be read
+   */
+  public static boolean isBinarySave(Path path) throws IOException {
+    try (InputStream in = SaveCompression.open(path)) {
+      return hasMagic(in.readNBytes(Integer.BYTES));
+    }
+  }
+
+  /**
+   * Checks whether an uncompressed stream starts with the magic number of the binary save format,
+   * without consuming it. The stream must support {@link InputStream#mark}, as the streams returned
+   * by {@link SaveCompression#decompress} do.
+   *
+   * @param in the stream to check
+   * @return true if the stream holds a binary save, false otherwise
+   * @throws IOException if the stream cannot be read
+   */
+  public static boolean isBinarySave(InputStream in) throws IOException {
+    in.mark(Integer.BYTES);
+    byte[] header = in.readNBytes(Integer.BYTES);
+    in.reset();
+    return hasMagic(header);
+  }
+
+  private static boolean hasMagic(byte[] header) {
+    return header.length == Integer.BYTES && ByteBuffer.wrap(header).getInt() == MAGIC;
+  }
+
+  /**
+   * Gets the action code stored for an action type. The codes are part of the format and must never
+   * change, so they are listed here instead of being derived from the order of the enum constants.
+   * A new action type gets the next unused code.
+   *
+   * @param actionType the action type
+   * @return the action code
+   */
+  public static int actionCode(TileActionType actionType) {
+    return switch (actionType) {
+      case GO_TO_TILE -> 1;
+      case SAFE_SPOT -> 2;
+      case LOSE_TURN -> 3;
+      case SWITCH_POSITION -> 4;
+      case HOP_FIVE_STEPS -> 5;
+      case ENTRY_POINT -> 6;
+      case LADDER -> 7;
+      case SNAKE -> 8;
+      case GO_TO_JAIL -> 9;
+      case COLLECT_MONEY -> 10;
+      case BUY_PROPERTY -> 11;
+      case PAY_RENT -> 12;
+      case CUSTOM -> 13;
+    };
+  }
+
+  /**
+   * Gets the action type stored under an action code.
+   *
+   * @param code the action code
+   * @return the action type, or null if no action type has the code
+   */
+  public static TileActionType actionType(int code) {
+    return code > NO_ACTION && code < ACTION_TYPES_BY_CODE.length
+        ? ACTION_TYPES_BY_CODE[code]
+        : null;
+  }
+
+  private static TileActionType[] actionTypesByCode() {
+    int maxCode = NO_ACTION;
+    for (TileActionType type : TileActionType.values()) {
+      maxCode = Math.max(maxCode, actionCode(type));
+    }
+    TileActionType[] types = new TileActionType[maxCode + 1];
+    for (TileActionType type : TileActionType.values()) {
+      if (types[actionCode(type)] != null) {
+        throw new IllegalStateException("Duplicate action code " + actionCode(type));
+      }
+      types[actionCode(type)] = type;
+    }
+    return types;
+  }
+
+  /**
+   * Gets the player flag bits for the state of a player.
+   *
+   * @param player the player
+   * @return the flag bits
+   */
+  public static int playerFlags(Player player) {
+    int flags = player.isSkipNextTurn() ? PLAYER_SKIP_NEXT_TURN : 0;
+    if (player instanceof SimpleMonopolyPlayer monopolyPlayer) {
+      if (monopolyPlayer.isInJail()) {
+        flags |= PLAYER_IN_JAIL;
+      }
+      if (monopolyPlayer.isPaidToLeaveJail()) {
+        flags |= PLAYER_PAID_TO_LEAVE_JAIL;
+      }
+      if (monopolyPlayer.isCanLeaveJailNextTurn()) {
+        flags |= PLAYER_CAN_LEAVE_JAIL_NEXT_TURN;
+      }
+    }
+    return flags;
+  }
+
+  /**
+   * Sets the state of a player from its player flag bits. The jail flags are ignored for players
+   * that are not Monopoly players.
+   *
+   * @param player the player
+   * @param flags the flag bits
+   */
+  public static void applyPlayerFlags(Player player, int flags) {
+    player.setSkipNextTurn((flags & PLAYER_SKIP_NEXT_TURN) != 0);
+    if (player instanceof SimpleMonopolyPlayer monopolyPlayer) {
+      monopolyPlayer.setInJail((flags & PLAYER_IN_JAIL) != 0);
+      monopolyPlayer.setPaidToLeaveJail((flags & PLAYER_PAID_TO_LEAVE_JAIL) != 0);
+      monopolyPlayer.setCanLeaveJailNextTurn((flags & PLAYER_CAN_LEAVE_JAIL_NEXT_TURN) != 0);
+    }
+  }
+
+  /**
+   * Reads an unsigned varint.
+   *
+   * @param buffer the buffer to read from
+   * @return the value
+   * @throws IOException if the varint is longer than five bytes
+   */
+  public static int getVarInt(ByteBuffer buffer) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      byte b = buffer.get();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed varint in binary save");
+  }
+
+  /**
+   * Reads a zigzag encoded signed varint.
+   *
+   * @param buffer the buffer to read from
+   * @return the value
+   * @throws IOException if the varint is malformed
+   */
+  public static int getSignedVarInt(ByteBuffer buffer) throws IOException {
+    int raw = getVarInt(buffer);
+    return (raw >>> 1) ^ -(raw & 1);
+  }
+
+  /**
+   * Reads the number of entries of a table, or the length of a value. Every entry takes at least
+   * one byte, so a count larger than what is left of the buffer cannot be right, and is rejected
+   * before anything is allocated for it.
+   *
+   * @param buffer the buffer to read from
+   * @return the count
+   * @throws IOException if the count is negative or larger than the rest of the buffer
+   */
+  public static int getCount(ByteBuffer buffer) throws IOException {
+    int count = getVarInt(buffer);
+    if (count < 0 || count > buffer.remaining()) {
+      throw new IOException("Malformed count in binary save: " + count);
+    }
+    return count;
+  }
+
+  /**
+   * Reads a string that may be null.
+   *
+   * @param buffer the buffer to read from
+   * @return the string, or null
+   * @throws IOException if the length is malformed
+   */
+  public static String getString(ByteBuffer buffer) throws IOException {
+    int length = getVarInt(buffer);
+    if (length == 0) {
+      return null;
+    }
+    if (length < 0 || length - 1 > buffer.remaining()) {
+      throw new IOException("Malformed string length in binary save: " + length);
+    }
+    byte[] bytes = new byte[length - 1];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * A growable direct buffer that the binary writer encodes into. The finished buffer is handed to
+   * a file channel as it is, without copying it into a byte array first.
+   */
+  public static final class Output {
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+
+    /**
+     * Writes a single byte.
+     *
+     * @param value the byte to write
+     * @return this output
+     */
+    public Output putByte(int value) {
+      ensureRemaining(1);
+      buffer.put((byte) value);
+      return this;
+    }
+
+    /**
+     * Writes a big-endian int.
+     *
+     * @param value the value to write
+     * @return this output
+     */
+    public Output putInt(int value) {
+      ensureRemaining(Integer.BYTES);
+      buffer.putInt(value);
+      return this;
+    }
+
+    /**
+     * Writes a big-endian long.
+     *
+     * @param value the value to write
+     * @return this output
+     */
+    public Output putLong(long value) {
+      ensureRemaining(Long.BYTES);
+      buffer.putLong(value);
+      return this;
+    }
+
+    /**
+     * Writes an unsigned varint.
+     *
+     * @param value the value to write, treated as unsigned
+     * @return this output
+     */
+    public Output putVarInt(int value) {
+      ensureRemaining(5);
+      while ((value & ~0x7F) != 0) {
+        buffer.put((byte) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      buffer.put((byte) value);
+      return this;
+    }
+
+    /**
+     * Writes a zigzag encoded signed varint.
+     *
+     * @param value the value to write
+     * @return this output
+     */
+    public Output putSignedVarInt(int value) {
+      return putVarInt((value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Writes a string that may be null.
+     *
+     * @param value the string to write, or null
+     * @return this output
+     */
+    public Output putString(String value) {
+      if (value == null) {
+        return putVarInt(0);
+      }
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      putVarInt(bytes.length + 1);
+      ensureRemaining(bytes.length);
+      buffer.put(bytes);
+      return this;
+    }
+
+    /**
+     * Gets the number of bytes encoded so far.
+     *
+     * @return the number of bytes
+     */
+    public int size() {
+      return buffer.position();
+    }
+
+    /**
+     * Gets a read-only view of everything encoded so far, without copying it.
+     *
+     * @return the encoded bytes
+     */
+    public ByteBuffer contents() {
+      return buffer.asReadOnlyBuffer().flip();
+    }
+
+    /** Discards everything encoded so far, keeping the buffer for reuse. */
+    public void clear() {
+      buffer.clear();
+    }
+
+    /**
+     * Writes everything encoded so far to a channel.
+     *
+     * @param channel the channel to write to
+     * @throws IOException if writing fails
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+      ByteBuffer content = contents();
+      while (content.hasRemaining()) {
+        channel.write(content);
+      }
+    }
+
+    private void ensureRemaining(int bytes) {
+      if (buffer.remaining() < bytes) {
+        int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+        ByteBuffer larger = ByteBuffer.allocateDirect(capacity);
+        larger.put(buffer.flip());
+        buffer = larger;
+      }
+    }
+  }
+}
@@ -0,0 +1,207 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame.utils;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Adler32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * The compression of a save file. Compressed saves are recognised from their first bytes, so a
+ * reader can open any save through {@link #open(Path)} without knowing how it was written.
+ *
+ * <ul>
+ *   <li>{@link #GZIP} writes a standard gzip file, which can also be opened with common tools.
+ *   <li>{@link #DEFLATE} writes a zlib stream.
+ *   <li>{@link #DICTIONARY} writes a zlib stream with a preset dictionary. The dictionary is made
+ *       of a typical snakes and ladders save and a typical Monopoly save, so the repeated tile
+ *       sections of a save compress to back references into the dictionary from the first tile.
+ * </ul>
+ *
+ * <p>The zlib header records the checksum of the dictionary a stream was written with, so a save
+ * written with a different dictionary is rejected instead of being decoded into garbage. The
+ * dictionary must therefore never be changed; a new dictionary needs a new compression mode.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public enum SaveCompression {
+  NONE,
+  GZIP,
+  DEFLATE,
+  DICTIONARY;
+
+  private static final String DICTIONARY_RESOURCE = "/compression/save_dictionary.txt";
+  private static final int BUFFER_SIZE = 8192;
+  private static final int GZIP_MAGIC_FIRST = 0x1f;
+  private static final int GZIP_MAGIC_SECOND = 0x8b;
+  private static final int ZLIB_METHOD_DEFLATE = 8;
+  private static final int ZLIB_PRESET_DICTIONARY = 0x20;
+
+  /**
+   * Wraps an output stream so that everything written to it is compressed. Closing the returned
+   * stream finishes the compressed data and closes the wrapped stream.
+   *
+   * @param out the stream to write the compressed data to
+   * @return the stream to write the uncompressed data to
+   * @throws IOException if the compressed header cannot be written
+   */
+  public OutputStream compress(OutputStream out) throws IOException {
+    return switch (this) {
+      case NONE -> out;
+      case GZIP -> new GZIPOutputStream(out, BUFFER_SIZE);
+      case DEFLATE -> new OwnedDeflaterOutputStream(out, new Deflater());
+      case DICTIONARY -> {
+        Deflater deflater = new Deflater();
+        deflater.setDictionary(Dictionary.BYTES);
+        yield new OwnedDeflaterOutputStream(out, deflater);
+      }
+    };
+  }
+
+  /**
+   * Detects the compression of a save from its first two bytes.
+   *
+   * @param first the first byte, or -1 if the save is empty
+   * @param second the second byte, or -1 if the save has only one byte
+   * @return the compression of the save
+   */
+  public static SaveCompression detect(int first, int second) {
+    if (first == GZIP_MAGIC_FIRST && second == GZIP_MAGIC_SECOND) {
+      return GZIP;
+    }
+    // A zlib header uses the deflate method and is a multiple of 31 when read as a big-endian short
+    if (first >= 0 && second >= 0 && (first & 0x0f) == ZLIB_METHOD_DEFLATE
+        && ((first << 8) | second) % 31 == 0) {
+      return (second & ZLIB_PRESET_DICTIONARY) != 0 ? DICTIONARY : DEFLATE;
+    }
+    return NONE;
+  }
+
+  /**
+   * Detects the compression of a save file from its first bytes.
+   *
+   * @param path the save file
+   * @return the compression of the save
+   * @throws IOException if the file cannot be read
+   */
+  public static SaveCompression detect(Path path) throws IOException {
+    try (InputStream in = Files.newInputStream(path)) {
+      int first = in.read();
+      return detect(first, first < 0 ? -1 : in.read());
+    }
+  }
+
+  /**
+   * Opens a save file for reading, decompressing it if it is compressed.
+   *
+   * @param path the save file
+   * @return a buffered stream of the uncompressed content of the save
+   * @throws IOException if the file cannot be opened or its compressed header is invalid
+   */
+  public static InputStream open(Path path) throws IOException {
+    return decompress(Files.newInputStream(path));
+  }
+
+  /**
+   * Wraps a stream of a save so that it is decompressed if it is compressed.
+   *
+   * @param in the stream of the save, which is closed with the returned stream
+   * @return a buffered stream of the uncompressed content of the save
+   * @throws IOException if the stream cannot be read or its compressed header is invalid
+   */
+  public static InputStream decompress(InputStream in) throws IOException {
+    BufferedInputStream buffered = new BufferedInputStream(in, BUFFER_SIZE);
+    buffered.mark(2);
+    int first = buffered.read();
+    int second = first < 0 ? -1 : buffered.read();
+    buffered.reset();
+    return switch (detect(first, second)) {
+      case NONE -> buffered;
+      case GZIP ->
+          new BufferedInputStream(new GZIPInputStream(buffered, BUFFER_SIZE), BUFFER_SIZE);
+      case DEFLATE, DICTIONARY ->
+          new BufferedInputStream(new DictionaryInflaterInputStream(buffered), BUFFER_SIZE);
+    };
+  }
+
+  /** The preset dictionary, loaded the first time a dictionary stream is written or read. */
+  private static final class Dictionary {
+    private static final byte[] BYTES = load();
+    private static final long CHECKSUM = checksum(BYTES);
+
+    private static byte[] load() {
+      try (InputStream in = SaveCompression.class.getResourceAsStream(DICTIONARY_RESOURCE)) {
+        if (in == null) {
+          throw new IllegalStateException("Missing compression dictionary " + DICTIONARY_RESOURCE);
+        }
+        return in.readAllBytes();
+      } catch (IOException e) {
+        throw new IllegalStateException("Failed to load compression dictionary", e);
+      }
+    }
+
+    private static long checksum(byte[] bytes) {
+      Adler32 adler = new Adler32();
+      adler.update(bytes);
+      return adler.getValue();
+    }
+  }
+
+  /** A deflater stream that releases its deflater when it is closed. */
+  private static final class OwnedDeflaterOutputStream extends DeflaterOutputStream {
+    private OwnedDeflaterOutputStream(OutputStream out, Deflater deflater) {
+      super(out, deflater, BUFFER_SIZE);
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        def.end();
+      }
+    }
+  }
+
+  /**
+   * An inflater stream that supplies the preset dictionary when the zlib stream asks for it, and
+   * releases its inflater when it is closed.
+   */
+  private static final class DictionaryInflaterInputStream extends InflaterInputStream {
+    private DictionaryInflaterInputStream(InputStream in) {
+      super(in, new Inflater(), BUFFER_SIZE);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int read = super.read(b, off, len);
+      if (read < 0 && inf.needsDictionary()) {
+        if (inf.getAdler() != Dictionary.CHECKSUM) {
+          throw new ZipException("The save was compressed with an unknown dictionary");
+        }
+        inf.setDictionary(Dictionary.BYTES);
+        read = super.read(b, off, len);
+      }
+      return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        inf.end();
+      }
+    }
+  }
+}
@@ -43,14 +43,30 @@ public class TileSerializer implements JsonSerializer<Tile>, JsonDeserializer<Ti
     if (jsonObject.has("action")) {
       action = context.deserialize(jsonObject.get("action"), TileAction.class);
     }
+    int price = jsonObject.has("price") ? jsonObject.get("price").getAsInt() : 0;
+    int rent = jsonObject.has("rent") ? jsonObject.get("rent").getAsInt() : 0;
+    int group = jsonObject.has("group") ? jsonObject.get("group").getAsInt() : 0;
+    // Owner will be set after all players are loaded, if needed
+    return createTile(id, type, price, rent, group, action);
+  }
+
+  /**
+   * Creates a tile of the given saved type. The price, rent and group are only used for property
+   * tiles, and the action is ignored for tile types that set their own action.
+   *
+   * @param id the id of the tile
+   * @param type the simple class name of the tile, as written in saved games
+   * @param price the price of a property tile
+   * @param rent the rent of a property tile
+   * @param group the group of a property tile
+   * @param action the action of the tile, or null if it has none
+   * @return the created tile
+   */
+  public static Tile createTile(int id, String type, int price, int rent, int group, TileAction action) {
     Tile tile;
     switch (type) {
       case "PropertyTile":
-        int price = jsonObject.get("price").getAsInt();
-        int rent = jsonObject.get("rent").getAsInt();
-        int group = jsonObject.get("group").getAsInt();
         tile = new PropertyTile(id, price, rent, group, action);
-        // Owner will be set after all players are loaded, if needed
         break;
       case "GoTile":
         tile = new GoTile(id); // GoTile sets its own action
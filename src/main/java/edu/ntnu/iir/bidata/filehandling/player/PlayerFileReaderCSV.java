@@ -34,13 +34,7 @@ public class PlayerFileReaderCSV implements PlayerFileReader {
   public Player readPlayer(Path filePath) {
     try (BufferedReader reader = new BufferedReader(new FileReader(filePath.toFile()))) {
       String line = reader.readLine();
-      if (line != null && !line.isEmpty()) {
-        String[] parts = line.split(",", 2);
-        String name = parts[0].trim();
-        String tokenImage = parts.length > 1 ? parts[1].trim() : null;
-        return new Player(name, tokenImage);
-      }
-      return null;
+      return line != null ? parseLine(line) : null;
     } catch (IOException e) {
       throw new RuntimeException("Failed to read player from CSV file", e);
     }
@@ -61,11 +55,9 @@ public class PlayerFileReaderCSV implements PlayerFileReader {
     try (BufferedReader reader = new BufferedReader(new FileReader(filePath.toFile()))) {
       String line;
       while ((line = reader.readLine()) != null) {
-        if (!line.trim().isEmpty()) {
-          String[] parts = line.split(",", 2);
-          String name = parts[0].trim();
-          String tokenImage = parts.length > 1 ? parts[1].trim() : null;
-          players.add(new Player(name, tokenImage));
+        Player player = parseLine(line);
+        if (player != null) {
+          players.add(player);
         }
       }
     } catch (IOException e) {
@@ -86,11 +78,9 @@ public class PlayerFileReaderCSV implements PlayerFileReader {
     try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
       String line;
       while ((line = reader.readLine()) != null) {
-        if (!line.trim().isEmpty()) {
-          String[] parts = line.split(",", 2);
-          String name = parts[0].trim();
-          String tokenImage = parts.length > 1 ? parts[1].trim() : null;
-          players.add(new Player(name, tokenImage));
+        Player player = parseLine(line);
+        if (player != null) {
+          players.add(player);
         }
       }
     } catch (IOException e) {
@@ -98,4 +88,22 @@ public class PlayerFileReaderCSV implements PlayerFileReader {
     }
     return players;
   }
+
+  /**
+   * Parses one line of a players CSV file. The name is everything before the first comma and the
+   * token image everything after it, both without surrounding whitespace.
+   *
+   * @param line the line to parse
+   * @return the player on the line, or null if the line is blank
+   */
+  static Player parseLine(String line) {
+    if (line.isBlank()) {
+      return null;
+    }
+    int comma = line.indexOf(',');
+    if (comma < 0) {
+      return new Player(line.strip(), null);
+    }
+    return new Player(line.substring(0, comma).strip(), line.substring(comma + 1).strip());
+  }
 }
@@ -0,0 +1,309 @@
+package edu.ntnu.iir.bidata.filehandling.player;
+
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.AtomicFileWriter;
+import edu.ntnu.iir.bidata.model.player.Player;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * A roster of registered players kept in a CSV file in the same format as {@link
+ * PlayerFileWriterCSV}, with one player per line. The roster is read once and then served from an
+ * in-memory index by name.
+ *
+ * <p>New players are not written one at a time. They are collected and appended to the file in
+ * batches of {@value #BATCH_SIZE} through a single channel write, or when {@link #flush()} or
+ * {@link #close()} is called. Adding a player that is already registered with the same token
+ * writes nothing; a player registered again with a new token is appended, and the later line
+ * replaces the earlier one when the file is read. When more than half of the lines in the file are
+ * outdated, the file is rewritten with only the current players.
+ *
+ * <p>Large files are split into chunks at line boundaries and the chunks are parsed in parallel.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class PlayerRosterStore implements AutoCloseable {
+  /** The number of new players that are collected before they are appended to the file. */
+  public static final int BATCH_SIZE = 256;
+
+  private static final int CHUNK_SIZE = 1 << 20;
+
+  private final Path file;
+  private final Map<String, Player> players = new LinkedHashMap<>();
+  private final List<Player> pending = new ArrayList<>();
+  private int lineCount;
+  private boolean missingLineBreak; // The file was written elsewhere without a final line break
+
+  /**
+   * Opens the roster stored in a file and reads it. A missing file is an empty roster.
+   *
+   * @param file the CSV file of the roster
+   * @throws RuntimeException if the file cannot be read
+   */
+  public PlayerRosterStore(Path file) {
+    this.file = file;
+    if (Files.exists(file)) {
+      List<Player> read = readFile(file);
+      read.forEach(player -> players.put(player.getName(), player));
+      lineCount = read.size();
+      missingLineBreak = !endsWithLineBreak(file);
+    }
+  }
+
+  /**
+   * Gets a registered player by name.
+   *
+   * @param name the name of the player
+   * @return the player, or null if no player with that name is registered
+   */
+  public synchronized Player get(String name) {
+    return players.get(name);
+  }
+
+  /**
+   * Checks whether a player with the given name is registered.
+   *
+   * @param name the name of the player
+   * @return true if the player is registered
+   */
+  public synchronized boolean contains(String name) {
+    return players.containsKey(name);
+  }
+
+  /**
+   * Gets all registered players, in the order they were first registered.
+   *
+   * @return the registered players
+   */
+  public synchronized List<Player> getPlayers() {
+    return new ArrayList<>(players.values());
+  }
+
+  /**
+   * Gets the number of registered players.
+   *
+   * @return the number of registered players
+   */
+  public synchronized int size() {
+    return players.size();
+  }
+
+  /**
+   * Registers a player. The player is written to the file with the next batch.
+   *
+   * @param player the player to register
+   * @return false if the player was already registered with the same token
+   * @throws IllegalArgumentException if the name is empty, or the name or the token contains a
+   *     comma or a line break
+   * @throws RuntimeException if a full batch cannot be written to the file
+   */
+  public synchronized boolean add(Player player) {
+    String name = player.getName();
+    if (name == null || name.isBlank() || !isValidField(name)) {
+      throw new IllegalArgumentException("Invalid player name: " + name);
+    }
+    if (!isValidField(tokenOf(player))) {
+      throw new IllegalArgumentException("Invalid token image: " + player.getTokenImage());
+    }
+    Player registered = players.get(name);
+    if (registered != null && tokenOf(registered).equals(tokenOf(player))) {
+      return false;
+    }
+    players.put(name, player);
+    pending.add(player);
+    if (pending.size() >= BATCH_SIZE) {
+      flush();
+    }
+    return true;
+  }
+
+  /**
+   * Registers several players. The players are written to the file in batches.
+   *
+   * @param newPlayers the players to register
+   * @return the number of players that were new or had a new token
+   * @throws RuntimeException if a batch cannot be written to the file
+   */
+  public synchronized int addAll(Collection<Player> newPlayers) {
+    int added = 0;
+    for (Player player : newPlayers) {
+      if (add(player)) {
+        added++;
+      }
+    }
+    return added;
+  }
+
+  /**
+   * Writes the players that are waiting for the next batch to the file.
+   *
+   * @throws RuntimeException if the players cannot be written
+   */
+  public synchronized void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+    lineCount += pending.size();
+    if (lineCount > 2 * players.size() + BATCH_SIZE) {
+      compact();
+      return;
+    }
+    ByteBuffer lines = encode(pending);
+    try (FileChannel channel =
+        FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+      if (missingLineBreak) {
+        channel.write(ByteBuffer.wrap(new byte[] {'\n'}));
+        missingLineBreak = false;
+      }
+      while (lines.hasRemaining()) {
+        channel.write(lines);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to append players to CSV file", e);
+    }
+    pending.clear();
+  }
+
+  /**
+   * Rewrites the file with one line per registered player, including the players that are
+   * waiting for the next batch.
+   *
+   * @throws RuntimeException if the file cannot be rewritten
+   */
+  public synchronized void compact() {
+    ByteBuffer lines = encode(players.values());
+    try {
+      AtomicFileWriter.replace(
+          file,
+          temporary -> {
+            try (FileChannel channel =
+                FileChannel.open(
+                    temporary,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE)) {
+              while (lines.hasRemaining()) {
+                channel.write(lines);
+              }
+            }
+          });
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to rewrite players CSV file", e);
+    }
+    pending.clear();
+    lineCount = players.size();
+    missingLineBreak = false;
+  }
+
+  /** Writes the players that are waiting for the next batch to the file. */
+  @Override
+  public void close() {
+    flush();
+  }
+
+  private static ByteBuffer encode(Collection<Player> players) {
+    StringBuilder lines = new StringBuilder(players.size() * 32);
+    for (Player player : players) {
+      lines
+          .append(player.getName())
+          .append(',')
+          .append(tokenOf(player))
+          .append('\n');
+    }
+    return StandardCharsets.UTF_8.encode(CharBuffer.wrap(lines));
+  }
+
+  /** Checks that a value can be stored as a field of a line without breaking up the line. */
+  private static boolean isValidField(String value) {
+    return value.indexOf(',') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0;
+  }
+
+  /** Gets the token image as it is stored in the file, where a missing token is empty. */
+  private static String tokenOf(Player player) {
+    return player.getTokenImage() != null ? player.getTokenImage() : "";
+  }
+
+  /**
+   * Reads all lines of a roster file. The file is memory-mapped and cut into chunks of about
+   * {@value #CHUNK_SIZE} bytes that end at line breaks, and the chunks are parsed in parallel.
+   */
+  private static List<Player> readFile(Path file) {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new RuntimeException("Players CSV file is too large: " + size + " bytes");
+      }
+      MappedByteBuffer content = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      List<Integer> bounds = chunkBounds(content);
+      return IntStream.range(0, bounds.size() - 1)
+          .parallel()
+          .mapToObj(
+              i -> parseChunk(content.slice(bounds.get(i), bounds.get(i + 1) - bounds.get(i))))
+          .flatMap(List::stream)
+          .toList();
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to read players from CSV file", e);
+    }
+  }
+
+  private static boolean endsWithLineBreak(Path file) {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() == 0) {
+        return true;
+      }
+      ByteBuffer last = ByteBuffer.allocate(1);
+      channel.read(last, channel.size() - 1);
+      return last.get(0) == '\n';
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to read players from CSV file", e);
+    }
+  }
+
+  /** Finds the offsets where the chunks start, followed by the end of the content. */
+  private static List<Integer> chunkBounds(ByteBuffer content) {
+    List<Integer> bounds = new ArrayList<>();
+    int start = 0;
+    int end = content.limit();
+    while (start < end) {
+      bounds.add(start);
+      int next = Math.min(start + CHUNK_SIZE, end);
+      while (next < end && content.get(next - 1) != '\n') {
+        next++;
+      }
+      start = next;
+    }
+    bounds.add(end);
+    return bounds;
+  }
+
+  private static List<Player> parseChunk(ByteBuffer chunk) {
+    List<Player> parsed = new ArrayList<>();
+    String text = StandardCharsets.UTF_8.decode(chunk).toString();
+    int start = 0;
+    while (start < text.length()) {
+      int end = text.indexOf('\n', start);
+      if (end < 0) {
+        end = text.length();
+      }
+      Player player = PlayerFileReaderCSV.parseLine(text.substring(start, end));
+      if (player != null) {
+        parsed.add(player);
+      }
+      start = end + 1;
+    }
+    return parsed;
+  }
+}
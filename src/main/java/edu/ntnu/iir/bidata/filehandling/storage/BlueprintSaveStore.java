@@ -0,0 +1,568 @@
+package edu.ntnu.iir.bidata.filehandling.storage;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the board of every JSON save only once, in front of another {@link SaveStore}. Almost
+ * every save uses one of a handful of boards, so repeating all the tiles, links, prices and actions
+ * in every save wastes most of the space of an archive.
+ *
+ * <p>When a JSON save is written, its board is split in two:
+ *
+ * <ul>
+ *   <li>the <em>blueprint</em>: the tiles with their links, prices and the actions that do not
+ *       refer to players, together with the size of the board. It is stored once under {@code
+ *       blueprints/<hash>.json}, where the hash is the SHA-256 of its content, so saves of the same
+ *       board share it and saves of a changed board get a blueprint of their own;
+ *   <li>the <em>overlay</em>: the owners of the property tiles and the actions that refer to
+ *       players of the game. It is saved with the rest of the game, in place of the board.
+ * </ul>
+ *
+ * <p>When the save is read, the blueprint is merged with the overlay again, so the readers get the
+ * same JSON as the writer produced and never know that the board was shared. Saves are split and
+ * merged with a streaming reader and writer, so only the board is looked at field by field and the
+ * rest of the save is copied as it is read. Blueprints that have been used are cached in memory, so
+ * loading many saves of the same board reads the blueprint only once. Saves that are not
+ * uncompressed JSON with a board, such as binary or compressed saves, are passed through unchanged.
+ *
+ * <p>Blueprints are never deleted, since any number of saves may refer to one. The keys under
+ * {@code blueprints/} are reserved and are not listed by {@link #keys(String)}. Since the saves are
+ * only complete when read through this store, their files are not handed out by {@link
+ * #pathOf(String)}, and the store is enabled with the {@code boardgame.dedupBoards} system
+ * property rather than by default.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class BlueprintSaveStore implements SaveStore {
+  private static final Logger LOGGER = Logger.getLogger(BlueprintSaveStore.class.getName());
+
+  /** The prefix of the keys the blueprints are stored under. */
+  public static final String BLUEPRINT_PREFIX = "blueprints/";
+
+  private static final String INDENT = "  ";
+  private static final String BOARD = "board";
+  private static final String TILES = "tiles";
+  private static final String BLUEPRINT = "blueprint";
+  private static final String OWNERS = "owners";
+  private static final String ACTIONS = "actions";
+  private static final String OWNER = "owner";
+  private static final String ACTION = "action";
+  private static final List<String> PLAYER_FIELDS =
+      List.of("ownerId", "playerIds", "owner", "allPlayers");
+  private static final TypeAdapter<JsonElement> TREE = new Gson().getAdapter(JsonElement.class);
+
+  private final SaveStore delegate;
+  private final Map<String, JsonObject> blueprints = new ConcurrentHashMap<>();
+  private final Map<String, CompletableFuture<Void>> storedBlueprints = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a store that keeps the boards of the saves written through it once, in another store.
+   *
+   * @param delegate the store that holds the saves and the blueprints
+   */
+  public BlueprintSaveStore(SaveStore delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Writes a save, storing its board as a shared blueprint. The first save of a board that is not
+   * known to this store yet is written once the blueprint has been stored, so that a save is never
+   * stored before the blueprint it refers to.
+   *
+   * @param key the key to write
+   * @param content the content to store
+   * @return a future that completes when the save is stored durably
+   * @throws IllegalArgumentException if the key is not valid or is reserved for blueprints
+   */
+  @Override
+  public CompletableFuture<Void> write(String key, ByteBuffer content) {
+    if (SaveStore.checkKey(key).startsWith(BLUEPRINT_PREFIX)) {
+      throw new IllegalArgumentException("Save key is reserved for blueprints: " + key);
+    }
+    SplitSave split = splitSave(content);
+    if (split == null) {
+      return delegate.write(key, content);
+    }
+    return storeBlueprint(split.hash, split.blueprint)
+        .thenCompose(ignored -> delegate.write(key, split.save));
+  }
+
+  /**
+   * Reads a save, merging its board back from the blueprint it refers to.
+   *
+   * @param key the key to read
+   * @return a future of the content as it was written, which is empty if the key is not in the
+   *     store
+   */
+  @Override
+  public CompletableFuture<Optional<ByteBuffer>> read(String key) {
+    return delegate
+        .read(key)
+        .thenCompose(
+            content -> {
+              String hash = content.map(BlueprintSaveStore::blueprintOf).orElse(null);
+              if (hash == null) {
+                return CompletableFuture.completedFuture(content);
+              }
+              return blueprint(hash)
+                  .thenApply(
+                      blueprint -> {
+                        try {
+                          return Optional.of(mergeSave(content.get(), blueprint));
+                        } catch (IOException e) {
+                          throw new UncheckedIOException(e);
+                        }
+                      });
+            });
+  }
+
+  @Override
+  public CompletableFuture<Boolean> delete(String key) {
+    if (SaveStore.checkKey(key).startsWith(BLUEPRINT_PREFIX)) {
+      throw new IllegalArgumentException("Save key is reserved for blueprints: " + key);
+    }
+    return delegate.delete(key);
+  }
+
+  /**
+   * Lists the keys of the saves that start with a prefix. The blueprints are left out.
+   *
+   * @param prefix the prefix of the keys, or an empty string for every key
+   * @return the keys, in sorted order
+   * @throws IOException if the keys cannot be listed
+   */
+  @Override
+  public List<String> keys(String prefix) throws IOException {
+    return delegate.keys(prefix).stream()
+        .filter(key -> !key.startsWith(BLUEPRINT_PREFIX))
+        .toList();
+  }
+
+  /**
+   * Lists the hashes of the blueprints in the store.
+   *
+   * @return the hashes, in sorted order
+   * @throws IOException if the keys of the store cannot be listed
+   */
+  public List<String> blueprintHashes() throws IOException {
+    return delegate.keys(BLUEPRINT_PREFIX).stream()
+        .map(key -> key.substring(BLUEPRINT_PREFIX.length(), key.length() - ".json".length()))
+        .toList();
+  }
+
+  /**
+   * Gets no file for any key. The files of the store the saves are kept in hold the saves without
+   * their boards, which the readers of save files cannot open, so the saves are only read through
+   * this store.
+   *
+   * @param key the key
+   * @return always empty
+   */
+  @Override
+  public Optional<Path> pathOf(String key) {
+    return Optional.empty();
+  }
+
+  @Override
+  public void close() throws IOException {
+    delegate.close();
+  }
+
+  /**
+   * Splits a save into the blueprint of its board and the save that refers to it.
+   *
+   * @param content the content of the save
+   * @return the split save, or null if the content is not a JSON object with a board
+   */
+  private static SplitSave splitSave(ByteBuffer content) {
+    JsonReader in = jsonObjectReader(content);
+    if (in == null) {
+      return null;
+    }
+    StringWriter text = new StringWriter();
+    SplitSave split = null;
+    try (JsonWriter out = new JsonWriter(text)) {
+      in.beginObject();
+      out.beginObject();
+      while (in.hasNext()) {
+        String name = in.nextName();
+        out.name(name);
+        if (split != null || !BOARD.equals(name) || in.peek() != JsonToken.BEGIN_OBJECT) {
+          copy(in, out);
+          continue;
+        }
+        JsonObject overlay = new JsonObject();
+        StringWriter blueprintText = new StringWriter();
+        try (JsonWriter blueprintOut = new JsonWriter(blueprintText)) {
+          splitBoard(in, blueprintOut, overlay);
+        }
+        split = new SplitSave(StandardCharsets.UTF_8.encode(blueprintText.toString()));
+        out.beginObject();
+        out.name(BLUEPRINT).value(split.hash);
+        for (Map.Entry<String, JsonElement> entry : overlay.entrySet()) {
+          out.name(entry.getKey());
+          TREE.write(out, entry.getValue());
+        }
+        out.endObject();
+      }
+      in.endObject();
+      out.endObject();
+      if (in.peek() != JsonToken.END_DOCUMENT) {
+        return null;
+      }
+    } catch (IOException | IllegalStateException | JsonParseException | NumberFormatException e) {
+      // Content that is not well-formed JSON is stored as it is
+      return null;
+    }
+    if (split != null) {
+      split.save = StandardCharsets.UTF_8.encode(text.toString());
+    }
+    return split;
+  }
+
+  /**
+   * Splits a board into its blueprint and its overlay while reading it.
+   *
+   * @param in the reader, positioned at the board
+   * @param blueprint the writer the blueprint is written to
+   * @param overlay the object the owners and the actions that refer to players are added to
+   */
+  private static void splitBoard(JsonReader in, JsonWriter blueprint, JsonObject overlay)
+      throws IOException {
+    JsonObject owners = new JsonObject();
+    JsonObject actions = new JsonObject();
+    in.beginObject();
+    blueprint.beginObject();
+    while (in.hasNext()) {
+      String name = in.nextName();
+      blueprint.name(name);
+      if (!TILES.equals(name) || in.peek() != JsonToken.BEGIN_OBJECT) {
+        copy(in, blueprint);
+        continue;
+      }
+      in.beginObject();
+      blueprint.beginObject();
+      while (in.hasNext()) {
+        String id = in.nextName();
+        blueprint.name(id);
+        if (in.peek() != JsonToken.BEGIN_OBJECT) {
+          copy(in, blueprint);
+          continue;
+        }
+        in.beginObject();
+        blueprint.beginObject();
+        while (in.hasNext()) {
+          String field = in.nextName();
+          if (OWNER.equals(field)) {
+            owners.add(id, TREE.read(in));
+            continue;
+          }
+          if (!ACTION.equals(field)) {
+            blueprint.name(field);
+            copy(in, blueprint);
+            continue;
+          }
+          JsonElement action = TREE.read(in);
+          if (refersToPlayers(action)) {
+            actions.add(id, action);
+          } else {
+            blueprint.name(field);
+            TREE.write(blueprint, action);
+          }
+        }
+        in.endObject();
+        blueprint.endObject();
+      }
+      in.endObject();
+      blueprint.endObject();
+    }
+    in.endObject();
+    blueprint.endObject();
+    if (owners.size() > 0) {
+      overlay.add(OWNERS, owners);
+    }
+    if (actions.size() > 0) {
+      overlay.add(ACTIONS, actions);
+    }
+  }
+
+  /**
+   * Finds the hash of the blueprint a save refers to, without reading the rest of the save.
+   *
+   * @return the hash, or null if the content is not a save with a shared board
+   */
+  private static String blueprintOf(ByteBuffer content) {
+    JsonReader in = jsonObjectReader(content);
+    if (in == null) {
+      return null;
+    }
+    try {
+      in.beginObject();
+      while (in.hasNext()) {
+        if (!BOARD.equals(in.nextName()) || in.peek() != JsonToken.BEGIN_OBJECT) {
+          in.skipValue();
+          continue;
+        }
+        in.beginObject();
+        while (in.hasNext()) {
+          if (BLUEPRINT.equals(in.nextName()) && in.peek() == JsonToken.STRING) {
+            return in.nextString();
+          }
+          in.skipValue();
+        }
+        return null;
+      }
+    } catch (IOException | IllegalStateException | NumberFormatException e) {
+      // Content that is not well-formed JSON is read as it is
+    }
+    return null;
+  }
+
+  /**
+   * Copies a save that refers to a blueprint, writing the board merged from the blueprint and the
+   * overlay of the save in place of the reference, indented like the save writers do.
+   */
+  private static ByteBuffer mergeSave(ByteBuffer content, JsonObject blueprint) throws IOException {
+    JsonReader in = jsonObjectReader(content);
+    StringWriter text = new StringWriter();
+    try (JsonWriter out = new JsonWriter(text)) {
+      out.setIndent(INDENT);
+      in.beginObject();
+      out.beginObject();
+      boolean merged = false;
+      while (in.hasNext()) {
+        String name = in.nextName();
+        out.name(name);
+        if (merged || !BOARD.equals(name) || in.peek() != JsonToken.BEGIN_OBJECT) {
+          copy(in, out);
+          continue;
+        }
+        writeBoard(out, blueprint, TREE.read(in).getAsJsonObject());
+        merged = true;
+      }
+      in.endObject();
+      out.endObject();
+    } catch (IllegalStateException | JsonParseException | NumberFormatException e) {
+      throw new IOException("Failed to merge a save with its board blueprint", e);
+    }
+    return StandardCharsets.UTF_8.encode(text.toString());
+  }
+
+  /**
+   * Writes a blueprint merged with the overlay of a save, putting the owner and the action of each
+   * tile back at the end of the tile, where the writers put them.
+   */
+  private static void writeBoard(JsonWriter out, JsonObject blueprint, JsonObject sharedBoard)
+      throws IOException {
+    JsonObject owners = objectOrEmpty(sharedBoard, OWNERS);
+    JsonObject actions = objectOrEmpty(sharedBoard, ACTIONS);
+    out.beginObject();
+    for (Map.Entry<String, JsonElement> field : blueprint.entrySet()) {
+      out.name(field.getKey());
+      if (!TILES.equals(field.getKey()) || !field.getValue().isJsonObject()) {
+        TREE.write(out, field.getValue());
+        continue;
+      }
+      out.beginObject();
+      for (Map.Entry<String, JsonElement> entry : field.getValue().getAsJsonObject().entrySet()) {
+        out.name(entry.getKey());
+        if (!entry.getValue().isJsonObject()) {
+          TREE.write(out, entry.getValue());
+          continue;
+        }
+        JsonObject shared = entry.getValue().getAsJsonObject();
+        out.beginObject();
+        for (Map.Entry<String, JsonElement> tileField : shared.entrySet()) {
+          if (!ACTION.equals(tileField.getKey())) {
+            out.name(tileField.getKey());
+            TREE.write(out, tileField.getValue());
+          }
+        }
+        if (owners.has(entry.getKey())) {
+          out.name(OWNER);
+          TREE.write(out, owners.get(entry.getKey()));
+        }
+        if (actions.has(entry.getKey())) {
+          out.name(ACTION);
+          TREE.write(out, actions.get(entry.getKey()));
+        } else if (shared.has(ACTION)) {
+          out.name(ACTION);
+          TREE.write(out, shared.get(ACTION));
+        }
+        out.endObject();
+      }
+      out.endObject();
+    }
+    out.endObject();
+  }
+
+  /** Copies the next value of a reader to a writer, token by token. */
+  private static void copy(JsonReader in, JsonWriter out) throws IOException {
+    switch (in.peek()) {
+      case BEGIN_OBJECT -> {
+        in.beginObject();
+        out.beginObject();
+        while (in.hasNext()) {
+          out.name(in.nextName());
+          copy(in, out);
+        }
+        in.endObject();
+        out.endObject();
+      }
+      case BEGIN_ARRAY -> {
+        in.beginArray();
+        out.beginArray();
+        while (in.hasNext()) {
+          copy(in, out);
+        }
+        in.endArray();
+        out.endArray();
+      }
+      case STRING -> out.value(in.nextString());
+      // The number is copied as it was written, without converting it
+      case NUMBER -> out.jsonValue(in.nextString());
+      case BOOLEAN -> out.value(in.nextBoolean());
+      case NULL -> {
+        in.nextNull();
+        out.nullValue();
+      }
+      default -> throw new IllegalStateException("Expected a JSON value but was " + in.peek());
+    }
+  }
+
+  private static boolean refersToPlayers(JsonElement action) {
+    return action.isJsonObject() && PLAYER_FIELDS.stream().anyMatch(action.getAsJsonObject()::has);
+  }
+
+  private static JsonObject objectOrEmpty(JsonObject object, String name) {
+    JsonElement value = object.get(name);
+    return value != null && value.isJsonObject() ? value.getAsJsonObject() : new JsonObject();
+  }
+
+  /**
+   * Stores a blueprint the first time this store sees it. Saves of the same board that are written
+   * while it is being stored wait for the same write.
+   *
+   * @return a future that completes when the blueprint is stored
+   */
+  private CompletableFuture<Void> storeBlueprint(String hash, ByteBuffer blueprint) {
+    CompletableFuture<Void> stored = new CompletableFuture<>();
+    CompletableFuture<Void> storing = storedBlueprints.putIfAbsent(hash, stored);
+    if (storing != null) {
+      return storing;
+    }
+    delegate
+        .write(BLUEPRINT_PREFIX + hash + ".json", blueprint)
+        .whenComplete(
+            (ignored, failure) -> {
+              if (failure == null) {
+                LOGGER.info("Stored board blueprint " + hash);
+                stored.complete(null);
+                return;
+              }
+              // The next save of the board tries to store it again
+              storedBlueprints.remove(hash, stored);
+              Throwable cause =
+                  failure instanceof CompletionException ? failure.getCause() : failure;
+              stored.completeExceptionally(
+                  new IOException("Failed to store board blueprint " + hash, cause));
+            });
+    return stored;
+  }
+
+  /** Gets a blueprint from the cache, or reads it from the store the first time it is used. */
+  private CompletableFuture<JsonObject> blueprint(String hash) {
+    JsonObject cached = blueprints.get(hash);
+    if (cached != null) {
+      return CompletableFuture.completedFuture(cached);
+    }
+    return delegate
+        .read(BLUEPRINT_PREFIX + SaveStore.checkKey(hash) + ".json")
+        .thenApply(
+            content -> {
+              JsonElement blueprint;
+              try {
+                blueprint =
+                    TREE.fromJson(
+                        StandardCharsets.UTF_8
+                            .decode(
+                                content.orElseThrow(
+                                    () -> new IOException("Missing board blueprint " + hash)))
+                            .toString());
+              } catch (IOException | JsonParseException e) {
+                throw new UncheckedIOException(
+                    new IOException("Failed to read board blueprint " + hash, e));
+              }
+              if (blueprint == null || !blueprint.isJsonObject()) {
+                throw new UncheckedIOException(
+                    new IOException("Corrupt board blueprint " + hash));
+              }
+              blueprints.putIfAbsent(hash, blueprint.getAsJsonObject());
+              return blueprint.getAsJsonObject();
+            });
+  }
+
+  /**
+   * Opens a reader on content that starts with a JSON object.
+   *
+   * @return the reader, or null if the content does not start with an object
+   */
+  private static JsonReader jsonObjectReader(ByteBuffer content) {
+    ByteBuffer bytes = content.duplicate();
+    while (bytes.hasRemaining() && Character.isWhitespace(bytes.get(bytes.position()))) {
+      bytes.get();
+    }
+    if (!bytes.hasRemaining() || bytes.get(bytes.position()) != '{') {
+      return null;
+    }
+    return new JsonReader(new StringReader(StandardCharsets.UTF_8.decode(bytes).toString()));
+  }
+
+  /** Hashes the compact JSON of a blueprint, which is laid out the same way for the same board. */
+  private static String hash(ByteBuffer blueprint) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(blueprint.duplicate());
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /** The blueprint of the board of a save, and the save that refers to it by its hash. */
+  private static final class SplitSave {
+    private final ByteBuffer blueprint;
+    private final String hash;
+    private ByteBuffer save;
+
+    private SplitSave(ByteBuffer blueprint) {
+      this.blueprint = blueprint;
+      this.hash = hash(blueprint);
+    }
+  }
+}
@@ -0,0 +1,297 @@
+package edu.ntnu.iir.bidata.filehandling.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.Getter;
+
+/**
+ * Keeps every save in a file of its own under a root directory. The key of a save is its path
+ * relative to the root, so {@code monopoly/game.json} is stored in the {@code monopoly}
+ * subdirectory, and the files can be opened by every reader and tool that works on save files.
+ *
+ * <p>Files are read and written with an {@link AsynchronousFileChannel}, so no thread waits for
+ * the disk. A write goes to a temporary file next to the target, which is forced to disk and then
+ * renamed over the target in one atomic step, like {@code AtomicFileWriter} does, so a save is
+ * never seen half-written. Forcing and renaming block, so they run on threads of the store
+ * rather than on the threads that complete the asynchronous writes. Requests for a key that
+ * still has a write in flight are chained after it, which keeps the requests of a key in order.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class FileSaveStore implements SaveStore {
+  private static final String TEMPORARY_SUFFIX = ".tmp";
+
+  @Getter private final Path root;
+  private final Map<String, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+  private final ExecutorService finisher =
+      Executors.newCachedThreadPool(
+          runnable -> {
+            Thread thread = new Thread(runnable, "file-save-store");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  /**
+   * Creates a store that keeps its saves under a directory. The directory is created when the
+   * first save is written.
+   *
+   * @param root the root directory of the store
+   */
+  public FileSaveStore(Path root) {
+    this.root = root;
+  }
+
+  @Override
+  public CompletableFuture<Void> write(String key, ByteBuffer content) {
+    Path path = resolve(key);
+    return chain(key, () -> writeFile(path, content.duplicate(), finisher));
+  }
+
+  @Override
+  public CompletableFuture<Optional<ByteBuffer>> read(String key) {
+    Path path = resolve(key);
+    CompletableFuture<?> pending = inFlight.get(key);
+    if (pending == null) {
+      return readFile(path);
+    }
+    return pending.handle((ignored, failure) -> null).thenCompose(ignored -> readFile(path));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> delete(String key) {
+    Path path = resolve(key);
+    return chain(
+        key,
+        () -> {
+          try {
+            return CompletableFuture.completedFuture(Files.deleteIfExists(path));
+          } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+          }
+        });
+  }
+
+  /**
+   * Lists the keys of the save files under the root directory. Temporary files of writes in flight
+   * are left out.
+   *
+   * @param prefix the prefix of the keys, or an empty string for every key
+   * @return the keys, in sorted order
+   * @throws IOException if the directory cannot be listed
+   */
+  @Override
+  public List<String> keys(String prefix) throws IOException {
+    if (!Files.isDirectory(root)) {
+      return List.of();
+    }
+    String separator = root.getFileSystem().getSeparator();
+    try (Stream<Path> files = Files.walk(root)) {
+      return files
+          .filter(Files::isRegularFile)
+          .map(file -> root.relativize(file).toString().replace(separator, "/"))
+          .filter(key -> key.startsWith(prefix) && !key.endsWith(TEMPORARY_SUFFIX))
+          .sorted()
+          .toList();
+    }
+  }
+
+  @Override
+  public Optional<Path> pathOf(String key) {
+    return Optional.of(resolve(key));
+  }
+
+  /** Waits for the writes and deletes in flight to complete. */
+  @Override
+  public void close() {
+    for (CompletableFuture<?> pending : List.copyOf(inFlight.values())) {
+      pending.handle((ignored, failure) -> null).join();
+    }
+    finisher.shutdown();
+  }
+
+  private Path resolve(String key) {
+    return root.resolve(SaveStore.checkKey(key));
+  }
+
+  /**
+   * Runs a request for a key after the requests for the key that are still in flight. The request
+   * is queued inside the map, but started outside of it, so no file is opened while the map is
+   * locked.
+   */
+  private <T> CompletableFuture<T> chain(String key, Supplier<CompletableFuture<T>> request) {
+    CompletableFuture<Void> turn = new CompletableFuture<>();
+    CompletableFuture<T> started = turn.thenCompose(ignored -> request.get());
+    AtomicReference<CompletableFuture<?>> previous = new AtomicReference<>();
+    inFlight.compute(
+        key,
+        (ignored, waiting) -> {
+          previous.set(waiting);
+          return started;
+        });
+    started.whenComplete((value, failure) -> inFlight.remove(key, started));
+    if (previous.get() == null) {
+      turn.complete(null);
+    } else {
+      previous.get().whenComplete((value, failure) -> turn.complete(null));
+    }
+    return started;
+  }
+
+  /**
+   * Writes a file through a temporary file. The content is written asynchronously, and the
+   * temporary file is then forced to disk and moved over the file on the given executor.
+   */
+  private static CompletableFuture<Void> writeFile(
+      Path path, ByteBuffer content, ExecutorService finisher) {
+    Path temporary;
+    AsynchronousFileChannel channel;
+    try {
+      Files.createDirectories(path.toAbsolutePath().getParent());
+      temporary =
+          Files.createTempFile(
+              path.toAbsolutePath().getParent(), path.getFileName().toString(), TEMPORARY_SUFFIX);
+      channel = AsynchronousFileChannel.open(temporary, StandardOpenOption.WRITE);
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return writeFully(channel, content, 0)
+        .thenRunAsync(
+            () -> {
+              try (channel) {
+                channel.force(true);
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+              try {
+                Files.move(
+                    temporary,
+                    path,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            },
+            finisher)
+        .whenComplete(
+            (ignored, failure) -> {
+              if (failure != null) {
+                closeQuietly(channel);
+                deleteQuietly(temporary);
+              }
+            });
+  }
+
+  private static CompletableFuture<Optional<ByteBuffer>> readFile(Path path) {
+    AsynchronousFileChannel channel;
+    try {
+      channel = AsynchronousFileChannel.open(path, StandardOpenOption.READ);
+    } catch (NoSuchFileException e) {
+      return CompletableFuture.completedFuture(Optional.empty());
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    ByteBuffer content;
+    try {
+      content = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+    } catch (IOException | ArithmeticException e) {
+      closeQuietly(channel);
+      return CompletableFuture.failedFuture(e);
+    }
+    return readFully(channel, content, 0)
+        .whenComplete((ignored, failure) -> closeQuietly(channel))
+        .thenApply(ignored -> Optional.of(content.flip()));
+  }
+
+  private static CompletableFuture<Void> writeFully(
+      AsynchronousFileChannel channel, ByteBuffer content, long position) {
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    channel.write(
+        content,
+        position,
+        done,
+        new CompletionHandler<Integer, CompletableFuture<Void>>() {
+          private long next = position;
+
+          @Override
+          public void completed(Integer written, CompletableFuture<Void> future) {
+            next += written;
+            if (content.hasRemaining()) {
+              channel.write(content, next, future, this);
+            } else {
+              future.complete(null);
+            }
+          }
+
+          @Override
+          public void failed(Throwable failure, CompletableFuture<Void> future) {
+            future.completeExceptionally(failure);
+          }
+        });
+    return done;
+  }
+
+  private static CompletableFuture<Void> readFully(
+      AsynchronousFileChannel channel, ByteBuffer content, long position) {
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    channel.read(
+        content,
+        position,
+        done,
+        new CompletionHandler<Integer, CompletableFuture<Void>>() {
+          private long next = position;
+
+          @Override
+          public void completed(Integer read, CompletableFuture<Void> future) {
+            if (read < 0 || !content.hasRemaining()) {
+              // The file may have been truncated since its size was read
+              future.complete(null);
+              return;
+            }
+            next += read;
+            channel.read(content, next, future, this);
+          }
+
+          @Override
+          public void failed(Throwable failure, CompletableFuture<Void> future) {
+            future.completeExceptionally(failure);
+          }
+        });
+    return done;
+  }
+
+  private static void closeQuietly(AsynchronousFileChannel channel) {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      // The request has already failed or completed
+    }
+  }
+
+  private static void deleteQuietly(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      // A leftover temporary file is ignored by the store
+    }
+  }
+}
@@ -0,0 +1,494 @@
+package edu.ntnu.iir.bidata.filehandling.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import lombok.Getter;
+
+/**
+ * Keeps every save in a single append-only log file, with an index in memory of where the latest
+ * content of each key is. It is meant for servers that host many games and save thousands of times
+ * per second, where a file per save would cost a file creation, a rename and a force of the disk
+ * for every single save.
+ *
+ * <p>Writes and deletes are queued and appended by one background thread. The thread takes every
+ * request that is waiting, appends them with a single write and forces the file to disk once for
+ * the whole batch, so the cost of a force is shared by all the saves that arrived while the
+ * previous batch was written. Reads look up the index and read the content with a single
+ * positional read, and see the writes that are still queued.
+ *
+ * <p>Every record is framed by its length and a CRC32 checksum, like the records of the game
+ * journal. When the store is opened, the log is scanned to rebuild the index, and a record that was
+ * only partly written when the game stopped fails its checksum and is cut off. A delete appends a
+ * record without content. Once the log has grown past the compaction threshold and less than half
+ * of it holds the latest content of a key, it is compacted: the latest records are copied to a new
+ * file, which is forced to disk and renamed over the log.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class LogSaveStore implements SaveStore {
+  private static final Logger LOGGER = Logger.getLogger(LogSaveStore.class.getName());
+
+  /** The default size of the log from which on it is compacted when it is mostly stale. */
+  public static final long DEFAULT_COMPACTION_THRESHOLD = 4L * 1024 * 1024;
+
+  private static final int RECORD_HEADER_BYTES = 2 * Integer.BYTES;
+  private static final int PAYLOAD_HEADER_BYTES = 1 + Short.BYTES;
+  private static final byte OP_WRITE = 1;
+  private static final byte OP_DELETE = 2;
+
+  @Getter private final Path file;
+  private final long compactionThreshold;
+  private final Map<String, Location> index = new ConcurrentHashMap<>();
+  private final Map<String, Operation> unwritten = new ConcurrentHashMap<>();
+  private final Queue<Operation> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  private final AtomicBoolean closed = new AtomicBoolean();
+  private final ReadWriteLock channelLock = new ReentrantReadWriteLock();
+  private final ExecutorService writer =
+      Executors.newSingleThreadExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "save-store");
+            thread.setDaemon(true);
+            return thread;
+          });
+  private FileChannel channel;
+  private long end;
+  private long liveBytes;
+
+  /**
+   * Opens a log store with the default compaction threshold, creating the log if it does not
+   * exist.
+   *
+   * @param file the log file
+   * @throws IOException if the log cannot be opened or scanned
+   */
+  public LogSaveStore(Path file) throws IOException {
+    this(file, DEFAULT_COMPACTION_THRESHOLD);
+  }
+
+  /**
+   * Opens a log store, creating the log if it does not exist.
+   *
+   * @param file the log file
+   * @param compactionThreshold the size of the log from which on it is compacted when less than
+   *     half of it holds the latest content of a key
+   * @throws IOException if the log cannot be opened or scanned
+   */
+  public LogSaveStore(Path file, long compactionThreshold) throws IOException {
+    this.file = file;
+    this.compactionThreshold = compactionThreshold;
+    Path parent = file.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    this.channel =
+        FileChannel.open(
+            file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      recover();
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      writer.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> write(String key, ByteBuffer content) {
+    return submit(new Operation(key, content.duplicate())).thenApply(existed -> null);
+  }
+
+  /**
+   * Reads the content of a key. The content of a queued write is returned without touching the
+   * disk; otherwise it is read with a single positional read on the calling thread.
+   *
+   * @param key the key to read
+   * @return a future of the content, which is empty if the key is not in the store
+   */
+  @Override
+  public CompletableFuture<Optional<ByteBuffer>> read(String key) {
+    Operation queued = unwritten.get(SaveStore.checkKey(key));
+    if (queued != null) {
+      return CompletableFuture.completedFuture(
+          Optional.ofNullable(queued.content).map(ByteBuffer::asReadOnlyBuffer));
+    }
+    channelLock.readLock().lock();
+    try {
+      Location location = index.get(key);
+      if (location == null) {
+        return CompletableFuture.completedFuture(Optional.empty());
+      }
+      return CompletableFuture.completedFuture(Optional.of(readValue(location).flip()));
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    } finally {
+      channelLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public CompletableFuture<Boolean> delete(String key) {
+    return submit(new Operation(key, null));
+  }
+
+  @Override
+  public List<String> keys(String prefix) {
+    TreeSet<String> keys = new TreeSet<>();
+    channelLock.readLock().lock();
+    try {
+      keys.addAll(index.keySet());
+    } finally {
+      channelLock.readLock().unlock();
+    }
+    unwritten.forEach(
+        (key, operation) -> {
+          if (operation.content == null) {
+            keys.remove(key);
+          } else {
+            keys.add(key);
+          }
+        });
+    return keys.stream().filter(key -> key.startsWith(prefix)).toList();
+  }
+
+  /**
+   * Compacts the log after the requests that are already queued, whatever its size.
+   *
+   * @return a future that completes when the log has been compacted
+   */
+  public CompletableFuture<Void> compact() {
+    return CompletableFuture.runAsync(
+        () -> {
+          try {
+            compactNow();
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        },
+        writer);
+  }
+
+  /**
+   * Gets the size of the log, including the records that are no longer the latest content of a
+   * key.
+   *
+   * @return the size of the log in bytes
+   * @throws IOException if the size cannot be read
+   */
+  public long size() throws IOException {
+    channelLock.readLock().lock();
+    try {
+      return channel.size();
+    } finally {
+      channelLock.readLock().unlock();
+    }
+  }
+
+  /** Appends the queued requests, forces them to disk and closes the log. */
+  @Override
+  public void close() throws IOException {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    writer.close();
+    // Requests that raced with the shutdown of the writer thread are appended here
+    flush();
+    channel.close();
+  }
+
+  private CompletableFuture<Boolean> submit(Operation operation) {
+    if (closed.get()) {
+      return CompletableFuture.failedFuture(new IllegalStateException("The save store is closed"));
+    }
+    unwritten.put(operation.key, operation);
+    queue.add(operation);
+    if (flushScheduled.compareAndSet(false, true)) {
+      try {
+        writer.execute(this::flush);
+      } catch (RejectedExecutionException e) {
+        // The store is being closed, which appends the queued requests itself
+        flushScheduled.set(false);
+      }
+    }
+    return operation.done;
+  }
+
+  /** Appends every queued request as one batch. Runs on the writer thread. */
+  private void flush() {
+    flushScheduled.set(false);
+    List<Operation> batch = new ArrayList<>();
+    for (Operation operation = queue.poll(); operation != null; operation = queue.poll()) {
+      batch.add(operation);
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    List<Location> locations = new ArrayList<>(batch.size());
+    ByteBuffer records = encode(batch, end, locations);
+    try {
+      long position = end;
+      while (records.hasRemaining()) {
+        position += channel.write(records, position);
+      }
+      channel.force(false);
+      end = position;
+    } catch (IOException e) {
+      LOGGER.severe("Failed to append to the save store " + file + ": " + e.getMessage());
+      truncateQuietly();
+      for (Operation operation : batch) {
+        unwritten.remove(operation.key, operation);
+        operation.done.completeExceptionally(e);
+      }
+      return;
+    }
+
+    for (int i = 0; i < batch.size(); i++) {
+      Operation operation = batch.get(i);
+      boolean existed = apply(operation.key, locations.get(i));
+      unwritten.remove(operation.key, operation);
+      operation.done.complete(existed);
+    }
+    if (end >= compactionThreshold && liveBytes * 2 < end) {
+      try {
+        compactNow();
+      } catch (IOException e) {
+        LOGGER.warning("Failed to compact the save store " + file + ": " + e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Encodes a batch of requests as records that start at the given position of the log. The
+   * location of the content of each record is added to the list, or null for a delete.
+   */
+  private static ByteBuffer encode(List<Operation> batch, long start, List<Location> locations) {
+    int size = 0;
+    List<byte[]> keys = new ArrayList<>(batch.size());
+    for (Operation operation : batch) {
+      byte[] key = operation.key.getBytes(StandardCharsets.UTF_8);
+      keys.add(key);
+      size += RECORD_HEADER_BYTES + PAYLOAD_HEADER_BYTES + key.length + operation.contentLength();
+    }
+    ByteBuffer records = ByteBuffer.allocate(size);
+    CRC32 crc = new CRC32();
+    for (int i = 0; i < batch.size(); i++) {
+      Operation operation = batch.get(i);
+      byte[] key = keys.get(i);
+      int recordStart = records.position();
+      int payloadLength = PAYLOAD_HEADER_BYTES + key.length + operation.contentLength();
+      records.position(recordStart + RECORD_HEADER_BYTES);
+      records.put(operation.content == null ? OP_DELETE : OP_WRITE);
+      records.putShort((short) key.length);
+      records.put(key);
+      int valueStart = records.position();
+      if (operation.content != null) {
+        records.put(operation.content.duplicate());
+      }
+      crc.reset();
+      crc.update(records.slice(recordStart + RECORD_HEADER_BYTES, payloadLength));
+      records.putInt(recordStart, payloadLength);
+      records.putInt(recordStart + Integer.BYTES, (int) crc.getValue());
+      locations.add(
+          operation.content == null
+              ? null
+              : new Location(
+                  start + valueStart,
+                  operation.contentLength(),
+                  RECORD_HEADER_BYTES + payloadLength));
+    }
+    return records.flip();
+  }
+
+  /**
+   * Applies a record to the index.
+   *
+   * @param key the key of the record
+   * @param location the location of the content, or null for a delete
+   * @return true if the key was in the store before the record
+   */
+  private boolean apply(String key, Location location) {
+    Location previous = location == null ? index.remove(key) : index.put(key, location);
+    if (previous != null) {
+      liveBytes -= previous.recordBytes;
+    }
+    if (location != null) {
+      liveBytes += location.recordBytes;
+    }
+    return previous != null;
+  }
+
+  /** Scans the log to rebuild the index, and cuts off a partly written record at its end. */
+  private void recover() throws IOException {
+    long size = channel.size();
+    long position = 0;
+    ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+    CRC32 crc = new CRC32();
+    while (position + RECORD_HEADER_BYTES <= size) {
+      readFully(header.clear(), position);
+      int payloadLength = header.getInt(0);
+      int checksum = header.getInt(Integer.BYTES);
+      if (payloadLength < PAYLOAD_HEADER_BYTES
+          || position + RECORD_HEADER_BYTES + payloadLength > size) {
+        break;
+      }
+      ByteBuffer payload = ByteBuffer.allocate(payloadLength);
+      readFully(payload, position + RECORD_HEADER_BYTES);
+      crc.reset();
+      crc.update(payload.flip().duplicate());
+      if ((int) crc.getValue() != checksum) {
+        break;
+      }
+      byte op = payload.get();
+      int keyLength = Short.toUnsignedInt(payload.getShort());
+      if (keyLength > payload.remaining() || (op != OP_WRITE && op != OP_DELETE)) {
+        break;
+      }
+      byte[] key = new byte[keyLength];
+      payload.get(key);
+      long valueStart = position + RECORD_HEADER_BYTES + PAYLOAD_HEADER_BYTES + keyLength;
+      int recordBytes = RECORD_HEADER_BYTES + payloadLength;
+      apply(
+          new String(key, StandardCharsets.UTF_8),
+          op == OP_DELETE ? null : new Location(valueStart, payload.remaining(), recordBytes));
+      position += recordBytes;
+    }
+    if (position < size) {
+      LOGGER.warning("Cutting off a partly written record at the end of " + file);
+      channel.truncate(position);
+      channel.force(false);
+    }
+    end = position;
+  }
+
+  /**
+   * Copies the latest content of every key to a new log, which replaces the old log atomically.
+   * Runs on the writer thread; reads wait only while the logs are swapped.
+   */
+  private void compactNow() throws IOException {
+    Path temporary = file.resolveSibling(file.getFileName() + ".compacting");
+    List<Operation> latest = new ArrayList<>();
+    for (Map.Entry<String, Location> entry : index.entrySet()) {
+      latest.add(new Operation(entry.getKey(), readValue(entry.getValue()).flip()));
+    }
+    List<Location> locations = new ArrayList<>(latest.size());
+    ByteBuffer records = encode(latest, 0, locations);
+    long size = records.remaining();
+    try (FileChannel out =
+        FileChannel.open(
+            temporary,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      while (records.hasRemaining()) {
+        out.write(records);
+      }
+      out.force(true);
+    }
+
+    Map<String, Location> compacted = new HashMap<>();
+    for (int i = 0; i < latest.size(); i++) {
+      compacted.put(latest.get(i).key, locations.get(i));
+    }
+    channelLock.writeLock().lock();
+    try {
+      channel.close();
+      try {
+        Files.move(
+            temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        index.clear();
+        index.putAll(compacted);
+        end = size;
+        liveBytes = size;
+      } finally {
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      }
+    } finally {
+      channelLock.writeLock().unlock();
+      Files.deleteIfExists(temporary);
+    }
+    LOGGER.info("Compacted the save store " + file + " to " + size + " bytes");
+  }
+
+  private ByteBuffer readValue(Location location) throws IOException {
+    ByteBuffer value = ByteBuffer.allocate(location.length);
+    readFully(value, location.position);
+    return value;
+  }
+
+  private void readFully(ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, position);
+      if (read < 0) {
+        throw new IOException("Unexpected end of the save store " + file);
+      }
+      position += read;
+    }
+  }
+
+  private void truncateQuietly() {
+    try {
+      channel.truncate(end);
+    } catch (IOException e) {
+      // The torn record fails its checksum and is cut off the next time the log is opened
+    }
+  }
+
+  /** Where the latest content of a key is in the log. */
+  private static final class Location {
+    private final long position;
+    private final int length;
+    private final int recordBytes;
+
+    private Location(long position, int length, int recordBytes) {
+      this.position = position;
+      this.length = length;
+      this.recordBytes = recordBytes;
+    }
+  }
+
+  /** A queued write, or a delete when it has no content. */
+  private static final class Operation {
+    private final CompletableFuture<Boolean> done = new CompletableFuture<>();
+    private final String key;
+    private final ByteBuffer content;
+
+    private Operation(String key, ByteBuffer content) {
+      this.key = SaveStore.checkKey(key);
+      if (key.getBytes(StandardCharsets.UTF_8).length > 0xFFFF) {
+        throw new IllegalArgumentException("Save key is too long: " + key.length() + " chars");
+      }
+      this.content = content;
+    }
+
+    private int contentLength() {
+      return content == null ? 0 : content.remaining();
+    }
+  }
+}
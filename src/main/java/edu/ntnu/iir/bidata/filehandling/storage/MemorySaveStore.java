@@ -0,0 +1,53 @@
+package edu.ntnu.iir.bidata.filehandling.storage;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps saves in memory. Nothing is written to the disk, so this store suits tests and simulations
+ * that play many games without keeping them. The content is lost when the store is dropped.
+ *
+ * <p>Every request completes before it returns, and the content is copied when it is written, so
+ * the caller may reuse its buffer right away.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class MemorySaveStore implements SaveStore {
+  private final Map<String, ByteBuffer> contents = new ConcurrentHashMap<>();
+
+  @Override
+  public CompletableFuture<Void> write(String key, ByteBuffer content) {
+    ByteBuffer copy = ByteBuffer.allocate(content.remaining());
+    copy.put(content.duplicate()).flip();
+    contents.put(SaveStore.checkKey(key), copy.asReadOnlyBuffer());
+    return CompletableFuture.completedFuture(null);
+  }
+
+  @Override
+  public CompletableFuture<Optional<ByteBuffer>> read(String key) {
+    ByteBuffer content = contents.get(SaveStore.checkKey(key));
+    return CompletableFuture.completedFuture(
+        Optional.ofNullable(content).map(ByteBuffer::duplicate));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> delete(String key) {
+    return CompletableFuture.completedFuture(contents.remove(SaveStore.checkKey(key)) != null);
+  }
+
+  @Override
+  public List<String> keys(String prefix) {
+    return contents.keySet().stream().filter(key -> key.startsWith(prefix)).sorted().toList();
+  }
+
+  /** Does nothing, as the content is only held in memory. */
+  @Override
+  public void close() {
+    // Nothing to release
+  }
+}
@@ -0,0 +1,153 @@
+package edu.ntnu.iir.bidata.filehandling.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * A place where saved games are kept, addressed by keys such as {@code monopoly/game.json}. The
+ * store only holds bytes; the save format is chosen by the writer and reader that encode and decode
+ * them.
+ *
+ * <p>Writes, reads and deletes are asynchronous, so a caller such as a game controller never waits
+ * for the storage. Every implementation guarantees that:
+ *
+ * <ul>
+ *   <li>writes and deletes of the same key are applied in the order they were requested, so the
+ *       last request wins;
+ *   <li>a read requested after a write of the same key sees that write or a later one, even if the
+ *       write has not completed yet;
+ *   <li>a write replaces the previous content of a key as a whole, never leaving it half-written.
+ * </ul>
+ *
+ * <p>A key is made of one or more names separated by {@code /}. Names may not be empty, {@code .}
+ * or {@code ..}, so a key never points outside the store.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public interface SaveStore extends AutoCloseable {
+
+  /**
+   * Writes the content of a key, replacing any previous content. The content is read from the
+   * position to the limit of the buffer, which must not be changed until the returned future has
+   * completed.
+   *
+   * @param key the key to write
+   * @param content the content to store
+   * @return a future that completes when the content is stored durably, or completes exceptionally
+   *     if it cannot be stored
+   * @throws IllegalArgumentException if the key is not valid
+   */
+  CompletableFuture<Void> write(String key, ByteBuffer content);
+
+  /**
+   * Reads the content of a key.
+   *
+   * @param key the key to read
+   * @return a future of the content, which is empty if the key is not in the store
+   * @throws IllegalArgumentException if the key is not valid
+   */
+  CompletableFuture<Optional<ByteBuffer>> read(String key);
+
+  /**
+   * Deletes a key and its content.
+   *
+   * @param key the key to delete
+   * @return a future that completes with true if the key was in the store, false otherwise
+   * @throws IllegalArgumentException if the key is not valid
+   */
+  CompletableFuture<Boolean> delete(String key);
+
+  /**
+   * Lists the keys in the store that start with a prefix, such as {@code monopoly/}.
+   *
+   * @param prefix the prefix of the keys, or an empty string for every key
+   * @return the keys, in sorted order
+   * @throws IOException if the keys cannot be listed
+   */
+  List<String> keys(String prefix) throws IOException;
+
+  /**
+   * Reads the content of a key as a stream, for a reader that loads a saved game. Unlike {@link
+   * #read(String)}, this waits for the content.
+   *
+   * @param key the key to read
+   * @return a stream of the content
+   * @throws NoSuchFileException if the key is not in the store
+   * @throws IOException if the content cannot be read
+   * @throws IllegalArgumentException if the key is not valid
+   */
+  default InputStream open(String key) throws IOException {
+    try {
+      ByteBuffer content =
+          read(key).join().orElseThrow(() -> new NoSuchFileException(key, null, "No such save"));
+      return stream(content);
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof IOException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Gets the file that holds the content of a key, for stores that keep every key in a file of its
+   * own. Tools that work on save files, such as the saved game catalog, use it.
+   *
+   * @param key the key
+   * @return the file of the key, or empty if the store does not keep keys in files
+   */
+  default Optional<Path> pathOf(String key) {
+    return Optional.empty();
+  }
+
+  /**
+   * Waits for the requested writes and deletes to complete, then releases the resources of the
+   * store.
+   *
+   * @throws IOException if the store cannot be closed cleanly
+   */
+  @Override
+  void close() throws IOException;
+
+  /**
+   * Wraps the content read from a store in a stream. The content is copied, so the stream can be
+   * read on any thread whatever the buffer the store returned.
+   *
+   * @param content the content, read from its position to its limit
+   * @return a stream of the content
+   */
+  static InputStream stream(ByteBuffer content) {
+    byte[] bytes = new byte[content.remaining()];
+    content.duplicate().get(bytes);
+    return new ByteArrayInputStream(bytes);
+  }
+
+  /**
+   * Checks that a key is valid.
+   *
+   * @param key the key to check
+   * @return the key
+   * @throws IllegalArgumentException if the key is null, or if one of its names is empty, {@code .}
+   *     or {@code ..} or contains a backslash
+   */
+  static String checkKey(String key) {
+    if (key == null || key.isEmpty()) {
+      throw new IllegalArgumentException("Save key must not be empty");
+    }
+    for (String name : key.split("/", -1)) {
+      if (name.isEmpty() || name.equals(".") || name.equals("..") || name.contains("\\")) {
+        throw new IllegalArgumentException("Invalid save key: " + key);
+      }
+    }
+    return key;
+  }
+}
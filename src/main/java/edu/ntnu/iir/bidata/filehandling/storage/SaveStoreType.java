@@ -0,0 +1,166 @@
+package edu.ntnu.iir.bidata.filehandling.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The kinds of {@link SaveStore} that games can be saved in.
+ *
+ * <ul>
+ *   <li>{@link #FILE} keeps every save in a file of its own, under the save directory.
+ *   <li>{@link #MEMORY} keeps the saves in memory, for tests and simulations.
+ *   <li>{@link #LOG} keeps every save in one append-only log file in the save directory, for
+ *       servers that save many games at a high rate.
+ * </ul>
+ *
+ * <p>The store the game uses is chosen with the {@code boardgame.saveStore} system property, and
+ * the directory it saves to with the {@code boardgame.saveDirectory} property. Setting the {@code
+ * boardgame.dedupBoards} property to {@code true} keeps every distinct board once, in a {@link
+ * BlueprintSaveStore} in front of the chosen store. Without them, the game saves to files under
+ * {@link #DEFAULT_DIRECTORY} in the home directory of the user, which is writable wherever the game
+ * is installed.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public enum SaveStoreType {
+  FILE,
+  MEMORY,
+  LOG;
+
+  /** The system property that selects the store the game saves in. */
+  public static final String PROPERTY = "boardgame.saveStore";
+
+  /** The system property that selects the directory the game saves to. */
+  public static final String DIRECTORY_PROPERTY = "boardgame.saveDirectory";
+
+  /** The directory the game saves to if the {@value #DIRECTORY_PROPERTY} property is not set. */
+  public static final Path DEFAULT_DIRECTORY =
+      Path.of(System.getProperty("user.home"), ".boardgame", "saved_games");
+
+  /** The system property that keeps every distinct board once, shared by the saves. */
+  public static final String DEDUP_PROPERTY = "boardgame.dedupBoards";
+
+  /** The name of the log file of a {@link #LOG} store, inside the save directory. */
+  public static final String LOG_FILE_NAME = "saves.log";
+
+  private static SaveStore shared;
+  private static final List<AutoCloseable> CLOSED_BEFORE_STORE = new ArrayList<>();
+
+  /**
+   * Gets the store selected by the {@value #PROPERTY} system property, or {@link #FILE} if the
+   * property is not set.
+   *
+   * @return the configured store type
+   * @throws IllegalArgumentException if the property names no store type
+   */
+  public static SaveStoreType configured() {
+    String name = System.getProperty(PROPERTY);
+    return name == null || name.isBlank() ? FILE : fromName(name);
+  }
+
+  /**
+   * Gets the directory selected by the {@value #DIRECTORY_PROPERTY} system property, or {@link
+   * #DEFAULT_DIRECTORY} if the property is not set.
+   *
+   * @return the configured save directory
+   */
+  public static Path directory() {
+    String directory = System.getProperty(DIRECTORY_PROPERTY);
+    return directory == null || directory.isBlank() ? DEFAULT_DIRECTORY : Path.of(directory);
+  }
+
+  /**
+   * Finds a store type by its name, ignoring case.
+   *
+   * @param name the name of the store type
+   * @return the store type
+   * @throws IllegalArgumentException if no store type has the name
+   */
+  public static SaveStoreType fromName(String name) {
+    try {
+      return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unknown save store: " + name, e);
+    }
+  }
+
+  /**
+   * Gets the store that the controllers of this game share. It is opened the first time it is
+   * requested, with the configured type and directory, and stays open until the game exits.
+   *
+   * @return the shared store
+   * @throws UncheckedIOException if the store cannot be opened
+   */
+  public static synchronized SaveStore shared() {
+    if (shared == null) {
+      SaveStore opened;
+      try {
+        opened = configured().open(directory());
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to open the save store", e);
+      }
+      SaveStore store =
+          Boolean.getBoolean(DEDUP_PROPERTY) ? new BlueprintSaveStore(opened) : opened;
+      // The saves that are still waiting or being written are finished before the game exits
+      Runtime.getRuntime()
+          .addShutdownHook(
+              new Thread(
+                  () -> {
+                    closeServices();
+                    try {
+                      store.close();
+                    } catch (IOException e) {
+                      // The log cuts off a partly written save the next time it is opened
+                    }
+                  },
+                  "save-store-shutdown"));
+      shared = store;
+    }
+    return shared;
+  }
+
+  private static void closeServices() {
+    List<AutoCloseable> services;
+    synchronized (SaveStoreType.class) {
+      services = List.copyOf(CLOSED_BEFORE_STORE);
+    }
+    for (AutoCloseable service : services) {
+      try {
+        service.close();
+      } catch (Exception e) {
+        // The other services and the store are still closed
+      }
+    }
+  }
+
+  /**
+   * Closes a service when the game exits, before the shared store is closed. Services that hand
+   * saves to the store on a thread of their own register here, so that closing them finishes the
+   * saves they still hold while the store can take them.
+   *
+   * @param service the service to close before the shared store
+   */
+  public static synchronized void closeBeforeStore(AutoCloseable service) {
+    CLOSED_BEFORE_STORE.add(service);
+  }
+
+  /**
+   * Opens a store of this type.
+   *
+   * @param directory the directory the store saves to; ignored by the {@link #MEMORY} store
+   * @return the opened store
+   * @throws IOException if the store cannot be opened
+   */
+  public SaveStore open(Path directory) throws IOException {
+    return switch (this) {
+      case FILE -> new FileSaveStore(directory);
+      case MEMORY -> new MemorySaveStore();
+      case LOG -> new LogSaveStore(directory.resolve(LOG_FILE_NAME));
+    };
+  }
+}
@@ -2,23 +2,35 @@ package edu.ntnu.iir.bidata.model;
 
 import edu.ntnu.iir.bidata.model.board.Board;
 import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.events.TurnEvent;
+import edu.ntnu.iir.bidata.model.events.UiUpdateEvent;
 import edu.ntnu.iir.bidata.model.exception.GameException;
+import edu.ntnu.iir.bidata.model.metrics.GameMetrics;
 import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.PlayerRegistry;
 import edu.ntnu.iir.bidata.model.tile.actions.base.GoToTileAction;
 import edu.ntnu.iir.bidata.model.tile.actions.game.LoseTurnAction;
 import edu.ntnu.iir.bidata.model.tile.actions.game.SwitchPositionAction;
 import edu.ntnu.iir.bidata.model.tile.actions.movement.HopFiveStepsAction;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
 import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionDispatcher;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import edu.ntnu.iir.bidata.model.utils.ZobristHash;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 /**
  * A facade class that handles the main game logic and coordinates between different components.
  * This class manages the game state, players, dice, and board interactions.
  *
+ * <p>Board games use identity for {@code equals} and {@code hashCode}. Use {@link
+ * edu.ntnu.iir.bidata.model.utils.GameStateComparator#sameGameState(BoardGame, BoardGame)} to
+ * compare the state of two games.
+ *
  * @author kaamyashinde
  * @version 1.0.0
  */
@@ -29,6 +41,10 @@ public class BoardGame implements Observable {
   private final List<Player> players;
   private final Dice dice;
   private transient List<Observer> observers = new ArrayList<>();
+  @Getter(AccessLevel.NONE)
+  private transient PlayerRegistry playerRegistry = new PlayerRegistry();
+  @Getter(AccessLevel.NONE)
+  private transient ZobristHash stateHash;
   private int currentPlayerIndex;
   private boolean gameOver;
   private boolean gameInitialized;
@@ -72,6 +88,10 @@ public class BoardGame implements Observable {
       return false;
     }
     Player player = new Player(playerName);
+    player.setId(playerRegistry().register(playerName));
+    if (stateHash != null) {
+      player.attachStateHash(stateHash);
+    }
     boolean added = players.add(player);
     if (added) {
       notifyObservers();
@@ -98,7 +118,7 @@ public class BoardGame implements Observable {
     // Set all players to starting position
     players.forEach(player -> player.setCurrentTile(startingTile));
 
-    currentPlayerIndex = 0;
+    setCurrentPlayerIndex(0);
     gameOver = false;
     gameInitialized = true;
     notifyObservers();
@@ -112,6 +132,48 @@ public class BoardGame implements Observable {
    * @throws GameException if the game is not properly initialized
    */
   public MoveResult makeMoveWithResult() {
+    return playTurn(true);
+  }
+
+  /**
+   * Makes a move for the current player like {@link #makeMoveWithResult()}, but without notifying
+   * the observers. Used to play many turns back to back, after which the observers are notified
+   * once.
+   *
+   * @return MoveResult containing all move details, or null if the game is over
+   * @throws GameException if the game is not properly initialized
+   */
+  public MoveResult makeMoveWithoutNotifying() {
+    return playTurn(false);
+  }
+
+  /**
+   * Plays the turn of the current player, records it as a {@link TurnEvent} and counts it in the
+   * {@link GameMetrics}.
+   */
+  private MoveResult playTurn(boolean notify) {
+    TurnEvent event = new TurnEvent();
+    event.begin();
+    long start = System.nanoTime();
+    MoveResult result = takeTurn(notify);
+    long nanos = System.nanoTime() - start;
+    event.end();
+    if (result != null) {
+      GameMetrics.shared().recordTurn(nanos);
+    }
+    if (result != null && event.shouldCommit()) {
+      event.setPlayer(result.playerName);
+      event.setRound(roundNumber);
+      event.setFromTile(result.prevPos);
+      event.setToTile(result.posAfterAction);
+      boolean skipped = result.diceValues != null && result.diceValues.length == 0;
+      event.setOutcome(skipped ? "SKIPPED" : String.valueOf(result.outcome));
+      event.commit();
+    }
+    return result;
+  }
+
+  private MoveResult takeTurn(boolean notify) {
     if (!gameInitialized) {
       throw new GameException("Game has not been started. Call startGame() first.");
     }
@@ -135,41 +197,51 @@ public class BoardGame implements Observable {
     if (currentPlayer.isSkipNextTurn()) {
       currentPlayer.setSkipNextTurn(false);
       skipTurn = true;
-      currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
-      notifyObservers();
+      setCurrentPlayerIndex((currentPlayerIndex + 1) % players.size());
+      notifyIf(notify);
       return new MoveResult(playerName, prevPos, prevPos, prevPos, new int[0], "Skip Turn");
     }
     dice.rollAllDice();
     diceValues = dice.getLastRolledValues();
     int steps = dice.sumOfRolledValues();
-    try {
-      currentPlayer.move(steps);
-      posAfterMove = currentPlayer.getCurrentPosition();
-      Tile landedTile = currentPlayer.getCurrentTile();
-      if (landedTile != null && landedTile.getAction() != null) {
-        actionDesc = landedTile.getAction().getDescription();
-        landedTile.getAction().executeAction(currentPlayer, landedTile);
-        posAfterAction = currentPlayer.getCurrentPosition();
-      } else {
-        posAfterAction = posAfterMove;
-      }
-      if (currentPlayer.isOnLastTile()) {
-        gameOver = true;
+    MoveOutcome outcome = currentPlayer.move(steps);
+    if (outcome == MoveOutcome.OVERSHOOT) {
+      gameOver = true;
+      notifyIf(notify);
+      return new MoveResult(
+          playerName, prevPos, prevPos, prevPos, diceValues, "Reached the end of the board", outcome);
+    }
+    posAfterMove = currentPlayer.getCurrentPosition();
+    Tile landedTile = currentPlayer.getCurrentTile();
+    if (landedTile != null && landedTile.getAction() != null) {
+      TileAction action = landedTile.getAction();
+      actionDesc = action.getDescription();
+      MoveOutcome actionOutcome = TileActionDispatcher.execute(action, currentPlayer, landedTile);
+      if (actionOutcome != null) {
+        outcome = actionOutcome;
       }
-      currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
-      notifyObservers();
+      posAfterAction = currentPlayer.getCurrentPosition();
+    } else {
+      posAfterAction = posAfterMove;
+    }
+    if (outcome == MoveOutcome.OVERSHOOT) {
+      gameOver = true;
+      notifyIf(notify);
       return new MoveResult(
-          playerName, prevPos, posAfterMove, posAfterAction, diceValues, actionDesc);
-    } catch (GameException e) {
+          playerName, prevPos, posAfterMove, posAfterAction, diceValues, actionDesc, outcome);
+    }
+    if (currentPlayer.isOnLastTile()) {
       gameOver = true;
+    }
+    setCurrentPlayerIndex((currentPlayerIndex + 1) % players.size());
+    notifyIf(notify);
+    return new MoveResult(
+        playerName, prevPos, posAfterMove, posAfterAction, diceValues, actionDesc, outcome);
+  }
+
+  private void notifyIf(boolean notify) {
+    if (notify) {
       notifyObservers();
-      return new MoveResult(
-          playerName,
-          prevPos,
-          posAfterMove,
-          posAfterAction,
-          diceValues,
-          actionDesc + " (GameException: " + e.getMessage() + ")");
     }
   }
 
@@ -224,10 +296,23 @@ public class BoardGame implements Observable {
     observers.remove(observer);
   }
 
+  /**
+   * Notifies every observer of a change in the game. The update is recorded as a {@link
+   * UiUpdateEvent} and timed in the {@link GameMetrics}.
+   */
   @Override
   public void notifyObservers() {
     if (observers == null) observers = new ArrayList<>();
+    UiUpdateEvent event = new UiUpdateEvent();
+    event.begin();
+    long start = System.nanoTime();
     observers.forEach(Observer::update);
+    GameMetrics.shared().recordObserverUpdate(System.nanoTime() - start);
+    event.end();
+    if (event.shouldCommit()) {
+      event.setObserverCount(observers.size());
+      event.commit();
+    }
   }
 
   /**
@@ -236,37 +321,140 @@ public class BoardGame implements Observable {
    * @param players The new list of players
    */
   public void setPlayers(List<Player> players) {
+    this.players.forEach(player -> player.attachStateHash(null));
     this.players.clear();
     this.players.addAll(players);
+    rebuildPlayerRegistry();
     // Reset player positions to starting tile
     Tile startingTile = board.getStartingTile();
     this.players.forEach(player -> player.setCurrentTile(startingTile));
     notifyObservers();
   }
 
+  /**
+   * Gets the player with the given id. The id of a player is its index in the list of players.
+   *
+   * @param id the id of the player
+   * @return the player with the given id, or null if there is no such player
+   */
+  public Player getPlayerById(int id) {
+    if (id < 0 || id >= players.size()) {
+      return null;
+    }
+    return players.get(id);
+  }
+
+  /**
+   * Gets the player with the given name in constant time.
+   *
+   * @param playerName the name of the player
+   * @return the first player with the given name, or null if there is no such player
+   */
+  public Player getPlayerByName(String playerName) {
+    int id = getPlayerId(playerName);
+    return id >= 0 ? players.get(id) : null;
+  }
+
+  /**
+   * Gets the id of the player with the given name.
+   *
+   * @param playerName the name of the player
+   * @return the id of the first player with the given name, or -1 if there is no such player
+   */
+  public int getPlayerId(String playerName) {
+    return playerRegistry().idOf(playerName);
+  }
+
+  /**
+   * Returns the player registry, rebuilding it first if it is missing or out of step with the
+   * player list. The registry is transient, so it has to be rebuilt after a game is loaded.
+   *
+   * @return the player registry for the current list of players
+   */
+  private PlayerRegistry playerRegistry() {
+    if (playerRegistry == null || playerRegistry.size() != players.size()) {
+      rebuildPlayerRegistry();
+    }
+    return playerRegistry;
+  }
+
+  /** Registers every player again and gives each one the id matching its index in the list. */
+  private void rebuildPlayerRegistry() {
+    if (playerRegistry == null) {
+      playerRegistry = new PlayerRegistry();
+    } else {
+      playerRegistry.clear();
+    }
+    players.forEach(player -> player.setId(playerRegistry.register(player.getName())));
+    if (stateHash != null) {
+      rebuildStateHash();
+    }
+  }
+
+  /**
+   * Gets the 64-bit Zobrist hash of the game state. The hash covers the positions of the players,
+   * the current player, the skip turn and jail flags, the money buckets of the players and the
+   * owners of the properties. It is built the first time it is asked for and is then kept up to
+   * date on every change, so later calls run in constant time.
+   *
+   * @return the hash of the current game state
+   */
+  public long getStateHash() {
+    playerRegistry();
+    if (stateHash == null) {
+      rebuildStateHash();
+    }
+    return stateHash.getValue();
+  }
+
+  /** Builds the state hash from scratch and connects the players and properties to it. */
+  private void rebuildStateHash() {
+    if (stateHash == null) {
+      stateHash = new ZobristHash();
+    } else {
+      stateHash.reset();
+    }
+    stateHash.updateCurrentPlayer(-1, currentPlayerIndex);
+    players.forEach(player -> player.attachStateHash(stateHash));
+    if (board != null && board.getTiles() != null) {
+      board.getTiles().values().stream()
+          .filter(PropertyTile.class::isInstance)
+          .forEach(tile -> ((PropertyTile) tile).attachStateHash(stateHash));
+    }
+  }
+
   public void setCurrentPlayerIndex(int index) {
+    if (stateHash != null) {
+      stateHash.updateCurrentPlayer(currentPlayerIndex, index);
+    }
     this.currentPlayerIndex = index;
   }
 
-  @Override
-  public int hashCode() {
-    return Objects.hash(
-        board, players, dice, currentPlayerIndex, gameOver, gameInitialized, roundNumber, level);
+  /**
+   * Sets whether the game is over. Used when a saved game is restored.
+   *
+   * @param gameOver true if the game is over
+   */
+  public void setGameOver(boolean gameOver) {
+    this.gameOver = gameOver;
   }
 
-  @Override
-  public boolean equals(Object obj) {
-    if (this == obj) return true;
-    if (obj == null || getClass() != obj.getClass()) return false;
-    BoardGame other = (BoardGame) obj;
-    return board.equals(other.board)
-        && players.equals(other.players)
-        && dice.equals(other.dice)
-        && currentPlayerIndex == other.currentPlayerIndex
-        && gameOver == other.gameOver
-        && gameInitialized == other.gameInitialized
-        && roundNumber == other.roundNumber
-        && level.equals(other.level);
+  /**
+   * Sets whether the game has been started. Used when a saved game is restored.
+   *
+   * @param gameInitialized true if the game has been started
+   */
+  public void setGameInitialized(boolean gameInitialized) {
+    this.gameInitialized = gameInitialized;
+  }
+
+  /**
+   * Sets the current round number. Used when a saved game is restored.
+   *
+   * @param roundNumber the round number
+   */
+  public void setRoundNumber(int roundNumber) {
+    this.roundNumber = roundNumber;
   }
 
   public String getLevel() {
@@ -286,6 +474,7 @@ public class BoardGame implements Observable {
     public final int posAfterAction;
     public final int[] diceValues;
     public final String actionDesc;
+    public final MoveOutcome outcome;
 
     /**
      * Creates a result object holding detailed information about a player's move in the game.
@@ -306,12 +495,45 @@ public class BoardGame implements Observable {
         int posAfterAction,
         int[] diceValues,
         String actionDesc) {
+      this(
+          playerName,
+          prevPos,
+          posAfterMove,
+          posAfterAction,
+          diceValues,
+          actionDesc,
+          MoveOutcome.MOVED);
+    }
+
+    /**
+     * Creates a result object holding detailed information about a player's move, including how
+     * the move ended.
+     *
+     * @param playerName The name of the player making the move
+     * @param prevPos The player's position on the board before the move
+     * @param posAfterMove The player's position on the board after the move, but before any actions
+     *     are applied
+     * @param posAfterAction The player's position on the board after any actions on the landed tile
+     *     are applied
+     * @param diceValues The values rolled on the dice for this move
+     * @param actionDesc A description of the action carried out on the landed tile, if any
+     * @param outcome How the move ended, e.g. whether the end of the board was reached
+     */
+    public MoveResult(
+        String playerName,
+        int prevPos,
+        int posAfterMove,
+        int posAfterAction,
+        int[] diceValues,
+        String actionDesc,
+        MoveOutcome outcome) {
       this.playerName = playerName;
       this.prevPos = prevPos;
       this.posAfterMove = posAfterMove;
       this.posAfterAction = posAfterAction;
       this.diceValues = diceValues;
       this.actionDesc = actionDesc;
+      this.outcome = outcome;
     }
   }
 }
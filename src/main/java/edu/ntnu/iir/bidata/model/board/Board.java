@@ -107,11 +107,8 @@ public class Board {
       return false;
     }
 
-    try {
-      return fromTile.getNextTile(1) == toTile;
-    } catch (GameException e) {
-      return false;
-    }
+    Tile nextTile = fromTile.getNextTile();
+    return nextTile != null && nextTile == toTile;
   }
 
   /**
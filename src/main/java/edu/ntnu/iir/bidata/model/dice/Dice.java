@@ -1,7 +1,9 @@
 package edu.ntnu.iir.bidata.model.dice;
 
+import edu.ntnu.iir.bidata.model.events.DiceRollEvent;
 import edu.ntnu.iir.bidata.model.utils.ParameterValidation;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -37,10 +39,20 @@ public class Dice {
 
   /**
    * The method responsible to roll all of the dice and update their corresponding last rolled
-   * value.
+   * value. The roll is recorded as a {@link DiceRollEvent}.
    */
   public void rollAllDice() {
+    DiceRollEvent event = new DiceRollEvent();
+    event.begin();
     dice.forEach(Die::roll);
+    event.end();
+    if (event.shouldCommit()) {
+      int[] values = getLastRolledValues();
+      event.setDiceCount(values.length);
+      event.setValues(Arrays.toString(values));
+      event.setTotal(Arrays.stream(values).sum());
+      event.commit();
+    }
   }
 
   /**
@@ -52,6 +64,18 @@ public class Dice {
     return dice.stream().mapToInt(Die::getLastRolledValue).toArray();
   }
 
+  /**
+   * Restores the last rolled values of the dice, for example when a saved game is loaded. Values
+   * beyond the number of dice are ignored.
+   *
+   * @param values the last rolled value of each die, in order
+   */
+  public void setLastRolledValues(int[] values) {
+    for (int i = 0; i < Math.min(values.length, dice.size()); i++) {
+      dice.get(i).setLastRolledValue(values[i]);
+    }
+  }
+
   /**
    * Sum of all the rolled values stored in the dice list.
    *
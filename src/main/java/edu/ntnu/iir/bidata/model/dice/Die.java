@@ -23,4 +23,13 @@ public class Die {
   public void roll() {
     lastRolledValue = RAND.nextInt(6) + 1;
   }
+
+  /**
+   * Sets the last rolled value, used when the dice of a saved game are restored.
+   *
+   * @param lastRolledValue the value to restore
+   */
+  void setLastRolledValue(int lastRolledValue) {
+    this.lastRolledValue = lastRolledValue;
+  }
 }
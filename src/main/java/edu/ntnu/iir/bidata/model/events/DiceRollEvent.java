@@ -0,0 +1,35 @@
+package edu.ntnu.iir.bidata.model.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * A roll of all the dice of a game.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+@Name(GameEvents.NAME_PREFIX + "DiceRoll")
+@Label("Dice Roll")
+@Category({GameEvents.CATEGORY, "Turns"})
+@Description("A roll of all the dice of a game")
+@StackTrace(false)
+@Setter
+public class DiceRollEvent extends Event {
+
+  @Label("Dice")
+  @Description("The number of dice rolled")
+  private int diceCount;
+
+  @Label("Values")
+  @Description("The value of each die, in order")
+  private String values;
+
+  @Label("Total")
+  private int total;
+}
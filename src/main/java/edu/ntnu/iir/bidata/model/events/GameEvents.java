@@ -0,0 +1,24 @@
+package edu.ntnu.iir.bidata.model.events;
+
+/**
+ * The names shared by the Flight Recorder events of the board games. The games record what
+ * happens in a session as events rather than as log lines: a turn, a dice roll, a tile action, a
+ * property purchase, a rent payment, a save, a load and an update of the observers. An event that
+ * is not being recorded costs next to nothing, so the events are always in place, and a session
+ * is profiled by starting the game with a recording, for example with {@code
+ * -XX:StartFlightRecording:filename=game.jfr}, and reading it with {@code jfr print --categories
+ * "Board Game" game.jfr} or JDK Mission Control.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public final class GameEvents {
+
+  /** The prefix of the names of the events. */
+  public static final String NAME_PREFIX = "edu.ntnu.iir.bidata.";
+
+  /** The top category of the events. */
+  public static final String CATEGORY = "Board Game";
+
+  private GameEvents() {}
+}
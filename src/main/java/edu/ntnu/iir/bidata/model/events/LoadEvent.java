@@ -0,0 +1,40 @@
+package edu.ntnu.iir.bidata.model.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * The load of a saved game, from the read of the save until the game has been decoded.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+@Name(GameEvents.NAME_PREFIX + "Load")
+@Label("Load")
+@Category({GameEvents.CATEGORY, "Storage"})
+@Description("The load of a saved game, until it has been decoded")
+@StackTrace(false)
+@Setter
+public class LoadEvent extends Event {
+
+  @Label("Key")
+  @Description("The store key of the saved game")
+  private String key;
+
+  @Label("Monopoly")
+  private boolean monopoly;
+
+  @Label("Size")
+  @Description("The size of the save, or 0 if there was none")
+  @DataAmount
+  private long size;
+
+  @Label("Succeeded")
+  private boolean succeeded;
+}
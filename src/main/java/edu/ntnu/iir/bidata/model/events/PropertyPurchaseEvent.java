@@ -0,0 +1,42 @@
+package edu.ntnu.iir.bidata.model.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * An attempt of a player to buy a property, which fails if the player cannot afford it.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+@Name(GameEvents.NAME_PREFIX + "PropertyPurchase")
+@Label("Property Purchase")
+@Category({GameEvents.CATEGORY, "Money"})
+@Description("An attempt of a player to buy a property")
+@StackTrace(false)
+@Setter
+public class PropertyPurchaseEvent extends Event {
+
+  @Label("Player")
+  private String player;
+
+  @Label("Tile")
+  @Description("The id of the property tile")
+  private int tileId;
+
+  @Label("Price")
+  private int price;
+
+  @Label("Bought")
+  @Description("Whether the player could afford the property")
+  private boolean bought;
+
+  @Label("Money After")
+  @Description("The money of the player after the attempt")
+  private int moneyAfter;
+}
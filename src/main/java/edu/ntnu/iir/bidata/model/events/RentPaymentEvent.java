@@ -0,0 +1,46 @@
+package edu.ntnu.iir.bidata.model.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * An attempt of a player to pay rent for a property owned by another player, which fails if the
+ * player cannot afford it.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+@Name(GameEvents.NAME_PREFIX + "RentPayment")
+@Label("Rent Payment")
+@Category({GameEvents.CATEGORY, "Money"})
+@Description("An attempt of a player to pay rent for a property")
+@StackTrace(false)
+@Setter
+public class RentPaymentEvent extends Event {
+
+  @Label("Payer")
+  private String payer;
+
+  @Label("Owner")
+  private String owner;
+
+  @Label("Tile")
+  @Description("The id of the property tile")
+  private int tileId;
+
+  @Label("Rent")
+  private int rent;
+
+  @Label("Paid")
+  @Description("Whether the player could afford the rent")
+  private boolean paid;
+
+  @Label("Money After")
+  @Description("The money of the payer after the attempt")
+  private int moneyAfter;
+}
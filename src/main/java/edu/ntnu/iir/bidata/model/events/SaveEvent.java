@@ -0,0 +1,41 @@
+package edu.ntnu.iir.bidata.model.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * The write of a saved game, from the moment the background thread picks it up until the game has
+ * been stored.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+@Name(GameEvents.NAME_PREFIX + "Save")
+@Label("Save")
+@Category({GameEvents.CATEGORY, "Storage"})
+@Description("The write of a saved game, until it has been stored")
+@StackTrace(false)
+@Setter
+public class SaveEvent extends Event {
+
+  @Label("Target")
+  @Description("The file or store key the game is saved to")
+  private String target;
+
+  @Label("Monopoly")
+  private boolean monopoly;
+
+  @Label("Snapshot Size")
+  @Description("The size of the binary copy of the game taken when the save was requested")
+  @DataAmount
+  private long snapshotSize;
+
+  @Label("Succeeded")
+  private boolean succeeded;
+}
@@ -0,0 +1,38 @@
+package edu.ntnu.iir.bidata.model.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * The execution of the action of a tile a player landed on.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+@Name(GameEvents.NAME_PREFIX + "TileAction")
+@Label("Tile Action")
+@Category({GameEvents.CATEGORY, "Turns"})
+@Description("The execution of the action of a tile a player landed on")
+@StackTrace(false)
+@Setter
+public class TileActionEvent extends Event {
+
+  @Label("Action Type")
+  private String actionType;
+
+  @Label("Tile")
+  @Description("The id of the tile of the action")
+  private int tileId;
+
+  @Label("Player")
+  private String player;
+
+  @Label("Outcome")
+  @Description("How the move of the player ended after the action")
+  private String outcome;
+}
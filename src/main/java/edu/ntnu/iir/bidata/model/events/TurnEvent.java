@@ -0,0 +1,44 @@
+package edu.ntnu.iir.bidata.model.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * A turn of a player, from the moment it starts until it ends. The start time and duration of the
+ * event are the start and length of the turn, so a turn that waits for the player to decide lasts
+ * until the decision is made.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+@Name(GameEvents.NAME_PREFIX + "Turn")
+@Label("Turn")
+@Category({GameEvents.CATEGORY, "Turns"})
+@Description("A turn of a player, from its start to its end")
+@StackTrace(false)
+@Setter
+public class TurnEvent extends Event {
+
+  @Label("Player")
+  private String player;
+
+  @Label("Round")
+  private int round;
+
+  @Label("From Tile")
+  @Description("The id of the tile the player stood on when the turn started")
+  private int fromTile;
+
+  @Label("To Tile")
+  @Description("The id of the tile the player stands on when the turn ended")
+  private int toTile;
+
+  @Label("Outcome")
+  @Description("How the turn ended")
+  private String outcome;
+}
@@ -0,0 +1,29 @@
+package edu.ntnu.iir.bidata.model.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * An update of the observers of a game, such as the views, after its state has changed. The
+ * duration of the event is the time the game waits for all of its observers.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+@Name(GameEvents.NAME_PREFIX + "UiUpdate")
+@Label("UI Update")
+@Category({GameEvents.CATEGORY, "View"})
+@Description("An update of the observers of a game after its state has changed")
+@StackTrace(false)
+@Setter
+public class UiUpdateEvent extends Event {
+
+  @Label("Observers")
+  @Description("The number of observers that were updated")
+  private int observerCount;
+}
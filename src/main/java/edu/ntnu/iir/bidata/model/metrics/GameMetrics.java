@@ -0,0 +1,266 @@
+package edu.ntnu.iir.bidata.model.metrics;
+
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import lombok.Getter;
+
+/**
+ * Counters and latency histograms of the game engine: the turns played and their rate, how long
+ * moves, tile actions, saves, loads and observer updates take, and how many games are being
+ * played. Recording turns, latencies and failures is lock-free, so the engine records into the
+ * metrics on every turn. The games being played are kept in a synchronized weak set, which is only
+ * touched when a game starts or ends.
+ *
+ * <p>The engine records into the {@link #shared()} metrics, which only count. The application
+ * publishes them with {@link #publishShared()}, which registers them as an MBean under {@link
+ * #OBJECT_NAME} and, if the system property {@value PrometheusEndpoint#PORT_PROPERTY} is set to a
+ * port, serves them in the Prometheus text format on that port of the local host.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public final class GameMetrics implements GameMetricsMXBean {
+  private static final Logger LOGGER = Logger.getLogger(GameMetrics.class.getName());
+
+  /** The name the shared metrics are registered under with the platform MBean server. */
+  public static final String OBJECT_NAME = "edu.ntnu.iir.bidata:type=GameMetrics";
+
+  private final LongAdder turns = new LongAdder();
+  private final RateMeter turnRate;
+  @Getter private final LatencyHistogram moves = new LatencyHistogram();
+  @Getter private final LatencyHistogram saves = new LatencyHistogram();
+  @Getter private final LatencyHistogram loads = new LatencyHistogram();
+  @Getter private final LatencyHistogram observerUpdates = new LatencyHistogram();
+  private final LongAdder saveFailures = new LongAdder();
+  private final LongAdder loadFailures = new LongAdder();
+
+  /** A histogram for every type of tile action, filled in up front so reads need no lock. */
+  private final Map<TileActionType, LatencyHistogram> tileActions =
+      new EnumMap<>(TileActionType.class);
+
+  /** The games that are being played, which drop out when they end or are garbage collected. */
+  private final Set<BoardGame> sessions = Collections.newSetFromMap(new WeakHashMap<>());
+
+  /** Creates empty metrics. */
+  public GameMetrics() {
+    this(new RateMeter());
+  }
+
+  GameMetrics(RateMeter turnRate) {
+    this.turnRate = turnRate;
+    for (TileActionType type : TileActionType.values()) {
+      tileActions.put(type, new LatencyHistogram());
+    }
+  }
+
+  /**
+   * Gets the metrics the game engine records into. Getting them has no side effects; they are only
+   * registered and served once {@link #publishShared()} has been called.
+   *
+   * @return the shared metrics
+   */
+  public static GameMetrics shared() {
+    return Shared.METRICS;
+  }
+
+  /**
+   * Registers the shared metrics as an MBean and starts their Prometheus endpoint if one is
+   * configured. Calling it again has no effect.
+   */
+  public static void publishShared() {
+    Shared.publish();
+  }
+
+  /**
+   * Records a turn of a board game.
+   *
+   * @param moveNanos how long the move took, in nanoseconds
+   */
+  public void recordTurn(long moveNanos) {
+    recordTurn();
+    moves.record(moveNanos);
+  }
+
+  /** Records a turn whose move is not timed, such as a turn that waited for a player. */
+  public void recordTurn() {
+    turns.increment();
+    turnRate.mark();
+  }
+
+  /**
+   * Records the execution of a tile action.
+   *
+   * @param type the type of the action
+   * @param nanos how long the action took, in nanoseconds
+   */
+  public void recordTileAction(TileActionType type, long nanos) {
+    tileActions.get(type).record(nanos);
+  }
+
+  /**
+   * Records a save.
+   *
+   * @param nanos how long the save took, in nanoseconds
+   * @param succeeded whether the game was written
+   */
+  public void recordSave(long nanos, boolean succeeded) {
+    saves.record(nanos);
+    if (!succeeded) {
+      saveFailures.increment();
+    }
+  }
+
+  /**
+   * Records a load.
+   *
+   * @param nanos how long the load took, in nanoseconds
+   * @param succeeded whether the game was loaded
+   */
+  public void recordLoad(long nanos, boolean succeeded) {
+    loads.record(nanos);
+    if (!succeeded) {
+      loadFailures.increment();
+    }
+  }
+
+  /**
+   * Records an update of the observers of a game.
+   *
+   * @param nanos how long the update took, in nanoseconds
+   */
+  public void recordObserverUpdate(long nanos) {
+    observerUpdates.record(nanos);
+  }
+
+  /**
+   * Counts a game as being played until it ends or is no longer used.
+   *
+   * @param boardGame the game
+   */
+  public void sessionStarted(BoardGame boardGame) {
+    synchronized (sessions) {
+      sessions.add(boardGame);
+    }
+  }
+
+  /**
+   * Stops counting a game as being played.
+   *
+   * @param boardGame the game
+   */
+  public void sessionEnded(BoardGame boardGame) {
+    synchronized (sessions) {
+      sessions.remove(boardGame);
+    }
+  }
+
+  /**
+   * Gets the histogram of a type of tile action.
+   *
+   * @param type the type of the action
+   * @return the histogram
+   */
+  public LatencyHistogram getTileAction(TileActionType type) {
+    return tileActions.get(type);
+  }
+
+  @Override
+  public long getTurnCount() {
+    return turns.sum();
+  }
+
+  @Override
+  public double getTurnsPerSecond() {
+    return turnRate.perSecond();
+  }
+
+  @Override
+  public int getActiveSessions() {
+    synchronized (sessions) {
+      return sessions.size();
+    }
+  }
+
+  @Override
+  public LatencySummary getMoveLatency() {
+    return moves.summary();
+  }
+
+  @Override
+  public Map<String, LatencySummary> getTileActionLatency() {
+    Map<String, LatencySummary> summaries = new LinkedHashMap<>();
+    tileActions.forEach(
+        (type, histogram) -> {
+          if (histogram.getCount() > 0) {
+            summaries.put(type.name(), histogram.summary());
+          }
+        });
+    return summaries;
+  }
+
+  @Override
+  public LatencySummary getSaveLatency() {
+    return saves.summary();
+  }
+
+  @Override
+  public long getSaveFailures() {
+    return saveFailures.sum();
+  }
+
+  @Override
+  public LatencySummary getLoadLatency() {
+    return loads.summary();
+  }
+
+  @Override
+  public long getLoadFailures() {
+    return loadFailures.sum();
+  }
+
+  @Override
+  public LatencySummary getObserverUpdateLatency() {
+    return observerUpdates.summary();
+  }
+
+  /** Holds the shared metrics, which are created on first use and published on request. */
+  private static final class Shared {
+    private static final GameMetrics METRICS = new GameMetrics();
+    private static boolean published = false;
+
+    private static synchronized void publish() {
+      if (published) {
+        return;
+      }
+      published = true;
+      GameMetrics metrics = METRICS;
+      try {
+        ManagementFactory.getPlatformMBeanServer()
+            .registerMBean(metrics, new ObjectName(OBJECT_NAME));
+      } catch (JMException e) {
+        LOGGER.warning("Failed to register the game metrics MBean: " + e.getMessage());
+      }
+      String port = System.getProperty(PrometheusEndpoint.PORT_PROPERTY);
+      if (port != null) {
+        try {
+          PrometheusEndpoint endpoint = PrometheusEndpoint.start(metrics, Integer.parseInt(port));
+          LOGGER.info("Serving game metrics on port " + endpoint.getPort());
+        } catch (IOException | IllegalArgumentException e) {
+          LOGGER.warning("Failed to start the game metrics endpoint: " + e.getMessage());
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package edu.ntnu.iir.bidata.model.metrics;
+
+import java.util.Map;
+
+/**
+ * The management interface of the game metrics, registered under {@link
+ * GameMetrics#OBJECT_NAME}. Latencies are summaries in milliseconds.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public interface GameMetricsMXBean {
+
+  /**
+   * Gets the number of turns played.
+   *
+   * @return the number of turns
+   */
+  long getTurnCount();
+
+  /**
+   * Gets the number of turns played per second over the last few seconds.
+   *
+   * @return the rate of turns
+   */
+  double getTurnsPerSecond();
+
+  /**
+   * Gets the number of games that have been started and have neither ended nor been dropped.
+   *
+   * @return the number of active games
+   */
+  int getActiveSessions();
+
+  /**
+   * Gets how long a move of a board game takes, from the roll to the end of the tile action.
+   *
+   * @return the summary of the moves
+   */
+  LatencySummary getMoveLatency();
+
+  /**
+   * Gets how long each type of tile action takes, for the types that have run.
+   *
+   * @return the summary of each type of tile action, by the name of the type
+   */
+  Map<String, LatencySummary> getTileActionLatency();
+
+  /**
+   * Gets how long a save takes to be written, once the background thread has picked it up.
+   *
+   * @return the summary of the saves
+   */
+  LatencySummary getSaveLatency();
+
+  /**
+   * Gets the number of saves that could not be written.
+   *
+   * @return the number of failed saves
+   */
+  long getSaveFailures();
+
+  /**
+   * Gets how long a load takes, from the read of the save to the decoded game.
+   *
+   * @return the summary of the loads
+   */
+  LatencySummary getLoadLatency();
+
+  /**
+   * Gets the number of loads that failed.
+   *
+   * @return the number of failed loads
+   */
+  long getLoadFailures();
+
+  /**
+   * Gets how long a game waits for all of its observers to be updated.
+   *
+   * @return the summary of the updates
+   */
+  LatencySummary getObserverUpdateLatency();
+}
@@ -0,0 +1,145 @@
+package edu.ntnu.iir.bidata.model.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations that any number of threads can record into without locking. The
+ * durations are counted in buckets whose upper bounds double from one microsecond to about half a
+ * minute, with a last bucket for anything longer, so recording a duration is a few atomic
+ * additions and a percentile is accurate to within a factor of two.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public final class LatencyHistogram {
+
+  /** The number of buckets, including the last one that has no upper bound. */
+  public static final int BUCKETS = 27;
+
+  /** The upper bound of the first bucket is 2 to the power of this, in nanoseconds. */
+  private static final int FIRST_BUCKET_BITS = 10;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+  private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+  /**
+   * Records a duration.
+   *
+   * @param nanos the duration in nanoseconds
+   */
+  public void record(long nanos) {
+    long duration = Math.max(nanos, 0);
+    buckets.incrementAndGet(bucketOf(duration));
+    count.increment();
+    totalNanos.add(duration);
+    maxNanos.accumulate(duration);
+  }
+
+  /**
+   * Gets the number of durations recorded.
+   *
+   * @return the number of durations
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Gets the sum of the durations recorded.
+   *
+   * @return the sum in nanoseconds
+   */
+  public long getTotalNanos() {
+    return totalNanos.sum();
+  }
+
+  /**
+   * Gets the longest duration recorded.
+   *
+   * @return the longest duration in nanoseconds, or 0 if none has been recorded
+   */
+  public long getMaxNanos() {
+    return maxNanos.get();
+  }
+
+  /**
+   * Gets the number of durations in each bucket. The counts are read one by one while durations
+   * may still be recorded, so they can be a few durations apart from {@link #getCount()}.
+   *
+   * @return the count of each bucket, in the order of the buckets
+   */
+  public long[] getBucketCounts() {
+    long[] counts = new long[BUCKETS];
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      counts[bucket] = buckets.get(bucket);
+    }
+    return counts;
+  }
+
+  /**
+   * Gets a duration that a share of the recorded durations do not exceed, rounded up to the upper
+   * bound of its bucket and never more than the longest duration.
+   *
+   * @param quantile the share, between 0 and 1
+   * @return the duration in nanoseconds, or 0 if none has been recorded
+   */
+  public long getPercentileNanos(double quantile) {
+    long[] counts = getBucketCounts();
+    long total = 0;
+    for (long bucketCount : counts) {
+      total += bucketCount;
+    }
+    long rank = (long) Math.ceil(quantile * total);
+    long seen = 0;
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      seen += counts[bucket];
+      if (seen > 0 && seen >= rank) {
+        return Math.min(upperBoundNanos(bucket), getMaxNanos());
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Gets a summary of the durations recorded.
+   *
+   * @return the summary
+   */
+  public LatencySummary summary() {
+    long durations = getCount();
+    return new LatencySummary(
+        durations,
+        durations == 0 ? 0 : millis(getTotalNanos()) / durations,
+        millis(getPercentileNanos(0.5)),
+        millis(getPercentileNanos(0.99)),
+        millis(getMaxNanos()));
+  }
+
+  /**
+   * Gets the upper bound of a bucket.
+   *
+   * @param bucket the bucket
+   * @return the longest duration the bucket counts, in nanoseconds, or {@link Long#MAX_VALUE} for
+   *     the last bucket
+   */
+  public static long upperBoundNanos(int bucket) {
+    return bucket == BUCKETS - 1 ? Long.MAX_VALUE : 1L << (bucket + FIRST_BUCKET_BITS);
+  }
+
+  /** Gets the bucket of a duration, the first one whose upper bound is not below it. */
+  static int bucketOf(long nanos) {
+    if (nanos <= 1L << FIRST_BUCKET_BITS) {
+      return 0;
+    }
+    int bits = Long.SIZE - Long.numberOfLeadingZeros(nanos - 1);
+    return Math.min(bits - FIRST_BUCKET_BITS, BUCKETS - 1);
+  }
+
+  private static double millis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+}
@@ -0,0 +1,39 @@
+package edu.ntnu.iir.bidata.model.metrics;
+
+import javax.management.ConstructorParameters;
+import lombok.Getter;
+
+/**
+ * A summary of a {@link LatencyHistogram} at one moment, in milliseconds. It is the value of the
+ * latency attributes of the game metrics MBean, which JMX clients see as composite data.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+@Getter
+public class LatencySummary {
+  private final long count;
+  private final double meanMillis;
+  private final double p50Millis;
+  private final double p99Millis;
+  private final double maxMillis;
+
+  /**
+   * Creates a summary.
+   *
+   * @param count the number of durations
+   * @param meanMillis the mean duration
+   * @param p50Millis the median duration, rounded up to its bucket
+   * @param p99Millis the 99th percentile duration, rounded up to its bucket
+   * @param maxMillis the longest duration
+   */
+  @ConstructorParameters({"count", "meanMillis", "p50Millis", "p99Millis", "maxMillis"})
+  public LatencySummary(
+      long count, double meanMillis, double p50Millis, double p99Millis, double maxMillis) {
+    this.count = count;
+    this.meanMillis = meanMillis;
+    this.p50Millis = p50Millis;
+    this.p99Millis = p99Millis;
+    this.maxMillis = maxMillis;
+  }
+}
@@ -0,0 +1,175 @@
+package edu.ntnu.iir.bidata.model.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serves game metrics in the Prometheus text format at {@value #PATH}, on a port of the local
+ * host only. The server runs on a single daemon thread, so it never keeps the application alive,
+ * and every scrape reads the metrics as they are at that moment.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public final class PrometheusEndpoint implements AutoCloseable {
+
+  /** The system property that turns the endpoint of the shared metrics on, set to a port. */
+  public static final String PORT_PROPERTY = "boardgame.metrics.port";
+
+  /** The path the metrics are served at. */
+  public static final String PATH = "/metrics";
+
+  private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private final HttpServer server;
+
+  private PrometheusEndpoint(HttpServer server) {
+    this.server = server;
+  }
+
+  /**
+   * Starts serving metrics on a port of the local host.
+   *
+   * @param metrics the metrics to serve
+   * @param port the port, or 0 for any free port
+   * @return the running endpoint
+   * @throws IOException if the port cannot be bound
+   */
+  public static PrometheusEndpoint start(GameMetrics metrics, int port) throws IOException {
+    HttpServer server =
+        HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+    server.createContext(PATH, exchange -> respond(exchange, metrics));
+    // The dispatcher thread is a daemon only if the thread that starts the server is one
+    Thread starter = new Thread(server::start, "metrics-endpoint-start");
+    starter.setDaemon(true);
+    starter.start();
+    try {
+      starter.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return new PrometheusEndpoint(server);
+  }
+
+  /**
+   * Gets the port the endpoint listens on.
+   *
+   * @return the port
+   */
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  /** Stops serving metrics. */
+  @Override
+  public void close() {
+    server.stop(0);
+  }
+
+  private static void respond(HttpExchange exchange, GameMetrics metrics) throws IOException {
+    try (exchange) {
+      if (!"GET".equals(exchange.getRequestMethod())) {
+        exchange.sendResponseHeaders(405, -1);
+        return;
+      }
+      byte[] body = render(metrics).getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    }
+  }
+
+  /**
+   * Renders metrics in the Prometheus text format.
+   *
+   * @param metrics the metrics
+   * @return the metrics as text
+   */
+  static String render(GameMetrics metrics) {
+    StringBuilder text = new StringBuilder();
+    header(text, "boardgame_turns_total", "counter", "Turns played.");
+    sample(text, "boardgame_turns_total", "", metrics.getTurnCount());
+    header(text, "boardgame_turns_per_second", "gauge", "Turns per second over the last seconds.");
+    sample(text, "boardgame_turns_per_second", "", metrics.getTurnsPerSecond());
+    header(text, "boardgame_active_sessions", "gauge", "Games started and not yet ended.");
+    sample(text, "boardgame_active_sessions", "", metrics.getActiveSessions());
+    histogram(
+        text, "boardgame_move_duration_seconds", "Duration of a move.", metrics.getMoves());
+    header(
+        text,
+        "boardgame_tile_action_duration_seconds",
+        "histogram",
+        "Duration of a tile action, by type.");
+    for (TileActionType type : TileActionType.values()) {
+      LatencyHistogram histogram = metrics.getTileAction(type);
+      if (histogram.getCount() > 0) {
+        String labels = "type=\"" + type + "\",";
+        buckets(text, "boardgame_tile_action_duration_seconds", labels, histogram);
+      }
+    }
+    histogram(text, "boardgame_save_duration_seconds", "Duration of a save.", metrics.getSaves());
+    header(text, "boardgame_save_failures_total", "counter", "Saves that failed.");
+    sample(text, "boardgame_save_failures_total", "", metrics.getSaveFailures());
+    histogram(text, "boardgame_load_duration_seconds", "Duration of a load.", metrics.getLoads());
+    header(text, "boardgame_load_failures_total", "counter", "Loads that failed.");
+    sample(text, "boardgame_load_failures_total", "", metrics.getLoadFailures());
+    histogram(
+        text,
+        "boardgame_observer_update_duration_seconds",
+        "Duration of an update of the observers of a game.",
+        metrics.getObserverUpdates());
+    return text.toString();
+  }
+
+  private static void header(StringBuilder text, String name, String type, String help) {
+    text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+    text.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+  }
+
+  private static void sample(StringBuilder text, String name, String labels, Number value) {
+    text.append(name);
+    if (!labels.isEmpty()) {
+      text.append('{').append(labels).append('}');
+    }
+    text.append(' ').append(format(value.doubleValue())).append('\n');
+  }
+
+  private static void histogram(
+      StringBuilder text, String name, String help, LatencyHistogram histogram) {
+    header(text, name, "histogram", help);
+    buckets(text, name, "", histogram);
+  }
+
+  /** Writes the cumulative buckets, sum and count of a histogram, with labels ending in a comma. */
+  private static void buckets(
+      StringBuilder text, String name, String labels, LatencyHistogram histogram) {
+    long[] counts = histogram.getBucketCounts();
+    long cumulative = 0;
+    for (int bucket = 0; bucket < counts.length; bucket++) {
+      cumulative += counts[bucket];
+      String bound =
+          bucket == counts.length - 1
+              ? "+Inf"
+              : format(LatencyHistogram.upperBoundNanos(bucket) / 1e9);
+      sample(text, name + "_bucket", labels + "le=\"" + bound + "\"", cumulative);
+    }
+    String plainLabels = labels.isEmpty() ? "" : labels.substring(0, labels.length() - 1);
+    sample(text, name + "_sum", plainLabels, histogram.getTotalNanos() / 1e9);
+    sample(text, name + "_count", plainLabels, cumulative);
+  }
+
+  private static String format(double value) {
+    if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+      return Long.toString((long) value);
+    }
+    return Double.toString(value);
+  }
+}
@@ -0,0 +1,76 @@
+package edu.ntnu.iir.bidata.model.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Counts how often something happens per second, over the last few whole seconds, without
+ * locking. Every second has a slot in a small ring, which is reused once the second is too old to
+ * be part of the rate. A mark that races with the reuse of its slot can be lost, which only makes
+ * the rate of that second slightly low.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+final class RateMeter {
+
+  /** The number of whole seconds the rate is taken over. */
+  static final int WINDOW_SECONDS = 5;
+
+  /** The number of slots, more than the window so the current second never overwrites it. */
+  private static final int SLOTS = 8;
+
+  private final AtomicLongArray seconds = new AtomicLongArray(SLOTS);
+  private final AtomicLongArray counts = new AtomicLongArray(SLOTS);
+  private final LongSupplier clock;
+
+  /** Creates a rate meter that follows {@link System#nanoTime()}. */
+  RateMeter() {
+    this(System::nanoTime);
+  }
+
+  /**
+   * Creates a rate meter that follows a clock.
+   *
+   * @param clock the clock, in nanoseconds
+   */
+  RateMeter(LongSupplier clock) {
+    this.clock = clock;
+    for (int slot = 0; slot < SLOTS; slot++) {
+      seconds.set(slot, Long.MIN_VALUE);
+    }
+  }
+
+  /** Counts one occurrence in the current second. */
+  void mark() {
+    long second = currentSecond();
+    int slot = Math.floorMod(second, SLOTS);
+    long slotSecond = seconds.get(slot);
+    if (slotSecond != second && seconds.compareAndSet(slot, slotSecond, second)) {
+      counts.set(slot, 0);
+    }
+    counts.incrementAndGet(slot);
+  }
+
+  /**
+   * Gets the mean number of occurrences per second over the last whole seconds. The current
+   * second is left out, since it is not over yet.
+   *
+   * @return the rate per second
+   */
+  double perSecond() {
+    long current = currentSecond();
+    long total = 0;
+    for (long second = current - WINDOW_SECONDS; second < current; second++) {
+      int slot = Math.floorMod(second, SLOTS);
+      if (seconds.get(slot) == second) {
+        total += counts.get(slot);
+      }
+    }
+    return total / (double) WINDOW_SECONDS;
+  }
+
+  private long currentSecond() {
+    return Math.floorDiv(clock.getAsLong(), 1_000_000_000L);
+  }
+}
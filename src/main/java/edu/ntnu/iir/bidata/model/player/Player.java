@@ -1,13 +1,20 @@
 package edu.ntnu.iir.bidata.model.player;
 
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
-import java.util.Objects;
+import edu.ntnu.iir.bidata.model.utils.ZobristHash;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 /**
  * Class that handles the movements of a specific player.
  *
+ * <p>Players use identity for {@code equals} and {@code hashCode}, since their position and other
+ * state change during the game. Use {@link
+ * edu.ntnu.iir.bidata.model.utils.GameStateComparator#samePlayerState(Player, Player)} to check
+ * whether two players are in the same state.
+ *
  * @author kaamyashinde
  * @version 0.0.2
  */
@@ -15,11 +22,16 @@ import lombok.Setter;
 @Setter
 public class Player {
 
+  private transient int id = -1; // Index of the player in its game, assigned by BoardGame
   private String name;
   private Tile currentTile;
   private boolean skipNextTurn;
   private String tokenImage; // Path or name of the token image
 
+  @Getter(AccessLevel.PROTECTED)
+  @Setter(AccessLevel.NONE)
+  private transient ZobristHash stateHash; // Hash of the game state this player is part of
+
   /**
    * Constructs a Player instance with the specified name. The token image is set to null.
    *
@@ -42,12 +54,68 @@ public class Player {
   }
 
   /**
-   * The method that allows the player to move on the board.
+   * The method that allows the player to move on the board. If the move would pass the last tile,
+   * the player stays where they are.
    *
    * @param steps the number of steps the player will move
+   * @return the outcome of the move
+   */
+  public MoveOutcome move(int steps) {
+    Tile targetTile = currentTile.getNextTile(steps);
+    if (targetTile == null) {
+      return MoveOutcome.OVERSHOOT;
+    }
+    setCurrentTile(targetTile);
+    return MoveOutcome.landedOn(targetTile);
+  }
+
+  /**
+   * Sets the tile the player is standing on and updates the state hash of the game.
+   *
+   * @param tile the tile the player is now on, or null to take the player off the board
+   */
+  public void setCurrentTile(Tile tile) {
+    if (stateHash != null) {
+      stateHash.updatePosition(id, getCurrentPosition(), tile != null ? tile.getId() : -1);
+    }
+    currentTile = tile;
+  }
+
+  /**
+   * Sets whether the player skips the next turn and updates the state hash of the game.
+   *
+   * @param skipNextTurn true if the player should skip the next turn
+   */
+  public void setSkipNextTurn(boolean skipNextTurn) {
+    if (stateHash != null && skipNextTurn != this.skipNextTurn) {
+      stateHash.toggleSkipTurn(id);
+    }
+    this.skipNextTurn = skipNextTurn;
+  }
+
+  /**
+   * Connects the player to the state hash of a game and adds the current state of the player to
+   * it. From then on, every change to the player updates the hash.
+   *
+   * @param hash the state hash of the game, or null to disconnect the player
+   */
+  public void attachStateHash(ZobristHash hash) {
+    stateHash = hash;
+    if (hash != null) {
+      addStateTo(hash);
+    }
+  }
+
+  /**
+   * Adds the state of this player to a state hash. Subclasses with more state extend this.
+   *
+   * @param hash the hash to add the state to
    */
-  public void move(int steps) {
-    currentTile = currentTile.getNextTile(steps);
+  protected void addStateTo(ZobristHash hash) {
+    hash.updatePosition(id, -1, getCurrentPosition());
+    if (skipNextTurn) {
+      hash.toggleSkipTurn(id);
+    }
   }
 
   /**
@@ -76,33 +144,4 @@ public class Player {
   public int getCurrentPosition() {
     return currentTile != null ? currentTile.getId() : -1;
   }
-
-  /**
-   * Computes the hash code for the Player object based on its attributes.
-   *
-   * @return the hash code value calculated using the name, currentTile, skipNextTurn, and
-   *     tokenImage fields
-   */
-  @Override
-  public int hashCode() {
-    return Objects.hash(name, currentTile, skipNextTurn, tokenImage);
-  }
-
-  /**
-   * Compares this Player object with another object to determine equality. Two Player objects are
-   * considered equal if they have the same name, currentTile, skipNextTurn value, and tokenImage.
-   *
-   * @param obj the object to be compared with this Player
-   * @return true if the specified object is equal to this Player, false otherwise
-   */
-  @Override
-  public boolean equals(Object obj) {
-    if (this == obj) return true;
-    if (obj == null || getClass() != obj.getClass()) return false;
-    Player other = (Player) obj;
-    return Objects.equals(name, other.name)
-        && Objects.equals(currentTile, other.currentTile)
-        && skipNextTurn == other.skipNextTurn
-        && Objects.equals(tokenImage, other.tokenImage);
-  }
 }
@@ -0,0 +1,70 @@
+package edu.ntnu.iir.bidata.model.player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps track of the integer ids handed out to players and lets players be looked up by name in
+ * constant time. Ids are given out in registration order, starting at 0, so they can be used
+ * directly as indices into the list of players. If the same name is registered more than once, the
+ * name keeps pointing to the first id it was given.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class PlayerRegistry {
+
+  private final Map<String, Integer> idsByName = new HashMap<>();
+  private final List<String> namesById = new ArrayList<>();
+
+  /**
+   * Registers a player name and gives it the next free id.
+   *
+   * @param name the name of the player
+   * @return the id given to this registration
+   */
+  public int register(String name) {
+    int id = namesById.size();
+    namesById.add(name);
+    idsByName.putIfAbsent(name, id);
+    return id;
+  }
+
+  /**
+   * Gets the id registered for a player name.
+   *
+   * @param name the name of the player
+   * @return the id of the player, or -1 if no player with that name is registered
+   */
+  public int idOf(String name) {
+    Integer id = idsByName.get(name);
+    return id != null ? id : -1;
+  }
+
+  /**
+   * Gets the name registered for an id.
+   *
+   * @param id the id of the player
+   * @return the name of the player, or null if the id is not in use
+   */
+  public String nameOf(int id) {
+    return id >= 0 && id < namesById.size() ? namesById.get(id) : null;
+  }
+
+  /**
+   * Returns the number of ids handed out so far.
+   *
+   * @return the number of registrations
+   */
+  public int size() {
+    return namesById.size();
+  }
+
+  /** Removes all registrations, so that ids start from 0 again. */
+  public void clear() {
+    idsByName.clear();
+    namesById.clear();
+  }
+}
@@ -2,6 +2,7 @@ package edu.ntnu.iir.bidata.model.player;
 
 import edu.ntnu.iir.bidata.model.exception.LowMoneyException;
 import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import edu.ntnu.iir.bidata.model.utils.ZobristHash;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.Getter;
@@ -14,9 +15,9 @@ import lombok.Setter;
  * @version 1.0
  */
 public class SimpleMonopolyPlayer extends Player {
-  @Getter @Setter private int money;
+  @Getter private int money;
   @Getter @Setter private List<PropertyTile> ownedProperties;
-  @Getter @Setter private boolean inJail = false;
+  private boolean inJail = false;
   @Getter @Setter private boolean paidToLeaveJail = false;
   @Getter @Setter private boolean canLeaveJailNextTurn = false;
 
@@ -69,7 +70,7 @@ public class SimpleMonopolyPlayer extends Player {
    */
   private void deductMoney(int amount) throws LowMoneyException {
     if (money >= amount) {
-      money -= amount;
+      setMoney(money - amount);
     } else {
       throw new LowMoneyException();
     }
@@ -86,7 +87,33 @@ public class SimpleMonopolyPlayer extends Player {
 
   /** Collects money. */
   public void collectMoney(int amount) {
-    money += amount;
+    setMoney(money + amount);
+  }
+
+  /**
+   * Sets the money of the player and updates the state hash of the game.
+   *
+   * @param money The new balance.
+   */
+  public void setMoney(int money) {
+    ZobristHash hash = getStateHash();
+    if (hash != null) {
+      hash.updateMoney(getId(), this.money, money);
+    }
+    this.money = money;
+  }
+
+  /**
+   * Sets whether the player is in jail and updates the state hash of the game.
+   *
+   * @param inJail True if the player is in jail.
+   */
+  public void setInJail(boolean inJail) {
+    ZobristHash hash = getStateHash();
+    if (hash != null && inJail != this.inJail) {
+      hash.toggleInJail(getId());
+    }
+    this.inJail = inJail;
   }
 
   /**
@@ -96,7 +123,7 @@ public class SimpleMonopolyPlayer extends Player {
    * immediately or has not yet paid to leave.
    */
   public void goToJail() {
-    this.inJail = true;
+    setInJail(true);
     this.paidToLeaveJail = false;
     this.canLeaveJailNextTurn = false;
   }
@@ -108,7 +135,7 @@ public class SimpleMonopolyPlayer extends Player {
    * has not paid to leave jail and cannot leave jail under special conditions on the next turn.
    */
   public void leaveJail() {
-    this.inJail = false;
+    setInJail(false);
     this.paidToLeaveJail = false;
     this.canLeaveJailNextTurn = false;
   }
@@ -116,4 +143,13 @@ public class SimpleMonopolyPlayer extends Player {
   public boolean isInJail() {
     return inJail;
   }
+
+  @Override
+  protected void addStateTo(ZobristHash hash) {
+    super.addStateTo(hash);
+    hash.toggleMoney(getId(), money);
+    if (inJail) {
+      hash.toggleInJail(getId());
+    }
+  }
 }
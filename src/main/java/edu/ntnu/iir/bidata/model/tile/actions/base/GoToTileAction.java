@@ -1,19 +1,20 @@
 package edu.ntnu.iir.bidata.model.tile.actions.base;
 
-import edu.ntnu.iir.bidata.model.exception.GameException;
 import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.tile.core.BaseTileAction;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
-import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
 
 /**
  * A tile action that moves a player to a specific tile on the board. This action can be used to
  * move players forward or backward by specifying the target tile's ID. If the target tile doesn't
- * exist, a GameException is thrown.
+ * exist, the player stays where they are and {@link MoveOutcome#UNREACHABLE} is reported.
  *
  * @author kaamyashinde
  * @version 1.0
  */
-public class GoToTileAction implements TileAction {
+public final class GoToTileAction extends BaseTileAction {
 
   private final int targetTileId;
 
@@ -24,6 +25,7 @@ public class GoToTileAction implements TileAction {
    * @throws IllegalArgumentException if targetTileId is negative
    */
   public GoToTileAction(int targetTileId) {
+    super(TileActionType.GO_TO_TILE);
     if (targetTileId < 0) {
       throw new IllegalArgumentException("Target tile ID cannot be negative");
     }
@@ -36,20 +38,22 @@ public class GoToTileAction implements TileAction {
    *
    * @param player The player who landed on the tile
    * @param currentTile The tile the player landed on
-   * @throws GameException if the target tile cannot be reached
+   * @return the outcome of the move, {@link MoveOutcome#UNREACHABLE} if the target tile cannot be
+   *     reached
    */
   @Override
-  public void executeAction(Player player, Tile currentTile) {
+  public MoveOutcome executeAction(Player player, Tile currentTile) {
     Tile targetTile = currentTile;
     while (targetTile != null && targetTile.getId() != targetTileId) {
       targetTile = targetTile.getNextTile();
     }
 
     if (targetTile == null) {
-      throw new GameException("Cannot reach target tile " + targetTileId);
+      return MoveOutcome.UNREACHABLE;
     }
 
     player.setCurrentTile(targetTile);
+    return MoveOutcome.landedOn(targetTile);
   }
 
   /**
@@ -1,15 +1,23 @@
 package edu.ntnu.iir.bidata.model.tile.actions.base;
 
 import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.tile.core.BaseTileAction;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
-import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
 
 /** Represents a safe spot in Ludo where pieces cannot be captured. */
-public class SafeSpotAction implements TileAction {
+public final class SafeSpotAction extends BaseTileAction {
+
+  /** Creates the action. */
+  public SafeSpotAction() {
+    super(TileActionType.SAFE_SPOT);
+  }
 
   @Override
-  public void executeAction(Player player, Tile currentTile) {
+  public MoveOutcome executeAction(Player player, Tile currentTile) {
     // Safe spots don't have any special action, they just prevent pieces from being captured
+    return MoveOutcome.MOVED;
   }
 
   /**
@@ -1,8 +1,10 @@
 package edu.ntnu.iir.bidata.model.tile.actions.game;
 
 import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.tile.core.BaseTileAction;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
-import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
 
 /**
  * A tile action that makes a player skip their next turn. This action is typically used to create a
@@ -11,7 +13,12 @@ import edu.ntnu.iir.bidata.model.tile.core.TileAction;
  * @author kaamyashinde
  * @version 1.0
  */
-public class LoseTurnAction implements TileAction {
+public final class LoseTurnAction extends BaseTileAction {
+
+  /** Creates the action. */
+  public LoseTurnAction() {
+    super(TileActionType.LOSE_TURN);
+  }
 
   /**
    * Executes the action of making a player skip their next turn. This is done by setting the
@@ -20,10 +27,12 @@ public class LoseTurnAction implements TileAction {
    *
    * @param player The player who landed on the tile
    * @param currentTile The tile the player landed on
+   * @return always {@link MoveOutcome#MOVED}, as the player is not moved
    */
   @Override
-  public void executeAction(Player player, Tile currentTile) {
+  public MoveOutcome executeAction(Player player, Tile currentTile) {
     player.setSkipNextTurn(true);
+    return MoveOutcome.MOVED;
   }
 
   /**
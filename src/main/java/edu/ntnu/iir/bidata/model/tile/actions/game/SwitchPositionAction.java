@@ -1,8 +1,10 @@
 package edu.ntnu.iir.bidata.model.tile.actions.game;
 
 import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.tile.core.BaseTileAction;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
-import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
 import java.util.List;
 
 /**
@@ -14,7 +16,7 @@ import java.util.List;
  * @author kaamyashinde
  * @version 1.0
  */
-public class SwitchPositionAction implements TileAction {
+public final class SwitchPositionAction extends BaseTileAction {
 
   private final List<Player> allPlayers;
 
@@ -25,6 +27,7 @@ public class SwitchPositionAction implements TileAction {
    * @param allPlayers The list of all players participating in the game
    */
   public SwitchPositionAction(List<Player> allPlayers) {
+    super(TileActionType.SWITCH_POSITION);
     this.allPlayers = allPlayers;
   }
 
@@ -43,15 +46,19 @@ public class SwitchPositionAction implements TileAction {
    *
    * @param currentPlayer The player who landed on the tile
    * @param currentTile The tile the player landed on
+   * @return the outcome for the tile the current player ends up on
    */
   @Override
-  public void executeAction(Player currentPlayer, Tile currentTile) {
+  public MoveOutcome executeAction(Player currentPlayer, Tile currentTile) {
     Player playerInFront = findPlayerInFront(currentPlayer);
-    if (playerInFront != null) {
-      Tile tempTile = currentPlayer.getCurrentTile();
-      currentPlayer.setCurrentTile(playerInFront.getCurrentTile());
-      playerInFront.setCurrentTile(tempTile);
+    if (playerInFront == null) {
+      return MoveOutcome.MOVED;
     }
+    Tile tempTile = currentPlayer.getCurrentTile();
+    Tile tileInFront = playerInFront.getCurrentTile();
+    currentPlayer.setCurrentTile(tileInFront);
+    playerInFront.setCurrentTile(tempTile);
+    return MoveOutcome.landedOn(tileInFront);
   }
 
   /**
@@ -3,8 +3,10 @@ package edu.ntnu.iir.bidata.model.tile.actions.monopoly;
 import edu.ntnu.iir.bidata.model.exception.LowMoneyException;
 import edu.ntnu.iir.bidata.model.player.Player;
 import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.core.BaseTileAction;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
-import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
 import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -15,15 +17,22 @@ import java.util.logging.Logger;
  * @author Kaamya Shinde
  * @version 1.0
  */
-public class BuyPropertyAction implements TileAction {
+public final class BuyPropertyAction extends BaseTileAction {
+
+  /** Creates the action. */
+  public BuyPropertyAction() {
+    super(TileActionType.BUY_PROPERTY);
+  }
+
   /**
    * Executes the action of buying a property.
    *
    * @param player The player who is buying the property.
    * @param currentTile The current tile.
+   * @return always {@link MoveOutcome#MOVED}, as the player is not moved.
    */
   @Override
-  public void executeAction(Player player, Tile currentTile) {
+  public MoveOutcome executeAction(Player player, Tile currentTile) {
     if (player instanceof SimpleMonopolyPlayer) {
       try {
         SimpleMonopolyPlayer monopolyPlayer = (SimpleMonopolyPlayer) player;
@@ -37,6 +46,7 @@ public class BuyPropertyAction implements TileAction {
         Logger.getLogger(BuyPropertyAction.class.getName()).log(Level.SEVERE, null, e);
       }
     }
+    return MoveOutcome.MOVED;
   }
 
   /**
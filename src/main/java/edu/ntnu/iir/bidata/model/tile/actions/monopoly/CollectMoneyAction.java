@@ -2,8 +2,10 @@ package edu.ntnu.iir.bidata.model.tile.actions.monopoly;
 
 import edu.ntnu.iir.bidata.model.player.Player;
 import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.core.BaseTileAction;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
-import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
 
 /**
  * A tile action that collects money from the player.
@@ -11,18 +13,26 @@ import edu.ntnu.iir.bidata.model.tile.core.TileAction;
  * @author kaamyashinde
  * @version 1.0
  */
-public class CollectMoneyAction implements TileAction {
+public final class CollectMoneyAction extends BaseTileAction {
+
+  /** Creates the action. */
+  public CollectMoneyAction() {
+    super(TileActionType.COLLECT_MONEY);
+  }
+
   /**
    * Collects money when passing the Go tile.
    *
    * @param player The player that collects the money.
    * @param currentTile The current tile.
+   * @return always {@link MoveOutcome#MOVED}, as the player is not moved.
    */
   @Override
-  public void executeAction(Player player, Tile currentTile) {
+  public MoveOutcome executeAction(Player player, Tile currentTile) {
     if (player instanceof SimpleMonopolyPlayer) {
       ((SimpleMonopolyPlayer) player).collectMoney(200);
     }
+    return MoveOutcome.MOVED;
   }
 
   /** Gets the description of the action. */
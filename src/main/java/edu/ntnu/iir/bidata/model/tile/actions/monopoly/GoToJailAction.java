@@ -2,8 +2,10 @@ package edu.ntnu.iir.bidata.model.tile.actions.monopoly;
 
 import edu.ntnu.iir.bidata.model.player.Player;
 import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.core.BaseTileAction;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
-import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
 
 /**
  * A tile action that moves a player to the Jail tile.
@@ -11,7 +13,7 @@ import edu.ntnu.iir.bidata.model.tile.core.TileAction;
  * @author kaamyashinde
  * @version 1.0
  */
-public class GoToJailAction implements TileAction {
+public final class GoToJailAction extends BaseTileAction {
   private final int jailTileId;
 
   /**
@@ -32,6 +34,7 @@ public class GoToJailAction implements TileAction {
    * @param jailTileId The ID of the jail tile to which players will be sent.
    */
   public GoToJailAction(int jailTileId) {
+    super(TileActionType.GO_TO_JAIL);
     this.jailTileId = jailTileId;
   }
 
@@ -43,9 +46,11 @@ public class GoToJailAction implements TileAction {
    *
    * @param player The player for whom the action is executed.
    * @param tile The starting tile from which the search for the Jail tile begins.
+   * @return {@link MoveOutcome#UNREACHABLE} if the Jail tile could not be found, {@link
+   *     MoveOutcome#MOVED} otherwise.
    */
   @Override
-  public void executeAction(Player player, Tile tile) {
+  public MoveOutcome executeAction(Player player, Tile tile) {
     if (player instanceof SimpleMonopolyPlayer) {
       ((SimpleMonopolyPlayer) player).goToJail();
       // Move player to the jail tile
@@ -53,10 +58,12 @@ public class GoToJailAction implements TileAction {
       while (current != null && current.getId() != jailTileId) {
         current = current.getNextTile();
       }
-      if (current != null) {
-        player.setCurrentTile(current);
+      if (current == null) {
+        return MoveOutcome.UNREACHABLE;
       }
+      player.setCurrentTile(current);
     }
+    return MoveOutcome.MOVED;
   }
 
   /**
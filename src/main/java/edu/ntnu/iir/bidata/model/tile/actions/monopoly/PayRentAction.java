@@ -3,8 +3,10 @@ package edu.ntnu.iir.bidata.model.tile.actions.monopoly;
 import edu.ntnu.iir.bidata.model.exception.LowMoneyException;
 import edu.ntnu.iir.bidata.model.player.Player;
 import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.core.BaseTileAction;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
-import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
 import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -16,15 +18,22 @@ import java.util.logging.Logger;
  *
  * <p>Implements the {@code TileAction} interface.
  */
-public class PayRentAction implements TileAction {
+public final class PayRentAction extends BaseTileAction {
+
+  /** Creates the action. */
+  public PayRentAction() {
+    super(TileActionType.PAY_RENT);
+  }
+
   /**
    * Executes the action of paying rent.
    *
    * @param player The player who is paying rent.
    * @param currentTile The current tile.
+   * @return always {@link MoveOutcome#MOVED}, as the player is not moved.
    */
   @Override
-  public void executeAction(Player player, Tile currentTile) {
+  public MoveOutcome executeAction(Player player, Tile currentTile) {
     if (player instanceof SimpleMonopolyPlayer) {
       PropertyTile propertyTile = (PropertyTile) currentTile;
       try {
@@ -36,6 +45,7 @@ public class PayRentAction implements TileAction {
       Logger.getLogger(PayRentAction.class.getName())
           .log(Level.SEVERE, "Player is not a SimpleMonopolyPlayer");
     }
+    return MoveOutcome.MOVED;
   }
 
   /**
@@ -1,11 +1,13 @@
 package edu.ntnu.iir.bidata.model.tile.actions.movement;
 
 import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.tile.core.BaseTileAction;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
-import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
 
 /** Represents an entry point in Ludo where players can enter their pieces from their home area. */
-public class EntryPointAction implements TileAction {
+public final class EntryPointAction extends BaseTileAction {
 
   private final Player owner;
 
@@ -15,6 +17,7 @@ public class EntryPointAction implements TileAction {
    * @param owner the player who owns this entry point action
    */
   public EntryPointAction(Player owner) {
+    super(TileActionType.ENTRY_POINT);
     this.owner = owner;
   }
 
@@ -25,11 +28,13 @@ public class EntryPointAction implements TileAction {
    *
    * @param player the player interacting with the current tile
    * @param currentTile the tile on which the action is being executed
+   * @return always {@link MoveOutcome#MOVED}, as the player is not moved
    */
   @Override
-  public void executeAction(Player player, Tile currentTile) {
+  public MoveOutcome executeAction(Player player, Tile currentTile) {
     // Entry points don't have any special action, they just mark where players can enter
     // The actual entry logic is handled by the game rules
+    return MoveOutcome.MOVED;
   }
 
   /**
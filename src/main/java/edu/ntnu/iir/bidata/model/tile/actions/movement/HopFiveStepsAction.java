@@ -1,19 +1,26 @@
 package edu.ntnu.iir.bidata.model.tile.actions.movement;
 
 import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.tile.core.BaseTileAction;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
-import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
 
 /**
  * Represents an action where a player hops forward by five steps on the game board. This action is
  * executed when a player lands on a tile associated with this action.
  */
-public class HopFiveStepsAction implements TileAction {
+public final class HopFiveStepsAction extends BaseTileAction {
+
+  /** Creates the action. */
+  public HopFiveStepsAction() {
+    super(TileActionType.HOP_FIVE_STEPS);
+  }
 
   /** The method that executes the tile action of skipping 5 steps. */
   @Override
-  public void executeAction(Player player, Tile currentTile) {
-    player.move(5);
+  public MoveOutcome executeAction(Player player, Tile currentTile) {
+    return player.move(5);
   }
 
   /** The method that returns the description of the tile action. */
@@ -1,14 +1,16 @@
 package edu.ntnu.iir.bidata.model.tile.actions.snakeandladder;
 
 import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.tile.core.BaseTileAction;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
-import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
 
 /**
  * A tile action that represents a ladder in a snake and ladder game. When a player lands on the
  * bottom of a ladder, they climb up to the top.
  */
-public class LadderAction implements TileAction {
+public final class LadderAction extends BaseTileAction {
 
   private final int topTileId;
 
@@ -18,6 +20,7 @@ public class LadderAction implements TileAction {
    * @param topTileId The ID of the tile at the top of the ladder (must be higher than current tile)
    */
   public LadderAction(int topTileId) {
+    super(TileActionType.LADDER);
     if (topTileId <= 0) {
       throw new IllegalArgumentException("Top tile ID must be positive");
     }
@@ -25,7 +28,7 @@ public class LadderAction implements TileAction {
   }
 
   @Override
-  public void executeAction(Player player, Tile currentTile) {
+  public MoveOutcome executeAction(Player player, Tile currentTile) {
     // Find the target tile
     Tile targetTile = currentTile;
 
@@ -34,9 +37,11 @@ public class LadderAction implements TileAction {
       targetTile = targetTile.getNextTile();
     }
 
-    if (targetTile != null && targetTile.getId() == topTileId) {
-      player.setCurrentTile(targetTile);
+    if (targetTile == null || targetTile.getId() != topTileId) {
+      return MoveOutcome.UNREACHABLE;
     }
+    player.setCurrentTile(targetTile);
+    return MoveOutcome.landedOn(targetTile);
   }
 
   @Override
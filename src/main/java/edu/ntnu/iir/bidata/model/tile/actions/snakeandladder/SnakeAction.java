@@ -1,14 +1,16 @@
 package edu.ntnu.iir.bidata.model.tile.actions.snakeandladder;
 
 import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.tile.core.BaseTileAction;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
-import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
 
 /**
  * A tile action that represents a snake in a snake and ladder game. When a player lands on the head
  * of a snake, they slide down to its tail.
  */
-public class SnakeAction implements TileAction {
+public final class SnakeAction extends BaseTileAction {
 
   private final int tailTileId;
 
@@ -18,6 +20,7 @@ public class SnakeAction implements TileAction {
    * @param tailTileId The ID of the tile at the tail of the snake (must be lower than current tile)
    */
   public SnakeAction(int tailTileId) {
+    super(TileActionType.SNAKE);
     if (tailTileId <= 0) {
       throw new IllegalArgumentException("Tail tile ID must be positive");
     }
@@ -25,7 +28,7 @@ public class SnakeAction implements TileAction {
   }
 
   @Override
-  public void executeAction(Player player, Tile currentTile) {
+  public MoveOutcome executeAction(Player player, Tile currentTile) {
     // Find the target tile
     Tile targetTile = currentTile;
 
@@ -34,9 +37,11 @@ public class SnakeAction implements TileAction {
       targetTile = targetTile.getNextTile();
     }
 
-    if (targetTile != null && targetTile.getId() == tailTileId) {
-      player.setCurrentTile(targetTile);
+    if (targetTile == null || targetTile.getId() != tailTileId) {
+      return MoveOutcome.UNREACHABLE;
     }
+    player.setCurrentTile(targetTile);
+    return MoveOutcome.landedOn(targetTile);
   }
 
   @Override
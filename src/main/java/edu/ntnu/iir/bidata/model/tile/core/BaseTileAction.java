@@ -0,0 +1,36 @@
+package edu.ntnu.iir.bidata.model.tile.core;
+
+/**
+ * The base class of the tile actions that come with the game. Each of them passes its own {@link
+ * TileActionType} to this class, which keeps it in a final field. {@link TileActionDispatcher}
+ * reads the field directly, so finding the type of an action is a class check and a field load
+ * rather than a call through the {@link TileAction} interface. Only the built-in action class of a
+ * type may claim it, so the dispatcher can cast an action to the class of its type safely.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public abstract class BaseTileAction implements TileAction {
+
+  /** The type of the action, read directly by the dispatcher. */
+  final TileActionType actionType;
+
+  /**
+   * Creates a built-in action of a type.
+   *
+   * @param actionType the type of the action
+   * @throws IllegalArgumentException if this action is not the built-in action class of the type
+   */
+  protected BaseTileAction(TileActionType actionType) {
+    if (!TileActionDispatcher.isBuiltInClass(actionType, getClass())) {
+      throw new IllegalArgumentException(
+          getClass().getName() + " is not the built-in action of type " + actionType);
+    }
+    this.actionType = actionType;
+  }
+
+  @Override
+  public final TileActionType getActionType() {
+    return actionType;
+  }
+}
@@ -0,0 +1,43 @@
+package edu.ntnu.iir.bidata.model.tile.core;
+
+/**
+ * Describes how a movement along the board ended. Movement methods and tile actions return one of
+ * these codes instead of throwing, so that reaching the end of the board is handled as ordinary
+ * game flow.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public enum MoveOutcome {
+
+  /** The player moved (or stayed) and is on a regular tile. */
+  MOVED,
+
+  /** The player landed on the last tile of the board. */
+  REACHED_END,
+
+  /** The move would have passed the last tile, so the player was not moved. */
+  OVERSHOOT,
+
+  /** The target tile of an action could not be found, so the player was not moved. */
+  UNREACHABLE;
+
+  /**
+   * Gets the outcome for a player that has just been placed on the given tile.
+   *
+   * @param tile the tile the player landed on
+   * @return {@link #REACHED_END} if the tile is the last tile, {@link #MOVED} otherwise
+   */
+  public static MoveOutcome landedOn(Tile tile) {
+    return tile.isLastTile() ? REACHED_END : MOVED;
+  }
+
+  /**
+   * Checks whether this outcome means the player has run into the end of the board.
+   *
+   * @return true for {@link #REACHED_END} and {@link #OVERSHOOT}, false otherwise
+   */
+  public boolean isEndOfBoard() {
+    return this == REACHED_END || this == OVERSHOOT;
+  }
+}
@@ -1,6 +1,5 @@
 package edu.ntnu.iir.bidata.model.tile.core;
 
-import edu.ntnu.iir.bidata.model.exception.GameException;
 import edu.ntnu.iir.bidata.model.utils.ParameterValidation;
 import java.util.Objects;
 import lombok.Getter;
@@ -65,20 +64,15 @@ public class Tile {
    * Gets the tile that is a specified number of steps away.
    *
    * @param steps The number of steps to move
-   * @return The tile that is steps away from this tile
-   * @throws GameException if the end of the board is reached
+   * @return The tile that is steps away from this tile, or null if the walk runs past the last
+   *     tile of the board
    */
   public Tile getNextTile(int steps) {
-    Tile[] targetTile = {this};
-    java.util.stream.IntStream.range(0, steps)
-        .forEach(
-            i -> {
-              targetTile[0] = targetTile[0].getNextTile();
-              if (targetTile[0] == null) {
-                throw new GameException("Reached the end of the board");
-              }
-            });
-    return targetTile[0];
+    Tile targetTile = this;
+    for (int i = 0; i < steps && targetTile != null; i++) {
+      targetTile = targetTile.getNextTile();
+    }
+    return targetTile;
   }
 
   /**
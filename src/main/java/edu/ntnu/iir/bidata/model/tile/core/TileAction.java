@@ -5,6 +5,10 @@ import edu.ntnu.iir.bidata.model.player.Player;
 /**
  * Represents an action associated with a tile on a game board. Implementations of this interface
  * define specific behaviors or events that occur when a player interacts with the tile.
+ *
+ * <p>The actions that come with the game extend {@link BaseTileAction} and report their own {@link
+ * TileActionType}, which the engine and the file handling dispatch on. Other implementations keep
+ * the default {@link TileActionType#CUSTOM} type and are called through this interface.
  */
 public interface TileAction {
 
@@ -13,8 +17,10 @@ public interface TileAction {
    *
    * @param player the player triggering the action
    * @param currentTile the tile on which the action is executed
+   * @return the outcome of any movement caused by the action, {@link MoveOutcome#MOVED} if the
+   *     action does not move the player
    */
-  void executeAction(Player player, Tile currentTile);
+  MoveOutcome executeAction(Player player, Tile currentTile);
 
   /**
    * Retrieves a textual description of the tile action.
@@ -22,4 +28,15 @@ public interface TileAction {
    * @return a string describing the action associated with the tile
    */
   String getDescription();
+
+  /**
+   * Gets the type of this action, used to dispatch on built-in actions without {@code instanceof}
+   * checks. The built-in actions get it from {@link BaseTileAction}; other actions should not
+   * override this method.
+   *
+   * @return the type of the action, {@link TileActionType#CUSTOM} unless overridden
+   */
+  default TileActionType getActionType() {
+    return TileActionType.CUSTOM;
+  }
 }
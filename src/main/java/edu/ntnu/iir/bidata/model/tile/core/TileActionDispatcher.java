@@ -0,0 +1,118 @@
+package edu.ntnu.iir.bidata.model.tile.core;
+
+import edu.ntnu.iir.bidata.model.events.TileActionEvent;
+import edu.ntnu.iir.bidata.model.metrics.GameMetrics;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.tile.actions.base.GoToTileAction;
+import edu.ntnu.iir.bidata.model.tile.actions.base.SafeSpotAction;
+import edu.ntnu.iir.bidata.model.tile.actions.game.LoseTurnAction;
+import edu.ntnu.iir.bidata.model.tile.actions.game.SwitchPositionAction;
+import edu.ntnu.iir.bidata.model.tile.actions.monopoly.BuyPropertyAction;
+import edu.ntnu.iir.bidata.model.tile.actions.monopoly.CollectMoneyAction;
+import edu.ntnu.iir.bidata.model.tile.actions.monopoly.GoToJailAction;
+import edu.ntnu.iir.bidata.model.tile.actions.monopoly.PayRentAction;
+import edu.ntnu.iir.bidata.model.tile.actions.movement.EntryPointAction;
+import edu.ntnu.iir.bidata.model.tile.actions.movement.HopFiveStepsAction;
+import edu.ntnu.iir.bidata.model.tile.actions.snakeandladder.LadderAction;
+import edu.ntnu.iir.bidata.model.tile.actions.snakeandladder.SnakeAction;
+
+/**
+ * Runs tile actions by switching on their {@link TileActionType}. Each built-in action class is
+ * final, so every branch calls one known method directly, and the call site in the game loop does
+ * not go through the {@link TileAction} interface. The type itself is read from the final field of
+ * {@link BaseTileAction}, so no interface call is made to find it either. Actions that do not
+ * extend that class are of type {@link TileActionType#CUSTOM} and fall back to a normal interface
+ * call.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public final class TileActionDispatcher {
+
+  private TileActionDispatcher() {}
+
+  /**
+   * Gets the type of an action. Built-in actions keep their type in a field of {@link
+   * BaseTileAction}; every other action is {@link TileActionType#CUSTOM}.
+   *
+   * @param action the action
+   * @return the type of the action
+   */
+  public static TileActionType typeOf(TileAction action) {
+    return action instanceof BaseTileAction builtIn ? builtIn.actionType : TileActionType.CUSTOM;
+  }
+
+  /**
+   * Checks whether a class is the built-in action class of a type. {@link BaseTileAction} only
+   * accepts the type of its own class, so no other action can be cast to the wrong class here.
+   *
+   * @param type the action type
+   * @param actionClass the class of an action
+   * @return true if the class is the built-in action class of the type
+   */
+  static boolean isBuiltInClass(TileActionType type, Class<?> actionClass) {
+    Class<?> builtIn =
+        switch (type) {
+          case GO_TO_TILE -> GoToTileAction.class;
+          case SAFE_SPOT -> SafeSpotAction.class;
+          case LOSE_TURN -> LoseTurnAction.class;
+          case SWITCH_POSITION -> SwitchPositionAction.class;
+          case HOP_FIVE_STEPS -> HopFiveStepsAction.class;
+          case ENTRY_POINT -> EntryPointAction.class;
+          case LADDER -> LadderAction.class;
+          case SNAKE -> SnakeAction.class;
+          case GO_TO_JAIL -> GoToJailAction.class;
+          case COLLECT_MONEY -> CollectMoneyAction.class;
+          case BUY_PROPERTY -> BuyPropertyAction.class;
+          case PAY_RENT -> PayRentAction.class;
+          case CUSTOM -> null;
+        };
+    return actionClass == builtIn;
+  }
+
+  /**
+   * Executes a tile action for a player. The execution is recorded as a {@link TileActionEvent}
+   * and timed in the {@link GameMetrics}.
+   *
+   * @param action the action to execute
+   * @param player the player triggering the action
+   * @param currentTile the tile on which the action is executed
+   * @return the outcome of the action
+   */
+  public static MoveOutcome execute(TileAction action, Player player, Tile currentTile) {
+    TileActionEvent event = new TileActionEvent();
+    event.begin();
+    TileActionType type = typeOf(action);
+    long start = System.nanoTime();
+    MoveOutcome outcome = dispatch(type, action, player, currentTile);
+    GameMetrics.shared().recordTileAction(type, System.nanoTime() - start);
+    event.end();
+    if (event.shouldCommit()) {
+      event.setActionType(type.name());
+      event.setTileId(currentTile.getId());
+      event.setPlayer(player.getName());
+      event.setOutcome(String.valueOf(outcome));
+      event.commit();
+    }
+    return outcome;
+  }
+
+  private static MoveOutcome dispatch(
+      TileActionType type, TileAction action, Player player, Tile currentTile) {
+    return switch (type) {
+      case GO_TO_TILE -> ((GoToTileAction) action).executeAction(player, currentTile);
+      case SAFE_SPOT -> ((SafeSpotAction) action).executeAction(player, currentTile);
+      case LOSE_TURN -> ((LoseTurnAction) action).executeAction(player, currentTile);
+      case SWITCH_POSITION -> ((SwitchPositionAction) action).executeAction(player, currentTile);
+      case HOP_FIVE_STEPS -> ((HopFiveStepsAction) action).executeAction(player, currentTile);
+      case ENTRY_POINT -> ((EntryPointAction) action).executeAction(player, currentTile);
+      case LADDER -> ((LadderAction) action).executeAction(player, currentTile);
+      case SNAKE -> ((SnakeAction) action).executeAction(player, currentTile);
+      case GO_TO_JAIL -> ((GoToJailAction) action).executeAction(player, currentTile);
+      case COLLECT_MONEY -> ((CollectMoneyAction) action).executeAction(player, currentTile);
+      case BUY_PROPERTY -> ((BuyPropertyAction) action).executeAction(player, currentTile);
+      case PAY_RENT -> ((PayRentAction) action).executeAction(player, currentTile);
+      case CUSTOM -> action.executeAction(player, currentTile);
+    };
+  }
+}
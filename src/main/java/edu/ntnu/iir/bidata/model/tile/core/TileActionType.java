@@ -0,0 +1,67 @@
+package edu.ntnu.iir.bidata.model.tile.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The closed set of tile action types that come with the game. Every built-in {@link TileAction}
+ * returns its own constant from {@link TileAction#getActionType()}, so the engine and the file
+ * handling can dispatch on the action with a single {@code switch} instead of {@code instanceof}
+ * chains. Actions from outside the game report {@link #CUSTOM} and are handled through the
+ * {@link TileAction} interface.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public enum TileActionType {
+  GO_TO_TILE("GoToTileAction"),
+  SAFE_SPOT("SafeSpotAction"),
+  LOSE_TURN("LoseTurnAction"),
+  SWITCH_POSITION("SwitchPositionAction"),
+  HOP_FIVE_STEPS("HopFiveStepsAction"),
+  ENTRY_POINT("EntryPointAction"),
+  LADDER("LadderAction"),
+  SNAKE("SnakeAction"),
+  GO_TO_JAIL("GoToJailAction"),
+  COLLECT_MONEY("CollectMoneyAction"),
+  BUY_PROPERTY("BuyPropertyAction"),
+  PAY_RENT("PayRentAction"),
+
+  /** Any action that is not one of the built-in actions. */
+  CUSTOM(null);
+
+  private static final Map<String, TileActionType> BY_TYPE_NAME = new HashMap<>();
+
+  static {
+    for (TileActionType type : values()) {
+      if (type.typeName != null) {
+        BY_TYPE_NAME.put(type.typeName, type);
+      }
+    }
+  }
+
+  private final String typeName;
+
+  TileActionType(String typeName) {
+    this.typeName = typeName;
+  }
+
+  /**
+   * Gets the name used for this action type in saved games.
+   *
+   * @return the type name, or null for {@link #CUSTOM}
+   */
+  public String getTypeName() {
+    return typeName;
+  }
+
+  /**
+   * Finds the action type for a type name read from a saved game.
+   *
+   * @param typeName the type name
+   * @return the matching action type, or {@link #CUSTOM} if the name is not a built-in action
+   */
+  public static TileActionType fromTypeName(String typeName) {
+    return BY_TYPE_NAME.getOrDefault(typeName, CUSTOM);
+  }
+}
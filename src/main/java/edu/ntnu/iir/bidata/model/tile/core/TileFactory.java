@@ -49,10 +49,10 @@ public class TileFactory {
    */
   private TileAction createSpecialAction(int position) {
     if (tileConfig.isLadderStart(position)) {
-      LOGGER.info("Creating LadderAction for tile " + position);
+      LOGGER.fine(() -> "Creating LadderAction for tile " + position);
       return new LadderAction(tileConfig.getLadderEnd(position));
     } else if (tileConfig.isSnakeHead(position)) {
-      LOGGER.info("Creating SnakeAction for tile " + position);
+      LOGGER.fine(() -> "Creating SnakeAction for tile " + position);
       return new SnakeAction(tileConfig.getSnakeTail(position));
     }
     return null;
@@ -3,6 +3,7 @@ package edu.ntnu.iir.bidata.model.tile.core.monopoly;
 import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
 import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.utils.ZobristHash;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -16,7 +17,8 @@ public class PropertyTile extends Tile {
   @Getter @Setter private int price;
   @Getter @Setter private int rent;
   @Getter @Setter private int group;
-  @Getter @Setter private SimpleMonopolyPlayer owner;
+  @Getter private SimpleMonopolyPlayer owner;
+  private transient ZobristHash stateHash; // Hash of the game state this tile is part of
 
   /**
    * Constructor for the PropertyTile class.
@@ -59,4 +61,32 @@ public class PropertyTile extends Tile {
   public boolean isOwned() {
     return owner != null;
   }
+
+  /**
+   * Sets the owner of the property and updates the state hash of the game.
+   *
+   * @param owner The new owner, or null if the property has no owner.
+   */
+  public void setOwner(SimpleMonopolyPlayer owner) {
+    if (stateHash != null) {
+      stateHash.updateOwner(getId(), ownerId(this.owner), ownerId(owner));
+    }
+    this.owner = owner;
+  }
+
+  /**
+   * Connects the property to the state hash of a game and adds the current owner to it.
+   *
+   * @param hash The state hash of the game, or null to disconnect the property.
+   */
+  public void attachStateHash(ZobristHash hash) {
+    stateHash = hash;
+    if (hash != null) {
+      hash.updateOwner(getId(), -1, ownerId(owner));
+    }
+  }
+
+  private static int ownerId(SimpleMonopolyPlayer owner) {
+    return owner != null ? owner.getId() : -1;
+  }
 }
@@ -0,0 +1,102 @@
+package edu.ntnu.iir.bidata.model.utils;
+
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Utility class for comparing the state of games and players. Players and board games use identity
+ * for {@code equals} and {@code hashCode}, so that they can be used safely as map keys while they
+ * change. This class is used instead when two separate objects should be checked for holding the
+ * same state, for example a game before saving and the same game after loading.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class GameStateComparator {
+
+  private GameStateComparator() {}
+
+  /**
+   * Checks whether two players are in the same state. Two players are in the same state if they
+   * are of the same class and have the same name, current tile, skip turn flag and token image.
+   * Monopoly players must also have the same money, jail flags and number of owned properties.
+   *
+   * @param first the first player
+   * @param second the second player
+   * @return true if the players are in the same state, false otherwise
+   */
+  public static boolean samePlayerState(Player first, Player second) {
+    if (first == second) {
+      return true;
+    }
+    if (first == null || second == null || first.getClass() != second.getClass()) {
+      return false;
+    }
+    boolean sameState =
+        Objects.equals(first.getName(), second.getName())
+            && Objects.equals(first.getCurrentTile(), second.getCurrentTile())
+            && first.isSkipNextTurn() == second.isSkipNextTurn()
+            && Objects.equals(first.getTokenImage(), second.getTokenImage());
+    if (sameState && first instanceof SimpleMonopolyPlayer firstMonopolyPlayer) {
+      SimpleMonopolyPlayer secondMonopolyPlayer = (SimpleMonopolyPlayer) second;
+      return firstMonopolyPlayer.getMoney() == secondMonopolyPlayer.getMoney()
+          && firstMonopolyPlayer.isInJail() == secondMonopolyPlayer.isInJail()
+          && firstMonopolyPlayer.isPaidToLeaveJail() == secondMonopolyPlayer.isPaidToLeaveJail()
+          && firstMonopolyPlayer.isCanLeaveJailNextTurn()
+              == secondMonopolyPlayer.isCanLeaveJailNextTurn()
+          && ownedPropertyCount(firstMonopolyPlayer) == ownedPropertyCount(secondMonopolyPlayer);
+    }
+    return sameState;
+  }
+
+  /**
+   * Checks whether two lists of players are in the same state, player by player and in order.
+   *
+   * @param first the first list of players
+   * @param second the second list of players
+   * @return true if the lists have the same size and every pair of players is in the same state
+   */
+  public static boolean samePlayersState(List<Player> first, List<Player> second) {
+    if (first.size() != second.size()) {
+      return false;
+    }
+    for (int i = 0; i < first.size(); i++) {
+      if (!samePlayerState(first.get(i), second.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks whether two board games are in the same state. This compares the board, the dice, the
+   * players, the turn and round counters, the game flags and the level.
+   *
+   * @param first the first board game
+   * @param second the second board game
+   * @return true if the board games are in the same state, false otherwise
+   */
+  public static boolean sameGameState(BoardGame first, BoardGame second) {
+    if (first == second) {
+      return true;
+    }
+    if (first == null || second == null) {
+      return false;
+    }
+    return first.getCurrentPlayerIndex() == second.getCurrentPlayerIndex()
+        && first.isGameOver() == second.isGameOver()
+        && first.isGameInitialized() == second.isGameInitialized()
+        && first.getRoundNumber() == second.getRoundNumber()
+        && Objects.equals(first.getLevel(), second.getLevel())
+        && Objects.equals(first.getDice(), second.getDice())
+        && samePlayersState(first.getPlayers(), second.getPlayers())
+        && Objects.equals(first.getBoard(), second.getBoard());
+  }
+
+  private static int ownedPropertyCount(SimpleMonopolyPlayer player) {
+    return player.getOwnedProperties() != null ? player.getOwnedProperties().size() : 0;
+  }
+}
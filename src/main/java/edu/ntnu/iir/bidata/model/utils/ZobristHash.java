@@ -0,0 +1,148 @@
+package edu.ntnu.iir.bidata.model.utils;
+
+/**
+ * A 64-bit Zobrist hash of the state of a game. Every part of the state (a player standing on a
+ * tile, a player being in jail, a property having an owner and so on) has its own pseudo-random
+ * 64-bit key, and the hash is the XOR of the keys of every part that is currently true. When the
+ * state changes, the old key is XOR-ed out and the new key is XOR-ed in, so every update runs in
+ * constant time no matter how large the board or the number of players is.
+ *
+ * <p>The keys are computed by mixing the kind of state and its values with the SplitMix64
+ * finalizer instead of being read from a table, so they are the same in every run and there is no
+ * limit on the number of players or tiles. A value of -1 (no tile, no owner) has no key.
+ *
+ * @author kaamyashinde
+ * @version 1.0
+ */
+public class ZobristHash {
+
+  /** The amount of money that falls into the same money bucket. */
+  public static final int MONEY_BUCKET_SIZE = 100;
+
+  private static final int POSITION = 1;
+  private static final int CURRENT_PLAYER = 2;
+  private static final int SKIP_TURN = 3;
+  private static final int IN_JAIL = 4;
+  private static final int MONEY_BUCKET = 5;
+  private static final int PROPERTY_OWNER = 6;
+
+  private long value;
+
+  /**
+   * Gets the current value of the hash.
+   *
+   * @return the 64-bit hash of the state
+   */
+  public long getValue() {
+    return value;
+  }
+
+  /** Resets the hash to the value of an empty state. */
+  public void reset() {
+    value = 0L;
+  }
+
+  /**
+   * Updates the hash for a player moving between two tiles.
+   *
+   * @param playerId the id of the player
+   * @param fromTileId the id of the tile the player left, or -1 if the player was not on the board
+   * @param toTileId the id of the tile the player is now on, or -1 if the player left the board
+   */
+  public void updatePosition(int playerId, int fromTileId, int toTileId) {
+    toggle(POSITION, playerId, fromTileId);
+    toggle(POSITION, playerId, toTileId);
+  }
+
+  /**
+   * Updates the hash for a change of the current player.
+   *
+   * @param fromIndex the index of the previous current player
+   * @param toIndex the index of the new current player
+   */
+  public void updateCurrentPlayer(int fromIndex, int toIndex) {
+    toggle(CURRENT_PLAYER, 0, fromIndex);
+    toggle(CURRENT_PLAYER, 0, toIndex);
+  }
+
+  /**
+   * Flips the skip next turn flag of a player in the hash.
+   *
+   * @param playerId the id of the player
+   */
+  public void toggleSkipTurn(int playerId) {
+    toggle(SKIP_TURN, playerId, 0);
+  }
+
+  /**
+   * Flips the in jail flag of a player in the hash.
+   *
+   * @param playerId the id of the player
+   */
+  public void toggleInJail(int playerId) {
+    toggle(IN_JAIL, playerId, 0);
+  }
+
+  /**
+   * Updates the hash for a change in the money of a player. Only the money bucket is part of the
+   * hash, so the hash only changes when the money moves into another bucket.
+   *
+   * @param playerId the id of the player
+   * @param fromMoney the money the player had
+   * @param toMoney the money the player has now
+   */
+  public void updateMoney(int playerId, int fromMoney, int toMoney) {
+    if (moneyBucket(fromMoney) != moneyBucket(toMoney)) {
+      toggleMoney(playerId, fromMoney);
+      toggleMoney(playerId, toMoney);
+    }
+  }
+
+  /**
+   * Adds or removes the money bucket of a player in the hash.
+   *
+   * @param playerId the id of the player
+   * @param money the money of the player
+   */
+  public void toggleMoney(int playerId, int money) {
+    toggle(MONEY_BUCKET, playerId, moneyBucket(money));
+  }
+
+  /**
+   * Updates the hash for a change of owner of a property.
+   *
+   * @param tileId the id of the property tile
+   * @param fromOwnerId the id of the previous owner, or -1 if the property had no owner
+   * @param toOwnerId the id of the new owner, or -1 if the property no longer has an owner
+   */
+  public void updateOwner(int tileId, int fromOwnerId, int toOwnerId) {
+    toggle(PROPERTY_OWNER, tileId, fromOwnerId);
+    toggle(PROPERTY_OWNER, tileId, toOwnerId);
+  }
+
+  /**
+   * Gets the money bucket for an amount of money. Negative amounts are placed in bucket 0 together
+   * with amounts below {@link #MONEY_BUCKET_SIZE}.
+   *
+   * @param money the amount of money
+   * @return the money bucket
+   */
+  public static int moneyBucket(int money) {
+    return Math.max(0, money) / MONEY_BUCKET_SIZE;
+  }
+
+  private void toggle(int kind, int first, int second) {
+    if (second < 0) {
+      return;
+    }
+    value ^= key(kind, first, second);
+  }
+
+  private static long key(int kind, int first, int second) {
+    long z = ((long) kind << 56) ^ ((long) first << 28) ^ second;
+    z += 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -3,9 +3,17 @@ package edu.ntnu.iir.bidata.view.common;
 import static java.util.logging.Level.INFO;
 
 import edu.ntnu.iir.bidata.controller.BaseGameController;
+import edu.ntnu.iir.bidata.filehandling.boardgame.SavedGameCatalog;
+import edu.ntnu.iir.bidata.filehandling.storage.SaveStoreType;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javafx.application.Platform;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.ButtonBar;
@@ -82,10 +90,18 @@ public class CommonButtons {
         Optional<String> saveName = dialog.showAndWait();
         saveName.ifPresent(
             name -> {
-              saveGameHandling(isMonopoly, controller, saveName.get());
+              saveGameHandling(isMonopoly, controller, saveName.get())
+                  .whenComplete(
+                      (saved, failure) -> {
+                        if (failure != null) {
+                          Platform.runLater(() -> showSaveError(name, failure));
+                        }
+                      });
+              controller.leaveGame();
               JavaFXBoardGameLauncher.getInstance().showMainMenu(primaryStage);
             });
       } else if (result.get() == exitWithoutSaving) {
+        controller.leaveGame();
         JavaFXBoardGameLauncher.getInstance().showMainMenu(primaryStage);
         LOGGER.log(INFO, "Exiting without saving");
       }
@@ -95,15 +111,39 @@ public class CommonButtons {
   /**
    * Handles the functionality to save a game by invoking the saveGame method of the given
    * controller. This method delegates the actual saving process to the BaseGameController
-   * implementation.
+   * implementation. The save is written in the background, so callers report its outcome when
+   * the returned future completes.
    *
    * @param isMonopoly a flag indicating whether the current game is Monopoly or another game
    * @param controller the controller instance responsible for managing game logic and state
    * @param gameName the name of the game to be saved
+   * @return a future that completes when the game has been saved, or completes exceptionally if
+   *     it could not be saved
    */
-  private static void saveGameHandling(
+  private static CompletableFuture<Void> saveGameHandling(
       boolean isMonopoly, BaseGameController controller, String gameName) {
-    controller.saveGame(gameName, isMonopoly);
+    return controller.saveGame(gameName, isMonopoly);
+  }
+
+  /**
+   * Shows an error dialog telling the user that a game could not be saved. Must be called on the
+   * JavaFX application thread.
+   *
+   * @param gameName the name the game was to be saved under
+   * @param failure the reason the save failed
+   */
+  private static void showSaveError(String gameName, Throwable failure) {
+    Alert alert = new Alert(Alert.AlertType.ERROR);
+    alert.setTitle("Save Game");
+    alert.setHeaderText("The game could not be saved as: " + gameName);
+    alert.setContentText(saveFailureMessage(failure));
+    alert.show();
+  }
+
+  /** Gets the message of the exception that made a save fail. */
+  private static String saveFailureMessage(Throwable failure) {
+    Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+    return cause.getMessage();
   }
 
   /**
@@ -148,13 +188,17 @@ public class CommonButtons {
     Optional<String> result = dialog.showAndWait();
     result.ifPresent(
         gameName -> {
-          try {
-            LOGGER.info("Saving game as: " + gameName);
-            saveGameHandling(isMonopoly, controller, gameName);
-            actionLabel.setText("Game saved as: " + gameName);
-          } catch (Exception ex) {
-            actionLabel.setText("Error saving game: " + ex.getMessage());
-          }
+          LOGGER.info("Saving game as: " + gameName);
+          actionLabel.setText("Saving game as: " + gameName);
+          saveGameHandling(isMonopoly, controller, gameName)
+              .whenComplete(
+                  (saved, failure) ->
+                      Platform.runLater(
+                          () ->
+                              actionLabel.setText(
+                                  failure == null
+                                      ? "Game saved as: " + gameName
+                                      : "Error saving game: " + saveFailureMessage(failure))));
         });
   }
 
@@ -222,23 +266,32 @@ public class CommonButtons {
     VBox content = new VBox(10);
     ComboBox<String> gameList = new ComboBox<>();
     gameList.setPromptText("Select a game");
-    java.io.File savedGamesDir =
-        new java.io.File(
-            "src/main/resources/saved_games/" + (isMonopoly ? "monopoly" : "snakesandladder"));
+    String section = isMonopoly ? "monopoly" : "snakesandladder";
+    Path savedGamesDir = SaveStoreType.directory().resolve(section);
     final long MAX_SIZE = 1024 * 1024; // 1MB
-    if (savedGamesDir.exists() && savedGamesDir.isDirectory()) {
-      java.io.File[] files = savedGamesDir.listFiles((dir, name) -> name.endsWith(".json"));
-      if (files != null) {
-        java.util.Arrays.stream(files)
-            .forEach(
-                file -> {
-                  try {
-                    if (file.length() > MAX_SIZE) return; // Skip large files
-                    gameList.getItems().add(file.getName().replace(".json", ""));
-                  } catch (Exception e) {
-                    LOGGER.log(Level.SEVERE, "Could not read large files");
-                  }
-                });
+    if (SaveStoreType.configured() != SaveStoreType.FILE
+        || Boolean.getBoolean(SaveStoreType.DEDUP_PROPERTY)) {
+      // Saves that are not kept in files of their own, or whose files hold no board, are listed
+      // by their keys
+      String prefix = section + "/";
+      try {
+        SaveStoreType.shared().keys(prefix).stream()
+            .map(key -> key.substring(prefix.length()))
+            .filter(name -> !name.contains("/") && SavedGameCatalog.isSaveFile(Path.of(name)))
+            .map(name -> SavedGameCatalog.nameOf(Path.of(name)))
+            .distinct()
+            .forEach(name -> gameList.getItems().add(name));
+      } catch (IOException e) {
+        LOGGER.log(Level.SEVERE, "Could not list the saved games", e);
+      }
+    } else if (Files.isDirectory(savedGamesDir)) {
+      try {
+        // The catalog lists the saves without opening them
+        SavedGameCatalog.forDirectory(savedGamesDir).list().stream()
+            .filter(info -> info.getSize() <= MAX_SIZE) // Skip large files
+            .forEach(info -> gameList.getItems().add(info.getName()));
+      } catch (IOException e) {
+        LOGGER.log(Level.SEVERE, "Could not read the saved game catalog", e);
       }
     }
     content.getChildren().addAll(new Label("Select a saved game:"), gameList);
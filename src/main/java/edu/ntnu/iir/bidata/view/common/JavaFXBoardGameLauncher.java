@@ -1,13 +1,16 @@
 package edu.ntnu.iir.bidata.view.common;
 
+import edu.ntnu.iir.bidata.controller.BaseGameController;
 import edu.ntnu.iir.bidata.controller.MonopolyController;
 import edu.ntnu.iir.bidata.controller.SnakesAndLaddersController;
-import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileReaderGson;
-import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileWriterGson;
+import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileReader;
+import edu.ntnu.iir.bidata.filehandling.boardgame.SaveBackend;
+import edu.ntnu.iir.bidata.filehandling.storage.SaveStoreType;
 import edu.ntnu.iir.bidata.model.BoardGame;
 import edu.ntnu.iir.bidata.model.board.Board;
 import edu.ntnu.iir.bidata.model.board.BoardFactory;
 import edu.ntnu.iir.bidata.model.board.MonopolyBoardFactory;
+import edu.ntnu.iir.bidata.model.metrics.GameMetrics;
 import edu.ntnu.iir.bidata.model.player.Player;
 import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
 import edu.ntnu.iir.bidata.model.tile.config.TileConfiguration;
@@ -17,7 +20,6 @@ import edu.ntnu.iir.bidata.view.monopoly.MonopolyGameUI;
 import edu.ntnu.iir.bidata.view.monopoly.MonopolyMenuUI;
 import edu.ntnu.iir.bidata.view.snakesandladders.SnakesAndLaddersGameUI;
 import edu.ntnu.iir.bidata.view.snakesandladders.SnakesAndLaddersMenuUI;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
@@ -62,6 +64,7 @@ public class JavaFXBoardGameLauncher extends Application {
   public void start(Stage primaryStage) {
     LOGGER.info("Starting JavaFX Board Game Launcher");
     instance = this;
+    GameMetrics.publishShared();
     showMainMenu(primaryStage);
   }
 
@@ -164,8 +167,12 @@ public class JavaFXBoardGameLauncher extends Application {
       GameMediator mediator = new DefaultGameMediator();
       MonopolyController controller =
           new MonopolyController(
-              boardGame, new BoardGameFileWriterGson(), new BoardGameFileReaderGson(), mediator);
+              boardGame,
+              SaveBackend.configured().newWriter(),
+              SaveBackend.configured().newAutoDetectReader(),
+              mediator);
       MonopolyGameUI monopolyGameUI = new MonopolyGameUI(boardGame, stage, controller, mediator);
+      controller.startSaving(BaseGameController.AUTOSAVE_NAME, true);
       stage.setScene(monopolyGameUI.getScene());
       stage.show();
     } catch (Exception e) {
@@ -193,8 +200,8 @@ public class JavaFXBoardGameLauncher extends Application {
       SnakesAndLaddersController controller =
           new SnakesAndLaddersController(
               boardGame,
-              new BoardGameFileWriterGson(),
-              new BoardGameFileReaderGson(),
+              SaveBackend.configured().newWriter(),
+              SaveBackend.configured().newAutoDetectReader(),
               mediator,
               config);
       SnakesAndLaddersGameUI gameUI =
@@ -205,6 +212,7 @@ public class JavaFXBoardGameLauncher extends Application {
       controller.setPlayerNames(players.stream().map(Player::getName).toList());
 
       controller.startGame();
+      controller.startSaving(BaseGameController.AUTOSAVE_NAME, false);
       LOGGER.info("Snakes and Ladders game started successfully");
     } catch (Exception e) {
       LOGGER.log(Level.SEVERE, "Error initializing Snakes and Ladders game", e);
@@ -221,9 +229,13 @@ public class JavaFXBoardGameLauncher extends Application {
     LOGGER.info("Loading Snakes and Ladders game: " + gameName);
     try {
       // Create controller and load game
-      BoardGameFileReaderGson reader = new BoardGameFileReaderGson();
-      BoardGame boardGame =
-          reader.readBoardGame(Paths.get("src/main/resources/saved_games", gameName + ".json"));
+      BoardGame boardGame = BaseGameController.recoverJournaledGame(gameName, false);
+      if (boardGame == null) {
+        BoardGameFileReader reader = SaveBackend.configured().newAutoDetectReader();
+        boardGame =
+            reader.readBoardGame(
+                SaveBackend.openSave(SaveStoreType.shared(), "snakesandladder/" + gameName));
+      }
       List<Player> players = boardGame.getPlayers();
 
       // Create view and controller
@@ -232,8 +244,8 @@ public class JavaFXBoardGameLauncher extends Application {
       SnakesAndLaddersController controller =
           new SnakesAndLaddersController(
               boardGame,
-              new BoardGameFileWriterGson(),
-              new BoardGameFileReaderGson(),
+              SaveBackend.configured().newWriter(),
+              SaveBackend.configured().newAutoDetectReader(),
               mediator,
               config);
       SnakesAndLaddersGameUI gameUI =
@@ -242,9 +254,9 @@ public class JavaFXBoardGameLauncher extends Application {
       // Register UI as observer
       boardGame.addObserver(gameUI);
 
-      // Load game state and start
-      controller.loadSnakesAndLadderGame(gameName);
+      // The game is already loaded, so only start it and keep saving it from here
       controller.startGame();
+      controller.startSaving(gameName, false);
 
       // Create and set the scene
       Scene scene = new Scene(gameUI.getRoot(), 1200, 800);
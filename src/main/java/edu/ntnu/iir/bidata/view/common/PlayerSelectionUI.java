@@ -2,12 +2,17 @@ package edu.ntnu.iir.bidata.view.common;
 
 import edu.ntnu.iir.bidata.Inject;
 import edu.ntnu.iir.bidata.filehandling.player.PlayerFileReaderCSV;
+import edu.ntnu.iir.bidata.filehandling.player.PlayerRosterStore;
 import edu.ntnu.iir.bidata.model.player.Player;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.logging.Logger;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
@@ -36,8 +41,19 @@ import javafx.stage.StageStyle;
 /**
  * UI for player selection, including loading players from CSV files and selecting which ones to
  * use. Simplified layout with more intuitive workflow.
+ *
+ * <p>The available players come from a {@link PlayerRosterStore} that is shared every time the
+ * screen opens. Players added manually are registered in the roster, which writes them to its file
+ * when the screen closes.
  */
 public class PlayerSelectionUI {
+  private static final Logger LOGGER = Logger.getLogger(PlayerSelectionUI.class.getName());
+
+  /** The file the roster of registered players is kept in. */
+  private static final Path ROSTER_FILE =
+      Path.of("src/main/resources/saved_players/saved_players.csv");
+
+  private static PlayerRosterStore roster; // Read once and reused every time the screen opens
   private final Stage stage;
   private final ObservableList<String> availablePlayersList = FXCollections.observableArrayList();
   private final ObservableList<String> selectedPlayersList = FXCollections.observableArrayList();
@@ -66,6 +82,7 @@ public class PlayerSelectionUI {
     stage.initModality(Modality.APPLICATION_MODAL);
     stage.initStyle(StageStyle.UTILITY);
     stage.setTitle("Player Selection");
+    stage.setOnHidden(e -> flushRoster());
 
     setupUI();
   }
@@ -251,19 +268,12 @@ public class PlayerSelectionUI {
    */
   private void loadPlayersFromCSV() {
     try {
-      // Load from the built-in CSV file in resources folder
-      String resourcePath = "/saved_players/saved_players.csv";
-      InputStream inputStream = getClass().getResourceAsStream(resourcePath);
-
-      if (inputStream == null) {
-        statusLabel.setText("Error: Built-in players file not found!");
+      List<Player> loadedPlayers = roster().getPlayers();
+      if (loadedPlayers.isEmpty()) {
+        statusLabel.setText("Error: No saved players found!");
         return;
       }
 
-      // Use the new method to read directly from InputStream
-      java.util.List<Player> loadedPlayers =
-          new PlayerFileReaderCSV().readPlayersFromInputStream(inputStream);
-
       // Clear existing available players
       availablePlayersList.clear();
 
@@ -280,7 +290,6 @@ public class PlayerSelectionUI {
             }
           });
 
-      inputStream.close();
       statusLabel.setText(
           "Loaded "
               + availablePlayersList.size()
@@ -291,6 +300,42 @@ public class PlayerSelectionUI {
     }
   }
 
+  /**
+   * Opens the roster of registered players the first time it is needed. If the roster file does
+   * not exist yet, the roster starts with the built-in players from the resources folder.
+   *
+   * @return the roster of registered players
+   * @throws IOException if the built-in players cannot be read
+   */
+  private static synchronized PlayerRosterStore roster() throws IOException {
+    if (roster == null) {
+      Files.createDirectories(ROSTER_FILE.toAbsolutePath().getParent());
+      PlayerRosterStore opened = new PlayerRosterStore(ROSTER_FILE);
+      if (opened.size() == 0) {
+        try (InputStream inputStream =
+            PlayerSelectionUI.class.getResourceAsStream("/saved_players/saved_players.csv")) {
+          if (inputStream != null) {
+            opened.addAll(new PlayerFileReaderCSV().readPlayersFromInputStream(inputStream));
+          }
+        }
+      }
+      roster = opened;
+    }
+    return roster;
+  }
+
+  /** Writes the players registered while the screen was open to the roster file. */
+  private static synchronized void flushRoster() {
+    if (roster == null) {
+      return;
+    }
+    try {
+      roster.flush();
+    } catch (RuntimeException e) {
+      LOGGER.warning("Failed to save the registered players: " + e.getMessage());
+    }
+  }
+
   /**
    * Displays a dialog that allows the user to add a new player with a specified name and token.
    *
@@ -398,6 +443,12 @@ public class PlayerSelectionUI {
                   return;
                 }
               });
+          try {
+            roster().add(new Player(name, token));
+          } catch (IllegalArgumentException | IOException ex) {
+            statusLabel.setText("Could not add player: " + ex.getMessage());
+            return;
+          }
           availablePlayersList.add(name);
           playerTokenMap.put(name, token);
           statusLabel.setText("Added " + name + " to available players with token " + token);
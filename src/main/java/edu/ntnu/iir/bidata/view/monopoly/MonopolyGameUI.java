@@ -5,8 +5,9 @@ import edu.ntnu.iir.bidata.controller.MonopolyController;
 import edu.ntnu.iir.bidata.model.BoardGame;
 import edu.ntnu.iir.bidata.model.player.Player;
 import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
-import edu.ntnu.iir.bidata.model.tile.actions.monopoly.GoToJailAction;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionDispatcher;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
 import edu.ntnu.iir.bidata.model.tile.core.monopoly.FreeParkingTile;
 import edu.ntnu.iir.bidata.model.tile.core.monopoly.GoTile;
 import edu.ntnu.iir.bidata.model.tile.core.monopoly.JailTile;
@@ -390,9 +391,12 @@ public class MonopolyGameUI extends JavaFXGameUI {
     int originalPos = currentPlayer.getCurrentPosition();
     String playerName = currentPlayer.getName();
 
-    // Roll dice ONCE for both display and calculation
-    boardGame.getDice().rollAllDice();
-    int[] diceValues = boardGame.getCurrentDiceValues();
+    // The controller rolls the dice and moves the player; the tile is resolved after the animation
+    if (!controller.rollDice()) {
+      update();
+      return;
+    }
+    int[] diceValues = controller.getLastDiceRolls();
 
     if (diceValues == null || diceValues.length != 2) {
       LOGGER.warning("Invalid dice values, defaulting to [1,1]");
@@ -405,65 +409,36 @@ public class MonopolyGameUI extends JavaFXGameUI {
     diceView.setValues(diceValues[0], diceValues[1]);
     actionLabel.setText(playerName + " rolled " + diceValues[0] + " and " + diceValues[1] + " (Total: " + diceSum + ")");
 
-    // Calculate final position
+    // The position the controller moved the player to
     int boardSize = getBoardGame().getBoard().getSizeOfBoard();
-    int calculatedFinalPos = (originalPos + diceSum) % boardSize;
+    int calculatedFinalPos = currentPlayer.getCurrentPosition();
 
     // Check for "Go to Jail"
     Tile targetTile = getBoardGame().getBoard().getTile(calculatedFinalPos);
-    boolean isGoToJailTile = targetTile.getAction() instanceof GoToJailAction;
+    boolean isGoToJailTile = isGoToJailTile(targetTile);
 
     if (isGoToJailTile) {
       int jailPos = findJailPosition();
       animator.animateMovement(playerName, originalPos, calculatedFinalPos, boardSize, () -> {
         actionLabel.setText(playerName + " landed on 'Go to Jail'! Moving to jail...");
         animator.animateGoToJail(playerName, jailPos, () -> {
-          movePlayerToPosition(currentPlayer, calculatedFinalPos);
-          handleTileActionAfterMove(currentPlayer, calculatedFinalPos);
+          handleTileActionAfterMove();
           update();
         });
       });
     } else {
       animator.animateMovement(playerName, originalPos, calculatedFinalPos, boardSize, () -> {
-        movePlayerToPosition(currentPlayer, calculatedFinalPos);
-        handleTileActionAfterMove(currentPlayer, calculatedFinalPos);
+        // The label is written for the player who moved, before the turn passes on
         updateActionLabelAfterMove(playerName, calculatedFinalPos);
+        handleTileActionAfterMove();
         update();
       });
     }
   }
 
-  private void movePlayerToPosition(Player player, int position) {
-    Tile targetTile = getBoardGame().getBoard().getTile(position);
-    player.setCurrentTile(targetTile);
-  }
-
-  private void handleTileActionAfterMove(Player currentPlayer, int position) {
-    Tile currentTile = getBoardGame().getBoard().getTile(position);
-
-    if (currentTile instanceof PropertyTile propertyTile) {
-      if (propertyTile.getOwner() == null) {
-        LOGGER.info("Property at position " + propertyTile.getId() + " is available for purchase");
-        controller.setAwaitingPlayerAction(true);
-        controller.setPendingPropertyTile(propertyTile);
-        boardGame.notifyObservers();
-        return;
-      } else if (propertyTile.getOwner() != currentPlayer) {
-        LOGGER.info(currentPlayer.getName() + " must pay rent for property at position " + propertyTile.getId());
-        controller.setAwaitingRentAction(true);
-        controller.setPendingRentPropertyTile(propertyTile);
-        boardGame.notifyObservers();
-        return;
-      }
-    } else if (currentTile.getAction() != null) {
-      currentTile.getAction().executeAction(currentPlayer, currentTile);
-      if (currentPlayer instanceof SimpleMonopolyPlayer && ((SimpleMonopolyPlayer) currentPlayer).isInJail()) {
-        mediator.notify(this, "nextPlayer");
-        return;
-      }
-    }
-
-    mediator.notify(this, "nextPlayer");
+  private void handleTileActionAfterMove() {
+    // The controller acts on the tile and ends the turn unless the player has a decision to make
+    controller.handleLanding();
   }
 
   private void updateActionLabelAfterMove(String playerName, int position) {
@@ -490,6 +465,11 @@ public class MonopolyGameUI extends JavaFXGameUI {
     }
   }
 
+  private boolean isGoToJailTile(Tile tile) {
+    return tile.getAction() != null
+        && TileActionDispatcher.typeOf(tile.getAction()) == TileActionType.GO_TO_JAIL;
+  }
+
   private int findJailPosition() {
     for (int i = 0; i < getBoardGame().getBoard().getSizeOfBoard(); i++) {
       Tile tile = getBoardGame().getBoard().getTile(i);
@@ -818,7 +798,7 @@ public class MonopolyGameUI extends JavaFXGameUI {
         rect.getStyleClass().add("free-parking-tile-color");
         rect.setFill(Color.web("#F0E68C"));
         label.setText("FREE\nPARKING");
-      } else if (tile.getAction() instanceof GoToJailAction) {
+      } else if (isGoToJailTile(tile)) {
         rect.getStyleClass().add("go-to-jail-tile-color");
         rect.setFill(Color.web("#FFA07A"));
         label.setText("GO TO\nJAIL");
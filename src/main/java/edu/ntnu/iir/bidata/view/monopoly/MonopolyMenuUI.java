@@ -1,9 +1,11 @@
 package edu.ntnu.iir.bidata.view.monopoly;
 
 import edu.ntnu.iir.bidata.Inject;
+import edu.ntnu.iir.bidata.controller.BaseGameController;
 import edu.ntnu.iir.bidata.controller.MonopolyController;
-import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileReaderGson;
-import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileWriterGson;
+import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileReader;
+import edu.ntnu.iir.bidata.filehandling.boardgame.SaveBackend;
+import edu.ntnu.iir.bidata.filehandling.storage.SaveStoreType;
 import edu.ntnu.iir.bidata.model.BoardGame;
 import edu.ntnu.iir.bidata.model.board.MonopolyBoardFactory;
 import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
@@ -14,7 +16,6 @@ import edu.ntnu.iir.bidata.view.common.JavaFXBoardGameLauncher;
 import edu.ntnu.iir.bidata.view.common.PlayerSelectionResult;
 import edu.ntnu.iir.bidata.view.common.PlayerSelectionUI;
 import java.io.IOException;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -152,7 +153,8 @@ public class MonopolyMenuUI {
                     selectedPlayers.stream()
                         .map(name -> new SimpleMonopolyPlayer(name, selectedPlayerTokens.get(name)))
                         .toList());
-            MonopolyGameUI gameUI = getMonopolyGameUI(boardGame, true);
+            MonopolyGameUI gameUI =
+                getMonopolyGameUI(boardGame, BaseGameController.AUTOSAVE_NAME, true);
             createAndSetScene(gameUI);
           } else {
             playerCountLabel.setText("Please select at least two players!");
@@ -174,7 +176,8 @@ public class MonopolyMenuUI {
                     selectedPlayers.stream()
                         .map(name -> new SimpleMonopolyPlayer(name, selectedPlayerTokens.get(name)))
                         .toList());
-            MonopolyGameUI gameUI = getMonopolyGameUI(boardGame, true);
+            MonopolyGameUI gameUI =
+                getMonopolyGameUI(boardGame, BaseGameController.AUTOSAVE_NAME, true);
             createAndSetScene(gameUI);
           } else {
             playerCountLabel.setText("Please select at least two players!");
@@ -196,7 +199,8 @@ public class MonopolyMenuUI {
                     selectedPlayers.stream()
                         .map(name -> new SimpleMonopolyPlayer(name, selectedPlayerTokens.get(name)))
                         .toList());
-            MonopolyGameUI gameUI = getMonopolyGameUI(boardGame, true);
+            MonopolyGameUI gameUI =
+                getMonopolyGameUI(boardGame, BaseGameController.AUTOSAVE_NAME, true);
             createAndSetScene(gameUI);
           } else {
             playerCountLabel.setText("Please select at least two players!");
@@ -282,7 +286,7 @@ public class MonopolyMenuUI {
               if (!gameName.isEmpty()) {
                 try {
                   BoardGame boardGame = readBoardGameFromSelectedFile(gameName);
-                  MonopolyGameUI gameUI = getMonopolyGameUI(boardGame, false);
+                  MonopolyGameUI gameUI = getMonopolyGameUI(boardGame, gameName, false);
                   createAndSetScene(gameUI);
                 } catch (Exception e) {
                   LOGGER.log(Level.SEVERE, "Error loading Monopoly game", e);
@@ -329,22 +333,30 @@ public class MonopolyMenuUI {
    * controller and starts the game if specified.
    *
    * @param boardGame the BoardGame instance representing the Monopoly game data and state
+   * @param gameName the name the game is saved under as it is played
    * @param startNew a boolean indicating whether to start a new game (true) or continue with an
    *     existing state (false)
    * @return a MonopolyGameUI instance configured with the provided board game and related
    *     components
    */
-  private MonopolyGameUI getMonopolyGameUI(BoardGame boardGame, boolean startNew) {
+  private MonopolyGameUI getMonopolyGameUI(
+      BoardGame boardGame, String gameName, boolean startNew) {
     GameMediator mediator = new DefaultGameMediator();
     MonopolyController controller =
         new MonopolyController(
-            boardGame, new BoardGameFileWriterGson(), new BoardGameFileReaderGson(), mediator);
+            boardGame,
+            SaveBackend.configured().newWriter(),
+            SaveBackend.configured().newAutoDetectReader(),
+            mediator);
     MonopolyGameUI gameUI = new MonopolyGameUI(boardGame, primaryStage, controller, mediator);
     boardGame.addObserver(gameUI);
     // Set player names in controller after loading
     List<String> playerNames = boardGame.getPlayers().stream().map(p -> p.getName()).toList();
     controller.setPlayerNames(playerNames);
-    if (startNew) controller.startGame();
+    if (startNew) {
+      controller.startGame();
+    }
+    controller.startSaving(gameName, true);
     return gameUI;
   }
 
@@ -390,18 +402,24 @@ public class MonopolyMenuUI {
    * Reads a board game configuration from a JSON file located in the Monopoly game's saved games
    * directory.
    *
-   * <p>This method attempts to load a board game file by appending the provided game name with the
-   * ".json" extension and locating it in the "src/main/resources/saved_games/monopoly" directory.
-   * The file is then parsed to create and return a {@code BoardGame} instance.
+   * <p>This method attempts to load a board game by appending the file extension of the configured
+   * save backend to the provided game name and reading it from the "monopoly" section of the
+   * configured save store. The save is then parsed to create and return a {@code BoardGame}
+   * instance. If journaled saves are on and the game has a journal, it is recovered from the
+   * journal instead.
    *
    * @param gameName the name of the board game file (without extension) to read and load
    * @return the {@code BoardGame} instance created from the loaded file
    * @throws IOException if an I/O error occurs while reading the board game file
    */
   private static BoardGame readBoardGameFromSelectedFile(String gameName) throws IOException {
-    BoardGameFileReaderGson reader = new BoardGameFileReaderGson();
+    BoardGame recovered = BaseGameController.recoverJournaledGame(gameName, true);
+    if (recovered != null) {
+      return recovered;
+    }
+    BoardGameFileReader reader = SaveBackend.configured().newAutoDetectReader();
     return reader.readBoardGame(
-        Paths.get("src/main/resources/saved_games/monopoly", gameName + ".json"));
+        SaveBackend.openSave(SaveStoreType.shared(), "monopoly/" + gameName));
   }
 
   /**
@@ -3,8 +3,8 @@ package edu.ntnu.iir.bidata.view.snakesandladders;
 import edu.ntnu.iir.bidata.Inject;
 import edu.ntnu.iir.bidata.controller.SnakesAndLaddersController;
 import edu.ntnu.iir.bidata.model.BoardGame;
-import edu.ntnu.iir.bidata.model.exception.GameException;
 import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
 import edu.ntnu.iir.bidata.model.utils.DefaultGameMediator;
 import edu.ntnu.iir.bidata.model.utils.GameMediator;
 import edu.ntnu.iir.bidata.view.common.CommonButtons;
@@ -396,92 +396,85 @@ public class SnakesAndLaddersGameUI extends JavaFXGameUI {
 
   /** Roll the dice and move the current player. */
   private void rollDiceAndMove() {
-    try {
-      if (controller == null) {
-        return;
-      }
-
-      rollDiceBtn.setDisable(true);
+    if (controller == null) {
+      return;
+    }
 
-      currentPlayer = controller.getCurrentSnakesAndLaddersPlayerName();
+    rollDiceBtn.setDisable(true);
 
-      controller.rollDice();
-      int[] rolls = controller.getLastDiceRolls();
-      int sum = controller.getLastDiceSum();
+    currentPlayer = controller.getCurrentSnakesAndLaddersPlayerName();
 
-      String diceMessage = currentPlayer
-          + " rolled a "
-          + (rolls.length > 0 ? rolls[0] : 1)
-          + " and "
-          + (rolls.length > 1 ? rolls[1] : (rolls.length > 0 ? rolls[0] : 1))
-          + "! (Total: "
-          + sum
-          + ")";
+    controller.rollDice();
+    int[] rolls = controller.getLastDiceRolls();
+    int sum = controller.getLastDiceSum();
 
-      localDiceView.setValues(
-          rolls.length > 0 ? rolls[0] : 1,
-          rolls.length > 1 ? rolls[1] : (rolls.length > 0 ? rolls[0] : 1));
+    String diceMessage = currentPlayer
+        + " rolled a "
+        + (rolls.length > 0 ? rolls[0] : 1)
+        + " and "
+        + (rolls.length > 1 ? rolls[1] : (rolls.length > 0 ? rolls[0] : 1))
+        + "! (Total: "
+        + sum
+        + ")";
 
-      // Update status label with dice roll
-      statusLabel.setText(diceMessage);
-      currentTurnLabel.setText(diceMessage);
+    localDiceView.setValues(
+        rolls.length > 0 ? rolls[0] : 1,
+        rolls.length > 1 ? rolls[1] : (rolls.length > 0 ? rolls[0] : 1));
 
-      // Add dice roll to history
-      addMessageToHistory(diceMessage);
+    // Update status label with dice roll
+    statusLabel.setText(diceMessage);
+    currentTurnLabel.setText(diceMessage);
 
-      // Increased delay for dice roll message (from 800ms to 2000ms)
-      PauseTransition pause = new PauseTransition(Duration.millis(2000));
-      pause.setOnFinished(
-          event -> {
-            SnakesAndLaddersController.MoveResult result =
-                controller.movePlayer(currentPlayer, sum);
+    // Add dice roll to history
+    addMessageToHistory(diceMessage);
 
-            // Update the player position immediately after the move
+    // Increased delay for dice roll message (from 800ms to 2000ms)
+    PauseTransition pause = new PauseTransition(Duration.millis(2000));
+    pause.setOnFinished(
+        event -> {
+          SnakesAndLaddersController.MoveResult result =
+              controller.movePlayer(currentPlayer, sum);
+
+          // Update the player position immediately after the move
+          updatePlayerPosition(currentPlayer);
+
+          if (result.type.equals("snake")) {
+            String snakeMessage = "🐍 " + currentPlayer + " hit a snake! Moving from " + result.start + " to " + result.end;
+            LOGGER.info(snakeMessage);
+            displaySnakeOrLadderMessage(currentPlayer, result.start, result.end, "snake");
+            // Add to history
+            addMessageToHistory(snakeMessage);
+            // Update position again after snake
             updatePlayerPosition(currentPlayer);
+          } else if (result.type.equals("ladder")) {
+            String ladderMessage = "🪜 " + currentPlayer + " hit a ladder! Moving from " + result.start + " to " + result.end;
+            LOGGER.info(ladderMessage);
+            displaySnakeOrLadderMessage(currentPlayer, result.start, result.end, "ladder");
+            // Add to history
+            addMessageToHistory(ladderMessage);
+            // Update position again after ladder
+            updatePlayerPosition(currentPlayer);
+          } else {
+            // Normal move
+            String moveMessage = "🎲 " + currentPlayer + " moved from " + result.start + " to " + result.end;
+            addMessageToHistory(moveMessage);
+          }
 
-            if (result.type.equals("snake")) {
-              String snakeMessage = "🐍 " + currentPlayer + " hit a snake! Moving from " + result.start + " to " + result.end;
-              LOGGER.info(snakeMessage);
-              displaySnakeOrLadderMessage(currentPlayer, result.start, result.end, "snake");
-              // Add to history
-              addMessageToHistory(snakeMessage);
-              // Update position again after snake
-              updatePlayerPosition(currentPlayer);
-            } else if (result.type.equals("ladder")) {
-              String ladderMessage = "🪜 " + currentPlayer + " hit a ladder! Moving from " + result.start + " to " + result.end;
-              LOGGER.info(ladderMessage);
-              displaySnakeOrLadderMessage(currentPlayer, result.start, result.end, "ladder");
-              // Add to history
-              addMessageToHistory(ladderMessage);
-              // Update position again after ladder
-              updatePlayerPosition(currentPlayer);
-            } else {
-              // Normal move
-              String moveMessage = "🎲 " + currentPlayer + " moved from " + result.start + " to " + result.end;
-              addMessageToHistory(moveMessage);
-            }
-
-            if (result.type.equals("win")) {
-              String winMessage = "🏆 " + currentPlayer + " WINS! 🏆";
-              statusLabel.setText(winMessage);
-              currentTurnLabel.setText(winMessage);
-              addMessageToHistory(winMessage);
-              rollDiceBtn.setDisable(true);
-              return;
-            }
+          if (result.outcome == MoveOutcome.REACHED_END) {
+            String winMessage = "🏆 " + currentPlayer + " WINS! 🏆";
+            LOGGER.info(winMessage);
+            statusLabel.setText(winMessage);
+            currentTurnLabel.setText(winMessage);
+            addMessageToHistory(winMessage);
+            rollDiceBtn.setDisable(true);
+            return;
+          }
 
-            controller.nextSnakesAndLaddersPlayer();
-            updateCurrentPlayerIndicator(controller.getCurrentSnakesAndLaddersPlayerName());
-            rollDiceBtn.setDisable(false);
-          });
-      pause.play();
-    } catch (GameException e) {
-      String winMessage = "🏆 " + currentPlayer + " WINS! 🏆";
-      LOGGER.info(winMessage);
-      statusLabel.setText(winMessage);
-      currentTurnLabel.setText(winMessage);
-      addMessageToHistory(winMessage);
-    }
+          controller.nextSnakesAndLaddersPlayer();
+          updateCurrentPlayerIndicator(controller.getCurrentSnakesAndLaddersPlayerName());
+          rollDiceBtn.setDisable(false);
+        });
+    pause.play();
   }
 
   /**
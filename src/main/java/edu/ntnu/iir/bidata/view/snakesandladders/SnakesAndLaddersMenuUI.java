@@ -1,8 +1,10 @@
 package edu.ntnu.iir.bidata.view.snakesandladders;
 
+import edu.ntnu.iir.bidata.controller.BaseGameController;
 import edu.ntnu.iir.bidata.controller.SnakesAndLaddersController;
-import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileReaderGson;
-import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileWriterGson;
+import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileReader;
+import edu.ntnu.iir.bidata.filehandling.boardgame.SaveBackend;
+import edu.ntnu.iir.bidata.filehandling.storage.SaveStoreType;
 import edu.ntnu.iir.bidata.model.BoardGame;
 import edu.ntnu.iir.bidata.model.board.Board;
 import edu.ntnu.iir.bidata.model.board.BoardFactory;
@@ -16,7 +18,6 @@ import edu.ntnu.iir.bidata.view.common.JavaFXBoardGameLauncher;
 import edu.ntnu.iir.bidata.view.common.PlayerSelectionResult;
 import edu.ntnu.iir.bidata.view.common.PlayerSelectionUI;
 import java.io.IOException;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -333,8 +334,8 @@ public class SnakesAndLaddersMenuUI {
     SnakesAndLaddersController controller =
         new SnakesAndLaddersController(
             boardGame,
-            new BoardGameFileWriterGson(),
-            new BoardGameFileReaderGson(),
+            SaveBackend.configured().newWriter(),
+            SaveBackend.configured().newAutoDetectReader(),
             mediator,
             config);
     SnakesAndLaddersGameUI gameUI =
@@ -343,6 +344,7 @@ public class SnakesAndLaddersMenuUI {
     boardGame.addObserver(gameUI);
     controller.setPlayerNames(players.stream().map(Player::getName).toList());
     controller.startGame();
+    controller.startSaving(BaseGameController.AUTOSAVE_NAME, false);
     createAndSetScene(gameUI.getRoot());
   }
 
@@ -411,19 +413,23 @@ public class SnakesAndLaddersMenuUI {
   }
 
   /**
-   * Reads a {@link BoardGame} object from a JSON file corresponding to the provided game name. The
-   * JSON file is expected to be located in the directory
-   * "src/main/resources/saved_games/snakesandladder".
+   * Reads a {@link BoardGame} object from a JSON save corresponding to the provided game name. The
+   * save is expected to be in the "snakesandladder" section of the configured save store. If
+   * journaled saves are on and the game has a journal, it is recovered from the journal instead.
    *
-   * @param gameName the name of the game file to be read (without the ".json" extension)
+   * @param gameName the name of the game file to be read (without the file extension)
    * @return the {@link BoardGame} object loaded from the specified file
    * @throws IOException if an error occurs while reading the file
    */
   private static BoardGame readBoardGameFromSelectedFile(String gameName) throws IOException {
-    BoardGameFileReaderGson reader = new BoardGameFileReaderGson();
+    BoardGame recovered = BaseGameController.recoverJournaledGame(gameName, false);
+    if (recovered != null) {
+      return recovered;
+    }
+    BoardGameFileReader reader = SaveBackend.configured().newAutoDetectReader();
     BoardGame boardGame =
         reader.readBoardGame(
-            Paths.get("src/main/resources/saved_games/snakesandladder", gameName + ".json"));
+            SaveBackend.openSave(SaveStoreType.shared(), "snakesandladder/" + gameName));
     return boardGame;
   }
 
@@ -440,8 +446,8 @@ public class SnakesAndLaddersMenuUI {
     SnakesAndLaddersController controller =
         new SnakesAndLaddersController(
             boardGame,
-            new BoardGameFileWriterGson(),
-            new BoardGameFileReaderGson(),
+            SaveBackend.configured().newWriter(),
+            SaveBackend.configured().newAutoDetectReader(),
             mediator,
             config);
     // Determine image path based on level
@@ -463,8 +469,8 @@ public class SnakesAndLaddersMenuUI {
     // Register UI as observer
     boardGame.addObserver(gameUI);
 
-    // Load game state and start
-    controller.loadSnakesAndLadderGame(gameName);
+    // The game is already loaded, so only keep saving it from here
+    controller.startSaving(gameName, false);
     return gameUI;
   }
 
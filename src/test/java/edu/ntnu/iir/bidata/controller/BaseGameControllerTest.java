@@ -1,11 +1,24 @@
 package edu.ntnu.iir.bidata.controller;
 
+import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileReaderAutoDetect;
+import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileWriterGson;
+import edu.ntnu.iir.bidata.filehandling.storage.SaveStoreType;
 import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.board.Board;
+import edu.ntnu.iir.bidata.model.board.MonopolyBoardFactory;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.metrics.GameMetrics;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.utils.GameStateComparator;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 
@@ -19,6 +32,9 @@ class BaseGameControllerTest {
 
     private BaseGameController controller;
 
+    @TempDir
+    Path saveDirectory;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -43,6 +59,18 @@ class BaseGameControllerTest {
         verify(mockBoardGame).startGame();
     }
 
+    @Test
+    void testSessionIsCountedFromStartUntilLeft() {
+        GameMetrics metrics = GameMetrics.shared();
+        int sessions = metrics.getActiveSessions();
+
+        controller.startGame();
+        assertEquals(sessions + 1, metrics.getActiveSessions());
+
+        controller.leaveGame();
+        assertEquals(sessions, metrics.getActiveSessions());
+    }
+
     @Test
     void testGetCurrentPlayerName() {
         List<String> playerNames = Arrays.asList("Player1", "Player2");
@@ -73,4 +101,62 @@ class BaseGameControllerTest {
         controller.setDiceRolled(true);
         assertTrue(controller.isDiceRolled());
     }
-} 
\ No newline at end of file
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(SaveStoreType.DIRECTORY_PROPERTY);
+        System.clearProperty(BaseGameController.JOURNALED_SAVES_PROPERTY);
+    }
+
+    private BaseGameController journaledController(BoardGame boardGame) throws Exception {
+        System.setProperty(SaveStoreType.DIRECTORY_PROPERTY, saveDirectory.toString());
+        return new BaseGameController(
+                boardGame,
+                new BoardGameFileWriterGson(),
+                new BoardGameFileReaderAutoDetect(),
+                SaveStoreType.MEMORY.open(saveDirectory)) {
+            @Override
+            public void handlePlayerMove() {
+                // Mock implementation for testing
+            }
+        };
+    }
+
+    @Test
+    void testJournaledGameIsRecoveredWhenLoaded() throws Exception {
+        System.setProperty(BaseGameController.JOURNALED_SAVES_PROPERTY, "true");
+        Board board = MonopolyBoardFactory.createBoard();
+        BoardGame boardGame = new BoardGame(board, new Dice(2));
+        SimpleMonopolyPlayer alice = new SimpleMonopolyPlayer("Alice");
+        SimpleMonopolyPlayer bob = new SimpleMonopolyPlayer("Bob");
+        boardGame.setPlayers(List.of(alice, bob));
+        BaseGameController journaled = journaledController(boardGame);
+        journaled.setPlayerNames(List.of("Alice", "Bob"));
+
+        journaled.startSaving(BaseGameController.AUTOSAVE_NAME, true);
+        alice.setCurrentTile(board.getTile(5));
+        bob.setMoney(1200);
+        journaled.nextPlayer();
+
+        // Simulate a crash: the journal is never closed
+        BoardGame recovered =
+                BaseGameController.recoverJournaledGame(BaseGameController.AUTOSAVE_NAME, true);
+
+        assertNotNull(recovered);
+        assertTrue(GameStateComparator.sameGameState(boardGame, recovered));
+        assertEquals(1, recovered.getCurrentPlayerIndex());
+        journaled.closeJournal();
+    }
+
+    @Test
+    void testNoJournalIsKeptWhenJournaledSavesAreOff() throws Exception {
+        BoardGame boardGame = new BoardGame(MonopolyBoardFactory.createBoard(), new Dice(2));
+        boardGame.setPlayers(List.of(new SimpleMonopolyPlayer("Alice")));
+        BaseGameController controller = journaledController(boardGame);
+
+        controller.startSaving(BaseGameController.AUTOSAVE_NAME, true);
+
+        assertFalse(Files.exists(saveDirectory.resolve("monopoly").resolve("journals")));
+        assertNull(BaseGameController.recoverJournaledGame(BaseGameController.AUTOSAVE_NAME, true));
+    }
+}
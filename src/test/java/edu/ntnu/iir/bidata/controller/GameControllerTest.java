@@ -1,15 +1,21 @@
 package edu.ntnu.iir.bidata.controller;
 
 import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.board.Board;
+import edu.ntnu.iir.bidata.model.board.BoardFactory;
+import edu.ntnu.iir.bidata.model.dice.Dice;
 import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.tile.core.Tile;
 import edu.ntnu.iir.bidata.model.tile.core.TileAction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -138,4 +144,71 @@ class GameControllerTest {
         assertFalse(controller.canMoveLudoToken(-1, 3)); // In home, not 6
         assertTrue(controller.canMoveLudoToken(0, 3)); // On board
     }
-} 
\ No newline at end of file
+
+    /** Creates a started snakes and ladders game with real players and dice. */
+    private BoardGame createStartedGame() {
+        List<Player> players = new ArrayList<>(List.of(new Player("Alice"), new Player("Bob"),
+                new Player("Cara")));
+        BoardGame game = new BoardGame(BoardFactory.createSnakesAndLaddersBoard(100, players),
+                new Dice(1));
+        game.setPlayers(players);
+        game.startGame();
+        return game;
+    }
+
+    @Test
+    void testPlayTurnsNotifiesObserversOnce() {
+        BoardGame game = createStartedGame();
+        AtomicInteger updates = new AtomicInteger();
+        game.addObserver(updates::incrementAndGet);
+        GameController realController = new GameController(game);
+
+        BatchSummary summary = realController.playTurns(6);
+
+        assertEquals(6, summary.getTurnsPlayed());
+        assertEquals(2, summary.getRoundsPlayed());
+        assertEquals(0, game.getCurrentPlayerIndex());
+        assertEquals(1, updates.get());
+    }
+
+    @Test
+    void testPlayUntilGameOverReportsWinnerAndProgress() {
+        BoardGame game = createStartedGame();
+        GameController realController = new GameController(game);
+        List<Integer> progress = new ArrayList<>();
+
+        BatchSummary summary = realController.playUntilGameOver(100_000,
+                (turnsPlayed, boardGame) -> progress.add(turnsPlayed));
+
+        assertTrue(summary.isGameOver());
+        assertTrue(game.isGameOver());
+        assertTrue(List.of("Alice", "Bob", "Cara").contains(summary.getWinnerName()));
+        assertEquals(summary.getTurnsPlayed(), progress.get(progress.size() - 1));
+        assertTrue(summary.toString().contains("won by " + summary.getWinnerName()));
+        assertEquals(0, realController.playTurns(10).getTurnsPlayed());
+    }
+
+    @Test
+    void testPlayRoundsStopsAfterWholeRounds() {
+        // A board without snakes or ladders that nobody can finish in three rounds of two dice
+        Board board = new Board(100);
+        for (int id = 0; id < 100; id++) {
+            board.addTile(new Tile(id));
+        }
+        for (int id = 0; id < 99; id++) {
+            board.connectTiles(id, board.getTile(id + 1));
+        }
+        BoardGame game = new BoardGame(board, new Dice(2));
+        game.setPlayers(new ArrayList<>(List.of(new Player("Alice"), new Player("Bob"),
+                new Player("Cara"))));
+        game.startGame();
+        GameController realController = new GameController(game);
+
+        BatchSummary summary = realController.playRounds(3);
+
+        assertFalse(summary.isGameOver());
+        assertEquals(3, summary.getRoundsPlayed());
+        assertEquals(9, summary.getTurnsPlayed());
+        assertEquals(0, game.getCurrentPlayerIndex());
+    }
+}
@@ -3,12 +3,14 @@ package edu.ntnu.iir.bidata.controller;
 import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileReader;
 import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileWriter;
 import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.board.MonopolyBoardFactory;
 import edu.ntnu.iir.bidata.model.dice.Dice;
 import edu.ntnu.iir.bidata.model.exception.LowMoneyException;
 import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
 import edu.ntnu.iir.bidata.model.tile.core.TileAction;
 import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import edu.ntnu.iir.bidata.model.utils.DefaultGameMediator;
 import edu.ntnu.iir.bidata.model.utils.GameMediator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,7 @@ import org.mockito.MockitoAnnotations;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -249,6 +252,7 @@ class MonopolyControllerTest {
   @Test
   void testHandleJailRollDice_RolledSix() {
     // Arrange
+    when(mockCurrentPlayer.isInJail()).thenReturn(true);
     when(mockBoardGame.getCurrentDiceValues()).thenReturn(new int[]{6, 3});
 
     // Act
@@ -263,6 +267,7 @@ class MonopolyControllerTest {
   @Test
   void testHandleJailRollDice_DidNotRollSix() {
     // Arrange
+    when(mockCurrentPlayer.isInJail()).thenReturn(true);
     when(mockBoardGame.getCurrentDiceValues()).thenReturn(new int[]{3, 4});
 
     // Act
@@ -277,6 +282,7 @@ class MonopolyControllerTest {
   @Test
   void testHandleJailRollDice_InvalidDiceValues() {
     // Arrange
+    when(mockCurrentPlayer.isInJail()).thenReturn(true);
     when(mockBoardGame.getCurrentDiceValues()).thenReturn(null);
 
     // Act
@@ -290,6 +296,7 @@ class MonopolyControllerTest {
   @Test
   void testHandleJailPay_SuccessfulPayment() throws LowMoneyException {
     // Arrange
+    when(mockCurrentPlayer.isInJail()).thenReturn(true);
     doNothing().when(mockCurrentPlayer).payRent(50);
 
     // Act
@@ -304,6 +311,7 @@ class MonopolyControllerTest {
   @Test
   void testHandleJailPay_InsufficientFunds() throws LowMoneyException {
     // Arrange
+    when(mockCurrentPlayer.isInJail()).thenReturn(true);
     doThrow(new LowMoneyException()).when(mockCurrentPlayer).payRent(50);
 
     // Act
@@ -578,4 +586,139 @@ class MonopolyControllerTest {
     controller.setPendingRentPropertyTile(mockPropertyTile);
     // No getter available, but we can test through payRentForCurrentPlayer
   }
-}
\ No newline at end of file
+
+  /** Creates a controller of a real two player game that counts its "nextPlayer" events. */
+  private MonopolyController createRealController(BoardGame game, AtomicInteger nextPlayerEvents) {
+    game.setPlayers(List.of(new SimpleMonopolyPlayer("Alice"), new SimpleMonopolyPlayer("Bob")));
+    game.startGame();
+    DefaultGameMediator mediator = new DefaultGameMediator();
+    mediator.register((sender, event) -> {
+      if ("nextPlayer".equals(event)) {
+        nextPlayerEvents.incrementAndGet();
+      }
+    });
+    MonopolyController realController =
+        new MonopolyController(game, mockBoardGameWriter, mockBoardGameReader, mediator);
+    realController.setPlayerNames(List.of("Alice", "Bob"));
+    return realController;
+  }
+
+  @Test
+  void testRejectedCommandLeavesTurnUnchanged() {
+    BoardGame game = new BoardGame(MonopolyBoardFactory.createBoard(), new Dice(2));
+    AtomicInteger events = new AtomicInteger();
+    MonopolyController realController = createRealController(game, events);
+
+    assertFalse(realController.submit(TurnCommand.BUY));
+    assertFalse(realController.submit(TurnCommand.PAY_RENT));
+
+    assertEquals(TurnPhase.AWAITING_ROLL, realController.getPhase());
+    assertEquals(0, game.getCurrentPlayerIndex());
+    assertEquals(0, events.get());
+  }
+
+  @Test
+  void testEveryEndOfTurnAdvancesOnce() {
+    BoardGame game = new BoardGame(MonopolyBoardFactory.createBoard(), new Dice(2));
+    AtomicInteger events = new AtomicInteger();
+    MonopolyController realController = createRealController(game, events);
+    PropertyTile property = game.getBoard().getTiles().values().stream()
+        .filter(PropertyTile.class::isInstance)
+        .map(PropertyTile.class::cast)
+        .findFirst()
+        .orElseThrow();
+
+    realController.setAwaitingPlayerAction(true);
+    realController.setPendingPropertyTile(property);
+    assertTrue(realController.submit(TurnCommand.BUY));
+    assertEquals(1, game.getCurrentPlayerIndex());
+    assertEquals(1, events.get());
+
+    // Paying to leave jail used to notify without passing the turn on
+    assertFalse(realController.submit(TurnCommand.JAIL_PAY));
+    ((SimpleMonopolyPlayer) game.getCurrentPlayer()).setInJail(true);
+    assertTrue(realController.submit(TurnCommand.JAIL_PAY));
+    assertEquals(0, game.getCurrentPlayerIndex());
+    assertEquals(2, events.get());
+    assertEquals(TurnPhase.AWAITING_ROLL, realController.getPhase());
+  }
+
+  @Test
+  void testJailCommandsNeedAPlayerInJail() {
+    BoardGame game = new BoardGame(MonopolyBoardFactory.createBoard(), new Dice(2));
+    AtomicInteger events = new AtomicInteger();
+    MonopolyController realController = createRealController(game, events);
+
+    assertFalse(realController.submit(TurnCommand.JAIL_ROLL));
+    assertFalse(realController.submit(TurnCommand.JAIL_PAY));
+    assertEquals(0, game.getCurrentPlayerIndex());
+    assertEquals(0, events.get());
+
+    ((SimpleMonopolyPlayer) game.getCurrentPlayer()).setInJail(true);
+    assertTrue(realController.submit(TurnCommand.JAIL_ROLL));
+    assertEquals(1, game.getCurrentPlayerIndex());
+    assertEquals(1, events.get());
+  }
+
+  @Test
+  void testViewRollWaitsForLanding() {
+    BoardGame game = new BoardGame(MonopolyBoardFactory.createBoard(), new Dice(2));
+    AtomicInteger events = new AtomicInteger();
+    MonopolyController realController = createRealController(game, events);
+    int start = game.getCurrentPlayer().getCurrentPosition();
+
+    assertFalse(realController.submit(TurnCommand.LAND));
+    assertTrue(realController.rollDice());
+
+    assertEquals(TurnPhase.AWAITING_LANDING, realController.getPhase());
+    assertNotEquals(start, game.getCurrentPlayer().getCurrentPosition());
+    assertFalse(realController.rollDice());
+    assertFalse(realController.submit(TurnCommand.ROLL));
+    assertEquals(0, events.get());
+
+    realController.handleLanding();
+    assertNotEquals(TurnPhase.AWAITING_LANDING, realController.getPhase());
+    assertFalse(realController.submit(TurnCommand.LAND));
+  }
+
+  @Test
+  void testQueuedCommandsRunAsOneBatch() {
+    BoardGame game = new BoardGame(MonopolyBoardFactory.createBoard(), new Dice(2));
+    AtomicInteger events = new AtomicInteger();
+    AtomicInteger updates = new AtomicInteger();
+    MonopolyController realController = createRealController(game, events);
+    game.addObserver(updates::incrementAndGet);
+
+    // A bot rolls and then buys or pays whatever it lands on; commands that do not fit are dropped
+    for (int turn = 0; turn < 50; turn++) {
+      realController.enqueue(TurnCommand.ROLL);
+      realController.enqueue(TurnCommand.BUY);
+      realController.enqueue(TurnCommand.PAY_RENT);
+    }
+    int processed = realController.processQueuedCommands();
+
+    assertTrue(processed >= 50);
+    assertEquals(1, events.get());
+    assertEquals(1, updates.get());
+    assertEquals(0, realController.processQueuedCommands());
+  }
+
+  @Test
+  void testQueuedCommandsThatEndNoTurnDoNotNotifyTheMediator() {
+    BoardGame game = new BoardGame(MonopolyBoardFactory.createBoard(), new Dice(2));
+    AtomicInteger events = new AtomicInteger();
+    AtomicInteger updates = new AtomicInteger();
+    MonopolyController realController = createRealController(game, events);
+    game.addObserver(updates::incrementAndGet);
+
+    // A move waits for the view to land the player, so the turn does not end
+    realController.enqueue(TurnCommand.MOVE);
+    int processed = realController.processQueuedCommands();
+
+    assertEquals(1, processed);
+    assertEquals(TurnPhase.AWAITING_LANDING, realController.getPhase());
+    assertEquals(0, events.get());
+    assertEquals(1, updates.get());
+    assertEquals(0, game.getCurrentPlayerIndex());
+  }
+}
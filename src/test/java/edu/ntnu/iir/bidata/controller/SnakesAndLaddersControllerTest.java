@@ -10,6 +10,7 @@ import edu.ntnu.iir.bidata.model.board.Board;
 import edu.ntnu.iir.bidata.model.dice.Dice;
 import edu.ntnu.iir.bidata.model.player.Player;
 import edu.ntnu.iir.bidata.model.tile.config.TileConfiguration;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
 import edu.ntnu.iir.bidata.model.utils.GameMediator;
 import java.util.Arrays;
@@ -58,6 +59,8 @@ class SnakesAndLaddersControllerTest {
     when(mockBoardGame.getCurrentPlayer()).thenReturn(mockPlayer1);
     when(mockBoardGame.getCurrentPlayerIndex()).thenReturn(0);
     when(mockBoardGame.getCurrentDiceValues()).thenReturn(new int[]{4});
+    when(mockBoardGame.getPlayerByName("Player1")).thenReturn(mockPlayer1);
+    when(mockBoardGame.getPlayerByName("Player2")).thenReturn(mockPlayer2);
 
     when(mockBoard.getTile(0)).thenReturn(mockTile);
     when(mockBoard.getSizeOfBoard()).thenReturn(101); // Adding board size (0-100)
@@ -239,6 +242,7 @@ class SnakesAndLaddersControllerTest {
     assertEquals(97, result.start);
     assertEquals(99, result.end); // Should be lastTile - 1 for win
     assertEquals("win", result.type);
+    assertEquals(MoveOutcome.REACHED_END, result.outcome);
     verify(mockPlayer1, never()).move(anyInt());
   }
 
@@ -372,6 +376,15 @@ class SnakesAndLaddersControllerTest {
     verify(mockPlayer1).move(10);
   }
 
+  @Test
+  void testUpdateSnakesAndLaddersPosition_ReportsOvershoot() {
+    when(mockPlayer1.getCurrentPosition()).thenReturn(98);
+    when(mockPlayer1.move(5)).thenReturn(MoveOutcome.OVERSHOOT);
+
+    assertEquals(
+        MoveOutcome.OVERSHOOT, controller.updateSnakesAndLaddersPosition("Player1", 103));
+  }
+
   @Test
   void testUpdateSnakesAndLaddersPosition_PlayerNotFound() {
     controller.updateSnakesAndLaddersPosition("NonExistentPlayer", 20);
@@ -0,0 +1,149 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.filehandling.storage.FileSaveStore;
+import edu.ntnu.iir.bidata.filehandling.storage.MemorySaveStore;
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.board.MonopolyBoardFactory;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.utils.GameStateComparator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AutosaveServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private BoardGame boardGame;
+    private SimpleMonopolyPlayer bob;
+
+    @BeforeEach
+    public void setUp() {
+        boardGame = new BoardGame(MonopolyBoardFactory.createBoard(), new Dice(2));
+        bob = new SimpleMonopolyPlayer("Bob");
+        boardGame.setPlayers(List.of(new SimpleMonopolyPlayer("Alice"), bob));
+    }
+
+    private void assertNoTemporaryFileLeft() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertTrue(files.noneMatch(file -> file.getFileName().toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    public void testSaveWritesConsistentSnapshot() throws Exception {
+        Path savePath = tempDir.resolve("game.json");
+        try (AutosaveService autosave = new AutosaveService()) {
+            bob.setMoney(1200);
+            CompletableFuture<Void> saved = autosave.save(boardGame, savePath, true);
+            // Changes made after the request are not part of the save
+            bob.setMoney(10);
+            saved.join();
+        }
+
+        BoardGame loaded = new BoardGameFileReaderGson().readBoardGame(savePath);
+        assertEquals(1200, ((SimpleMonopolyPlayer) loaded.getPlayers().get(1)).getMoney());
+        assertNoTemporaryFileLeft();
+    }
+
+    @Test
+    public void testRapidSavesAreCoalesced() throws Exception {
+        Path savePath = tempDir.resolve("game.json");
+        AtomicInteger writes = new AtomicInteger();
+        BoardGameFileWriter slowWriter = (game, path, isMonopoly) -> {
+            writes.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            new BoardGameFileWriterGson().writeBoardGame(game, path, isMonopoly);
+        };
+
+        List<CompletableFuture<Void>> saves = new ArrayList<>();
+        try (AutosaveService autosave = new AutosaveService(slowWriter)) {
+            for (int i = 0; i < 20; i++) {
+                bob.setMoney(1000 + i);
+                saves.add(autosave.save(boardGame, savePath, true));
+            }
+            CompletableFuture.allOf(saves.toArray(new CompletableFuture[0])).join();
+        }
+
+        assertTrue(writes.get() < 20);
+        BoardGame loaded = new BoardGameFileReaderGson().readBoardGame(savePath);
+        assertTrue(GameStateComparator.sameGameState(boardGame, loaded));
+    }
+
+    @Test
+    public void testFailedSaveLeavesOldFileIntact() throws Exception {
+        Path savePath = tempDir.resolve("game.json");
+        Files.writeString(savePath, "old content");
+        BoardGameFileWriter failingWriter = (game, path, isMonopoly) -> {
+            Files.writeString(path, "half");
+            throw new IOException("Disk full");
+        };
+
+        try (AutosaveService autosave = new AutosaveService(failingWriter)) {
+            CompletableFuture<Void> saved = autosave.save(boardGame, savePath, true);
+            assertThrows(CompletionException.class, saved::join);
+        }
+
+        assertEquals("old content", Files.readString(savePath));
+        assertNoTemporaryFileLeft();
+    }
+
+    @Test
+    public void testSaveToStoreWritesConsistentSnapshot() throws Exception {
+        MemorySaveStore store = new MemorySaveStore();
+        try (AutosaveService autosave = new AutosaveService()) {
+            bob.setMoney(1300);
+            CompletableFuture<Void> saved = autosave.save(boardGame, store, "monopoly/game.json", true);
+            bob.setMoney(10);
+            saved.join();
+        }
+
+        BoardGame loaded = new BoardGameFileReaderGson().readBoardGame(store.open("monopoly/game.json"));
+        assertEquals(1300, ((SimpleMonopolyPlayer) loaded.getPlayers().get(1)).getMoney());
+    }
+
+    @Test
+    public void testSaveToFileStoreRecordsCatalog() throws Exception {
+        FileSaveStore store = new FileSaveStore(tempDir);
+        try (AutosaveService autosave = new AutosaveService()) {
+            autosave.save(boardGame, store, "game.json", true).join();
+        }
+
+        assertTrue(Files.exists(tempDir.resolve("game.json")));
+        assertEquals(List.of("game"), SavedGameCatalog.forDirectory(tempDir).list().stream()
+                .map(SavedGameInfo::getName).toList());
+    }
+
+    @Test
+    public void testSharedServiceWritesWithTheWriterOfEachSave() throws Exception {
+        MemorySaveStore store = new MemorySaveStore();
+        AutosaveService autosave = AutosaveService.shared();
+        assertSame(autosave, AutosaveService.shared());
+
+        autosave.save(boardGame, store, "game.json", new BoardGameFileWriterGson(), true).join();
+        autosave.save(boardGame, store, "game.bin", new BoardGameFileWriterBinary(), true).join();
+
+        assertEquals(2, new BoardGameFileReaderGson().readBoardGame(store.open("game.json"))
+                .getPlayers().size());
+        assertEquals(2, new BoardGameFileReaderBinary().readBoardGame(store.open("game.bin"))
+                .getPlayers().size());
+    }
+}
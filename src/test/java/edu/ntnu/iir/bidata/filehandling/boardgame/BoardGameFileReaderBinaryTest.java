@@ -0,0 +1,160 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.BinarySaveFormat;
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.board.Board;
+import edu.ntnu.iir.bidata.model.board.MonopolyBoardFactory;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import edu.ntnu.iir.bidata.model.utils.GameStateComparator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardGameFileReaderBinaryTest {
+
+    private BoardGameFileReaderBinary boardGameFileReaderBinary;
+    private BoardGameFileWriterBinary boardGameFileWriterBinary;
+    private Path testFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        boardGameFileReaderBinary = new BoardGameFileReaderBinary();
+        boardGameFileWriterBinary = new BoardGameFileWriterBinary();
+        testFilePath = Paths.get("src/main/resources/saved_games/test_monopoly_game.bin");
+    }
+
+    private BoardGame createMonopolyGame() {
+        Board monopolyBoard = MonopolyBoardFactory.createBoard();
+        BoardGame boardGame = new BoardGame(monopolyBoard, new Dice(2));
+        SimpleMonopolyPlayer alice = new SimpleMonopolyPlayer("Alice");
+        SimpleMonopolyPlayer bob = new SimpleMonopolyPlayer("Bob");
+        boardGame.setPlayers(List.of(alice, bob));
+        alice.setCurrentTile(monopolyBoard.getTile(5));
+        bob.setCurrentTile(monopolyBoard.getTile(10));
+        bob.setMoney(1234);
+        bob.setInJail(true);
+        return boardGame;
+    }
+
+    @Test
+    public void testBinaryRoundTrip() {
+        BoardGame boardGame = createMonopolyGame();
+        boardGame.setRoundNumber(7);
+
+        assertDoesNotThrow(() -> boardGameFileWriterBinary.writeBoardGame(boardGame, testFilePath, true));
+        BoardGame loaded = assertDoesNotThrow(() -> boardGameFileReaderBinary.readBoardGame(testFilePath));
+
+        assertEquals(boardGame.getBoard().getSizeOfBoard(), loaded.getBoard().getSizeOfBoard());
+        assertEquals(boardGame.getBoard().getTiles().size(), loaded.getBoard().getTiles().size());
+        assertEquals(7, loaded.getRoundNumber());
+        assertTrue(GameStateComparator.samePlayersState(boardGame.getPlayers(), loaded.getPlayers()));
+        assertSame(loaded.getBoard().getTile(5), loaded.getPlayers().get(0).getCurrentTile());
+        assertSame(loaded.getBoard().getTile(1), loaded.getBoard().getTile(0).getNextTile());
+    }
+
+    @Test
+    public void testPropertyOwnerRestoration() {
+        BoardGame boardGame = createMonopolyGame();
+        SimpleMonopolyPlayer alice = (SimpleMonopolyPlayer) boardGame.getPlayers().get(0);
+        PropertyTile property = (PropertyTile) boardGame.getBoard().getTiles().values().stream()
+                .filter(PropertyTile.class::isInstance)
+                .findFirst()
+                .orElseThrow();
+        property.setOwner(alice);
+        alice.getOwnedProperties().add(property);
+
+        assertDoesNotThrow(() -> boardGameFileWriterBinary.writeBoardGame(boardGame, testFilePath, true));
+        BoardGame loaded = assertDoesNotThrow(() -> boardGameFileReaderBinary.readBoardGame(testFilePath));
+
+        SimpleMonopolyPlayer loadedAlice = (SimpleMonopolyPlayer) loaded.getPlayers().get(0);
+        PropertyTile loadedProperty = (PropertyTile) loaded.getBoard().getTile(property.getId());
+        assertSame(loadedAlice, loadedProperty.getOwner());
+        assertTrue(loadedAlice.getOwnedProperties().contains(loadedProperty));
+    }
+
+    @Test
+    public void testAutoDetectReadsBothFormats() {
+        BoardGame boardGame = createMonopolyGame();
+        Path jsonPath = Paths.get("src/main/resources/saved_games/test_monopoly_game.json");
+        BoardGameFileReaderAutoDetect reader = new BoardGameFileReaderAutoDetect();
+
+        assertDoesNotThrow(() -> boardGameFileWriterBinary.writeBoardGame(boardGame, testFilePath, true));
+        assertDoesNotThrow(() -> new BoardGameFileWriterGson().writeBoardGame(boardGame, jsonPath, true));
+
+        assertTrue(assertDoesNotThrow(() -> BinarySaveFormat.isBinarySave(testFilePath)));
+        assertFalse(assertDoesNotThrow(() -> BinarySaveFormat.isBinarySave(jsonPath)));
+        BoardGame fromBinary = assertDoesNotThrow(() -> reader.readBoardGame(testFilePath));
+        BoardGame fromJson = assertDoesNotThrow(() -> reader.readBoardGame(jsonPath));
+        assertTrue(GameStateComparator.samePlayersState(fromBinary.getPlayers(), fromJson.getPlayers()));
+    }
+
+    @Test
+    public void testRejectsUnsupportedVersion() throws Exception {
+        BoardGame boardGame = createMonopolyGame();
+        boardGameFileWriterBinary.writeBoardGame(boardGame, testFilePath, true);
+        byte[] bytes = Files.readAllBytes(testFilePath);
+        bytes[Integer.BYTES] = (byte) (BinarySaveFormat.VERSION + 1);
+        Files.write(testFilePath, bytes);
+
+        assertThrows(java.io.IOException.class, () -> boardGameFileReaderBinary.readBoardGame(testFilePath));
+    }
+
+    @Test
+    public void testActionCodesAreFixedAndMapBothWays() {
+        assertEquals(1, BinarySaveFormat.actionCode(TileActionType.GO_TO_TILE));
+        assertEquals(7, BinarySaveFormat.actionCode(TileActionType.LADDER));
+        assertEquals(13, BinarySaveFormat.actionCode(TileActionType.CUSTOM));
+        for (TileActionType type : TileActionType.values()) {
+            assertEquals(type, BinarySaveFormat.actionType(BinarySaveFormat.actionCode(type)));
+        }
+        assertNull(BinarySaveFormat.actionType(BinarySaveFormat.NO_ACTION));
+        assertNull(BinarySaveFormat.actionType(TileActionType.values().length + 1));
+    }
+
+    @Test
+    public void testRejectsMalformedLengthsAndCounts() {
+        byte[] hugeVarInt = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        // A level string longer than the save
+        ByteBuffer longString = header().put(hugeVarInt).flip();
+        // A player table with more players than the save has bytes
+        ByteBuffer manyPlayers = header().put((byte) 0).put((byte) 0).put((byte) 0)
+                .put(hugeVarInt).flip();
+        // A negative length
+        ByteBuffer negative = header().put((byte) 0x80).put((byte) 0x80).put((byte) 0x80)
+                .put((byte) 0x80).put((byte) 0x0F).flip();
+
+        for (ByteBuffer save : List.of(longString, manyPlayers, negative)) {
+            IOException e = assertThrows(IOException.class,
+                    () -> boardGameFileReaderBinary.readBoardGame(save));
+            assertTrue(e.getMessage().contains("Malformed"), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testOpenedSaveDoesNotHoldTheFile() throws Exception {
+        boardGameFileWriterBinary.writeBoardGame(createMonopolyGame(), testFilePath, true);
+        SavedGame saved = boardGameFileReaderBinary.openSavedGame(testFilePath);
+
+        // Replacing the file must not disturb the board that is read later
+        Files.write(testFilePath, new byte[] {1, 2, 3});
+
+        BoardGame loaded = saved.getBoardGame();
+        assertTrue(GameStateComparator.sameGameState(createMonopolyGame(), loaded));
+    }
+
+    private static ByteBuffer header() {
+        return ByteBuffer.allocate(64).putInt(BinarySaveFormat.MAGIC)
+                .put((byte) BinarySaveFormat.VERSION).put((byte) 0);
+    }
+}
@@ -8,9 +8,15 @@ import edu.ntnu.iir.bidata.model.BoardGame;
 import edu.ntnu.iir.bidata.model.dice.Dice;
 import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
 import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.utils.GameStateComparator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
@@ -51,7 +57,7 @@ public class BoardGameFileReaderGsonTest {
         assertEquals(monopolyBoardGame.getBoard().getSizeOfBoard(), readBoardGame.getBoard().getSizeOfBoard());
         assertEquals(monopolyBoardGame.getDice(), readBoardGame.getDice());
         assertEquals(monopolyBoardGame.getCurrentPlayerIndex(), readBoardGame.getCurrentPlayerIndex());
-        assertEquals(monopolyBoardGame.getPlayers(), readBoardGame.getPlayers());
+        assertTrue(GameStateComparator.samePlayersState(monopolyBoardGame.getPlayers(), readBoardGame.getPlayers()));
     }
 
     @Test
@@ -122,4 +128,57 @@ public class BoardGameFileReaderGsonTest {
         assertEquals(900, loadedBobMonopoly.getMoney());
         assertEquals(12, loadedBobMonopoly.getCurrentTile().getId());
     }
-} 
\ No newline at end of file
+
+    @Test
+    public void testPropertyOwnerRestoration() throws Exception {
+        Board monopolyBoard = MonopolyBoardFactory.createBoard();
+        BoardGame boardGame = new BoardGame(monopolyBoard, new Dice(2));
+        SimpleMonopolyPlayer alice = new SimpleMonopolyPlayer("Alice");
+        SimpleMonopolyPlayer bob = new SimpleMonopolyPlayer("Bob");
+        boardGame.setPlayers(List.of(alice, bob));
+        PropertyTile property = (PropertyTile) monopolyBoard.getTiles().values().stream()
+            .filter(PropertyTile.class::isInstance)
+            .findFirst()
+            .orElseThrow();
+        bob.buyProperty(property);
+
+        assertDoesNotThrow(() -> boardGameFileWriterGson.writeBoardGame(boardGame, testFilePath, true));
+        BoardGame loaded = assertDoesNotThrow(() -> boardGameFileReaderGson.readBoardGame(testFilePath));
+
+        PropertyTile loadedProperty = (PropertyTile) loaded.getBoard().getTile(property.getId());
+        SimpleMonopolyPlayer loadedBob = (SimpleMonopolyPlayer) loaded.getPlayerByName("Bob");
+        assertSame(loadedBob, loadedProperty.getOwner());
+        assertTrue(loadedBob.getOwnedProperties().contains(loadedProperty));
+        assertSame(loaded.getBoard().getTile(property.getId() + 1), loadedProperty.getNextTile());
+    }
+
+    @Test
+    public void testNegativeTileIdIsRejected() throws IOException {
+        String save = golden("golden_monopoly_game.json");
+        String negativePlayerTile = save.replaceFirst("\"id\": 1", "\"id\": -1");
+        String negativeNextTile = save.replaceFirst("\"nextTileId\": \\d+", "\"nextTileId\": -2");
+        assertNotEquals(save, negativePlayerTile);
+        assertNotEquals(save, negativeNextTile);
+
+        assertThrows(IOException.class, () -> boardGameFileReaderGson.readBoardGame(stream(negativePlayerTile)));
+        assertThrows(IOException.class, () -> boardGameFileReaderGson.readBoardGame(stream(negativeNextTile)));
+    }
+
+    @Test
+    public void testMalformedJsonIsRejected() throws IOException {
+        String save = golden("golden_monopoly_game.json").replaceFirst("\"currentPlayerIndex\"", "currentPlayerIndex");
+
+        assertThrows(IOException.class, () -> boardGameFileReaderGson.readBoardGame(stream(save)));
+    }
+
+    private String golden(String name) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/saved_games/" + name)) {
+            assertNotNull(in, "Missing golden file " + name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static InputStream stream(String save) {
+        return new ByteArrayInputStream(save.getBytes(StandardCharsets.UTF_8));
+    }
+}
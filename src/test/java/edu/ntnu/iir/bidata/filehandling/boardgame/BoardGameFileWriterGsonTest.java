@@ -0,0 +1,133 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.board.Board;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.actions.snakeandladder.LadderAction;
+import edu.ntnu.iir.bidata.model.tile.core.Tile;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import edu.ntnu.iir.bidata.model.utils.GameStateComparator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pins the output of the JSON writer with golden saves. The goldens fix the key order of the
+ * streaming writer, which is not the order of the writer it replaced: that writer built a HashMap
+ * per tile and per player, so their keys came out in hash order. The readers look keys up by name,
+ * so saves in the old order still load.
+ */
+public class BoardGameFileWriterGsonTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testStandardGameMatchesGoldenOutput() throws IOException {
+        Path save = tempDir.resolve("standard.json");
+
+        new BoardGameFileWriterGson().writeBoardGame(createStandardGame(), save, false);
+
+        assertArrayEquals(golden("golden_standard_game.json"), Files.readAllBytes(save));
+    }
+
+    @Test
+    public void testMonopolyGameMatchesGoldenOutput() throws IOException {
+        Path save = tempDir.resolve("monopoly.json");
+
+        new BoardGameFileWriterGson().writeBoardGame(createMonopolyGame(), save, true);
+
+        assertArrayEquals(golden("golden_monopoly_game.json"), Files.readAllBytes(save));
+    }
+
+    @Test
+    public void testRewritingALoadedSaveIsByteIdentical() throws IOException {
+        BoardGameFileWriterGson writer = new BoardGameFileWriterGson();
+        BoardGameFileReaderGson reader = new BoardGameFileReaderGson();
+        Path first = tempDir.resolve("first.json");
+        Path second = tempDir.resolve("second.json");
+        for (boolean isMonopoly : new boolean[] {false, true}) {
+            BoardGame game = isMonopoly ? createMonopolyGame() : createStandardGame();
+            writer.writeBoardGame(game, first, isMonopoly);
+
+            writer.writeBoardGame(reader.readBoardGame(first), second, isMonopoly);
+
+            assertArrayEquals(Files.readAllBytes(first), Files.readAllBytes(second));
+        }
+    }
+
+    @Test
+    public void testSaveInTheOldKeyOrderLoadsTheSameGame() throws IOException {
+        BoardGameFileReaderGson reader = new BoardGameFileReaderGson();
+        Path golden = tempDir.resolve("golden.json");
+        Path legacy = tempDir.resolve("legacy.json");
+        Files.write(golden, golden("golden_monopoly_game.json"));
+        Files.write(legacy, golden("legacy_order_monopoly_game.json"));
+
+        assertTrue(GameStateComparator.sameGameState(
+                reader.readBoardGame(golden), reader.readBoardGame(legacy)));
+    }
+
+    private byte[] golden(String name) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/saved_games/" + name)) {
+            assertNotNull(in, "Missing golden file " + name);
+            return in.readAllBytes();
+        }
+    }
+
+    private BoardGame createStandardGame() {
+        Board board = createBoard(4);
+        board.getTile(1).setAction(new LadderAction(3));
+        List<Player> players = new ArrayList<>(List.of(new Player("Alice"), new Player("Bob")));
+        BoardGame game = new BoardGame(board, new Dice(2));
+        game.setPlayers(players);
+        players.get(1).setCurrentTile(board.getTile(2));
+        game.setCurrentPlayerIndex(1);
+        game.setRoundNumber(2);
+        game.setLevel("easy");
+        return game;
+    }
+
+    private BoardGame createMonopolyGame() {
+        Board board = new Board(3);
+        board.addTile(new Tile(0));
+        board.addTile(new PropertyTile(1, 200, 20, 1));
+        board.addTile(new PropertyTile(2, 300, 30, 1));
+        connect(board, 3);
+        SimpleMonopolyPlayer alice = new SimpleMonopolyPlayer("Alice", "token_blue.png");
+        SimpleMonopolyPlayer bob = new SimpleMonopolyPlayer("Bob", "token_green.png");
+        BoardGame game = new BoardGame(board, new Dice(2));
+        game.setPlayers(List.of(alice, bob));
+        alice.setCurrentTile(board.getTile(1));
+        alice.setMoney(1300);
+        PropertyTile owned = (PropertyTile) board.getTile(1);
+        owned.setOwner(alice);
+        alice.getOwnedProperties().add(owned);
+        return game;
+    }
+
+    private Board createBoard(int size) {
+        Board board = new Board(size);
+        for (int id = 0; id < size; id++) {
+            board.addTile(new Tile(id));
+        }
+        connect(board, size);
+        return board;
+    }
+
+    private void connect(Board board, int size) {
+        for (int id = 0; id < size - 1; id++) {
+            board.connectTiles(id, board.getTile(id + 1));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.board.MonopolyBoardFactory;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulkSavedGameReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private void saveGame(Path path, int money, int position) throws Exception {
+        BoardGame boardGame = new BoardGame(MonopolyBoardFactory.createBoard(), new Dice(2));
+        SimpleMonopolyPlayer alice = new SimpleMonopolyPlayer("Alice");
+        boardGame.setPlayers(List.of(alice));
+        alice.setMoney(money);
+        alice.setCurrentTile(boardGame.getBoard().getTile(position));
+        ((PropertyTile) boardGame.getBoard().getTile(1)).setOwner(alice);
+        Files.createDirectories(path.getParent());
+        if (path.toString().endsWith(".bin")) {
+            new BoardGameFileWriterBinary().writeBoardGame(boardGame, path, true);
+        } else {
+            new BoardGameFileWriterGson().writeBoardGame(boardGame, path, true);
+        }
+    }
+
+    @Test
+    public void testReadsEverySaveInDirectoryTree() throws Exception {
+        for (int i = 0; i < 12; i++) {
+            saveGame(tempDir.resolve("season" + (i % 3)).resolve("game" + i + (i % 2 == 0 ? ".json" : ".bin")), 1000, 5);
+        }
+        Files.writeString(tempDir.resolve("broken.json"), "{ not a save");
+        Files.writeString(tempDir.resolve("notes.txt"), "not a save either");
+
+        try (BulkSavedGameReader reader = new BulkSavedGameReader(new BoardGameFileReaderAutoDetect(), 3);
+             Stream<BoardGame> games = reader.readGames(tempDir)) {
+            assertEquals(12, games.count());
+        }
+    }
+
+    @Test
+    public void testReportAggregatesSummaries() throws Exception {
+        saveGame(tempDir.resolve("a.json"), 150, 5);
+        saveGame(tempDir.resolve("b.json"), 180, 5);
+        saveGame(tempDir.resolve("c.json"), 420, 8);
+
+        SavedGameReport report;
+        try (BulkSavedGameReader reader = new BulkSavedGameReader(new BoardGameFileReaderAutoDetect(), 2)) {
+            report = reader.report(tempDir, 100);
+        }
+
+        assertEquals(3, report.getGameCount());
+        assertEquals(2L, report.getMoneyDistribution().get(100));
+        assertEquals(1L, report.getMoneyDistribution().get(400));
+        assertEquals(3L, report.getOwnedPropertiesByGroup().get(0));
+        assertEquals(2L, report.getPlayersByPosition().get(5));
+        assertEquals(1L, report.getPlayersByPosition().get(8));
+    }
+
+    @Test
+    public void testInvalidThreadCountIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new BulkSavedGameReader(new BoardGameFileReaderGson(), 0));
+    }
+}
@@ -0,0 +1,142 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.board.Board;
+import edu.ntnu.iir.bidata.model.board.MonopolyBoardFactory;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import edu.ntnu.iir.bidata.model.utils.GameStateComparator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path snapshotPath;
+    private Board board;
+    private BoardGame boardGame;
+    private SimpleMonopolyPlayer alice;
+    private SimpleMonopolyPlayer bob;
+
+    @BeforeEach
+    public void setUp() {
+        snapshotPath = tempDir.resolve("game.bin");
+        board = MonopolyBoardFactory.createBoard();
+        boardGame = new BoardGame(board, new Dice(2));
+        alice = new SimpleMonopolyPlayer("Alice");
+        bob = new SimpleMonopolyPlayer("Bob");
+        boardGame.setPlayers(List.of(alice, bob));
+    }
+
+    private PropertyTile firstProperty() {
+        return (PropertyTile) board.getTiles().values().stream()
+                .filter(PropertyTile.class::isInstance)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    public void testRecoverReplaysJournaledTurns() throws Exception {
+        GameJournal journal = new GameJournal(snapshotPath, true);
+        journal.start(boardGame);
+
+        alice.setCurrentTile(board.getTile(5));
+        bob.setMoney(1200);
+        boardGame.setCurrentPlayerIndex(1);
+        journal.recordTurn();
+        alice.buyProperty(firstProperty());
+        bob.setInJail(true);
+        journal.recordTurn();
+
+        // Simulate a crash: the journal is never closed
+        BoardGame recovered = new GameJournal(snapshotPath, true).recover();
+
+        assertTrue(GameStateComparator.sameGameState(boardGame, recovered));
+        SimpleMonopolyPlayer recoveredAlice = (SimpleMonopolyPlayer) recovered.getPlayers().get(0);
+        PropertyTile recoveredProperty = (PropertyTile) recovered.getBoard().getTile(firstProperty().getId());
+        assertSame(recoveredAlice, recoveredProperty.getOwner());
+        assertTrue(recoveredAlice.getOwnedProperties().contains(recoveredProperty));
+        journal.close();
+    }
+
+    @Test
+    public void testRecoverIgnoresIncompleteRecord() throws Exception {
+        GameJournal journal = new GameJournal(snapshotPath, true);
+        journal.start(boardGame);
+        alice.setCurrentTile(board.getTile(3));
+        journal.recordTurn();
+        journal.close();
+
+        Path journalPath = tempDir.resolve("game.bin.journal");
+        Files.write(journalPath, new byte[] {0, 0, 0, 20, 1, 2}, StandardOpenOption.APPEND);
+        BoardGame recovered = new GameJournal(snapshotPath, true).recover();
+
+        assertEquals(3, recovered.getPlayers().get(0).getCurrentTile().getId());
+    }
+
+    @Test
+    public void testTurnWithoutChangesWritesNothing() throws Exception {
+        GameJournal journal = new GameJournal(snapshotPath, true);
+        journal.start(boardGame);
+        journal.recordTurn();
+        journal.close();
+
+        assertEquals(0, Files.size(tempDir.resolve("game.bin.journal")));
+    }
+
+    @Test
+    public void testCompactionMergesJournalIntoSnapshot() throws Exception {
+        GameJournal journal = new GameJournal(snapshotPath, true, 1, 2);
+        journal.start(boardGame);
+        alice.setCurrentTile(board.getTile(2));
+        journal.recordTurn();
+        bob.setCurrentTile(board.getTile(4));
+        journal.recordTurn();
+        journal.close();
+
+        assertFalse(Files.exists(tempDir.resolve("game.bin.compacting")));
+        assertEquals(0, Files.size(tempDir.resolve("game.bin.journal")));
+        BoardGame snapshot = new BoardGameFileReaderBinary().readBoardGame(snapshotPath);
+        assertTrue(GameStateComparator.sameGameState(boardGame, snapshot));
+    }
+
+    @Test
+    public void testCompactionMergesJournalLeftByFailedCompaction() throws Exception {
+        GameJournal journal = new GameJournal(snapshotPath, true, 1, 1);
+        journal.start(boardGame);
+        byte[] snapshot = Files.readAllBytes(snapshotPath);
+
+        // Break the snapshot so that the compaction of the first turn fails
+        Files.write(snapshotPath, new byte[] {1, 2, 3});
+        alice.setCurrentTile(board.getTile(2));
+        journal.recordTurn();
+        assertThrows(Exception.class, () -> journal.compact().join());
+        assertTrue(Files.exists(tempDir.resolve("game.bin.compacting")));
+
+        Files.write(snapshotPath, snapshot);
+        bob.setCurrentTile(board.getTile(4));
+        journal.recordTurn();
+        journal.close();
+
+        assertFalse(Files.exists(tempDir.resolve("game.bin.compacting")));
+        BoardGame merged = new BoardGameFileReaderBinary().readBoardGame(snapshotPath);
+        assertTrue(GameStateComparator.sameGameState(boardGame, merged));
+    }
+
+    @Test
+    public void testRecordTurnWithoutGameThrows() {
+        GameJournal journal = new GameJournal(snapshotPath, true);
+        assertThrows(IllegalStateException.class, journal::recordTurn);
+    }
+}
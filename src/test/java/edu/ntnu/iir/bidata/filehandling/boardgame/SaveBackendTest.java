@@ -0,0 +1,294 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.filehandling.boardgame.utils.SaveCompression;
+import edu.ntnu.iir.bidata.filehandling.storage.MemorySaveStore;
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.board.BoardFactory;
+import edu.ntnu.iir.bidata.model.board.MonopolyBoardFactory;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.actions.game.SwitchPositionAction;
+import edu.ntnu.iir.bidata.model.tile.actions.movement.EntryPointAction;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
+import edu.ntnu.iir.bidata.model.tile.core.Tile;
+import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import edu.ntnu.iir.bidata.model.utils.GameStateComparator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SaveBackendTest {
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    public static void registerBonusAction() {
+        TileActionTypeAdapter.registerCustomAction(BonusAction.class);
+    }
+
+    @AfterAll
+    public static void unregisterBonusAction() {
+        TileActionTypeAdapter.unregisterCustomAction(BonusAction.class);
+    }
+
+    /** An action that is not built into the game, so it is saved with its class name. */
+    public static class BonusAction implements TileAction {
+        private int bonus;
+
+        public BonusAction(int bonus) {
+            this.bonus = bonus;
+        }
+
+        @Override
+        public MoveOutcome executeAction(Player player, Tile currentTile) {
+            return null;
+        }
+
+        @Override
+        public String getDescription() {
+            return "Bonus " + bonus;
+        }
+    }
+
+    private BoardGame createSnakesGame() {
+        List<Player> players = new ArrayList<>(List.of(new Player("Alice"), new Player("Bob")));
+        BoardGame game = new BoardGame(BoardFactory.createSnakesAndLaddersBoard(100, players),
+                new Dice(2));
+        game.setPlayers(players);
+        players.get(1).setCurrentTile(game.getBoard().getTile(42));
+        game.setCurrentPlayerIndex(1);
+        game.setRoundNumber(3);
+        game.setLevel("hard");
+        game.getBoard().getTile(20).setAction(new EntryPointAction(players.get(1)));
+        game.getBoard().getTile(21).setAction(new SwitchPositionAction(players));
+        game.getBoard().getTile(22).setAction(new BonusAction(7));
+        return game;
+    }
+
+    private BoardGame createMonopolyGame() {
+        BoardGame game = new BoardGame(MonopolyBoardFactory.createBoard(), new Dice(2));
+        SimpleMonopolyPlayer alice = new SimpleMonopolyPlayer("Alice");
+        SimpleMonopolyPlayer bob = new SimpleMonopolyPlayer("Bob");
+        game.setPlayers(List.of(alice, bob));
+        alice.setMoney(850);
+        bob.setInJail(true);
+        PropertyTile property = game.getBoard().getTiles().values().stream()
+                .filter(PropertyTile.class::isInstance)
+                .map(PropertyTile.class::cast)
+                .findFirst()
+                .orElseThrow();
+        property.setOwner(alice);
+        alice.getOwnedProperties().add(property);
+        return game;
+    }
+
+    @Test
+    public void testEveryBackendRoundTripsASnakesAndLaddersGame() throws IOException {
+        BoardGame game = createSnakesGame();
+        for (SaveBackend backend : SaveBackend.values()) {
+            Path save = tempDir.resolve(backend + ".save");
+            backend.newWriter().writeBoardGame(game, save, false);
+
+            BoardGame loaded = backend.newReader().readBoardGame(save);
+
+            assertTrue(GameStateComparator.sameGameState(game, loaded), backend.toString());
+            EntryPointAction entryPoint =
+                    (EntryPointAction) loaded.getBoard().getTile(20).getAction();
+            assertSame(loaded.getPlayers().get(1), entryPoint.getOwner(), backend.toString());
+        }
+    }
+
+    @Test
+    public void testEveryBackendRoundTripsAMonopolyGame() throws IOException {
+        BoardGame game = createMonopolyGame();
+        for (SaveBackend backend : SaveBackend.values()) {
+            Path save = tempDir.resolve(backend + ".save");
+            backend.newWriter().writeBoardGame(game, save, true);
+
+            BoardGame loaded = backend.newReader().readBoardGame(save);
+
+            assertTrue(GameStateComparator.samePlayersState(game.getPlayers(), loaded.getPlayers()),
+                    backend.toString());
+            SimpleMonopolyPlayer alice = (SimpleMonopolyPlayer) loaded.getPlayers().get(0);
+            assertEquals(1, alice.getOwnedProperties().size(), backend.toString());
+        }
+    }
+
+    @Test
+    public void testJsonBackendsWriteTheSameFile() throws IOException {
+        for (boolean isMonopoly : new boolean[] {false, true}) {
+            BoardGame game = isMonopoly ? createMonopolyGame() : createSnakesGame();
+            Path reference = tempDir.resolve("reference.json");
+            SaveBackend.GSON_STREAMING.newWriter().writeBoardGame(game, reference, isMonopoly);
+
+            for (SaveBackend backend : List.of(SaveBackend.GSON_TREE,
+                    SaveBackend.JACKSON_STREAMING)) {
+                Path save = tempDir.resolve(backend + ".json");
+                backend.newWriter().writeBoardGame(game, save, isMonopoly);
+
+                assertEquals(Files.readString(reference), Files.readString(save),
+                        backend.toString());
+            }
+        }
+    }
+
+    @Test
+    public void testJsonBackendsReadEachOthersCompressedSaves() throws IOException {
+        BoardGame game = createSnakesGame();
+        for (SaveBackend writer : SaveBackend.values()) {
+            if (!writer.isJson()) {
+                continue;
+            }
+            Path save = tempDir.resolve(writer + ".json.gz");
+            writer.newWriter(SaveCompression.GZIP).writeBoardGame(game, save, false);
+            for (SaveBackend reader : SaveBackend.values()) {
+                if (!reader.isJson()) {
+                    continue;
+                }
+                BoardGame loaded = reader.newReader().readBoardGame(save);
+
+                assertTrue(GameStateComparator.sameGameState(game, loaded),
+                        writer + " -> " + reader);
+                BonusAction bonus = (BonusAction) loaded.getBoard().getTile(22).getAction();
+                assertEquals("Bonus 7", bonus.getDescription());
+            }
+        }
+    }
+
+    @Test
+    public void testEveryBackendRoundTripsThroughStreams() throws IOException {
+        BoardGame game = createSnakesGame();
+        for (SaveBackend backend : SaveBackend.values()) {
+            for (SaveCompression compression : SaveCompression.values()) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                backend.newWriter(compression).writeBoardGame(game, out, false);
+                byte[] save = out.toByteArray();
+
+                BoardGame loaded = backend.newReader().readBoardGame(new ByteArrayInputStream(save));
+                BoardGame detected =
+                        new BoardGameFileReaderAutoDetect().readBoardGame(new ByteArrayInputStream(save));
+
+                String label = backend + " " + compression;
+                assertTrue(GameStateComparator.sameGameState(game, loaded), label);
+                assertTrue(GameStateComparator.sameGameState(game, detected), label);
+            }
+        }
+    }
+
+    @Test
+    public void testStreamedSaveMatchesFileSave() throws IOException {
+        BoardGame game = createMonopolyGame();
+        for (SaveBackend backend : SaveBackend.values()) {
+            Path save = tempDir.resolve(backend + ".save");
+            backend.newWriter().writeBoardGame(game, save, true);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            backend.newWriter().writeBoardGame(game, out, true);
+
+            assertArrayEquals(Files.readAllBytes(save), out.toByteArray(), backend.toString());
+        }
+    }
+
+    @Test
+    public void testAutoDetectReaderOfBinaryBackendReadsJson() throws IOException {
+        Path save = tempDir.resolve("game.json");
+        SaveBackend.JACKSON_STREAMING.newWriter().writeBoardGame(createSnakesGame(), save, false);
+
+        BoardGame loaded = SaveBackend.BINARY.newAutoDetectReader().readBoardGame(save);
+
+        assertEquals("hard", loaded.getLevel());
+    }
+
+    @Test
+    public void testJacksonReaderRejectsSaveWithoutBoard() throws IOException {
+        Path save = tempDir.resolve("empty.json");
+        Files.writeString(save, "{\"players\": []}");
+
+        assertThrows(IOException.class,
+                () -> SaveBackend.JACKSON_STREAMING.newReader().readBoardGame(save));
+        assertThrows(IOException.class,
+                () -> SaveBackend.GSON_TREE.newReader().readBoardGame(save));
+    }
+
+    @Test
+    public void testUnregisteredCustomActionIsNotLoaded() throws IOException {
+        BoardGame game = createSnakesGame();
+        game.getBoard().getTile(23).setAction(new TileAction() {
+            @Override
+            public MoveOutcome executeAction(Player player, Tile currentTile) {
+                return MoveOutcome.MOVED;
+            }
+
+            @Override
+            public String getDescription() {
+                return "Unregistered";
+            }
+        });
+        for (SaveBackend backend : SaveBackend.values()) {
+            Path save = tempDir.resolve(backend + ".save");
+            backend.newWriter().writeBoardGame(game, save, false);
+
+            Exception e = assertThrows(Exception.class,
+                    () -> backend.newReader().readBoardGame(save), backend.toString());
+            assertTrue(e.getMessage().contains("Unregistered TileAction class"),
+                    backend.toString());
+        }
+    }
+
+    @Test
+    public void testBackendIsSelectedByName() {
+        assertEquals(SaveBackend.JACKSON_STREAMING, SaveBackend.fromName("jackson-streaming"));
+        assertEquals(SaveBackend.GSON_TREE, SaveBackend.fromName(" GSON_TREE "));
+        assertThrows(IllegalArgumentException.class, () -> SaveBackend.fromName("xml"));
+    }
+
+    @Test
+    public void testSavesAreKeyedByTheExtensionOfTheirFormat() throws IOException {
+        for (SaveBackend backend : SaveBackend.values()) {
+            assertEquals(backend.getFileExtension(), backend.newWriter().getFileExtension());
+        }
+        assertEquals(".bin", SaveBackend.BINARY.getFileExtension());
+        assertEquals(".json", SaveBackend.JACKSON_STREAMING.getFileExtension());
+        assertEquals(List.of("monopoly/game.bin", "monopoly/game.json"),
+                SaveBackend.saveKeys("monopoly/game", ".bin"));
+
+        // A binary save is still found when the configured backend writes JSON
+        BoardGame game = createSnakesGame();
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        SaveBackend.BINARY.newWriter().writeBoardGame(game, binary, false);
+        try (MemorySaveStore store = new MemorySaveStore()) {
+            store.write("snakesandladder/game.bin", ByteBuffer.wrap(binary.toByteArray())).join();
+
+            BoardGame loaded = SaveBackend.GSON_STREAMING.newAutoDetectReader()
+                    .readBoardGame(SaveBackend.openSave(store, "snakesandladder/game"));
+
+            assertTrue(GameStateComparator.sameGameState(game, loaded));
+        }
+    }
+
+    @Test
+    public void testBenchmarkMeasuresEveryBackend() throws IOException {
+        List<SaveBackendBenchmark.Result> results =
+                SaveBackendBenchmark.run(createSnakesGame(), false, 2);
+
+        assertEquals(SaveBackend.values().length, results.size());
+        assertTrue(results.stream().allMatch(result -> result.getFileSize() > 0));
+        assertTrue(results.contains(SaveBackendBenchmark.fastest(results)));
+        assertThrows(IllegalArgumentException.class,
+                () -> SaveBackendBenchmark.run(createSnakesGame(), false, 0));
+    }
+}
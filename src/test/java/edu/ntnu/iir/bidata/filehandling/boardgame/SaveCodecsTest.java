@@ -0,0 +1,145 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.board.BoardFactory;
+import edu.ntnu.iir.bidata.model.board.MonopolyBoardFactory;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.actions.game.SwitchPositionAction;
+import edu.ntnu.iir.bidata.model.tile.actions.movement.EntryPointAction;
+import edu.ntnu.iir.bidata.model.tile.actions.snakeandladder.LadderAction;
+import edu.ntnu.iir.bidata.model.tile.core.Tile;
+import edu.ntnu.iir.bidata.model.tile.core.TileAction;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import edu.ntnu.iir.bidata.model.utils.GameStateComparator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SaveCodecsTest {
+
+    @Test
+    public void testSharedRegistryReusesAdapters() {
+        assertSame(SaveCodecs.gson(), SaveCodecs.gson());
+        assertSame(SaveCodecs.adapter(Tile.class), SaveCodecs.adapter(Tile.class));
+        assertTrue(SaveCodecs.adapter(BoardGame.class) instanceof BoardGameTypeAdapter);
+        assertTrue(SaveCodecs.adapter(Player.class) instanceof PlayerTypeAdapter);
+    }
+
+    @Test
+    public void testMonopolyPlayerRoundTrip() {
+        SimpleMonopolyPlayer player = new SimpleMonopolyPlayer("Alice", "token.png");
+        player.setMoney(1234);
+        player.setInJail(true);
+        player.setCurrentTile(new Tile(7));
+
+        String json = SaveCodecs.gson().toJson(player, Player.class);
+        Player loaded = SaveCodecs.gson().fromJson(json, Player.class);
+
+        SimpleMonopolyPlayer monopolyPlayer = assertInstanceOf(SimpleMonopolyPlayer.class, loaded);
+        assertEquals("Alice", monopolyPlayer.getName());
+        assertEquals("token.png", monopolyPlayer.getTokenImage());
+        assertEquals(1234, monopolyPlayer.getMoney());
+        assertTrue(monopolyPlayer.isInJail());
+        assertEquals(7, monopolyPlayer.getCurrentTile().getId());
+    }
+
+    @Test
+    public void testPropertyTileRoundTrip() {
+        PropertyTile tile = new PropertyTile(3, 200, 20, 1);
+        tile.setNextTile(new Tile(4));
+
+        String json = SaveCodecs.gson().toJson(tile, Tile.class);
+        Tile loaded = SaveCodecs.gson().fromJson(json, Tile.class);
+
+        PropertyTile property = assertInstanceOf(PropertyTile.class, loaded);
+        assertEquals(3, property.getId());
+        assertEquals(200, property.getPrice());
+        assertEquals(20, property.getRent());
+        assertEquals(1, property.getGroup());
+        assertTrue(json.contains("\"nextTileId\":4"));
+    }
+
+    @Test
+    public void testActionWithTypeAfterFieldsIsRead() {
+        TileAction action = SaveCodecs.gson()
+                .fromJson("{\"topTileId\":42,\"type\":\"LadderAction\"}", TileAction.class);
+
+        LadderAction ladder = assertInstanceOf(LadderAction.class, action);
+        assertEquals(42, ladder.getTopTileId());
+    }
+
+    @Test
+    public void testStandardLayoutKeepsMonopolyPlayersAndOwners() {
+        SimpleMonopolyPlayer alice = new SimpleMonopolyPlayer("Alice");
+        SimpleMonopolyPlayer bob = new SimpleMonopolyPlayer("Bob");
+        BoardGame game = new BoardGame(MonopolyBoardFactory.createBoard(), new Dice(2));
+        game.setPlayers(List.of(alice, bob));
+        PropertyTile property = game.getBoard().getTiles().values().stream()
+                .filter(PropertyTile.class::isInstance)
+                .map(PropertyTile.class::cast)
+                .findFirst()
+                .orElseThrow();
+        property.setOwner(bob);
+        bob.getOwnedProperties().add(property);
+
+        String json = SaveCodecs.gson().toJson(game, BoardGame.class);
+        BoardGame loaded = SaveCodecs.gson().fromJson(json, BoardGame.class);
+
+        assertTrue(GameStateComparator.sameGameState(game, loaded));
+        SimpleMonopolyPlayer loadedBob =
+                assertInstanceOf(SimpleMonopolyPlayer.class, loaded.getPlayers().get(1));
+        assertEquals(1, loadedBob.getOwnedProperties().size());
+        PropertyTile loadedProperty = (PropertyTile) loaded.getBoard().getTile(property.getId());
+        assertSame(loadedBob, loadedProperty.getOwner());
+    }
+
+    @Test
+    public void testActionPlayersAreStoredByReferenceAndResolvedToLivePlayers() {
+        BoardGame game = createGameWithPlayerActions();
+
+        String json = SaveCodecs.gson().toJson(game, BoardGame.class);
+        BoardGame loaded = SaveCodecs.gson().fromJson(json, BoardGame.class);
+
+        assertTrue(json.contains("\"ownerId\":1"));
+        assertTrue(json.contains("\"playerIds\":[0,1]"));
+        assertFalse(json.contains("\"allPlayers\""));
+        EntryPointAction entryPoint = (EntryPointAction) loaded.getBoard().getTile(20).getAction();
+        SwitchPositionAction switchPosition =
+                (SwitchPositionAction) loaded.getBoard().getTile(21).getAction();
+        assertSame(loaded.getPlayers().get(1), entryPoint.getOwner());
+        assertSame(loaded.getPlayers(), switchPosition.getAllPlayers());
+    }
+
+    @Test
+    public void testInlinePlayersOfOlderSavesAreResolvedToLivePlayers() {
+        BoardGame game = createGameWithPlayerActions();
+        String json = SaveCodecs.gson().toJson(game, BoardGame.class)
+                .replace("\"ownerId\":1", "\"owner\":{\"name\":\"Bob\"}")
+                .replace("\"playerIds\":[0,1]",
+                        "\"allPlayers\":[{\"name\":\"Alice\"},{\"name\":\"Bob\"}]");
+
+        BoardGame loaded = SaveCodecs.gson().fromJson(json, BoardGame.class);
+
+        EntryPointAction entryPoint = (EntryPointAction) loaded.getBoard().getTile(20).getAction();
+        SwitchPositionAction switchPosition =
+                (SwitchPositionAction) loaded.getBoard().getTile(21).getAction();
+        assertSame(loaded.getPlayers().get(1), entryPoint.getOwner());
+        assertSame(loaded.getPlayers().get(0), switchPosition.getAllPlayers().get(0));
+        assertSame(loaded.getPlayers().get(1), switchPosition.getAllPlayers().get(1));
+    }
+
+    private BoardGame createGameWithPlayerActions() {
+        List<Player> players = new ArrayList<>(List.of(new Player("Alice"), new Player("Bob")));
+        BoardGame game = new BoardGame(BoardFactory.createSnakesAndLaddersBoard(100, players),
+                new Dice(2));
+        game.setPlayers(players);
+        game.getBoard().getTile(20).setAction(new EntryPointAction(players.get(1)));
+        game.getBoard().getTile(21).setAction(new SwitchPositionAction(players));
+        return game;
+    }
+}
@@ -0,0 +1,217 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.board.BoardFactory;
+import edu.ntnu.iir.bidata.model.board.MonopolyBoardFactory;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SavedGameCatalogTest {
+
+    @TempDir
+    Path tempDir;
+
+    private BoardGame boardGame;
+
+    @BeforeEach
+    public void setUp() {
+        boardGame = new BoardGame(MonopolyBoardFactory.createBoard(), new Dice(2));
+        boardGame.setPlayers(List.of(new SimpleMonopolyPlayer("Alice"), new SimpleMonopolyPlayer("Bob")));
+        boardGame.setLevel("easy");
+        boardGame.setRoundNumber(4);
+    }
+
+    private Path save(String name) throws Exception {
+        Path path = tempDir.resolve(name + ".json");
+        // The standard layout keeps the level and the round, which the Monopoly layout leaves out
+        new BoardGameFileWriterGson().writeBoardGame(boardGame, path, false);
+        return path;
+    }
+
+    @Test
+    public void testMissingIndexIsRebuiltFromSaves() throws Exception {
+        save("first");
+        save("second");
+
+        List<SavedGameInfo> saves = new SavedGameCatalog(tempDir).list();
+
+        assertEquals(2, saves.size());
+        assertTrue(Files.exists(tempDir.resolve(SavedGameCatalog.INDEX_FILE_NAME)));
+        SavedGameInfo first = saves.stream().filter(info -> info.getName().equals("first")).findFirst().orElseThrow();
+        assertTrue(first.isMonopoly());
+        assertEquals("easy", first.getLevel());
+        assertEquals(List.of("Alice", "Bob"), first.getPlayerNames());
+        assertEquals(4, first.getRoundNumber());
+        assertEquals(Files.size(tempDir.resolve("first.json")), first.getSize());
+    }
+
+    @Test
+    public void testSavesAndDeletesAreReadBackFromIndex() throws Exception {
+        SavedGameCatalog catalog = new SavedGameCatalog(tempDir);
+        catalog.recordSave(save("kept"), boardGame, true);
+        catalog.recordSave(save("removed"), boardGame, true);
+        boardGame.setRoundNumber(9);
+        catalog.recordSave(save("kept"), boardGame, true);
+        assertTrue(catalog.delete("removed"));
+
+        SavedGameCatalog reopened = new SavedGameCatalog(tempDir);
+        assertEquals(1, reopened.list().size());
+        assertEquals(9, reopened.get("kept").getRoundNumber());
+        assertNull(reopened.get("removed"));
+        assertFalse(Files.exists(tempDir.resolve("removed.json")));
+    }
+
+    @Test
+    public void testSavesChangedOutsideTheCatalogAreReconciled() throws Exception {
+        save("changed");
+        save("deleted");
+        SavedGameCatalog catalog = new SavedGameCatalog(tempDir);
+        assertEquals(2, catalog.list().size());
+
+        Files.copy(tempDir.resolve("changed.json"), tempDir.resolve("copied.json"));
+        Files.delete(tempDir.resolve("deleted.json"));
+        boardGame.setRoundNumber(7);
+        Path changed = save("changed");
+        Files.setLastModifiedTime(changed, FileTime.fromMillis(
+                Files.getLastModifiedTime(changed).toMillis() + 1000));
+
+        // An open catalog only looks at the directory again when asked to
+        assertEquals(2, catalog.list().size());
+        assertNotNull(catalog.get("deleted"));
+        catalog.refresh();
+
+        for (SavedGameCatalog current : List.of(catalog, new SavedGameCatalog(tempDir))) {
+            assertEquals(List.of("changed", "copied"), current.list().stream()
+                    .map(SavedGameInfo::getName).sorted().toList());
+            assertEquals(7, current.get("changed").getRoundNumber());
+            assertEquals(4, current.get("copied").getRoundNumber());
+            assertEquals(List.of("changed"), current.findByLevelPastRound(true, "easy", 5).stream()
+                    .map(SavedGameInfo::getName).toList());
+        }
+    }
+
+    @Test
+    public void testNewestFormatOfASaveIsCatalogued() throws Exception {
+        Path json = save("game");
+        boardGame.setRoundNumber(8);
+        Path bin = tempDir.resolve("game.bin");
+        new BoardGameFileWriterBinary().writeBoardGame(boardGame, bin, false);
+        Files.setLastModifiedTime(json, FileTime.fromMillis(1000));
+        Files.setLastModifiedTime(bin, FileTime.fromMillis(2000));
+
+        SavedGameCatalog catalog = new SavedGameCatalog(tempDir);
+        assertEquals(1, catalog.list().size());
+        assertEquals(8, catalog.get("game").getRoundNumber());
+
+        Files.setLastModifiedTime(bin, FileTime.fromMillis(1000));
+        catalog.rebuild();
+        assertEquals(4, catalog.get("game").getRoundNumber());
+    }
+
+    @Test
+    public void testIncompleteRecordAtEndIsIgnored() throws Exception {
+        SavedGameCatalog catalog = new SavedGameCatalog(tempDir);
+        catalog.recordSave(save("game"), boardGame, true);
+        Files.write(tempDir.resolve(SavedGameCatalog.INDEX_FILE_NAME), new byte[] {1, 10, 'a'}, StandardOpenOption.APPEND);
+
+        SavedGameCatalog reopened = new SavedGameCatalog(tempDir);
+
+        assertEquals(1, reopened.list().size());
+        assertNotNull(reopened.get("game"));
+    }
+
+    /** Gives a player every property of the group of the first property on the board. */
+    private int giveFirstGroup(SimpleMonopolyPlayer player) {
+        List<PropertyTile> properties = boardGame.getBoard().getTiles().values().stream()
+                .filter(PropertyTile.class::isInstance)
+                .map(PropertyTile.class::cast)
+                .toList();
+        int group = properties.get(0).getGroup();
+        properties.stream()
+                .filter(property -> property.getGroup() == group)
+                .forEach(property -> {
+                    property.setOwner(player);
+                    player.getOwnedProperties().add(property);
+                });
+        return group;
+    }
+
+    private BoardGame createSnakesGame(String level, int roundNumber) {
+        List<Player> players = new ArrayList<>(List.of(new Player("Alice")));
+        BoardGame game = new BoardGame(BoardFactory.createSnakesAndLaddersBoard(100, players),
+                new Dice(1));
+        game.setPlayers(players);
+        game.setLevel(level);
+        game.setRoundNumber(roundNumber);
+        return game;
+    }
+
+    @Test
+    public void testSavesAreFoundByContent() throws Exception {
+        SavedGameCatalog catalog = new SavedGameCatalog(tempDir);
+        SimpleMonopolyPlayer alice = (SimpleMonopolyPlayer) boardGame.getPlayers().get(0);
+        SimpleMonopolyPlayer bob = (SimpleMonopolyPlayer) boardGame.getPlayers().get(1);
+        catalog.recordSave(save("before"), boardGame, true);
+        int group = giveFirstGroup(alice);
+        bob.setMoney(50);
+        catalog.recordSave(save("after"), boardGame, true);
+        for (int round : List.of(10, 51, 80)) {
+            BoardGame snakes = createSnakesGame("hard", round);
+            Path path = tempDir.resolve("hard" + round + ".json");
+            new BoardGameFileWriterGson().writeBoardGame(snakes, path, false);
+            catalog.recordSave(path, snakes, false);
+        }
+
+        assertEquals(List.of("after"), catalog.findByCompleteGroup("Alice", group).stream()
+                .map(SavedGameInfo::getName).toList());
+        assertTrue(catalog.findByCompleteGroup("Bob", group).isEmpty());
+        assertEquals(List.of("hard51", "hard80"), catalog.findByLevelPastRound(false, "hard", 50)
+                .stream().map(SavedGameInfo::getName).toList());
+        Map<String, List<SavedPlayerInfo>> poor = catalog.findPlayersWithMoneyBelow(100);
+        assertEquals(List.of("after"), List.copyOf(poor.keySet()));
+        assertEquals("Bob", poor.get("after").get(0).getName());
+        assertEquals(3, catalog.find(info -> !info.isMonopoly()).size());
+
+        // The index follows later saves and deletions of the same game
+        bob.setMoney(500);
+        catalog.recordSave(save("after"), boardGame, true);
+        assertTrue(catalog.findPlayersWithMoneyBelow(100).isEmpty());
+        catalog.delete("after");
+        assertTrue(catalog.findByCompleteGroup("Alice", group).isEmpty());
+    }
+
+    @Test
+    public void testPlayerContentIsReadBackFromIndexAndRebuild() throws Exception {
+        SimpleMonopolyPlayer alice = (SimpleMonopolyPlayer) boardGame.getPlayers().get(0);
+        int group = giveFirstGroup(alice);
+        alice.setMoney(42);
+        alice.setCurrentTile(boardGame.getBoard().getTile(5));
+        new SavedGameCatalog(tempDir).recordSave(save("game"), boardGame, true);
+
+        SavedPlayerInfo reopened = new SavedGameCatalog(tempDir).get("game").getPlayers().get(0);
+        Files.delete(tempDir.resolve(SavedGameCatalog.INDEX_FILE_NAME));
+        SavedPlayerInfo rebuilt = new SavedGameCatalog(tempDir).get("game").getPlayers().get(0);
+
+        for (SavedPlayerInfo alicesEntry : List.of(reopened, rebuilt)) {
+            assertEquals(42, alicesEntry.getMoney());
+            assertEquals(5, alicesEntry.getTileId());
+            assertEquals(List.of(group), alicesEntry.getCompleteGroups());
+            assertEquals(alice.getOwnedProperties().size(), alicesEntry.getPropertyCount());
+        }
+    }
+}
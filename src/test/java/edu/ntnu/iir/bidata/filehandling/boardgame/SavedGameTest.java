@@ -0,0 +1,148 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame;
+
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.board.BoardFactory;
+import edu.ntnu.iir.bidata.model.board.MonopolyBoardFactory;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.utils.GameStateComparator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SavedGameTest {
+
+    @TempDir
+    Path tempDir;
+
+    private BoardGame createSnakesGame() {
+        List<Player> players = new ArrayList<>(List.of(new Player("Alice"), new Player("Bob")));
+        BoardGame game = new BoardGame(BoardFactory.createSnakesAndLaddersBoard(100, players),
+                new Dice(2));
+        game.setPlayers(players);
+        players.get(1).setCurrentTile(game.getBoard().getTile(42));
+        game.setCurrentPlayerIndex(1);
+        game.setRoundNumber(5);
+        game.setLevel("easy");
+        return game;
+    }
+
+    @Test
+    public void testJsonPreviewReadsPlayersWithoutBoard() throws IOException {
+        Path save = tempDir.resolve("game.json");
+        new BoardGameFileWriterGson().writeBoardGame(createSnakesGame(), save, false);
+
+        SavedGame savedGame = new BoardGameFileReaderGson().openSavedGame(save);
+
+        assertFalse(savedGame.isBoardLoaded());
+        assertEquals("easy", savedGame.getLevel());
+        assertEquals(5, savedGame.getRoundNumber());
+        assertEquals("Bob", savedGame.getCurrentPlayer().getName());
+        assertEquals(42, savedGame.getPlayers().get(1).getCurrentTile().getId());
+    }
+
+    @Test
+    public void testJsonBoardIsLoadedAroundPreviewPlayers() throws IOException {
+        Path save = tempDir.resolve("game.json");
+        new BoardGameFileWriterGson().writeBoardGame(createSnakesGame(), save, false);
+
+        SavedGame savedGame = new BoardGameFileReaderGson().openSavedGame(save);
+        Player bob = savedGame.getPlayers().get(1);
+        BoardGame loaded = savedGame.getBoardGame();
+
+        assertTrue(savedGame.isBoardLoaded());
+        assertSame(loaded, savedGame.getBoardGame());
+        assertSame(bob, loaded.getPlayers().get(1));
+        assertSame(loaded.getBoard().getTile(42), bob.getCurrentTile());
+        assertTrue(GameStateComparator.sameGameState(
+                new BoardGameFileReaderGson().readBoardGame(save), loaded));
+    }
+
+    @Test
+    public void testJsonPreviewDoesNotReadTheBoard() throws IOException {
+        Path save = tempDir.resolve("game.json");
+        new BoardGameFileWriterGson().writeBoardGame(createSnakesGame(), save, false);
+        String json = Files.readString(save);
+        Files.writeString(save, json.substring(0, json.indexOf("\"board\"")) + "\"board\": {",
+                StandardCharsets.UTF_8);
+
+        SavedGame savedGame = new BoardGameFileReaderGson().openSavedGame(save);
+
+        assertEquals(2, savedGame.getPlayers().size());
+        assertThrows(IOException.class, savedGame::getBoardGame);
+    }
+
+    @Test
+    public void testJsonBoardIsNotReadFromAReplacedSave() throws IOException {
+        Path save = tempDir.resolve("game.json");
+        Path replacement = tempDir.resolve("replacement.json");
+        new BoardGameFileWriterGson().writeBoardGame(createSnakesGame(), save, false);
+        SavedGame savedGame = new BoardGameFileReaderGson().openSavedGame(save);
+
+        BoardGame later = createSnakesGame();
+        later.setRoundNumber(6);
+        new BoardGameFileWriterGson().writeBoardGame(later, replacement, false);
+        Files.move(replacement, save, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+
+        assertThrows(IOException.class, savedGame::getBoardGame);
+        assertFalse(savedGame.isBoardLoaded());
+    }
+
+    @Test
+    public void testJsonPreviewOfOlderSaveWithBoardFirst() throws IOException {
+        Path save = Paths.get("src/main/resources/saved_games/test_game.json");
+
+        SavedGame savedGame = new BoardGameFileReaderGson().openSavedGame(save);
+
+        assertFalse(savedGame.getPlayers().isEmpty());
+        assertTrue(GameStateComparator.sameGameState(
+                new BoardGameFileReaderGson().readBoardGame(save), savedGame.getBoardGame()));
+    }
+
+    @Test
+    public void testMonopolyLayoutPreview() throws IOException {
+        BoardGame game = new BoardGame(MonopolyBoardFactory.createBoard(), new Dice(2));
+        SimpleMonopolyPlayer alice = new SimpleMonopolyPlayer("Alice");
+        game.setPlayers(List.of(alice, new SimpleMonopolyPlayer("Bob")));
+        alice.setMoney(900);
+        Path save = tempDir.resolve("monopoly.json");
+        new BoardGameFileWriterGson().writeBoardGame(game, save, true);
+
+        SavedGame savedGame = new BoardGameFileReaderAutoDetect().openSavedGame(save);
+
+        assertTrue(savedGame.isMonopoly());
+        assertEquals(900, ((SimpleMonopolyPlayer) savedGame.getPlayers().get(0)).getMoney());
+        assertTrue(GameStateComparator.samePlayersState(
+                game.getPlayers(), savedGame.getBoardGame().getPlayers()));
+    }
+
+    @Test
+    public void testBinaryPreviewDoesNotReadTheBoard() throws IOException {
+        Path save = tempDir.resolve("game.bin");
+        BoardGame game = createSnakesGame();
+        new BoardGameFileWriterBinary().writeBoardGame(game, save, false);
+        SavedGame complete = new BoardGameFileReaderAutoDetect().openSavedGame(save);
+        assertTrue(GameStateComparator.sameGameState(game, complete.getBoardGame()));
+
+        byte[] bytes = Files.readAllBytes(save);
+        Files.write(save, Arrays.copyOf(bytes, bytes.length / 2));
+        SavedGame truncated = new BoardGameFileReaderBinary().openSavedGame(save);
+
+        assertEquals("Bob", truncated.getCurrentPlayer().getName());
+        assertEquals(42, truncated.getPlayers().get(1).getCurrentTile().getId());
+        assertThrows(IOException.class, truncated::getBoardGame);
+    }
+}
@@ -0,0 +1,78 @@
+package edu.ntnu.iir.bidata.filehandling.boardgame.utils;
+
+import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileReaderAutoDetect;
+import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileWriterBinary;
+import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileWriterGson;
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.board.MonopolyBoardFactory;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.utils.GameStateComparator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SaveCompressionTest {
+
+    @TempDir
+    Path tempDir;
+
+    private BoardGame boardGame;
+
+    @BeforeEach
+    public void setUp() {
+        boardGame = new BoardGame(MonopolyBoardFactory.createBoard(), new Dice(2));
+        SimpleMonopolyPlayer bob = new SimpleMonopolyPlayer("Bob");
+        boardGame.setPlayers(List.of(new SimpleMonopolyPlayer("Alice"), bob));
+        bob.setMoney(1234);
+        bob.setCurrentTile(boardGame.getBoard().getTile(7));
+    }
+
+    @Test
+    public void testCompressedJsonSavesAreDetectedOnRead() throws Exception {
+        for (SaveCompression compression : SaveCompression.values()) {
+            Path path = tempDir.resolve(compression + ".json");
+            new BoardGameFileWriterGson(compression).writeBoardGame(boardGame, path, true);
+
+            assertEquals(compression, SaveCompression.detect(path));
+            BoardGame loaded = new BoardGameFileReaderAutoDetect().readBoardGame(path);
+            assertTrue(GameStateComparator.samePlayersState(boardGame.getPlayers(), loaded.getPlayers()));
+        }
+    }
+
+    @Test
+    public void testCompressedBinarySavesAreDetectedOnRead() throws Exception {
+        for (SaveCompression compression : SaveCompression.values()) {
+            Path path = tempDir.resolve(compression + ".bin");
+            new BoardGameFileWriterBinary(compression).writeBoardGame(boardGame, path, true);
+
+            assertEquals(compression, SaveCompression.detect(path));
+            assertTrue(BinarySaveFormat.isBinarySave(path));
+            BoardGame loaded = new BoardGameFileReaderAutoDetect().readBoardGame(path);
+            assertTrue(GameStateComparator.samePlayersState(boardGame.getPlayers(), loaded.getPlayers()));
+        }
+    }
+
+    @Test
+    public void testDictionaryCompressesBoardsBetterThanPlainDeflate() throws Exception {
+        Path deflated = tempDir.resolve("deflate.json");
+        Path withDictionary = tempDir.resolve("dictionary.json");
+        new BoardGameFileWriterGson(SaveCompression.DEFLATE).writeBoardGame(boardGame, deflated, true);
+        new BoardGameFileWriterGson(SaveCompression.DICTIONARY).writeBoardGame(boardGame, withDictionary, true);
+
+        assertTrue(Files.size(withDictionary) < Files.size(deflated));
+    }
+
+    @Test
+    public void testUncompressedFilesAreNotMistakenForCompressed() {
+        assertEquals(SaveCompression.NONE, SaveCompression.detect('{', '\n'));
+        assertEquals(SaveCompression.NONE, SaveCompression.detect('B', 'G'));
+        assertEquals(SaveCompression.NONE, SaveCompression.detect(-1, -1));
+    }
+}
@@ -0,0 +1,95 @@
+package edu.ntnu.iir.bidata.filehandling.player;
+
+import edu.ntnu.iir.bidata.model.player.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerRosterStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void addedPlayersAreAppendedInBatches() throws Exception {
+        Path file = tempDir.resolve("roster.csv");
+        try (PlayerRosterStore store = new PlayerRosterStore(file)) {
+            assertTrue(store.add(new Player("Alice", "token_red.png")));
+            assertFalse(Files.exists(file));
+            store.flush();
+            assertEquals("Alice,token_red.png\n", Files.readString(file));
+            store.add(new Player("Bob", "token_blue.png"));
+        }
+
+        assertEquals(2, Files.readAllLines(file).size());
+    }
+
+    @Test
+    void duplicatesAreIgnoredAndLaterTokensWin() {
+        Path file = tempDir.resolve("roster.csv");
+        try (PlayerRosterStore store = new PlayerRosterStore(file)) {
+            store.add(new Player("Alice", "token_red.png"));
+            assertFalse(store.add(new Player("Alice", "token_red.png")));
+            assertTrue(store.add(new Player("Alice", "token_green.png")));
+            assertEquals(1, store.size());
+        }
+
+        PlayerRosterStore reopened = new PlayerRosterStore(file);
+        assertEquals(1, reopened.size());
+        assertEquals("token_green.png", reopened.get("Alice").getTokenImage());
+    }
+
+    @Test
+    void existingFileWithoutFinalLineBreakIsExtended() throws Exception {
+        Path file = tempDir.resolve("roster.csv");
+        Files.writeString(file, "Anna, token_red.png\n\nTom, token_blue.png");
+
+        try (PlayerRosterStore store = new PlayerRosterStore(file)) {
+            assertTrue(store.contains("Tom"));
+            store.add(new Player("Dave", null));
+        }
+
+        List<Player> players = new PlayerRosterStore(file).getPlayers();
+        assertEquals(List.of("Anna", "Tom", "Dave"), players.stream().map(Player::getName).toList());
+    }
+
+    @Test
+    void largeRosterIsReadInOrder() {
+        Path file = tempDir.resolve("roster.csv");
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            players.add(new Player("Player " + i, "token_blue.png"));
+        }
+        try (PlayerRosterStore store = new PlayerRosterStore(file)) {
+            assertEquals(100_000, store.addAll(players));
+        }
+
+        PlayerRosterStore reopened = new PlayerRosterStore(file);
+        assertEquals(100_000, reopened.size());
+        assertEquals("Player 0", reopened.getPlayers().get(0).getName());
+        assertEquals("Player 99999", reopened.getPlayers().get(99_999).getName());
+    }
+
+    @Test
+    void namesThatBreakTheFileAreRejected() {
+        PlayerRosterStore store = new PlayerRosterStore(tempDir.resolve("roster.csv"));
+        assertThrows(IllegalArgumentException.class, () -> store.add(new Player("Smith, John", null)));
+        assertThrows(IllegalArgumentException.class, () -> store.add(new Player(" ", null)));
+    }
+
+    @Test
+    void tokensThatBreakTheFileAreRejected() {
+        PlayerRosterStore store = new PlayerRosterStore(tempDir.resolve("roster.csv"));
+        assertThrows(IllegalArgumentException.class,
+                () -> store.add(new Player("Alice", "token_red.png,extra")));
+        assertThrows(IllegalArgumentException.class,
+                () -> store.add(new Player("Alice", "token_red.png\nBob")));
+        assertFalse(store.contains("Alice"));
+    }
+}
@@ -0,0 +1,192 @@
+package edu.ntnu.iir.bidata.filehandling.storage;
+
+import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileReaderGson;
+import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileWriterBinary;
+import edu.ntnu.iir.bidata.filehandling.boardgame.BoardGameFileWriterGson;
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.board.BoardFactory;
+import edu.ntnu.iir.bidata.model.board.MonopolyBoardFactory;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import edu.ntnu.iir.bidata.model.tile.actions.movement.EntryPointAction;
+import edu.ntnu.iir.bidata.model.tile.core.monopoly.PropertyTile;
+import edu.ntnu.iir.bidata.model.utils.GameStateComparator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlueprintSaveStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private BoardGame createSnakesGame() {
+        List<Player> players = new ArrayList<>(List.of(new Player("Alice"), new Player("Bob")));
+        BoardGame game = new BoardGame(BoardFactory.createSnakesAndLaddersBoard(100, players),
+                new Dice(2));
+        game.setPlayers(players);
+        players.get(1).setCurrentTile(game.getBoard().getTile(42));
+        game.getBoard().getTile(20).setAction(new EntryPointAction(players.get(1)));
+        return game;
+    }
+
+    private BoardGame createMonopolyGame(int ownedProperties) {
+        BoardGame game = new BoardGame(MonopolyBoardFactory.createBoard(), new Dice(2));
+        SimpleMonopolyPlayer alice = new SimpleMonopolyPlayer("Alice");
+        game.setPlayers(List.of(alice, new SimpleMonopolyPlayer("Bob")));
+        game.getBoard().getTiles().values().stream()
+                .filter(PropertyTile.class::isInstance)
+                .map(PropertyTile.class::cast)
+                .limit(ownedProperties)
+                .forEach(property -> {
+                    property.setOwner(alice);
+                    alice.getOwnedProperties().add(property);
+                });
+        return game;
+    }
+
+    private static byte[] save(BoardGame game, boolean isMonopoly) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BoardGameFileWriterGson().writeBoardGame(game, out, isMonopoly);
+        return out.toByteArray();
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    @Test
+    public void testSavesReadBackExactlyAsWritten() throws IOException {
+        MemorySaveStore shared = new MemorySaveStore();
+        byte[] snakes = save(createSnakesGame(), false);
+        byte[] monopoly = save(createMonopolyGame(3), true);
+        try (BlueprintSaveStore store = new BlueprintSaveStore(shared)) {
+            store.write("snakesandladder/game.json", ByteBuffer.wrap(snakes)).join();
+            store.write("monopoly/game.json", ByteBuffer.wrap(monopoly)).join();
+        }
+
+        // A new store has no cached blueprints, so they are read back from the shared store
+        try (BlueprintSaveStore store = new BlueprintSaveStore(shared)) {
+            assertArrayEquals(snakes,
+                    bytes(store.read("snakesandladder/game.json").join().orElseThrow()));
+            assertArrayEquals(monopoly,
+                    bytes(store.read("monopoly/game.json").join().orElseThrow()));
+
+            BoardGame loaded = new BoardGameFileReaderGson()
+                    .readBoardGame(store.open("snakesandladder/game.json"));
+            EntryPointAction entryPoint =
+                    (EntryPointAction) loaded.getBoard().getTile(20).getAction();
+            assertSame(loaded.getPlayers().get(1), entryPoint.getOwner());
+            assertTrue(GameStateComparator.sameGameState(createSnakesGame(), loaded));
+        }
+    }
+
+    @Test
+    public void testEveryBoardIsStoredOnce() throws IOException {
+        FileSaveStore files = new FileSaveStore(tempDir);
+        long fullSize = 0;
+        try (BlueprintSaveStore store = new BlueprintSaveStore(files)) {
+            for (int game = 0; game < 10; game++) {
+                byte[] monopoly = save(createMonopolyGame(game), true);
+                fullSize += monopoly.length;
+                store.write("monopoly/game" + game + ".json", ByteBuffer.wrap(monopoly)).join();
+            }
+
+            assertEquals(1, store.blueprintHashes().size());
+            assertEquals(10, store.keys("").size());
+            // The files hold the saves without their boards, so they are not handed out
+            assertTrue(store.pathOf("monopoly/game4.json").isEmpty());
+        }
+        long storedSize = 0;
+        for (String key : files.keys("")) {
+            storedSize += Files.size(tempDir.resolve(key));
+        }
+        assertTrue(storedSize * 3 < fullSize, storedSize + " of " + fullSize);
+    }
+
+    @Test
+    public void testChangedBoardGetsBlueprintOfItsOwn() throws IOException {
+        try (BlueprintSaveStore store = new BlueprintSaveStore(new MemorySaveStore())) {
+            store.write("a.json", ByteBuffer.wrap(save(createSnakesGame(), false))).join();
+            List<Player> players = new ArrayList<>(List.of(new Player("Alice")));
+            BoardGame game = new BoardGame(BoardFactory.createSnakesAndLaddersBoard(90, players),
+                    new Dice(2));
+            game.setPlayers(players);
+            byte[] changed = save(game, false);
+            store.write("b.json", ByteBuffer.wrap(changed)).join();
+
+            assertEquals(2, store.blueprintHashes().size());
+            assertArrayEquals(changed, bytes(store.read("b.json").join().orElseThrow()));
+        }
+    }
+
+    @Test
+    public void testOtherContentIsStoredUnchanged() throws IOException {
+        MemorySaveStore shared = new MemorySaveStore();
+        Path binary = tempDir.resolve("game.bin");
+        new BoardGameFileWriterBinary().writeBoardGame(createSnakesGame(), binary, false);
+        byte[] content = Files.readAllBytes(binary);
+        try (BlueprintSaveStore store = new BlueprintSaveStore(shared)) {
+            store.write("game.bin", ByteBuffer.wrap(content)).join();
+            store.write("notes.json", ByteBuffer.wrap("{\"players\": []}".getBytes())).join();
+
+            assertArrayEquals(content, bytes(shared.read("game.bin").join().orElseThrow()));
+            assertEquals("{\"players\": []}",
+                    new String(bytes(store.read("notes.json").join().orElseThrow())));
+            assertTrue(store.blueprintHashes().isEmpty());
+        }
+    }
+
+    @Test
+    public void testBlueprintKeysAreReserved() throws IOException {
+        try (BlueprintSaveStore store = new BlueprintSaveStore(new MemorySaveStore())) {
+            store.write("game.json", ByteBuffer.wrap(save(createSnakesGame(), false))).join();
+            String key = BlueprintSaveStore.BLUEPRINT_PREFIX
+                    + store.blueprintHashes().get(0) + ".json";
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> store.write(key, ByteBuffer.wrap(new byte[0])));
+            assertThrows(IllegalArgumentException.class, () -> store.delete(key));
+            assertEquals(List.of("game.json"), store.keys(""));
+        }
+    }
+
+    @Test
+    public void testSaveIsWrittenAfterItsBlueprintWithoutBlocking() throws IOException {
+        CompletableFuture<Void> blueprintStored = new CompletableFuture<>();
+        MemorySaveStore shared = new MemorySaveStore() {
+            @Override
+            public CompletableFuture<Void> write(String key, ByteBuffer content) {
+                if (!key.startsWith(BlueprintSaveStore.BLUEPRINT_PREFIX)) {
+                    return super.write(key, content);
+                }
+                return blueprintStored.thenCompose(ignored -> super.write(key, content));
+            }
+        };
+        try (BlueprintSaveStore store = new BlueprintSaveStore(shared)) {
+            CompletableFuture<Void> saved =
+                    store.write("game.json", ByteBuffer.wrap(save(createSnakesGame(), false)));
+
+            assertFalse(saved.isDone());
+            assertEquals(List.of(), shared.keys(""));
+
+            blueprintStored.complete(null);
+            saved.join();
+            assertEquals(1, store.blueprintHashes().size());
+            assertEquals(List.of("game.json"), store.keys(""));
+        }
+    }
+}
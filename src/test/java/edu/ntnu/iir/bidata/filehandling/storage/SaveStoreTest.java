@@ -0,0 +1,211 @@
+package edu.ntnu.iir.bidata.filehandling.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SaveStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static ByteBuffer bytes(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String text(SaveStore store, String key) {
+        Optional<ByteBuffer> content = store.read(key).join();
+        return content.map(buffer -> StandardCharsets.UTF_8.decode(buffer).toString()).orElse(null);
+    }
+
+    private List<SaveStore> openStores() throws IOException {
+        return List.of(
+                new FileSaveStore(tempDir.resolve("files")),
+                new MemorySaveStore(),
+                new LogSaveStore(tempDir.resolve("log").resolve("saves.log")));
+    }
+
+    @Test
+    public void testEveryStoreWritesReadsAndDeletes() throws IOException {
+        for (SaveStore store : openStores()) {
+            String label = store.getClass().getSimpleName();
+            store.write("monopoly/a.json", bytes("first")).join();
+            store.write("monopoly/a.json", bytes("second")).join();
+            store.write("monopoly/b.json", bytes("other")).join();
+            store.write("snakesandladder/c.json", bytes("snakes")).join();
+
+            assertEquals("second", text(store, "monopoly/a.json"), label);
+            assertNull(text(store, "monopoly/missing.json"), label);
+            assertEquals(List.of("monopoly/a.json", "monopoly/b.json"), store.keys("monopoly/"),
+                    label);
+
+            assertTrue(store.delete("monopoly/a.json").join(), label);
+            assertFalse(store.delete("monopoly/a.json").join(), label);
+            assertNull(text(store, "monopoly/a.json"), label);
+            assertEquals(List.of("monopoly/b.json", "snakesandladder/c.json"), store.keys(""),
+                    label);
+            store.close();
+        }
+    }
+
+    @Test
+    public void testReadSeesWriteThatIsStillInFlight() throws IOException {
+        for (SaveStore store : openStores()) {
+            CompletableFuture<Void> written = store.write("game.json", bytes("latest"));
+
+            assertEquals("latest", text(store, "game.json"), store.getClass().getSimpleName());
+            written.join();
+            store.close();
+        }
+    }
+
+    @Test
+    public void testOpenFailsForMissingKey() throws IOException {
+        for (SaveStore store : openStores()) {
+            assertThrows(NoSuchFileException.class, () -> store.open("missing.json"));
+            store.close();
+        }
+    }
+
+    @Test
+    public void testKeysOutsideTheStoreAreRejected() {
+        SaveStore store = new MemorySaveStore();
+        for (String key : List.of("", "../game.json", "a//b.json", "/game.json", "a/./b.json")) {
+            assertThrows(IllegalArgumentException.class, () -> store.write(key, bytes("x")), key);
+        }
+    }
+
+    @Test
+    public void testFileStoreKeepsEverySaveInItsOwnFile() throws IOException {
+        FileSaveStore store = new FileSaveStore(tempDir);
+        store.write("monopoly/game.json", bytes("{}")).join();
+
+        assertEquals("{}", Files.readString(tempDir.resolve("monopoly/game.json")));
+        assertEquals(Optional.of(tempDir.resolve("monopoly/game.json")),
+                store.pathOf("monopoly/game.json"));
+        try (var files = Files.list(tempDir.resolve("monopoly"))) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void testLogStoreRebuildsItsIndexWhenReopened() throws IOException {
+        Path log = tempDir.resolve("saves.log");
+        try (LogSaveStore store = new LogSaveStore(log)) {
+            store.write("a.json", bytes("one"));
+            store.write("b.json", bytes("two"));
+            store.write("a.json", bytes("three"));
+            store.delete("b.json");
+        }
+
+        try (LogSaveStore store = new LogSaveStore(log)) {
+            assertEquals("three", text(store, "a.json"));
+            assertNull(text(store, "b.json"));
+            assertEquals(List.of("a.json"), store.keys(""));
+        }
+    }
+
+    @Test
+    public void testLogStoreCutsOffPartlyWrittenRecord() throws IOException {
+        Path log = tempDir.resolve("saves.log");
+        try (LogSaveStore store = new LogSaveStore(log)) {
+            store.write("a.json", bytes("kept")).join();
+        }
+        long size = Files.size(log);
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.APPEND)) {
+            // A record header that promises more bytes than were written
+            channel.write(ByteBuffer.allocate(8).putInt(100).putInt(42).flip());
+            channel.write(bytes("torn"));
+        }
+
+        try (LogSaveStore store = new LogSaveStore(log)) {
+            assertEquals("kept", text(store, "a.json"));
+            assertEquals(size, store.size());
+            store.write("b.json", bytes("after")).join();
+        }
+        try (LogSaveStore store = new LogSaveStore(log)) {
+            assertEquals("after", text(store, "b.json"));
+        }
+    }
+
+    @Test
+    public void testLogStoreHandlesManyConcurrentWrites() throws Exception {
+        Path log = tempDir.resolve("saves.log");
+        int games = 50;
+        int savesPerGame = 40;
+        try (LogSaveStore store = new LogSaveStore(log);
+             ExecutorService threads = Executors.newFixedThreadPool(8)) {
+            List<CompletableFuture<Void>> writes = new ArrayList<>();
+            for (int game = 0; game < games; game++) {
+                int id = game;
+                writes.add(CompletableFuture.runAsync(() -> {
+                    for (int save = 0; save < savesPerGame; save++) {
+                        store.write("game" + id + ".json", bytes("save " + save)).join();
+                    }
+                }, threads));
+            }
+            CompletableFuture.allOf(writes.toArray(new CompletableFuture[0])).join();
+        }
+
+        try (LogSaveStore store = new LogSaveStore(log)) {
+            assertEquals(games, store.keys("game").size());
+            for (int game = 0; game < games; game++) {
+                assertEquals("save " + (savesPerGame - 1), text(store, "game" + game + ".json"));
+            }
+        }
+    }
+
+    @Test
+    public void testLogStoreCompactsStaleRecords() throws IOException {
+        Path log = tempDir.resolve("saves.log");
+        try (LogSaveStore store = new LogSaveStore(log, 1024)) {
+            for (int i = 0; i < 200; i++) {
+                store.write("game.json", bytes("save number " + i));
+            }
+            store.write("other.json", bytes("other")).join();
+            assertEquals("save number 199", text(store, "game.json"));
+        }
+        // The log was compacted automatically once it grew past the threshold
+        assertTrue(Files.size(log) < 1024);
+
+        try (LogSaveStore store = new LogSaveStore(log)) {
+            store.write("game.json", bytes("save number 200"));
+            store.write("game.json", bytes("save number 199")).join();
+            long size = store.size();
+            store.compact().join();
+            assertTrue(store.size() < size);
+            assertEquals("other", text(store, "other.json"));
+        }
+
+        try (LogSaveStore store = new LogSaveStore(log)) {
+            assertEquals("save number 199", text(store, "game.json"));
+            assertEquals(List.of("game.json", "other.json"), store.keys(""));
+        }
+    }
+
+    @Test
+    public void testStoreTypeIsSelectedByName() throws IOException {
+        assertEquals(SaveStoreType.LOG, SaveStoreType.fromName(" log "));
+        assertThrows(IllegalArgumentException.class, () -> SaveStoreType.fromName("cloud"));
+        try (SaveStore store = SaveStoreType.LOG.open(tempDir)) {
+            assertInstanceOf(LogSaveStore.class, store);
+        }
+        assertTrue(Files.exists(tempDir.resolve(SaveStoreType.LOG_FILE_NAME)));
+    }
+}
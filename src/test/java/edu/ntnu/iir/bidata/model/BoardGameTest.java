@@ -4,6 +4,7 @@ import edu.ntnu.iir.bidata.model.board.Board;
 import edu.ntnu.iir.bidata.model.dice.Dice;
 import edu.ntnu.iir.bidata.model.exception.GameException;
 import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
 import edu.ntnu.iir.bidata.model.tile.core.TileAction;
 import org.junit.jupiter.api.BeforeEach;
@@ -68,6 +69,54 @@ class BoardGameTest {
         assertTrue(boardGame.getPlayers().isEmpty());
     }
 
+    @Test
+    void getPlayerByName_AfterAddPlayer_ShouldReturnPlayerWithMatchingId() {
+        boardGame.addPlayer("Player1");
+        boardGame.addPlayer("Player2");
+
+        Player player2 = boardGame.getPlayerByName("Player2");
+        assertNotNull(player2);
+        assertEquals(1, player2.getId());
+        assertSame(player2, boardGame.getPlayerById(1));
+        assertEquals(0, boardGame.getPlayerId("Player1"));
+    }
+
+    @Test
+    void getPlayerByName_WithUnknownName_ShouldReturnNull() {
+        boardGame.addPlayer("Player1");
+
+        assertNull(boardGame.getPlayerByName("Unknown"));
+        assertNull(boardGame.getPlayerById(5));
+        assertEquals(-1, boardGame.getPlayerId("Unknown"));
+    }
+
+    @Test
+    void getStateHash_AfterChangesAreUndone_ShouldReturnOriginalHash() {
+        Board board = new Board(5);
+        for (int i = 0; i < 5; i++) {
+            board.addTile(i, null);
+        }
+        for (int i = 0; i < 4; i++) {
+            board.connectTiles(i, board.getTile(i + 1));
+        }
+        BoardGame realGame = new BoardGame(board, mockDice);
+        realGame.addPlayer("Player1");
+        realGame.addPlayer("Player2");
+        realGame.startGame();
+        long startHash = realGame.getStateHash();
+
+        Player player1 = realGame.getPlayerById(0);
+        player1.move(2);
+        player1.setSkipNextTurn(true);
+        realGame.setCurrentPlayerIndex(1);
+        assertNotEquals(startHash, realGame.getStateHash());
+
+        player1.setCurrentTile(board.getTile(0));
+        player1.setSkipNextTurn(false);
+        realGame.setCurrentPlayerIndex(0);
+        assertEquals(startHash, realGame.getStateHash());
+    }
+
     @Test
     void startGame_WithNoPlayers_ShouldThrowException() {
         GameException exception = assertThrows(
@@ -192,6 +241,25 @@ class BoardGameTest {
         verify(action).executeAction(currentPlayer, tile1);
     }
 
+    @Test
+    void makeMoveWithResult_WhenMovePassesLastTile_ShouldEndGameWithoutMoving() {
+        Board realBoard = new Board(2);
+        realBoard.addTile(0, null);
+        realBoard.addTile(1, null);
+        realBoard.connectTiles(0, realBoard.getTile(1));
+        Dice realDice = mock(Dice.class);
+        BoardGame realGame = new BoardGame(realBoard, realDice);
+        realGame.addPlayer("Player1");
+        realGame.startGame();
+        when(realDice.getLastRolledValues()).thenReturn(new int[]{3});
+        when(realDice.sumOfRolledValues()).thenReturn(3);
+        BoardGame.MoveResult result = realGame.makeMoveWithResult();
+        assertNotNull(result);
+        assertEquals(MoveOutcome.OVERSHOOT, result.outcome);
+        assertEquals(0, result.posAfterMove);
+        assertTrue(realGame.isGameOver());
+    }
+
     @Test
     void getCurrentPlayer_ShouldReturnCorrectPlayer() {
         boardGame.addPlayer("Player1");
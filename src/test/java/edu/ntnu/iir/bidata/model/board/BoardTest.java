@@ -137,7 +137,7 @@ class BoardTest {
 
         board.connectTiles(0, null);
 
-        assertThrows(GameException.class, () -> board.getTile(0).getNextTile(1));
+        assertNull(board.getTile(0).getNextTile(1));
     }
 
     @Test
@@ -0,0 +1,111 @@
+package edu.ntnu.iir.bidata.model.events;
+
+import edu.ntnu.iir.bidata.filehandling.boardgame.AutosaveService;
+import edu.ntnu.iir.bidata.filehandling.storage.MemorySaveStore;
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.board.BoardFactory;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private BoardGame createStartedGame() {
+        List<Player> players = new ArrayList<>(List.of(new Player("Alice"), new Player("Bob")));
+        BoardGame game = new BoardGame(BoardFactory.createSnakesAndLaddersBoard(100, players),
+                new Dice(1));
+        game.setPlayers(players);
+        game.startGame();
+        return game;
+    }
+
+    private static Recording startRecording() {
+        Recording recording = new Recording();
+        for (Class<?> type : List.of(TurnEvent.class, DiceRollEvent.class, TileActionEvent.class,
+                SaveEvent.class, UiUpdateEvent.class)) {
+            recording.enable(GameEvents.NAME_PREFIX + type.getSimpleName().replace("Event", ""))
+                    .withoutThreshold();
+        }
+        recording.start();
+        return recording;
+    }
+
+    private List<RecordedEvent> stop(Recording recording) throws IOException {
+        Path file = tempDir.resolve("game.jfr");
+        recording.stop();
+        recording.dump(file);
+        recording.close();
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        String fullName = GameEvents.NAME_PREFIX + name;
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(fullName))
+                .toList();
+    }
+
+    @Test
+    public void testTurnsAreRecordedWithTheirDetails() throws IOException {
+        BoardGame game = createStartedGame();
+        game.addObserver(() -> { });
+        Recording recording = startRecording();
+        List<BoardGame.MoveResult> results = new ArrayList<>();
+        for (int turn = 0; turn < 20 && !game.isGameOver(); turn++) {
+            results.add(game.makeMoveWithResult());
+        }
+        List<RecordedEvent> events = stop(recording);
+
+        List<RecordedEvent> turns = named(events, "Turn");
+        assertEquals(results.size(), turns.size());
+        RecordedEvent first = turns.get(0);
+        assertEquals("Alice", first.getString("player"));
+        assertEquals(results.get(0).prevPos, first.getInt("fromTile"));
+        assertEquals(results.get(0).posAfterAction, first.getInt("toTile"));
+        assertEquals(String.valueOf(results.get(0).outcome), first.getString("outcome"));
+
+        List<RecordedEvent> rolls = named(events, "DiceRoll");
+        assertEquals(results.size(), rolls.size());
+        int[] values = results.get(0).diceValues;
+        assertEquals(values[0] + values[1], rolls.get(0).getInt("total"));
+
+        // A move past the end of the board is not played, so no tile action runs
+        long actions = results.stream()
+                .filter(result -> result.outcome != MoveOutcome.OVERSHOOT)
+                .filter(result -> !result.actionDesc.isEmpty())
+                .count();
+        assertEquals(actions, named(events, "TileAction").size());
+        assertEquals(results.size(), named(events, "UiUpdate").size());
+        assertEquals(1, named(events, "UiUpdate").get(0).getInt("observerCount"));
+    }
+
+    @Test
+    public void testSavesAreRecordedWhenStored() throws IOException {
+        Recording recording = startRecording();
+        try (AutosaveService autosave = new AutosaveService()) {
+            autosave.save(createStartedGame(), new MemorySaveStore(), "snakes/game.json", false)
+                    .join();
+        }
+        List<RecordedEvent> saves = named(stop(recording), "Save");
+
+        assertEquals(1, saves.size());
+        assertEquals("snakes/game.json", saves.get(0).getString("target"));
+        assertTrue(saves.get(0).getBoolean("succeeded"));
+        assertTrue(saves.get(0).getLong("snapshotSize") > 0);
+    }
+}
@@ -0,0 +1,135 @@
+package edu.ntnu.iir.bidata.model.metrics;
+
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.board.BoardFactory;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.tile.core.TileActionType;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameMetricsTest {
+
+    @Test
+    public void testHistogramBucketsAndPercentiles() {
+        assertEquals(0, LatencyHistogram.bucketOf(1024));
+        assertEquals(1, LatencyHistogram.bucketOf(1025));
+        assertEquals(1, LatencyHistogram.bucketOf(2048));
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentileNanos(0.5));
+        for (int i = 0; i < 90; i++) {
+            histogram.record(500);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(5_000_000);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(1024, histogram.getPercentileNanos(0.5));
+        // The bucket of 5 ms goes up to 2^23 ns, but no duration was longer than 5 ms
+        assertEquals(5_000_000, histogram.getPercentileNanos(0.99));
+        LatencySummary summary = histogram.summary();
+        assertEquals(100, summary.getCount());
+        assertEquals(0.50045, summary.getMeanMillis(), 1e-9);
+        assertEquals(5.0, summary.getMaxMillis());
+    }
+
+    @Test
+    public void testRateIsTakenOverTheLastWholeSeconds() {
+        AtomicLong clock = new AtomicLong(3_000_000_000L);
+        RateMeter meter = new RateMeter(clock::get);
+        for (int i = 0; i < 10; i++) {
+            meter.mark();
+        }
+        clock.set(4_500_000_000L);
+        for (int i = 0; i < 20; i++) {
+            meter.mark();
+        }
+        assertEquals(10.0 / RateMeter.WINDOW_SECONDS, meter.perSecond());
+
+        clock.set(5_000_000_000L);
+        assertEquals(30.0 / RateMeter.WINDOW_SECONDS, meter.perSecond());
+        clock.set(20_000_000_000L);
+        assertEquals(0.0, meter.perSecond());
+    }
+
+    @Test
+    public void testPlayedGameIsRecordedInTheSharedMetrics() throws Exception {
+        GameMetrics metrics = GameMetrics.shared();
+        long turns = metrics.getTurnCount();
+        long moves = metrics.getMoves().getCount();
+        long updates = metrics.getObserverUpdates().getCount();
+        int sessions = metrics.getActiveSessions();
+
+        List<Player> players = new ArrayList<>(List.of(new Player("Alice"), new Player("Bob")));
+        BoardGame game = new BoardGame(BoardFactory.createSnakesAndLaddersBoard(100, players),
+                new Dice(1));
+        game.setPlayers(players);
+        game.startGame();
+        // Sessions are counted by the controllers, so the model leaves them alone
+        assertEquals(sessions, metrics.getActiveSessions());
+        int played = 0;
+        while (!game.isGameOver() && played < 1000) {
+            game.makeMoveWithResult();
+            played++;
+        }
+
+        assertEquals(turns + played, metrics.getTurnCount());
+        assertEquals(moves + played, metrics.getMoves().getCount());
+        assertTrue(metrics.getObserverUpdates().getCount() >= updates + played);
+        assertEquals(sessions, metrics.getActiveSessions());
+
+        GameMetrics.publishShared();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(GameMetrics.OBJECT_NAME);
+        assertEquals(metrics.getTurnCount(), server.getAttribute(name, "TurnCount"));
+        CompositeData moveLatency = (CompositeData) server.getAttribute(name, "MoveLatency");
+        assertEquals(metrics.getMoves().getCount(), moveLatency.get("count"));
+    }
+
+    @Test
+    public void testEndpointServesPrometheusText() throws Exception {
+        GameMetrics metrics = new GameMetrics();
+        metrics.recordTurn(2_000);
+        metrics.recordTurn(3_000_000);
+        metrics.recordTileAction(TileActionType.LADDER, 1_500);
+        metrics.recordSave(10_000_000, false);
+
+        try (PrometheusEndpoint endpoint = PrometheusEndpoint.start(metrics, 0)) {
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create(
+                            "http://127.0.0.1:" + endpoint.getPort() + PrometheusEndpoint.PATH))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            assertEquals(200, response.statusCode());
+            assertTrue(response.headers().firstValue("Content-Type").orElse("")
+                    .startsWith("text/plain"));
+            String body = response.body();
+            assertTrue(body.contains("# TYPE boardgame_turns_total counter\n"), body);
+            assertTrue(body.contains("\nboardgame_turns_total 2\n"), body);
+            assertTrue(body.contains("\nboardgame_move_duration_seconds_bucket{le=\"+Inf\"} 2\n"),
+                    body);
+            assertTrue(body.contains("\nboardgame_move_duration_seconds_count 2\n"), body);
+            assertTrue(body.contains(
+                    "\nboardgame_tile_action_duration_seconds_count{type=\"LADDER\"} 1\n"), body);
+            assertFalse(body.contains("type=\"SNAKE\""), body);
+            assertTrue(body.contains("\nboardgame_save_failures_total 1\n"), body);
+        }
+    }
+}
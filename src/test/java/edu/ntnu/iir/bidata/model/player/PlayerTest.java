@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
+import edu.ntnu.iir.bidata.model.utils.GameStateComparator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -39,11 +41,26 @@ class PlayerTest {
   @Test
   void testMove() {
     when(mockTile.getNextTile(3)).thenReturn(mockNextTile);
-    player.move(3);
+    assertEquals(MoveOutcome.MOVED, player.move(3));
     verify(mockTile).getNextTile(3);
     assertEquals(mockNextTile, player.getCurrentTile());
   }
 
+  @Test
+  void testMoveOntoLastTile() {
+    when(mockTile.getNextTile(2)).thenReturn(mockNextTile);
+    when(mockNextTile.isLastTile()).thenReturn(true);
+    assertEquals(MoveOutcome.REACHED_END, player.move(2));
+    assertEquals(mockNextTile, player.getCurrentTile());
+  }
+
+  @Test
+  void testMovePastLastTile() {
+    when(mockTile.getNextTile(4)).thenReturn(null);
+    assertEquals(MoveOutcome.OVERSHOOT, player.move(4));
+    assertEquals(mockTile, player.getCurrentTile());
+  }
+
   @Test
   void testIsOnFirstTile() {
     when(mockTile.isFirstTile()).thenReturn(true);
@@ -94,13 +111,24 @@ class PlayerTest {
   }
 
   @Test
-  void testEqualsAndHashCodeWithTokenImage() {
+  void testEqualsAndHashCodeUseIdentity() {
+    Player p1 = new Player("A", "token_green.png");
+    Player p2 = new Player("A", "token_green.png");
+    assertNotEquals(p1, p2);
+    assertEquals(p1, p1);
+
+    // The hash code must not change when the player moves, so it can be used as a map key
+    int hashBeforeMove = p1.hashCode();
+    p1.setCurrentTile(mock(Tile.class));
+    assertEquals(hashBeforeMove, p1.hashCode());
+  }
+
+  @Test
+  void testSamePlayerStateWithTokenImage() {
     Player p1 = new Player("A", "token_green.png");
     Player p2 = new Player("A", "token_green.png");
     Player p3 = new Player("A", "token_yellow.png");
-    assertEquals(p1, p2);
-    assertEquals(p1.hashCode(), p2.hashCode());
-    assertNotEquals(p1, p3);
-    assertNotEquals(p1.hashCode(), p3.hashCode());
+    assertTrue(GameStateComparator.samePlayerState(p1, p2));
+    assertFalse(GameStateComparator.samePlayerState(p1, p3));
   }
-} 
\ No newline at end of file
+}
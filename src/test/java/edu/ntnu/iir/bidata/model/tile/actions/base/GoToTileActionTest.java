@@ -3,8 +3,8 @@ package edu.ntnu.iir.bidata.model.tile.actions.base;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
-import edu.ntnu.iir.bidata.model.exception.GameException;
 import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.tile.core.MoveOutcome;
 import edu.ntnu.iir.bidata.model.tile.core.Tile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,10 +41,11 @@ class GoToTileActionTest {
     when(mockTargetTile.getId()).thenReturn(5);
 
     // Execute
-    goToTileAction.executeAction(mockPlayer, mockCurrentTile);
+    MoveOutcome outcome = goToTileAction.executeAction(mockPlayer, mockCurrentTile);
 
     // Verify
     verify(mockPlayer).setCurrentTile(mockTargetTile);
+    assertEquals(MoveOutcome.MOVED, outcome);
   }
 
   @Test
@@ -53,7 +54,8 @@ class GoToTileActionTest {
     when(mockCurrentTile.getNextTile()).thenReturn(null);
 
     // Execute and verify
-    assertThrows(GameException.class,
-        () -> goToTileAction.executeAction(mockPlayer, mockCurrentTile));
+    assertEquals(MoveOutcome.UNREACHABLE,
+        goToTileAction.executeAction(mockPlayer, mockCurrentTile));
+    verify(mockPlayer, never()).setCurrentTile(any());
   }
 } 
\ No newline at end of file
@@ -0,0 +1,73 @@
+package edu.ntnu.iir.bidata.model.tile.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.tile.actions.base.GoToTileAction;
+import edu.ntnu.iir.bidata.model.tile.actions.game.LoseTurnAction;
+import org.junit.jupiter.api.Test;
+
+class TileActionDispatcherTest {
+
+  @Test
+  void testBuiltInActionsReportTheirType() {
+    assertEquals(TileActionType.GO_TO_TILE, new GoToTileAction(3).getActionType());
+    assertEquals(TileActionType.LOSE_TURN, new LoseTurnAction().getActionType());
+  }
+
+  @Test
+  void testTypeOfReadsTheBaseActionField() {
+    assertEquals(TileActionType.GO_TO_TILE, TileActionDispatcher.typeOf(new GoToTileAction(3)));
+    assertEquals(TileActionType.LOSE_TURN, TileActionDispatcher.typeOf(new LoseTurnAction()));
+  }
+
+  /** An outside action that claims the type of a built-in action. */
+  private static final class FakeLadderAction extends BaseTileAction {
+    FakeLadderAction() {
+      super(TileActionType.LADDER);
+    }
+
+    @Override
+    public MoveOutcome executeAction(Player player, Tile currentTile) {
+      return MoveOutcome.MOVED;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Fake ladder";
+    }
+  }
+
+  @Test
+  void testOnlyTheBuiltInClassMayClaimAType() {
+    assertThrows(IllegalArgumentException.class, FakeLadderAction::new);
+  }
+
+  @Test
+  void testFromTypeNameFindsBuiltInTypesAndFallsBackToCustom() {
+    assertEquals(TileActionType.LADDER, TileActionType.fromTypeName("LadderAction"));
+    assertEquals(TileActionType.CUSTOM, TileActionType.fromTypeName("SomeOtherAction"));
+  }
+
+  @Test
+  void testExecuteBuiltInAction() {
+    Player player = mock(Player.class);
+    Tile tile = mock(Tile.class);
+
+    assertEquals(MoveOutcome.MOVED, TileActionDispatcher.execute(new LoseTurnAction(), player, tile));
+    verify(player).setSkipNextTurn(true);
+  }
+
+  @Test
+  void testExecuteCustomActionFallsBackToInterfaceCall() {
+    TileAction customAction = mock(TileAction.class);
+    Player player = mock(Player.class);
+    Tile tile = mock(Tile.class);
+    when(customAction.executeAction(player, tile)).thenReturn(MoveOutcome.REACHED_END);
+
+    assertEquals(TileActionType.CUSTOM, TileActionDispatcher.typeOf(customAction));
+    assertEquals(MoveOutcome.REACHED_END, TileActionDispatcher.execute(customAction, player, tile));
+    verify(customAction).executeAction(player, tile);
+  }
+}
@@ -3,7 +3,6 @@ package edu.ntnu.iir.bidata.model.tile.core;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
-import edu.ntnu.iir.bidata.model.exception.GameException;
 import edu.ntnu.iir.bidata.model.player.Player;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -72,13 +71,13 @@ class TileTest {
   }
 
   @Test
-  void testGetNextTileWithStepsThrowsException() {
+  void testGetNextTileWithStepsPastEndReturnsNull() {
     Tile tile1 = new Tile(1);
     Tile tile2 = new Tile(2);
 
     tile1.setNextTile(tile2);
 
-    assertThrows(GameException.class, () -> tile1.getNextTile(2));
+    assertNull(tile1.getNextTile(2));
   }
 
   @Test
@@ -0,0 +1,49 @@
+package edu.ntnu.iir.bidata.model.utils;
+
+import edu.ntnu.iir.bidata.model.BoardGame;
+import edu.ntnu.iir.bidata.model.board.Board;
+import edu.ntnu.iir.bidata.model.dice.Dice;
+import edu.ntnu.iir.bidata.model.player.Player;
+import edu.ntnu.iir.bidata.model.player.SimpleMonopolyPlayer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameStateComparatorTest {
+
+  @Test
+  void samePlayerState_WithDifferentPlayerClasses_ShouldReturnFalse() {
+    assertFalse(GameStateComparator.samePlayerState(new Player("A"), new SimpleMonopolyPlayer("A")));
+  }
+
+  @Test
+  void samePlayerState_WithDifferentMoney_ShouldReturnFalse() {
+    SimpleMonopolyPlayer first = new SimpleMonopolyPlayer("A");
+    SimpleMonopolyPlayer second = new SimpleMonopolyPlayer("A");
+    assertTrue(GameStateComparator.samePlayerState(first, second));
+
+    second.collectMoney(200);
+    assertFalse(GameStateComparator.samePlayerState(first, second));
+  }
+
+  @Test
+  void sameGameState_WithEqualGames_ShouldReturnTrueWhileEqualsUsesIdentity() {
+    BoardGame first = new BoardGame(new Board(10), new Dice(1));
+    BoardGame second = new BoardGame(new Board(10), new Dice(1));
+    first.addPlayer("Alice");
+    second.addPlayer("Alice");
+
+    assertTrue(GameStateComparator.sameGameState(first, second));
+    assertNotEquals(first, second);
+  }
+
+  @Test
+  void sameGameState_WithDifferentPlayers_ShouldReturnFalse() {
+    BoardGame first = new BoardGame(new Board(10), new Dice(1));
+    BoardGame second = new BoardGame(new Board(10), new Dice(1));
+    first.addPlayer("Alice");
+    second.addPlayer("Bob");
+
+    assertFalse(GameStateComparator.sameGameState(first, second));
+  }
+}
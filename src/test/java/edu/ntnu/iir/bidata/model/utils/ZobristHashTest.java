@@ -0,0 +1,67 @@
+package edu.ntnu.iir.bidata.model.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZobristHashTest {
+
+  @Test
+  void updatePosition_MovingBack_ShouldRestoreHash() {
+    ZobristHash hash = new ZobristHash();
+    hash.updatePosition(0, -1, 0);
+    long start = hash.getValue();
+
+    hash.updatePosition(0, 0, 5);
+    assertNotEquals(start, hash.getValue());
+
+    hash.updatePosition(0, 5, 0);
+    assertEquals(start, hash.getValue());
+  }
+
+  @Test
+  void updatePosition_ForDifferentPlayers_ShouldGiveDifferentHashes() {
+    ZobristHash first = new ZobristHash();
+    ZobristHash second = new ZobristHash();
+    first.updatePosition(0, -1, 5);
+    second.updatePosition(1, -1, 5);
+
+    assertNotEquals(first.getValue(), second.getValue());
+  }
+
+  @Test
+  void updateMoney_WithinSameBucket_ShouldNotChangeHash() {
+    ZobristHash hash = new ZobristHash();
+    hash.toggleMoney(0, 1500);
+    long start = hash.getValue();
+
+    hash.updateMoney(0, 1500, 1550);
+    assertEquals(start, hash.getValue());
+
+    hash.updateMoney(0, 1550, 1300);
+    assertNotEquals(start, hash.getValue());
+  }
+
+  @Test
+  void toggleFlags_Twice_ShouldRestoreHash() {
+    ZobristHash hash = new ZobristHash();
+    hash.toggleInJail(2);
+    hash.toggleSkipTurn(2);
+    assertNotEquals(0L, hash.getValue());
+
+    hash.toggleInJail(2);
+    hash.toggleSkipTurn(2);
+    assertEquals(0L, hash.getValue());
+  }
+
+  @Test
+  void updateOwner_FromNoOwner_ShouldOnlyAddNewOwner() {
+    ZobristHash hash = new ZobristHash();
+    hash.updateOwner(3, -1, 1);
+    long owned = hash.getValue();
+
+    hash.updateOwner(3, 1, -1);
+    assertEquals(0L, hash.getValue());
+    assertNotEquals(0L, owned);
+  }
+}